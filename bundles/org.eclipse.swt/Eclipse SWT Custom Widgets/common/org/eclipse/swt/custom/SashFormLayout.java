@@ -15,6 +15,7 @@ package org.eclipse.swt.custom;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -23,6 +24,8 @@ import org.eclipse.swt.widgets.*;
  * @see SashForm
  */
 class SashFormLayout extends Layout {
+	final LayoutState state = new LayoutState();
+
 @Override
 protected Point computeSize(Composite composite, int wHint, int hHint, boolean flushCache) {
 	SashForm sashForm = (SashForm)composite;
@@ -101,7 +104,47 @@ protected void layout(Composite composite, boolean flushCache) {
 	sashForm.controls = newControls;
 
 	Control[] controls = sashForm.controls;
+	Object[] data = new Object[controls.length];
+	for (int i = 0; i < controls.length; i++) {
+		data[i] = controls[i].getLayoutData();
+	}
+	if (!flushCache && state.matches(sashForm, area, controls, data, getValues(sashForm, data))) return;
+	state.invalidate();
+	layout(sashForm, area, controls);
+	for (int i = 0; i < controls.length; i++) {
+		data[i] = controls[i].getLayoutData();
+	}
+	state.update(sashForm, area, controls, data, getValues(sashForm, data));
+}
+
+/*
+ * Returns the fields of the sash form and of the layout data
+ * which determine the bounds of the controls.
+ */
+int[] getValues(SashForm sashForm, Object[] data) {
+	int[] values = new int[4 + data.length * 2];
+	values[0] = sashForm.getOrientation();
+	values[1] = sashForm.SASH_WIDTH;
+	values[2] = sashForm.sashes.length;
+	values[3] = -1;
+	if (sashForm.maxControl != null && !sashForm.maxControl.isDisposed()) {
+		values[3] = -2;
+		for (int i = 0; i < sashForm.controls.length; i++) {
+			if (sashForm.controls[i] == sashForm.maxControl) values[3] = i;
+		}
+	}
+	for (int i = 0; i < data.length; i++) {
+		if (data[i] instanceof SashFormData sashFormData) {
+			values[4 + i * 2] = (int) sashFormData.weight;
+			values[5 + i * 2] = (int) (sashFormData.weight >>> 32);
+		} else {
+			values[4 + i * 2] = values[5 + i * 2] = -1;
+		}
+	}
+	return values;
+}
 
+void layout(SashForm sashForm, Rectangle area, Control[] controls) {
 	if (sashForm.maxControl != null && !sashForm.maxControl.isDisposed()) {
 		for (Control control : controls) {
 			if (control != sashForm.maxControl) {
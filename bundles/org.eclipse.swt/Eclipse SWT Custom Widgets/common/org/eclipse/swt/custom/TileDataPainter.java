@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import org.eclipse.swt.graphics.*;
+
+/**
+ * Paints the tiles of a {@link TiledCanvas} into image data, on a thread
+ * other than the user interface thread. A painter must not access widgets
+ * or graphics resources, only the model it paints.
+ *
+ * @see TiledCanvas#setTileDataPainter(TileDataPainter, java.util.concurrent.Executor)
+ * @since 3.133
+ */
+@FunctionalInterface
+public interface TileDataPainter {
+
+	/**
+	 * Returns the pixels of the given area of the content of the canvas at
+	 * the given zoom level.
+	 *
+	 * @param area
+	 *            the area of the tile in the coordinates of the content at the
+	 *            zoom level
+	 * @param zoom
+	 *            the zoom level in percent
+	 * @return the image data of the tile, which is as large as the area, or
+	 *         <code>null</code> if the tile only shows the background of the
+	 *         canvas
+	 */
+	ImageData paintTile(Rectangle area, int zoom);
+
+}
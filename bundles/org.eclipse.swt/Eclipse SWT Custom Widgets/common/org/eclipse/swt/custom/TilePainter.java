@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import org.eclipse.swt.graphics.*;
+
+/**
+ * Paints the tiles of a {@link TiledCanvas} on the user interface thread.
+ *
+ * @see TiledCanvas#setTilePainter(TilePainter)
+ * @since 3.133
+ */
+@FunctionalInterface
+public interface TilePainter {
+
+	/**
+	 * Paints the given area of the content of the canvas at the given zoom
+	 * level. The graphics context is translated so that the painter draws in
+	 * the coordinates of the content at the zoom level, and is clipped to the
+	 * area of the tile.
+	 *
+	 * @param gc
+	 *            the graphics context of the tile
+	 * @param area
+	 *            the area of the tile in the coordinates of the content at the
+	 *            zoom level
+	 * @param zoom
+	 *            the zoom level in percent
+	 */
+	void paintTile(GC gc, Rectangle area, int zoom);
+
+}
@@ -0,0 +1,586 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * A canvas which shows a large content, like a diagram, a map or a
+ * waveform, through tiles that are painted once and kept in offscreen
+ * images, so that scrolling and zooming only draw the cached tiles
+ * again.
+ * <p>
+ * The content is painted by a {@link TilePainter} on the user interface
+ * thread, or by a {@link TileDataPainter} on the threads of an executor.
+ * The size of the content is given at a zoom level of 100%, and the tiles
+ * of every zoom level are cached separately. The least recently used
+ * tiles are disposed once more than {@link #getCacheSize()} tiles are
+ * cached. When the content changes, the application calls
+ * {@link #redrawContent(Rectangle)} to paint the tiles of the changed
+ * area again.
+ * </p><p>
+ * When the canvas has the <code>H_SCROLL</code> or <code>V_SCROLL</code>
+ * style, its scroll bars scroll the content.
+ * </p>
+ * <dl>
+ * <dt><b>Styles:</b></dt>
+ * <dd>H_SCROLL, V_SCROLL and the styles of {@link Canvas}</dd>
+ * <dt><b>Events:</b></dt>
+ * <dd>(none)</dd>
+ * </dl>
+ *
+ * @see TilePainter
+ * @see TileDataPainter
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.133
+ */
+public class TiledCanvas extends Canvas {
+
+	/** The width and height of a tile */
+	public static final int TILE_SIZE = 256;
+
+	/** the default number of cached tiles, 16 MB of pixels */
+	private static final int DEFAULT_CACHE_SIZE = 64;
+
+	private record Tile(int zoom, int column, int row) {}
+
+	private TilePainter painter;
+	private TileDataPainter dataPainter;
+	private Executor executor;
+	private int contentWidth, contentHeight;
+	private int zoom = 100;
+	private int originX, originY;
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+
+	/* the tiles in access order, least recently used first */
+	private final LinkedHashMap<Tile, Image> tiles = new LinkedHashMap<>(64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Tile, Image> eldest) {
+			if (size() <= cacheSize) return false;
+			eldest.getValue().dispose();
+			return true;
+		}
+	};
+
+	/* the tiles painted by the executor, and the request to match them with */
+	private final Map<Tile, Object> pending = new HashMap<>();
+
+/**
+ * Constructs a new instance of this class given its parent
+ * and a style value describing its behavior and appearance.
+ * <p>
+ * The style value is either one of the style constants defined in
+ * class <code>SWT</code> which is applicable to instances of this
+ * class, or must be built by <em>bitwise OR</em>'ing together
+ * (that is, using the <code>int</code> "|" operator) two or more
+ * of those <code>SWT</code> style constants. The class description
+ * lists the style constants that are applicable to the class.
+ * Style bits are also inherited from superclasses.
+ * </p>
+ *
+ * @param parent a widget which will be the parent of the new instance (cannot be null)
+ * @param style the style of widget to construct
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the parent is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the parent</li>
+ * </ul>
+ *
+ * @see SWT#H_SCROLL
+ * @see SWT#V_SCROLL
+ * @see #getStyle()
+ */
+public TiledCanvas(Composite parent, int style) {
+	super(parent, style | SWT.NO_BACKGROUND);
+	addListener(SWT.Paint, this::onPaint);
+	addListener(SWT.Resize, event -> updateScrollBars());
+	addListener(SWT.Dispose, event -> onDispose());
+	ScrollBar horizontalBar = getHorizontalBar();
+	if (horizontalBar != null) {
+		horizontalBar.addListener(SWT.Selection, event -> setOrigin(horizontalBar.getSelection(), originY));
+	}
+	ScrollBar verticalBar = getVerticalBar();
+	if (verticalBar != null) {
+		verticalBar.addListener(SWT.Selection, event -> setOrigin(originX, verticalBar.getSelection()));
+	}
+}
+
+/**
+ * Returns the maximum number of tiles which are cached.
+ *
+ * @return the number of tiles
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public int getCacheSize() {
+	checkWidget();
+	return cacheSize;
+}
+
+/**
+ * Returns the size of the content at a zoom level of 100%.
+ *
+ * @return the size of the content
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public Point getContentSize() {
+	checkWidget();
+	return new Point(contentWidth, contentHeight);
+}
+
+/**
+ * Returns the point of the content, in the coordinates of the content
+ * at the current zoom level, which is shown at the top left corner of
+ * the client area.
+ *
+ * @return the origin of the content
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public Point getOrigin() {
+	checkWidget();
+	return new Point(originX, originY);
+}
+
+/**
+ * Returns the zoom level of the content in percent.
+ *
+ * @return the zoom level
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public int getZoom() {
+	checkWidget();
+	return zoom;
+}
+
+/**
+ * Paints the tiles which show the given area of the content again,
+ * at every zoom level. The area is given at a zoom level of 100%.
+ *
+ * @param area the area of the content which changed
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the area is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void redrawContent(Rectangle area) {
+	checkWidget();
+	if (area == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	Iterator<Map.Entry<Tile, Image>> iterator = tiles.entrySet().iterator();
+	while (iterator.hasNext()) {
+		Map.Entry<Tile, Image> entry = iterator.next();
+		if (intersects(entry.getKey(), area)) {
+			entry.getValue().dispose();
+			iterator.remove();
+		}
+	}
+	pending.keySet().removeIf(tile -> intersects(tile, area));
+	Rectangle scaled = scale(area, zoom);
+	redraw(scaled.x - originX, scaled.y - originY, scaled.width, scaled.height, false);
+}
+
+/**
+ * Paints all the tiles again.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void redrawContent() {
+	checkWidget();
+	flushTiles();
+	redraw();
+}
+
+/**
+ * Sets the maximum number of tiles which are cached. The cache should
+ * at least hold the tiles which cover the client area.
+ *
+ * @param cacheSize the number of tiles
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the number of tiles is not positive</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setCacheSize(int cacheSize) {
+	checkWidget();
+	if (cacheSize <= 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	this.cacheSize = cacheSize;
+	Iterator<Image> iterator = tiles.values().iterator();
+	while (tiles.size() > cacheSize) {
+		iterator.next().dispose();
+		iterator.remove();
+	}
+}
+
+/**
+ * Sets the size of the content at a zoom level of 100%. The scroll bars
+ * of the receiver scroll over the content at the current zoom level.
+ *
+ * @param width the width of the content
+ * @param height the height of the content
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setContentSize(int width, int height) {
+	checkWidget();
+	contentWidth = Math.max(0, width);
+	contentHeight = Math.max(0, height);
+	updateScrollBars();
+	redraw();
+}
+
+/**
+ * Sets the point of the content, in the coordinates of the content at
+ * the current zoom level, which is shown at the top left corner of the
+ * client area. The origin is limited to the size of the content.
+ *
+ * @param x the x coordinate of the origin
+ * @param y the y coordinate of the origin
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setOrigin(int x, int y) {
+	checkWidget();
+	Rectangle clientArea = getClientArea();
+	x = Math.max(0, Math.min(x, scale(contentWidth, zoom) - clientArea.width));
+	y = Math.max(0, Math.min(y, scale(contentHeight, zoom) - clientArea.height));
+	if (x == originX && y == originY) return;
+	int oldX = originX, oldY = originY;
+	originX = x;
+	originY = y;
+	ScrollBar horizontalBar = getHorizontalBar();
+	if (horizontalBar != null) horizontalBar.setSelection(x);
+	ScrollBar verticalBar = getVerticalBar();
+	if (verticalBar != null) verticalBar.setSelection(y);
+	/* an origin of -1 means that nothing shown is valid, see setZoom() */
+	if (oldX < 0 || oldY < 0) {
+		redraw();
+	} else {
+		/* move the pixels which still show the content, only the exposed area is painted */
+		scroll(oldX - x, oldY - y, 0, 0, clientArea.width, clientArea.height, false);
+	}
+}
+
+/**
+ * Sets the painter which paints the tiles on the user interface thread.
+ * Setting a painter removes the tile data painter and paints all the
+ * tiles again.
+ *
+ * @param painter the painter, or <code>null</code>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setTilePainter(TilePainter painter) {
+	checkWidget();
+	this.painter = painter;
+	this.dataPainter = null;
+	this.executor = null;
+	redrawContent();
+}
+
+/**
+ * Sets the painter which paints the tiles into image data on the threads
+ * of the given executor. The tiles show the background of the receiver
+ * until they are painted. Setting a data painter removes the tile painter
+ * and paints all the tiles again.
+ *
+ * @param painter the painter, or <code>null</code>
+ * @param executor the executor which runs the painter
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the painter is not null and the executor is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setTileDataPainter(TileDataPainter painter, Executor executor) {
+	checkWidget();
+	if (painter != null && executor == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	this.dataPainter = painter;
+	this.executor = painter == null ? null : executor;
+	this.painter = null;
+	redrawContent();
+}
+
+/**
+ * Sets the zoom level of the content in percent. The origin is moved so
+ * that the same point of the content stays at the top left corner of the
+ * client area. The tiles of the previous zoom level remain cached.
+ *
+ * @param zoom the zoom level
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the zoom level is not positive</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+public void setZoom(int zoom) {
+	checkWidget();
+	if (zoom <= 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (zoom == this.zoom) return;
+	int x = (int) ((long) originX * zoom / this.zoom);
+	int y = (int) ((long) originY * zoom / this.zoom);
+	this.zoom = zoom;
+	updateScrollBars();
+	originX = originY = -1;
+	setOrigin(x, y);
+}
+
+/**
+ * Sets the receiver's background color to the color specified
+ * by the argument, or to the default system color for the control
+ * if the argument is null. The tiles are filled with the background
+ * before they are painted, so all the cached tiles are painted again.
+ *
+ * @param color the new color (or null)
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the argument has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ */
+@Override
+public void setBackground(Color color) {
+	super.setBackground(color);
+	redrawContent();
+}
+
+static int scale(int value, int zoom) {
+	return (int) ((long) value * zoom / 100);
+}
+
+/* the smallest area at the zoom level which covers the area at 100% */
+static Rectangle scale(Rectangle area, int zoom) {
+	int x = (int) Math.floorDiv((long) area.x * zoom, 100);
+	int y = (int) Math.floorDiv((long) area.y * zoom, 100);
+	int right = (int) -Math.floorDiv(-(long) (area.x + area.width) * zoom, 100);
+	int bottom = (int) -Math.floorDiv(-(long) (area.y + area.height) * zoom, 100);
+	return new Rectangle(x, y, right - x, bottom - y);
+}
+
+static boolean intersects(Tile tile, Rectangle area) {
+	Rectangle scaled = scale(area, tile.zoom);
+	return scaled.intersects(tile.column * TILE_SIZE, tile.row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+}
+
+void flushTiles() {
+	for (Image image : tiles.values()) {
+		image.dispose();
+	}
+	tiles.clear();
+	pending.clear();
+}
+
+void onDispose() {
+	flushTiles();
+	painter = null;
+	dataPainter = null;
+	executor = null;
+}
+
+void onPaint(Event event) {
+	GC gc = event.gc;
+	Color background = getBackground();
+	gc.setBackground(background);
+	int width = scale(contentWidth, zoom), height = scale(contentHeight, zoom);
+	int left = event.x + originX, top = event.y + originY;
+	int right = Math.min(left + event.width, width), bottom = Math.min(top + event.height, height);
+	if (painter != null || dataPainter != null) {
+		for (int row = Math.max(0, top) / TILE_SIZE; row * TILE_SIZE < bottom; row++) {
+			for (int column = Math.max(0, left) / TILE_SIZE; column * TILE_SIZE < right; column++) {
+				int x = column * TILE_SIZE - originX, y = row * TILE_SIZE - originY;
+				Image image = getTile(new Tile(zoom, column, row));
+				if (image != null) {
+					gc.drawImage(image, x, y);
+				} else {
+					gc.fillRectangle(x, y, TILE_SIZE, TILE_SIZE);
+				}
+			}
+		}
+	}
+	/* the area outside of the content */
+	int contentRight = width - originX, contentBottom = height - originY;
+	if (painter == null && dataPainter == null) contentRight = contentBottom = 0;
+	int eventRight = event.x + event.width, eventBottom = event.y + event.height;
+	if (eventRight > contentRight) {
+		int x = Math.max(event.x, contentRight);
+		gc.fillRectangle(x, event.y, eventRight - x, event.height);
+	}
+	int innerRight = Math.min(eventRight, contentRight);
+	if (eventBottom > contentBottom && innerRight > event.x) {
+		int y = Math.max(event.y, contentBottom);
+		gc.fillRectangle(event.x, y, innerRight - event.x, eventBottom - y);
+	}
+}
+
+Image getTile(Tile tile) {
+	Image image = tiles.get(tile);
+	if (image != null) return image;
+	Rectangle area = new Rectangle(tile.column * TILE_SIZE, tile.row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+	if (dataPainter != null) {
+		return pending.containsKey(tile) ? null : paintTileData(tile, area);
+	}
+	Display display = getDisplay();
+	image = new Image(display, TILE_SIZE, TILE_SIZE);
+	GC gc = new GC(image);
+	Transform transform = new Transform(display);
+	boolean painted = false;
+	try {
+		gc.setBackground(getBackground());
+		gc.fillRectangle(0, 0, TILE_SIZE, TILE_SIZE);
+		gc.setForeground(getForeground());
+		gc.setFont(getFont());
+		transform.translate(-area.x, -area.y);
+		gc.setTransform(transform);
+		painter.paintTile(gc, area, tile.zoom);
+		painted = true;
+	} finally {
+		transform.dispose();
+		gc.dispose();
+		if (!painted) image.dispose();
+	}
+	tiles.put(tile, image);
+	return image;
+}
+
+/*
+ * Returns null when the tile is painted by the executor, or the tile
+ * painted on the user interface thread when the executor rejects it.
+ */
+Image paintTileData(Tile tile, Rectangle area) {
+	Object request = new Object();
+	pending.put(tile, request);
+	TileDataPainter painter = dataPainter;
+	Display display = getDisplay();
+	try {
+		executor.execute(() -> {
+			ImageData data = null;
+			try {
+				data = painter.paintTile(area, tile.zoom);
+			} finally {
+				ImageData result = data;
+				if (!display.isDisposed()) {
+					try {
+						display.asyncExec(() -> tilePainted(tile, request, result));
+					} catch (SWTException e) {
+						/* the display was disposed meanwhile */
+					}
+				}
+			}
+		});
+	} catch (RejectedExecutionException e) {
+		/* the executor is shut down or saturated, paint the tile here */
+		pending.remove(tile);
+		Image image = createTile(painter.paintTile(area, tile.zoom));
+		tiles.put(tile, image);
+		return image;
+	}
+	return null;
+}
+
+void tilePainted(Tile tile, Object request, ImageData data) {
+	if (isDisposed() || pending.get(tile) != request) return;
+	pending.remove(tile);
+	tiles.put(tile, createTile(data));
+	if (tile.zoom == zoom) {
+		redraw(tile.column * TILE_SIZE - originX, tile.row * TILE_SIZE - originY, TILE_SIZE, TILE_SIZE, false);
+	}
+}
+
+Image createTile(ImageData data) {
+	Display display = getDisplay();
+	Image image = new Image(display, TILE_SIZE, TILE_SIZE);
+	GC gc = new GC(image);
+	try {
+		gc.setBackground(getBackground());
+		gc.fillRectangle(0, 0, TILE_SIZE, TILE_SIZE);
+		if (data != null) {
+			Image tileImage = new Image(display, data);
+			gc.drawImage(tileImage, 0, 0);
+			tileImage.dispose();
+		}
+	} finally {
+		gc.dispose();
+	}
+	return image;
+}
+
+void updateScrollBars() {
+	Rectangle clientArea = getClientArea();
+	int width = scale(contentWidth, zoom), height = scale(contentHeight, zoom);
+	ScrollBar horizontalBar = getHorizontalBar();
+	if (horizontalBar != null) {
+		int thumb = Math.max(1, Math.min(clientArea.width, width));
+		horizontalBar.setValues(originX, 0, Math.max(width, thumb), thumb, Math.max(1, TILE_SIZE / 8), Math.max(1, clientArea.width));
+	}
+	ScrollBar verticalBar = getVerticalBar();
+	if (verticalBar != null) {
+		int thumb = Math.max(1, Math.min(clientArea.height, height));
+		verticalBar.setValues(originY, 0, Math.max(height, thumb), thumb, Math.max(1, TILE_SIZE / 8), Math.max(1, clientArea.height));
+	}
+	/* keep the origin inside the content when the client area grows */
+	int x = originX, y = originY;
+	originX = originY = -1;
+	setOrigin(x, y);
+}
+}
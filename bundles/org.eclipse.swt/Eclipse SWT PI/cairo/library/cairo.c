@@ -197,6 +197,18 @@ JNIEXPORT jint JNICALL Cairo_NATIVE(cairo_1font_1options_1get_1antialias)
 }
 #endif
 
+#ifndef NO_cairo_1font_1options_1hash
+JNIEXPORT jlong JNICALL Cairo_NATIVE(cairo_1font_1options_1hash)
+	(JNIEnv *env, jclass that, jlong arg0)
+{
+	jlong rc = 0;
+	Cairo_NATIVE_ENTER(env, that, cairo_1font_1options_1hash_FUNC);
+	rc = (jlong)cairo_font_options_hash((const cairo_font_options_t *)arg0);
+	Cairo_NATIVE_EXIT(env, that, cairo_1font_1options_1hash_FUNC);
+	return rc;
+}
+#endif
+
 #ifndef NO_cairo_1font_1options_1set_1antialias
 JNIEXPORT void JNICALL Cairo_NATIVE(cairo_1font_1options_1set_1antialias)
 	(JNIEnv *env, jclass that, jlong arg0, jint arg1)
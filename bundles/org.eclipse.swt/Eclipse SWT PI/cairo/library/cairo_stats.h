@@ -45,6 +45,7 @@ typedef enum {
 	cairo_1font_1options_1create_FUNC,
 	cairo_1font_1options_1destroy_FUNC,
 	cairo_1font_1options_1get_1antialias_FUNC,
+	cairo_1font_1options_1hash_FUNC,
 	cairo_1font_1options_1set_1antialias_FUNC,
 	cairo_1get_1antialias_FUNC,
 	cairo_1get_1current_1point_FUNC,
@@ -113,6 +113,8 @@ public static final native long cairo_font_options_create();
 public static final native void cairo_font_options_destroy(long options);
 /** @param options cast=(cairo_font_options_t *) */
 public static final native int cairo_font_options_get_antialias(long options);
+/** @param options cast=(const cairo_font_options_t *) */
+public static final native long cairo_font_options_hash(long options);
 /** @param options cast=(cairo_font_options_t *) */
 public static final native void cairo_font_options_set_antialias(long options, int antialias);
 /** @param cr cast=(cairo_t *) */
@@ -431,6 +431,7 @@ typedef enum {
 	gtk_1list_1store_1insert_FUNC,
 	gtk_1list_1store_1newv_FUNC,
 	gtk_1list_1store_1remove_FUNC,
+	gtk_1list_1store_1reorder_FUNC,
 	gtk_1list_1store_1set__JJIII_FUNC,
 	gtk_1list_1store_1set__JJIJI_FUNC,
 	gtk_1list_1store_1set__JJILorg_eclipse_swt_internal_gtk_GdkRGBA_2I_FUNC,
@@ -655,6 +656,7 @@ typedef enum {
 	gtk_1tree_1store_1newv_FUNC,
 	gtk_1tree_1store_1prepend_FUNC,
 	gtk_1tree_1store_1remove_FUNC,
+	gtk_1tree_1store_1reorder_FUNC,
 	gtk_1tree_1store_1set__JJIII_FUNC,
 	gtk_1tree_1store_1set__JJIJI_FUNC,
 	gtk_1tree_1store_1set__JJILorg_eclipse_swt_internal_gtk_GdkRGBA_2I_FUNC,
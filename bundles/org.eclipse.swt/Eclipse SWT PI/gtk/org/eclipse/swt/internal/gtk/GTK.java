@@ -993,6 +993,11 @@ public class GTK extends OS {
 	 * @param iter cast=(GtkTreeIter *)
 	 */
 	public static final native void gtk_list_store_remove(long list_store, long iter);
+	/**
+	 * @param store cast=(GtkListStore *)
+	 * @param new_order cast=(gint *),flags=no_out
+	 */
+	public static final native void gtk_list_store_reorder(long store, int[] new_order);
 	/**
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
@@ -1907,6 +1912,12 @@ public class GTK extends OS {
 	 * @param iter cast=(GtkTreeIter *)
 	 */
 	public static final native void gtk_tree_store_remove(long store, long iter);
+	/**
+	 * @param store cast=(GtkTreeStore *)
+	 * @param parent cast=(GtkTreeIter *)
+	 * @param new_order cast=(gint *),flags=no_out
+	 */
+	public static final native void gtk_tree_store_reorder(long store, long parent, int[] new_order);
 	/**
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
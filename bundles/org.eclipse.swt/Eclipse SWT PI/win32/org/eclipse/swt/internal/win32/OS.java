@@ -672,6 +672,7 @@ public class OS extends C {
 	public static final int LB_GETCOUNT = 0x18b;
 	public static final int LB_GETCURSEL = 0x188;
 	public static final int LB_GETHORIZONTALEXTENT = 0x193;
+	public static final int LB_GETITEMDATA = 0x199;
 	public static final int LB_GETITEMHEIGHT = 0x1a1;
 	public static final int LB_GETITEMRECT = 0x198;
 	public static final int LB_GETSEL = 0x187;
@@ -689,6 +690,7 @@ public class OS extends C {
 	public static final int LB_SETCARETINDEX = 0x19e;
 	public static final int LB_SETCURSEL = 0x186;
 	public static final int LB_SETHORIZONTALEXTENT = 0x194;
+	public static final int LB_SETITEMDATA = 0x19a;
 	public static final int LB_SETSEL = 0x185;
 	public static final int LB_SETTOPINDEX = 0x197;
 	public static final int LF_FACESIZE = 32;
@@ -14,6 +14,7 @@
 package org.eclipse.swt.graphics;
 
 import org.eclipse.swt.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cairo.*;
 
 /**
@@ -55,6 +56,9 @@ public class Path extends Resource {
 
 	boolean moved, closed = true;
 
+	/* the flattened path used to hit test, built when needed */
+	PathGeometry geometry;
+
 /**
  * Constructs a new empty Path.
  * <p>
@@ -217,6 +221,7 @@ public Path (Device device, PathData data) {
  */
 public void addArc(float x, float y, float width, float height, float startAngle, float arcAngle) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	if (width == 0 || height == 0 || arcAngle == 0) return;
 	moved = true;
 	if (width == height) {
@@ -259,6 +264,7 @@ public void addArc(float x, float y, float width, float height, float startAngle
  */
 public void addPath(Path path) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	if (path == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (path.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	moved = false;
@@ -283,6 +289,7 @@ public void addPath(Path path) {
  */
 public void addRectangle(float x, float y, float width, float height) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	moved = false;
 	Cairo.cairo_rectangle(handle, x, y, width, height);
 	closed = true;
@@ -307,6 +314,7 @@ public void addRectangle(float x, float y, float width, float height) {
  */
 public void addString(String string, float x, float y, Font font) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	if (font == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (font.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	// Scale up the font
@@ -329,6 +337,7 @@ public void addString(String string, float x, float y, Font font) {
  */
 public void close() {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	Cairo.cairo_close_path(handle);
 	moved = false;
 	closed = true;
@@ -363,20 +372,29 @@ public boolean contains(float x, float y, GC gc, boolean outline) {
 	if (gc.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	//TODO - see Windows
 	gc.initCairo();
-	gc.checkGC(GC.LINE_CAP | GC.LINE_JOIN | GC.LINE_STYLE | GC.LINE_WIDTH);
-	boolean result = false;
-	long cairo = gc.data.cairo;
-	long copy = Cairo.cairo_copy_path(handle);
-	if (copy == 0) SWT.error(SWT.ERROR_NO_HANDLES);
-	Cairo.cairo_append_path(cairo, copy);
-	Cairo.cairo_path_destroy(copy);
+	GCData data = gc.data;
+	long cairo = data.cairo;
+	if (outline && data.lineStyle != SWT.LINE_SOLID) {
+		/* the outline is dashed, let cairo test it */
+		gc.checkGC(GC.LINE_CAP | GC.LINE_JOIN | GC.LINE_STYLE | GC.LINE_WIDTH);
+		long copy = Cairo.cairo_copy_path(handle);
+		if (copy == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+		Cairo.cairo_append_path(cairo, copy);
+		Cairo.cairo_path_destroy(copy);
+		boolean result = Cairo.cairo_in_stroke(cairo, x, y) != 0;
+		Cairo.cairo_new_path(cairo);
+		return result;
+	}
+	/*
+	* The path and the point are both in user space, so the test does not
+	* depend on the transform of the GC and the flattened path can be kept
+	* until the path changes.
+	*/
 	if (outline) {
-		result = Cairo.cairo_in_stroke(cairo, x, y) != 0;
-	} else {
-		result = Cairo.cairo_in_fill(cairo, x, y) != 0;
+		float width = data.lineWidth == 0 ? 1 : data.lineWidth;
+		return getGeometry().inStroke(x, y, width, data.lineCap, data.lineJoin, data.lineMiterLimit);
 	}
-	Cairo.cairo_new_path(cairo);
-	return result;
+	return getGeometry().inFill(x, y, Cairo.cairo_get_fill_rule(cairo) == Cairo.CAIRO_FILL_RULE_EVEN_ODD);
 }
 
 /**
@@ -395,6 +413,7 @@ public boolean contains(float x, float y, GC gc, boolean outline) {
  */
 public void cubicTo(float cx1, float cy1, float cx2, float cy2, float x, float y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	if (!moved) {
 		double[] currentX = new double[1], currentY = new double[1];
 		Cairo.cairo_get_current_point(handle, currentX, currentY);
@@ -591,6 +610,7 @@ public PathData getPathData() {
  */
 public void lineTo(float x, float y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	if (!moved) {
 		double[] currentX = new double[1], currentY = new double[1];
 		Cairo.cairo_get_current_point(handle, currentX, currentY);
@@ -615,6 +635,7 @@ public void lineTo(float x, float y) {
  */
 public void moveTo(float x, float y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	/*
 	* Bug in Cairo.  If cairo_move_to() is not called at the
 	* beginning of a subpath, the first cairo_line_to() or
@@ -641,6 +662,7 @@ public void moveTo(float x, float y) {
  */
 public void quadTo(float cx, float cy, float x, float y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	geometry = null;
 	double[] currentX = new double[1], currentY = new double[1];
 	Cairo.cairo_get_current_point(handle, currentX, currentY);
 	if (!moved) {
@@ -661,6 +683,44 @@ public void quadTo(float cx, float cy, float x, float y) {
 void destroy() {
 	Cairo.cairo_destroy(handle);
 	handle = 0;
+	geometry = null;
+}
+
+PathGeometry getGeometry() {
+	if (geometry != null) return geometry;
+	long copy = Cairo.cairo_copy_path_flat(handle);
+	if (copy == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	cairo_path_t path = new cairo_path_t();
+	Cairo.memmove(path, copy, cairo_path_t.sizeof);
+	/* read the headers and the points of the whole path at once */
+	int size = path.num_data * cairo_path_data_t.sizeof;
+	int intStride = cairo_path_data_t.sizeof / 4, doubleStride = cairo_path_data_t.sizeof / 8;
+	int[] headers = new int[path.num_data * intStride];
+	double[] points = new double[path.num_data * doubleStride];
+	if (size > 0) {
+		C.memmove(headers, path.data, size);
+		Cairo.memmove(points, path.data, size);
+	}
+	Cairo.cairo_path_destroy(copy);
+	PathGeometry result = new PathGeometry();
+	int i = 0;
+	while (i < path.num_data) {
+		int point = (i + 1) * doubleStride;
+		switch (headers[i * intStride]) {
+			case Cairo.CAIRO_PATH_MOVE_TO:
+				result.moveTo(points[point], points[point + 1]);
+				break;
+			case Cairo.CAIRO_PATH_LINE_TO:
+				result.lineTo(points[point], points[point + 1]);
+				break;
+			case Cairo.CAIRO_PATH_CLOSE_PATH:
+				result.close();
+				break;
+		}
+		i += headers[i * intStride + 1];
+	}
+	result.index();
+	return geometry = result;
 }
 
 void init(PathData data) {
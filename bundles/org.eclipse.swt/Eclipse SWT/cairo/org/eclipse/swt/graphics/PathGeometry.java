@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import org.eclipse.swt.*;
+
+/**
+ * This class holds the flattened segments of a <code>Path</code> in a
+ * grid of cells, so that the fill and the outline of the path can be hit
+ * tested in Java, without appending the path to a cairo context.
+ * <p>
+ * The tests follow the rules of <code>cairo_in_fill()</code> and
+ * <code>cairo_in_stroke()</code>: every sub path is closed when filling,
+ * a point on an edge is inside the fill, and the outline is made of the
+ * segments, the joins between them and the caps at the ends of the sub
+ * paths which are not closed. Dashes are not supported.
+ * </p>
+ */
+final class PathGeometry {
+
+	/* the flags of a segment */
+	static final int START_CAP = 1 << 0;
+	static final int FILL_ONLY = 1 << 1;
+
+	static final int MAX_CELLS = 256;
+
+	/* the start and end points of every segment */
+	double[] segments = new double[64];
+	int[] flags = new int[16];
+	/* the segment joined to the end of every segment, or -1 for an end cap */
+	int[] next = new int[16];
+	int count;
+
+	/* the sub paths which are a single point, drawn with round caps only */
+	double[] dots = new double[4];
+	int dotCount;
+
+	/* the current sub path while building */
+	double startX, startY, lastX, lastY;
+	int first = -1;
+	boolean open, degenerate;
+
+	double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+	double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+
+	/* the segments of every cell, from cellStart[cell] to cellStart[cell + 1] */
+	int columns, rows;
+	double cellWidth, cellHeight;
+	int[] cellStart, cellSegments;
+
+void moveTo(double x, double y) {
+	endSubpath(false);
+	startX = lastX = x;
+	startY = lastY = y;
+	open = true;
+	degenerate = false;
+	first = -1;
+	include(x, y);
+}
+
+void lineTo(double x, double y) {
+	if (!open) moveTo(lastX, lastY);
+	include(x, y);
+	/* cairo ignores the segments which have no length */
+	if (x == lastX && y == lastY) {
+		degenerate = true;
+		return;
+	}
+	int index = addSegment(lastX, lastY, x, y, 0);
+	if (first == -1) {
+		first = index;
+		flags[index] |= START_CAP;
+	} else {
+		next[index - 1] = index;
+	}
+	lastX = x;
+	lastY = y;
+}
+
+void close() {
+	endSubpath(true);
+	lastX = startX;
+	lastY = startY;
+}
+
+/*
+ * Ends the current sub path. The end of a closed sub path is joined to
+ * its start, and an open sub path gets a segment back to its start which
+ * only counts for the fill.
+ */
+void endSubpath(boolean closed) {
+	if (!open) return;
+	open = false;
+	if (first == -1) {
+		/* a single move does not draw anything */
+		if (!closed && !degenerate) return;
+		if (dotCount * 2 == dots.length) {
+			double[] newDots = new double[dots.length * 2];
+			System.arraycopy(dots, 0, newDots, 0, dots.length);
+			dots = newDots;
+		}
+		dots[dotCount * 2] = startX;
+		dots[dotCount * 2 + 1] = startY;
+		dotCount++;
+		return;
+	}
+	boolean back = lastX != startX || lastY != startY;
+	if (closed) {
+		if (back) {
+			int index = addSegment(lastX, lastY, startX, startY, 0);
+			next[index - 1] = index;
+		}
+		next[count - 1] = first;
+		flags[first] &= ~START_CAP;
+	} else if (back) {
+		addSegment(lastX, lastY, startX, startY, FILL_ONLY);
+	}
+}
+
+int addSegment(double x0, double y0, double x1, double y1, int flag) {
+	if (count == flags.length) {
+		double[] newSegments = new double[segments.length * 2];
+		System.arraycopy(segments, 0, newSegments, 0, segments.length);
+		segments = newSegments;
+		int[] newFlags = new int[flags.length * 2];
+		System.arraycopy(flags, 0, newFlags, 0, flags.length);
+		flags = newFlags;
+		int[] newNext = new int[next.length * 2];
+		System.arraycopy(next, 0, newNext, 0, next.length);
+		next = newNext;
+	}
+	int index = count++;
+	segments[index * 4] = x0;
+	segments[index * 4 + 1] = y0;
+	segments[index * 4 + 2] = x1;
+	segments[index * 4 + 3] = y1;
+	flags[index] = flag;
+	next[index] = -1;
+	return index;
+}
+
+void include(double x, double y) {
+	minX = Math.min(minX, x);
+	minY = Math.min(minY, y);
+	maxX = Math.max(maxX, x);
+	maxY = Math.max(maxY, y);
+}
+
+int column(double x) {
+	return Math.max(0, Math.min(columns - 1, (int)((x - minX) / cellWidth)));
+}
+
+int row(double y) {
+	return Math.max(0, Math.min(rows - 1, (int)((y - minY) / cellHeight)));
+}
+
+/*
+ * Ends the last sub path and puts every segment in the cells which its
+ * bounding box overlaps. The grid has about as many cells as segments.
+ */
+void index() {
+	endSubpath(false);
+	int size = Math.max(1, Math.min(MAX_CELLS, (int)Math.sqrt(count)));
+	columns = rows = size;
+	cellWidth = maxX > minX ? (maxX - minX) / columns : 1;
+	cellHeight = maxY > minY ? (maxY - minY) / rows : 1;
+	cellStart = new int[columns * rows + 1];
+	for (int pass = 0; pass < 2; pass++) {
+		for (int i = 0; i < count; i++) {
+			double x0 = segments[i * 4], y0 = segments[i * 4 + 1];
+			double x1 = segments[i * 4 + 2], y1 = segments[i * 4 + 3];
+			int left = column(Math.min(x0, x1)), right = column(Math.max(x0, x1));
+			int top = row(Math.min(y0, y1)), bottom = row(Math.max(y0, y1));
+			for (int r = top; r <= bottom; r++) {
+				for (int c = left; c <= right; c++) {
+					int cell = r * columns + c;
+					if (pass == 0) {
+						cellStart[cell + 1]++;
+					} else {
+						cellSegments[cellStart[cell]++] = i;
+					}
+				}
+			}
+		}
+		if (pass == 0) {
+			for (int cell = 0; cell < columns * rows; cell++) {
+				cellStart[cell + 1] += cellStart[cell];
+			}
+			cellSegments = new int[cellStart[columns * rows]];
+		} else {
+			/* the second pass moved every start to the start of the next cell */
+			System.arraycopy(cellStart, 0, cellStart, 1, columns * rows);
+			cellStart[0] = 0;
+		}
+	}
+}
+
+/*
+ * Returns whether the point is inside the fill, by counting the edges
+ * which cross the horizontal line of the point on its right. An edge is
+ * counted in the cell where it crosses the line only, since it may be in
+ * many cells of the row.
+ */
+boolean inFill(double x, double y, boolean evenOdd) {
+	if (count == 0 || x < minX || x > maxX || y < minY || y > maxY) return false;
+	int row = row(y), column = column(x);
+	int winding = 0;
+	for (int c = column; c < columns; c++) {
+		int cell = row * columns + c;
+		for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+			int index = cellSegments[i] * 4;
+			double x0 = segments[index], y0 = segments[index + 1];
+			double x1 = segments[index + 2], y1 = segments[index + 3];
+			if (c == column && onSegment(x, y, x0, y0, x1, y1)) return true;
+			if ((y0 <= y) == (y1 <= y)) continue;
+			double crossing = x0 + (y - y0) * (x1 - x0) / (y1 - y0);
+			crossing = Math.max(Math.min(x0, x1), Math.min(Math.max(x0, x1), crossing));
+			if (crossing <= x || column(crossing) != c) continue;
+			winding += y1 > y0 ? 1 : -1;
+		}
+	}
+	return evenOdd ? (winding & 1) != 0 : winding != 0;
+}
+
+static boolean onSegment(double x, double y, double x0, double y0, double x1, double y1) {
+	if (x < Math.min(x0, x1) || x > Math.max(x0, x1) || y < Math.min(y0, y1) || y > Math.max(y0, y1)) return false;
+	return (x1 - x0) * (y - y0) - (y1 - y0) * (x - x0) == 0;
+}
+
+/*
+ * Returns whether the point is inside the outline drawn with the given
+ * line width, cap, join and miter limit. The cap and the join are the
+ * SWT constants.
+ */
+boolean inStroke(double x, double y, double width, int cap, int join, double miterLimit) {
+	double radius = width / 2;
+	if (!(radius > 0)) return false;
+	/* the farthest a point of the outline can be from the segments */
+	double reach = radius * Math.max(Math.sqrt(2), join == SWT.JOIN_MITER ? miterLimit : 1);
+	if (cap == SWT.CAP_ROUND) {
+		for (int i = 0; i < dotCount; i++) {
+			if (Math.hypot(x - dots[i * 2], y - dots[i * 2 + 1]) <= radius) return true;
+		}
+	}
+	if (count == 0 || x < minX - reach || x > maxX + reach || y < minY - reach || y > maxY + reach) return false;
+	int left = column(x - reach), right = column(x + reach);
+	int top = row(y - reach), bottom = row(y + reach);
+	for (int r = top; r <= bottom; r++) {
+		for (int c = left; c <= right; c++) {
+			int cell = r * columns + c;
+			for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+				if (inStroke(cellSegments[i], x, y, radius, cap, join, miterLimit)) return true;
+			}
+		}
+	}
+	return false;
+}
+
+/* returns whether the point is in the outline of the segment, its end join or its caps */
+boolean inStroke(int segment, double x, double y, double radius, int cap, int join, double miterLimit) {
+	if ((flags[segment] & FILL_ONLY) != 0) return false;
+	int index = segment * 4;
+	double x0 = segments[index], y0 = segments[index + 1];
+	double x1 = segments[index + 2], y1 = segments[index + 3];
+	double length = Math.hypot(x1 - x0, y1 - y0);
+	double ux = (x1 - x0) / length, uy = (y1 - y0) / length;
+	/* the distances along the segment and across it */
+	double along = (x - x0) * ux + (y - y0) * uy;
+	double across = Math.abs((y - y0) * ux - (x - x0) * uy);
+	if (across <= radius && along >= 0 && along <= length) return true;
+	boolean startCap = (flags[segment] & START_CAP) != 0, endCap = next[segment] == -1;
+	switch (cap) {
+		case SWT.CAP_ROUND:
+			if (startCap && Math.hypot(x - x0, y - y0) <= radius) return true;
+			if (endCap && Math.hypot(x - x1, y - y1) <= radius) return true;
+			break;
+		case SWT.CAP_SQUARE:
+			if (startCap && across <= radius && along >= -radius && along <= 0) return true;
+			if (endCap && across <= radius && along >= length && along <= length + radius) return true;
+			break;
+	}
+	if (endCap) return false;
+	if (join == SWT.JOIN_ROUND) return Math.hypot(x - x1, y - y1) <= radius;
+	index = next[segment] * 4;
+	double nextLength = Math.hypot(segments[index + 2] - x1, segments[index + 3] - y1);
+	double vx = (segments[index + 2] - x1) / nextLength, vy = (segments[index + 3] - y1) / nextLength;
+	double turn = ux * vy - uy * vx;
+	if (turn == 0) return false;
+	/* the corners of the two segments on the outer side of the turn */
+	double side = turn > 0 ? radius : -radius;
+	double ax = x1 + uy * side, ay = y1 - ux * side;
+	double bx = x1 + vy * side, by = y1 - vx * side;
+	/* the same test as the one of cairo for the miter limit */
+	if (join == SWT.JOIN_MITER && 2 <= miterLimit * miterLimit * (1 + ux * vx + uy * vy)) {
+		double mx = ax - x1 + bx - x1, my = ay - y1 + by - y1;
+		double scale = radius * radius / ((mx * (ax - x1) + my * (ay - y1)));
+		double tipX = x1 + mx * scale, tipY = y1 + my * scale;
+		return inTriangle(x, y, x1, y1, ax, ay, tipX, tipY) || inTriangle(x, y, x1, y1, tipX, tipY, bx, by);
+	}
+	return inTriangle(x, y, x1, y1, ax, ay, bx, by);
+}
+
+static boolean inTriangle(double x, double y, double x0, double y0, double x1, double y1, double x2, double y2) {
+	double d0 = (x1 - x0) * (y - y0) - (y1 - y0) * (x - x0);
+	double d1 = (x2 - x1) * (y - y1) - (y2 - y1) * (x - x1);
+	double d2 = (x0 - x2) * (y - y2) - (y0 - y2) * (x - x2);
+	return (d0 >= 0 && d1 >= 0 && d2 >= 0) || (d0 <= 0 && d1 <= 0 && d2 <= 0);
+}
+}
@@ -15,6 +15,7 @@ package org.eclipse.swt.graphics;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.ExceptionStash;
+import org.eclipse.swt.internal.TextExtentCache;
 import org.eclipse.swt.internal.cocoa.*;
 
 /**
@@ -43,6 +44,9 @@ public abstract class Device implements Drawable {
 	Color COLOR_DARK_MAGENTA, COLOR_DARK_CYAN, COLOR_GRAY, COLOR_DARK_GRAY, COLOR_RED, COLOR_TRANSPARENT;
 	Color COLOR_GREEN, COLOR_YELLOW, COLOR_BLUE, COLOR_MAGENTA, COLOR_CYAN, COLOR_WHITE;
 
+	/* Fonts, colors and cursors shared by value */
+	SharedResources sharedResources;
+
 	/* System Font */
 	Font systemFont;
 
@@ -244,6 +248,7 @@ public void dispose () {
 			}
 
 			destroy ();
+			TextExtentCache.flush (this);
 			disposed = true;			
 			if (tracking) {
 				synchronized (trackingLock) {
@@ -486,6 +491,29 @@ Point getScreenDPI () {
 	return new Point((int)(size.width / scaling), (int)(size.height / scaling));
 }
 
+/**
+ * Returns the shared resources of the receiver, which hand out fonts,
+ * colors and cursors that are shared by value and disposed when the
+ * code using them has released them. This method may be called
+ * from any thread.
+ *
+ * @return the shared resources of the receiver
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see SharedResources
+ *
+ * @since 3.133
+ */
+public synchronized SharedResources getSharedResources () {
+	/* Fonts and colors are shared with other threads, so only the disposal is checked */
+	if (isDisposed ()) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+	if (sharedResources == null) sharedResources = new SharedResources (this);
+	return sharedResources;
+}
+
 /**
  * Returns the matching standard color for the given
  * constant, which should be one of the color constants
@@ -784,6 +812,9 @@ void printErrors () {
  * @see #destroy
  */
 protected void release () {
+	if (sharedResources != null) sharedResources.dispose ();
+	sharedResources = null;
+
 	if (paragraphStyle != null) paragraphStyle.release();
 	paragraphStyle = null;
 
@@ -15,6 +15,7 @@ package org.eclipse.swt.graphics;
 
 
 import org.eclipse.swt.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cocoa.*;
 
 /**
@@ -208,6 +209,7 @@ void addTraits(NSMutableDictionary dict) {
 
 @Override
 void destroy() {
+	TextExtentCache.flush(handle.id);
 	handle.release();
 	handle = null;
 	metrics = null;
@@ -1332,6 +1332,76 @@ public void drawLine(int x1, int y1, int x2, int y2) {
 	}
 }
 
+/**
+ * Draws lines, using the foreground color, between the pairs of points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains the values <code>x1</code>, <code>y1</code>, <code>x2</code>
+ * and <code>y2</code> of every line in turn, so that drawing the lines is
+ * the same as calling <code>drawLine</code> for every four values, but is
+ * done in one operation. Values at the end of the array which do not make
+ * a complete line are ignored.
+ *
+ * @param segments an array of the coordinates of the end points of the lines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the segment array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawLine(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void drawLines(int[] segments) {
+	if (handle == null) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (segments == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int count = segments.length / 4;
+	if (count == 0) return;
+	int[] points = null;
+	int pointCount = 0;
+	NSAutoreleasePool pool = checkGC(DRAW);
+	try {
+		double xOffset = data.drawXOffset, yOffset = data.drawYOffset;
+		NSBezierPath path = data.path;
+		NSPoint pt = new NSPoint();
+		for (int i = 0, j = 0; i < count; i++, j += 4) {
+			int x1 = segments[j], y1 = segments[j + 1], x2 = segments[j + 2], y2 = segments[j + 3];
+			if (x1 == x2 && y1 == y2 && data.lineWidth <= 1) {
+				/* drawn as points, like drawLine() does */
+				if (points == null) points = new int[count * 2];
+				points[pointCount++] = x1;
+				points[pointCount++] = y1;
+				continue;
+			}
+			pt.x = x1 + xOffset;
+			pt.y = y1 + yOffset;
+			path.moveToPoint(pt);
+			pt.x = x2 + xOffset;
+			pt.y = y2 + yOffset;
+			path.lineToPoint(pt);
+		}
+		if (!path.isEmpty()) {
+			Pattern pattern = data.foregroundPattern;
+			if (pattern != null) setPatternPhase(pattern);
+			if (pattern != null && pattern.gradient != null) {
+				strokePattern(path, pattern);
+			} else {
+				path.stroke();
+			}
+			path.removeAllPoints();
+		}
+	} finally {
+		uncheckGC(pool);
+	}
+	if (points != null) {
+		int[] pointArray = new int[pointCount];
+		System.arraycopy(points, 0, pointArray, 0, pointCount);
+		drawPoints(pointArray);
+	}
+}
+
 /**
  * Draws the outline of an oval, using the foreground color,
  * within the specified rectangular area.
@@ -1469,6 +1539,69 @@ public void drawPoint(int x, int y) {
 	}
 }
 
+/**
+ * Draws SWT logical points, using the foreground color, at the points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains alternating x and y values, so that drawing the points
+ * is the same as calling <code>drawPoint</code> for every pair of values,
+ * but is done in one operation.
+ * <p>
+ * Note that the receiver's line attributes do not affect this
+ * operation.
+ * </p>
+ *
+ * @param pointArray an array of alternating x and y values of the points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPoint(int, int)
+ *
+ * @since 3.133
+ */
+public void drawPoints(int[] pointArray) {
+	if (handle == null) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int count = pointArray.length / 2;
+	if (count == 0) return;
+	NSAutoreleasePool pool = checkGC(FOREGROUND_FILL | CLIPPING | TRANSFORM);
+	try {
+		NSRect rect = new NSRect();
+		rect.width = 1;
+		rect.height = 1;
+		NSBezierPath path = data.path;
+		for (int i = 0, j = 0; i < count; i++, j += 2) {
+			rect.x = pointArray[j];
+			rect.y = pointArray[j + 1];
+			path.appendBezierPathWithRect(rect);
+		}
+		fillWinding(path, null);
+		path.removeAllPoints();
+	} finally {
+		uncheckGC(pool);
+	}
+}
+
+/*
+ * Fills the path, which is made of rectangles, with the winding rule,
+ * so that the rectangles which overlap do not cancel each other out
+ * when the even-odd fill rule is set.
+ */
+void fillWinding(NSBezierPath path, Pattern pattern) {
+	boolean evenOdd = data.fillRule != SWT.FILL_WINDING;
+	if (evenOdd) path.setWindingRule(OS.NSNonZeroWindingRule);
+	if (pattern != null && pattern.gradient != null) {
+		fillPattern(path, pattern);
+	} else {
+		path.fill();
+	}
+	if (evenOdd) path.setWindingRule(OS.NSEvenOddWindingRule);
+}
+
 /**
  * Draws the closed polygon which is defined by the specified array
  * of integer coordinates, using the receiver's foreground color. The array
@@ -1566,6 +1699,63 @@ public void drawPolyline(int[] pointArray) {
 	}
 }
 
+/**
+ * Draws the polylines which are defined by the specified arrays of
+ * integer coordinates, using the receiver's foreground color. Every
+ * array contains alternating x and y values which are the corners of a
+ * polyline, so that drawing the polylines is the same as calling
+ * <code>drawPolyline</code> for every array, but is done in one operation.
+ *
+ * @param pointArrays the arrays of alternating x and y values which are the corners of the polylines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array of point arrays or any of the point arrays is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolyline(int[])
+ *
+ * @since 3.133
+ */
+public void drawPolylines(int[][] pointArrays) {
+	if (handle == null) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (pointArrays == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	for (int[] pointArray : pointArrays) {
+		if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	}
+	NSAutoreleasePool pool = checkGC(DRAW);
+	try {
+		double xOffset = data.drawXOffset, yOffset = data.drawYOffset;
+		NSBezierPath path = data.path;
+		NSPoint pt = new NSPoint();
+		for (int[] pointArray : pointArrays) {
+			if (pointArray.length < 4) continue;
+			pt.x = pointArray[0] + xOffset;
+			pt.y = pointArray[1] + yOffset;
+			path.moveToPoint(pt);
+			int end = pointArray.length / 2 * 2;
+			for (int i = 2; i < end; i+=2) {
+				pt.x = pointArray[i] + xOffset;
+				pt.y = pointArray[i+1] + yOffset;
+				path.lineToPoint(pt);
+			}
+		}
+		if (path.isEmpty()) return;
+		Pattern pattern = data.foregroundPattern;
+		if (pattern != null) setPatternPhase(pattern);
+		if (pattern != null && pattern.gradient != null) {
+			strokePattern(path, pattern);
+		} else {
+			path.stroke();
+		}
+		path.removeAllPoints();
+	} finally {
+		uncheckGC(pool);
+	}
+}
+
 /**
  * Draws the outline of the rectangle specified by the arguments,
  * using the receiver's foreground color. The left and right edges
@@ -2361,6 +2551,63 @@ public void fillRectangle(Rectangle rect) {
 	fillRectangle(rect.x, rect.y, rect.width, rect.height);
 }
 
+/**
+ * Fills the interior of the rectangles which are defined by the
+ * specified array of integer coordinates, using the receiver's
+ * background color. The array contains the values <code>x</code>,
+ * <code>y</code>, <code>width</code> and <code>height</code> of every
+ * rectangle in turn, so that filling the rectangles is the same as
+ * calling <code>fillRectangle</code> for every four values, but is done
+ * in one operation. Values at the end of the array which do not make a
+ * complete rectangle are ignored.
+ *
+ * @param rects an array of the coordinates and sizes of the rectangles
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #fillRectangle(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void fillRectangles(int[] rects) {
+	if (handle == null) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (rects == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int count = rects.length / 4;
+	if (count == 0) return;
+	NSAutoreleasePool pool = checkGC(FILL);
+	try {
+		NSRect rect = new NSRect();
+		NSBezierPath path = data.path;
+		for (int i = 0, j = 0; i < count; i++, j += 4) {
+			int x = rects[j], y = rects[j + 1], width = rects[j + 2], height = rects[j + 3];
+			if (width < 0) {
+				x = x + width;
+				width = -width;
+			}
+			if (height < 0) {
+				y = y + height;
+				height = -height;
+			}
+			rect.x = x;
+			rect.y = y;
+			rect.width = width;
+			rect.height = height;
+			path.appendBezierPathWithRect(rect);
+		}
+		Pattern pattern = data.backgroundPattern;
+		if (pattern != null) setPatternPhase(pattern);
+		fillWinding(path, pattern);
+		path.removeAllPoints();
+	} finally {
+		uncheckGC(pool);
+	}
+}
+
 /**
  * Fills the interior of the round-cornered rectangle specified by
  * the arguments, using the receiver's background color.
@@ -4197,6 +4444,10 @@ public Point textExtent(String string) {
 public Point textExtent(String string, int flags) {
 	if (handle == null) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (string == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	/* The synthesized traits of the font change the extent without changing the native font */
+	int measureFlags = (flags & ~SWT.DRAW_TRANSPARENT) | (data.font.extraTraits << 16);
+	Point extent = TextExtentCache.get(data.device, data.font.handle.id, string, measureFlags, SWT.DEFAULT);
+	if (extent != null) return extent;
 	NSAutoreleasePool pool = checkGC(FONT);
 	try {
 		int length = string.length();
@@ -4206,7 +4457,9 @@ public Point textExtent(String string, int flags) {
 		attribStr.release();
 		data.layoutManager.glyphRangeForTextContainer(data.textContainer);
 		NSRect rect = data.layoutManager.usedRectForTextContainer(data.textContainer);
-		return new Point(length == 0 ? 0 : (int)Math.ceil(rect.width), (int)Math.ceil(rect.height));
+		extent = new Point(length == 0 ? 0 : (int)Math.ceil(rect.width), (int)Math.ceil(rect.height));
+		TextExtentCache.put(data.device, data.font.handle.id, string, measureFlags, SWT.DEFAULT, extent);
+		return extent;
 	} finally {
 		uncheckGC(pool);
 	}
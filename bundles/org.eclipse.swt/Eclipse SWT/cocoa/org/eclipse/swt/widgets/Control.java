@@ -1608,6 +1608,7 @@ public int getBorderWidth () {
  */
 public Rectangle getBounds () {
 	checkWidget();
+	applyDeferredBounds ();
 	NSRect rect = topView().frame();
 	return new Rectangle((int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height);
 }
@@ -1745,6 +1746,7 @@ public Object getLayoutData () {
  */
 public Point getLocation () {
 	checkWidget();
+	applyDeferredBounds ();
 	NSRect rect = topView().frame();
 	return new Point((int)rect.x, (int)rect.y);
 }
@@ -1937,6 +1939,7 @@ public Shell getShell () {
  */
 public Point getSize () {
 	checkWidget();
+	applyDeferredBounds ();
 	NSRect rect = topView().frame();
 	return new Point((int)rect.width, (int)rect.height);
 }
@@ -3652,7 +3655,29 @@ void setBackgroundColor (NSColor nsColor) {
  */
 public void setBounds (int x, int y, int width, int height) {
 	checkWidget();
-	setBounds (x, y, Math.max (0, width), Math.max (0, height), true, true);
+	width = Math.max (0, width);
+	height = Math.max (0, height);
+	if (deferBounds (x, y, width, height)) return;
+	setBounds (x, y, width, height, true, true);
+}
+
+/*
+ * Applies the bounds collected for the receiver by its parent,
+ * see Composite.setChildBoundsDeferred(boolean).
+ */
+void applyDeferredBounds () {
+	if (parent != null && parent.deferredBounds != null) parent.applyDeferredBounds (this);
+}
+
+/*
+ * Collects the bounds of the receiver in its parent when the
+ * parent defers the bounds of its children.
+ */
+boolean deferBounds (int x, int y, int width, int height) {
+	if (parent == null || parent.boundsCount == 0) return false;
+	if (parent.deferredBounds == null) parent.deferredBounds = new LinkedHashMap<> ();
+	parent.deferredBounds.put (this, new Rectangle (x, y, width, height));
+	return true;
 }
 
 void setBounds (int x, int y, int width, int height, boolean move, boolean resize) {
@@ -3711,7 +3736,9 @@ void setBounds (int x, int y, int width, int height, boolean move, boolean resiz
 public void setBounds (Rectangle rect) {
 	checkWidget ();
 	if (rect == null) error (SWT.ERROR_NULL_ARGUMENT);
-	setBounds (rect.x, rect.y, Math.max (0, rect.width), Math.max (0, rect.height), true, true);
+	int width = Math.max (0, rect.width), height = Math.max (0, rect.height);
+	if (deferBounds (rect.x, rect.y, width, height)) return;
+	setBounds (rect.x, rect.y, width, height, true, true);
 }
 
 /**
@@ -4004,6 +4031,7 @@ public void setLayoutData (Object layoutData) {
  */
 public void setLocation (int x, int y) {
 	checkWidget();
+	applyDeferredBounds ();
 	setBounds (x, y, 0, 0, true, false);
 }
 
@@ -4026,6 +4054,7 @@ public void setLocation (int x, int y) {
  */
 public void setLocation (Point location) {
 	checkWidget();
+	applyDeferredBounds ();
 	if (location == null) error (SWT.ERROR_NULL_ARGUMENT);
 	setBounds (location.x, location.y, 0, 0, true, false);
 }
@@ -4234,6 +4263,7 @@ boolean setRadioSelection (boolean value){
  */
 public void setSize (int width, int height) {
 	checkWidget();
+	applyDeferredBounds ();
 	setBounds (0, 0, Math.max (0, width), Math.max (0, height), false, true);
 }
 
@@ -4262,6 +4292,7 @@ public void setSize (int width, int height) {
  */
 public void setSize (Point size) {
 	checkWidget ();
+	applyDeferredBounds ();
 	if (size == null) error (SWT.ERROR_NULL_ARGUMENT);
 	setBounds (0, 0, Math.max (0, size.x), Math.max (0, size.y), false, true);
 }
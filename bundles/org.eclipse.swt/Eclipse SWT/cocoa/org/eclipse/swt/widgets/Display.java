@@ -118,7 +118,7 @@ public class Display extends Device implements Executor {
 	static final String USE_SYSTEM_THEME = "org.eclipse.swt.display.useSystemTheme";
 
 	/* Windows and Events */
-	Event [] eventQueue;
+	EventQueue eventQueue;
 	EventTable eventTable, filterTable;
 	boolean disposing;
 	int sendEventCount;
@@ -3659,19 +3659,11 @@ void postEvent (Event event) {
 	* thread so it must be re-enterant but does not
 	* need to be synchronized.
 	*/
-	if (eventQueue == null) eventQueue = new Event [4];
-	int index = 0;
-	int length = eventQueue.length;
-	while (index < length) {
-		if (eventQueue [index] == null) break;
-		index++;
-	}
-	if (index == length) {
-		Event [] newQueue = new Event [length + 4];
-		System.arraycopy (eventQueue, 0, newQueue, 0, length);
-		eventQueue = newQueue;
+	if (eventQueue == null) eventQueue = new EventQueue ();
+	eventQueue.add (event);
+	if (DisplaySpy.isEnabled) {
+		DisplaySpy.getInstance ().deferredEventPosted (this, event, eventQueue.size ());
 	}
-	eventQueue [index] = event;
 }
 
 /**
@@ -3994,6 +3986,17 @@ boolean performKeyEquivalent(NSWindow window, NSEvent nsEvent) {
  */
 public boolean readAndDispatch () {
 	checkDevice ();
+	if (!DisplaySpy.isEnabled) return readAndDispatchEvents ();
+	long start = System.nanoTime ();
+	DisplaySpy.getInstance ().dispatchStarted (this);
+	try {
+		return readAndDispatchEvents ();
+	} finally {
+		DisplaySpy.getInstance ().dispatchFinished (this, System.nanoTime () - start);
+	}
+}
+
+boolean readAndDispatchEvents () {
 	if (sendEventCount == 0 && loopCount == poolCount - 1 && Callback.getEntryCount () == 0) removePool ();
 	addPool ();
 	runSkin ();
@@ -4423,11 +4426,11 @@ boolean runDeferredEvents () {
 	while (eventQueue != null) {
 
 		/* Take an event off the queue */
-		Event event = eventQueue [0];
+		Event event = eventQueue.poll ();
 		if (event == null) break;
-		int length = eventQueue.length;
-		System.arraycopy (eventQueue, 1, eventQueue, 0, --length);
-		eventQueue [length] = null;
+		if (DisplaySpy.isEnabled) {
+			DisplaySpy.getInstance ().deferredEventRun (this, event, eventQueue.size ());
+		}
 
 		/* Run the event */
 		Widget widget = event.widget;
@@ -4623,7 +4626,15 @@ boolean runTimers () {
 			timerList [i] = null;
 			if (runnable != null) {
 				result = true;
-				runnable.run ();
+				boolean spy = DisplaySpy.isEnabled;
+				long start = spy ? System.nanoTime () : 0;
+				try {
+					runnable.run ();
+				} finally {
+					if (spy) {
+						DisplaySpy.getInstance ().timerExecRun (this, runnable, System.nanoTime () - start);
+					}
+				}
 			}
 		}
 	}
@@ -5228,6 +5239,9 @@ public boolean sleep () {
 	checkDevice ();
 	if (!synchronizer.isMessagesEmpty()) return true;
 	sendPreExternalEventDispatchEvent ();
+	boolean spy = DisplaySpy.isEnabled;
+	long start = spy ? System.nanoTime () : 0;
+	if (spy) DisplaySpy.getInstance ().sleepStarted (this);
 	try {
 		addPool();
 		allowTimers = runAsyncMessages = false;
@@ -5235,6 +5249,7 @@ public boolean sleep () {
 		allowTimers = runAsyncMessages = true;
 	} finally {
 		removePool();
+		if (spy) DisplaySpy.getInstance ().sleepFinished (this, 1, System.nanoTime () - start);
 	}
 	sendPostExternalEventDispatchEvent ();
 	return true;
@@ -5412,12 +5427,18 @@ long timerProc (long id, long sel, long timerID) {
 				timerList [index] = null;
 				nsTimers [index] = null;
 				if (runnable != null) {
+					boolean spy = DisplaySpy.isEnabled;
+					long start = spy ? System.nanoTime () : 0;
 					try {
 						runnable.run ();
 					} catch (RuntimeException exception) {
 						runtimeExceptionHandler.accept (exception);
 					} catch (Error exception) {
 						errorHandler.accept (exception);
+					} finally {
+						if (spy) {
+							DisplaySpy.getInstance ().timerExecRun (this, runnable, System.nanoTime () - start);
+						}
 					}
 				}
 			} else {
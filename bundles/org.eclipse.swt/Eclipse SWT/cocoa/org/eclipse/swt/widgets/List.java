@@ -23,11 +23,24 @@ import org.eclipse.swt.internal.cocoa.*;
  * Instances of this class represent a selectable user interface
  * object that displays a list of strings and issues notification
  * when a string is selected.  A list may be single or multi select.
+ * <p>
+ * Style <code>VIRTUAL</code> is used to create a <code>List</code> whose
+ * strings are provided by the client on an on-demand basis instead of
+ * up-front.  Only the strings that are displayed or queried are requested,
+ * using the <code>SetData</code> event whose <code>index</code> field is the
+ * index of the string.
+ * </p><p>
+ * Here is an example of using a <code>List</code> with style <code>VIRTUAL</code>:</p>
+ * <pre><code>
+ *  final List list = new List (parent, SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL);
+ *  list.setItemCount (1000000);
+ *  list.addListener (SWT.SetData, event -&gt; list.setItem (event.index, "Item " + event.index));
+ * </code></pre>
  * <dl>
  * <dt><b>Styles:</b></dt>
- * <dd>SINGLE, MULTI, NO_SEARCH</dd>
+ * <dd>SINGLE, MULTI, NO_SEARCH, VIRTUAL</dd>
  * <dt><b>Events:</b></dt>
- * <dd>Selection, DefaultSelection</dd>
+ * <dd>Selection, DefaultSelection, SetData</dd>
  * </dl>
  * <p>
  * Note: Only one of SINGLE and MULTI may be specified.
@@ -210,10 +223,82 @@ public void addSelectionListener(SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+/*
+* The text of an item of a virtual list is null until it is requested.
+* The item is given an empty text before the SetData event is sent, so
+* that it is only requested once when the client does not set it.
+*/
+boolean checkData (int index) {
+	if (items [index] != null) return true;
+	items [index] = "";
+	Event event = new Event ();
+	event.index = index;
+	sendEvent (SWT.SetData, event);
+	//widget could be disposed at this point
+	return !isDisposed ();
+}
+
 static int checkStyle (int style) {
 	return checkBits (style, SWT.SINGLE, SWT.MULTI, 0, 0, 0, 0);
 }
 
+/**
+ * Clears the item at the given zero-relative index in the receiver.
+ * The text of the item is set to the empty string.  If the list was
+ * created with the <code>SWT.VIRTUAL</code> style, the text is requested
+ * again as needed.
+ *
+ * @param index the index of the item to clear
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_RANGE - if the index is not between 0 and the number of elements in the list minus 1 (inclusive)</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clear (int index) {
+	checkWidget ();
+	if (!(0 <= index && index < itemCount)) error (SWT.ERROR_INVALID_RANGE);
+	items [index] = (style & SWT.VIRTUAL) != 0 ? null : "";
+	NSTableView tableView = (NSTableView)view;
+	tableView.setNeedsDisplayInRect (tableView.rectOfRow (index));
+}
+
+/**
+ * Clears all the items in the receiver. The texts of the items are set
+ * to the empty string.  If the list was created with the <code>SWT.VIRTUAL</code>
+ * style, the texts are requested again as needed.
+ * <p>
+ * Together with <code>setItemCount(int)</code>, this can be used to filter
+ * a virtual list: the client changes the strings it provides, sets the new
+ * number of items and clears the items so that only the strings that are
+ * displayed are requested again.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clearAll () {
+	checkWidget ();
+	String string = (style & SWT.VIRTUAL) != 0 ? null : "";
+	for (int i=0; i<itemCount; i++) items [i] = string;
+	view.setNeedsDisplay (true);
+}
+
 @Override
 public Point computeSize (int wHint, int hHint, boolean changed) {
 	checkWidget();
@@ -485,6 +570,7 @@ public int getFocusIndex () {
 public String getItem (int index) {
 	checkWidget();
 	if (!(0 <= index && index < itemCount)) error (SWT.ERROR_INVALID_RANGE);
+	if (!checkData (index)) error (SWT.ERROR_WIDGET_DISPOSED);
 	return items [index];
 }
 
@@ -538,6 +624,11 @@ public int getItemHeight () {
 public String [] getItems () {
 	checkWidget();
 	String [] result = new String [itemCount];
+	if ((style & SWT.VIRTUAL) != 0) {
+		for (int i=0; i<itemCount; i++) {
+			if (!checkData (i)) error (SWT.ERROR_WIDGET_DISPOSED);
+		}
+	}
 	System.arraycopy (items, 0, result, 0, itemCount);
 	return result;
 }
@@ -570,7 +661,7 @@ public String [] getSelection () {
 	selection.getIndexes(indexBuffer, count, 0);
 	String [] result = new String  [count];
 	for (int i=0; i<count; i++) {
-		result [i] = items [(int)indexBuffer [i]];
+		result [i] = getItem ((int)indexBuffer [i]);
 	}
 	return result;
 }
@@ -679,6 +770,12 @@ public int getTopIndex () {
  * If no item is found, -1 is returned.  Indexing
  * is zero based.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @return the index of the item
  *
@@ -694,7 +791,8 @@ public int indexOf (String string) {
 	checkWidget();
 	if (string == null) error (SWT.ERROR_NULL_ARGUMENT);
 	for (int i=0; i<itemCount; i++) {
-		if (items [i].equals (string)) return i;
+		/* The items of a virtual list that were not requested are skipped */
+		if (string.equals (items [i])) return i;
 	}
 	return -1;
 }
@@ -706,6 +804,12 @@ public int indexOf (String string) {
  * no item is found or the starting index is out of range,
  * returns -1.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @param start the zero-relative index at which to start the search
  * @return the index of the item
@@ -722,7 +826,8 @@ public int indexOf (String string, int start) {
 	checkWidget();
 	if (string == null) error (SWT.ERROR_NULL_ARGUMENT);
 	for (int i=start; i<itemCount; i++) {
-		if (items [i].equals (string)) return i;
+		/* The items of a virtual list that were not requested are skipped */
+		if (string.equals (items [i])) return i;
 	}
 	return -1;
 }
@@ -1215,6 +1320,43 @@ public void setItem (int index, String string) {
 	setScrollWidth(string);
 }
 
+/**
+ * Sets the number of items contained in the receiver. Items added
+ * at the end have an empty text.  If the list was created with the
+ * <code>SWT.VIRTUAL</code> style, their texts are requested as needed.
+ * <p>
+ * Note: On some platforms a native row is still created for every item,
+ * so the cost of this method grows with the number of items added even
+ * though their texts are requested as needed.
+ * </p>
+ *
+ * @param count the number of items
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void setItemCount (int count) {
+	checkWidget ();
+	count = Math.max (0, count);
+	if (count == itemCount) return;
+	String [] newItems = new String [Math.max (4, count)];
+	System.arraycopy (items, 0, newItems, 0, Math.min (count, itemCount));
+	if ((style & SWT.VIRTUAL) == 0) {
+		for (int i=itemCount; i<count; i++) newItems [i] = "";
+	}
+	items = newItems;
+	itemCount = count;
+	updateRowCount ();
+	setScrollWidth ();
+}
+
 /**
  * Sets the receiver's items to be the given array of items.
  *
@@ -1265,6 +1407,7 @@ boolean setScrollWidth () {
 	cell.setFont (font.handle);
 	double width = 0;
 	for (int i = 0; i < itemCount; i++) {
+		if (items[i] == null) continue;
 		cell.setTitle (NSString.stringWith (items[i]));
 		NSSize size = cell.cellSize ();
 		width = Math.max (width, size.width);
@@ -1504,6 +1647,7 @@ void tableViewSelectionIsChanging (long id, long sel, long aNotification) {
 
 @Override
 long tableView_objectValueForTableColumn_row(long id, long sel, long aTableView, long aTableColumn, long rowIndex) {
+	if (!checkData ((int)rowIndex)) return 0;
 	double [] fg = ((NSTableView)view).isRowSelected(rowIndex) ? null : foreground;
 	NSAttributedString attribStr = createString(items[(int)rowIndex], null, fg, SWT.LEFT, false, getEnabled(), false);
 	attribStr.autorelease();
@@ -1652,6 +1652,11 @@ public void setAlpha (int alpha) {
 	window.setAlphaValue (alpha / 255f);
 }
 
+@Override
+boolean deferBounds (int x, int y, int width, int height) {
+	return false;
+}
+
 @Override
 void setBounds (int x, int y, int width, int height, boolean move, boolean resize) {
 	if (window == null) {
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.*;
+import java.util.function.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -2809,6 +2812,96 @@ public void setItemCount (int count) {
 	updateRowCount();
 }
 
+/**
+ * Replaces the items of the receiver with new items whose texts
+ * are given column by column. The element <code>texts[column][row]</code>
+ * is the text of the item at index <code>row</code> in the given
+ * column. The number of items is the length of the longest column array.
+ * Missing or <code>null</code> texts leave the cell empty, and columns
+ * beyond the number of columns of the receiver are ignored.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param texts the texts of the new items, one array per column
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the texts array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(int, IntFunction)
+ *
+ * @since 3.133
+ */
+public void setItems (String [][] texts) {
+	checkWidget ();
+	if (texts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = 0;
+	for (String [] column : texts) {
+		if (column != null) count = Math.max (count, column.length);
+	}
+	String [] row = new String [texts.length];
+	setItems (count, index -> {
+		for (int i=0; i<texts.length; i++) {
+			String [] column = texts [i];
+			row [i] = column != null && index < column.length ? column [index] : null;
+		}
+		return row;
+	});
+}
+
+/**
+ * Replaces the items of the receiver with <code>count</code> new
+ * items. The texts of the item at each index are requested from
+ * <code>rowTexts</code> in increasing index order, one element per
+ * column. The returned array is not retained by the receiver. A
+ * <code>null</code> array or <code>null</code> elements leave the
+ * cells empty.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param count the number of items
+ * @param rowTexts the function providing the texts of each item
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the function is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(String[][])
+ *
+ * @since 3.133
+ */
+public void setItems (int count, IntFunction<String []> rowTexts) {
+	checkWidget ();
+	if (rowTexts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	count = Math.max (0, count);
+	setRedraw (false);
+	try {
+		removeAll ();
+		setItemCount (count);
+		TableItem [] items = getItems ();
+		for (int i=0; i<count; i++) {
+			String [] strings = rowTexts.apply (i);
+			if (strings != null) items [i].setText (strings);
+		}
+	} finally {
+		setRedraw (true);
+	}
+}
+
 /*public*/ void setItemHeight (int itemHeight) {
 	checkWidget ();
 	if (itemHeight < -1) error (SWT.ERROR_INVALID_ARGUMENT);
@@ -3313,6 +3406,56 @@ public void showSelection () {
 	}
 }
 
+/**
+ * Sorts the items of the receiver with the given comparator.
+ * Items that compare equal keep their relative order. The
+ * selection, the focus item and the items themselves are
+ * preserved; only their indices change.
+ * <p>
+ * The comparator is called on the thread of the receiver and
+ * may query the items. In a table created with the
+ * <code>SWT.VIRTUAL</code> style, all items are created and
+ * <code>SWT.SetData</code> is sent for the items the comparator
+ * reads.
+ * </p>
+ *
+ * @param comparator the comparator deciding the order of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.133
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	for (int i=0; i<itemCount; i++) _getItem (i);
+	int [] newOrder = ItemOrder.sort (items, itemCount, comparator);
+	if (newOrder == null) return;
+	int [] newIndex = ItemOrder.invert (newOrder);
+	int [] selection = getSelectionIndices ();
+	TableItem [] newItems = new TableItem [items.length];
+	for (int i=0; i<itemCount; i++) newItems [i] = items [newOrder [i]];
+	items = newItems;
+	/*
+	* The table view asks the items for the contents of its rows,
+	* but keeps the selection by row index.  Move the selection
+	* along with the items.
+	*/
+	NSTableView widget = (NSTableView)view;
+	ignoreSelect = true;
+	widget.reloadData ();
+	widget.deselectAll (null);
+	ignoreSelect = false;
+	for (int i=0; i<selection.length; i++) selection [i] = newIndex [selection [i]];
+	select (selection);
+}
+
 @Override
 void selectRowIndexes_byExtendingSelection (long id, long sel, long indexes, boolean extend) {
 	if (preventSelect && !ignoreSelect) return;
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.*;
+import java.util.function.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -3093,6 +3096,96 @@ public void setItemCount (int count) {
 	setItemCount (null, count);
 }
 
+/**
+ * Replaces the root items of the receiver with new items whose texts
+ * are given column by column. The element <code>texts[column][row]</code>
+ * is the text of the root item at index <code>row</code> in the given
+ * column. The number of items is the length of the longest column array.
+ * Missing or <code>null</code> texts leave the cell empty, and columns
+ * beyond the number of columns of the receiver are ignored.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TreeItem.setText(String[])</code>, but is considerably
+ * faster for large trees.
+ * </p>
+ *
+ * @param texts the texts of the new items, one array per column
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the texts array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(int, IntFunction)
+ *
+ * @since 3.133
+ */
+public void setItems (String [][] texts) {
+	checkWidget ();
+	if (texts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = 0;
+	for (String [] column : texts) {
+		if (column != null) count = Math.max (count, column.length);
+	}
+	String [] row = new String [texts.length];
+	setItems (count, index -> {
+		for (int i=0; i<texts.length; i++) {
+			String [] column = texts [i];
+			row [i] = column != null && index < column.length ? column [index] : null;
+		}
+		return row;
+	});
+}
+
+/**
+ * Replaces the root items of the receiver with <code>count</code> new
+ * items. The texts of the item at each index are requested from
+ * <code>rowTexts</code> in increasing index order, one element per
+ * column. The returned array is not retained by the receiver. A
+ * <code>null</code> array or <code>null</code> elements leave the
+ * cells empty.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TreeItem.setText(String[])</code>, but is considerably
+ * faster for large trees.
+ * </p>
+ *
+ * @param count the number of root items
+ * @param rowTexts the function providing the texts of each item
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the function is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(String[][])
+ *
+ * @since 3.133
+ */
+public void setItems (int count, IntFunction<String []> rowTexts) {
+	checkWidget ();
+	if (rowTexts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	count = Math.max (0, count);
+	setRedraw (false);
+	try {
+		removeAll ();
+		setItemCount (count);
+		TreeItem [] items = getItems ();
+		for (int i=0; i<count; i++) {
+			String [] strings = rowTexts.apply (i);
+			if (strings != null) items [i].setText (strings);
+		}
+	} finally {
+		setRedraw (true);
+	}
+}
+
 void setItemCount (TreeItem parentItem, int count) {
 	int itemCount = getItemCount (parentItem);
 	if (count == itemCount) return;
@@ -3573,6 +3666,70 @@ public void showSelection () {
 	}
 }
 
+/**
+ * Sorts the children of the given item, or the root items when
+ * the item is <code>null</code>, with the given comparator. Items
+ * that compare equal keep their relative order. The selection,
+ * the focus item, the expanded state and the items themselves
+ * are preserved; only their indices change.
+ * <p>
+ * The comparator is called on the thread of the receiver and
+ * may query the items. In a tree created with the
+ * <code>SWT.VIRTUAL</code> style, all children of the item are
+ * created and <code>SWT.SetData</code> is sent for the items the
+ * comparator reads.
+ * </p>
+ *
+ * @param parent the item whose children are sorted, or <code>null</code> for the root items
+ * @param comparator the comparator deciding the order of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the item has been disposed</li>
+ *    <li>ERROR_INVALID_PARENT - if the item is not in the receiver</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.133
+ */
+public void sort (TreeItem parent, Comparator<TreeItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (parent != null) {
+		if (parent.isDisposed ()) error (SWT.ERROR_INVALID_ARGUMENT);
+		if (parent.parent != this) error (SWT.ERROR_INVALID_PARENT);
+	}
+	int count = parent != null ? parent.itemCount : itemCount;
+	for (int i=0; i<count; i++) _getItem (parent, i, true);
+	TreeItem [] items = parent != null ? parent.items : this.items;
+	int [] newOrder = ItemOrder.sort (items, count, comparator);
+	if (newOrder == null) return;
+	TreeItem [] newItems = new TreeItem [items.length];
+	for (int i=0; i<count; i++) newItems [i] = items [newOrder [i]];
+	if (parent != null) {
+		parent.items = newItems;
+	} else {
+		this.items = newItems;
+	}
+	ignoreExpand = true;
+	NSOutlineView widget = (NSOutlineView)view;
+	if (getDrawing()) {
+		TreeItem[] selectedItems = getSelection ();
+		if (parent != null) {
+			widget.reloadItem (parent.handle, true);
+		} else {
+			widget.reloadData ();
+		}
+		selectItems (selectedItems, true);
+	} else {
+		reloadPending = true;
+	}
+	ignoreExpand = false;
+}
+
 @Override
 void updateCursorRects (boolean enabled) {
 	super.updateCursorRects (enabled);
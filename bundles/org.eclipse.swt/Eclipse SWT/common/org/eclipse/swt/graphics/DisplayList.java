@@ -0,0 +1,1272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.io.*;
+import java.util.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class record drawing commands, so that they can be
+ * drawn again on any <code>GC</code> without running the code which issued
+ * them.
+ * <p>
+ * The drawing methods of a display list have the same signatures and the
+ * same meaning as the ones of <code>GC</code>. The commands are kept in a
+ * compact buffer together with the area they cover, so that replaying the
+ * list only draws the commands which touch the damaged area of a paint
+ * event. Commands are drawn with the attributes of the <code>GC</code>
+ * they are replayed on until the list changes them, and the attributes
+ * changed by the list are restored once it has been replayed.
+ * </p><p>
+ * Colors, fonts and images are referenced, not copied, by a display list,
+ * and must not be disposed while the list is replayed. A display list
+ * which is read from a stream creates its own colors, fonts and images,
+ * which are disposed when the list is disposed.
+ * </p>
+ *
+ * @see GC
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.133
+ */
+public final class DisplayList {
+
+	/* state commands, followed by their arguments */
+	static final int FOREGROUND = 1;
+	static final int BACKGROUND = 2;
+	static final int FONT = 3;
+	static final int LINE_WIDTH = 4;
+	static final int LINE_STYLE = 5;
+	static final int ALPHA = 6;
+
+	/* drawing commands, followed by their bounds and their arguments */
+	static final int FIRST_DRAWING = 16;
+	static final int LINE = 16;
+	static final int LINES = 17;
+	static final int POINT = 18;
+	static final int POINTS = 19;
+	static final int RECTANGLE = 20;
+	static final int FILL_RECTANGLE = 21;
+	static final int FILL_RECTANGLES = 22;
+	static final int OVAL = 23;
+	static final int FILL_OVAL = 24;
+	static final int ARC = 25;
+	static final int FILL_ARC = 26;
+	static final int ROUND_RECTANGLE = 27;
+	static final int FILL_ROUND_RECTANGLE = 28;
+	static final int POLYLINE = 29;
+	static final int POLYGON = 30;
+	static final int FILL_POLYGON = 31;
+	static final int TEXT = 32;
+	static final int STRING = 33;
+	static final int IMAGE = 34;
+	static final int IMAGE_SCALED = 35;
+
+	/* the tags of the objects in a stream */
+	static final int COLOR_OBJECT = 1;
+	static final int FONT_OBJECT = 2;
+	static final int IMAGE_OBJECT = 3;
+	static final int STRING_OBJECT = 4;
+
+	static final int MAGIC = 0x5357444C;
+	static final int VERSION = 1;
+
+	/*
+	 * The largest number of elements an array read from a stream may have,
+	 * and the number of elements allocated at once while it is read, so
+	 * that a corrupt length does not allocate more than the stream holds.
+	 */
+	static final int MAX_LENGTH = 1 << 28;
+	static final int CHUNK_LENGTH = 4096;
+
+	/*
+	 * Every command starts with a header which holds the command in its
+	 * low byte and the number of values which follow the header above it.
+	 */
+	int[] commands = new int[64];
+	int count;
+
+	/* the colors, fonts, images and strings of the commands */
+	List<Object> objects = new ArrayList<>();
+	Map<Object, Integer> objectIndices = new HashMap<>();
+
+	/* the colors, fonts and images created by the receiver */
+	List<Resource> resources = new ArrayList<>();
+	boolean disposed;
+
+/**
+ * Constructs a new, empty display list.
+ */
+public DisplayList() {
+}
+
+void checkList() {
+	if (disposed) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+}
+
+int begin(int command, int length) {
+	checkList();
+	if (count + length + 1 > commands.length) {
+		int[] newCommands = new int[Math.max(commands.length * 2, count + length + 1)];
+		System.arraycopy(commands, 0, newCommands, 0, count);
+		commands = newCommands;
+	}
+	commands[count] = command | (length << 8);
+	int index = count + 1;
+	count = index + length;
+	return index;
+}
+
+int objectIndex(Object object) {
+	Integer index = objectIndices.get(object);
+	if (index == null) {
+		index = objects.size();
+		objects.add(object);
+		objectIndices.put(object, index);
+	}
+	return index;
+}
+
+void setBounds(int index, int x, int y, int width, int height) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	commands[index] = x;
+	commands[index + 1] = y;
+	commands[index + 2] = width;
+	commands[index + 3] = height;
+}
+
+void setPointBounds(int index, int[] pointArray, int length) {
+	int left = Integer.MAX_VALUE, top = Integer.MAX_VALUE;
+	int right = Integer.MIN_VALUE, bottom = Integer.MIN_VALUE;
+	for (int i = 0; i + 1 < length; i += 2) {
+		left = Math.min(left, pointArray[i]);
+		top = Math.min(top, pointArray[i + 1]);
+		right = Math.max(right, pointArray[i]);
+		bottom = Math.max(bottom, pointArray[i + 1]);
+	}
+	if (left > right) {
+		setBounds(index, 0, 0, 0, 0);
+	} else {
+		setBounds(index, left, top, right - left, bottom - top);
+	}
+}
+
+void addShape(int command, int x, int y, int width, int height) {
+	int index = begin(command, 8);
+	setBounds(index, x, y, width, height);
+	commands[index + 4] = x;
+	commands[index + 5] = y;
+	commands[index + 6] = width;
+	commands[index + 7] = height;
+}
+
+void addShape(int command, int x, int y, int width, int height, int arg1, int arg2) {
+	int index = begin(command, 10);
+	setBounds(index, x, y, width, height);
+	commands[index + 4] = x;
+	commands[index + 5] = y;
+	commands[index + 6] = width;
+	commands[index + 7] = height;
+	commands[index + 8] = arg1;
+	commands[index + 9] = arg2;
+}
+
+int addPoints(int command, int[] pointArray) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int length = pointArray.length;
+	int index = begin(command, 4 + length);
+	setPointBounds(index, pointArray, length);
+	System.arraycopy(pointArray, 0, commands, index + 4, length);
+	return index;
+}
+
+/**
+ * Records setting the foreground color.
+ *
+ * @param color the new foreground color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the color is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the color has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setForeground(Color)
+ */
+public void setForeground(Color color) {
+	if (color == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (color.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	int index = begin(FOREGROUND, 1);
+	commands[index] = objectIndex(color);
+}
+
+/**
+ * Records setting the background color.
+ *
+ * @param color the new background color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the color is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the color has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setBackground(Color)
+ */
+public void setBackground(Color color) {
+	if (color == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (color.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	int index = begin(BACKGROUND, 1);
+	commands[index] = objectIndex(color);
+}
+
+/**
+ * Records setting the font. A font of <code>null</code> sets the
+ * default font of the graphics context the list is replayed on.
+ *
+ * @param font the new font, or <code>null</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the font has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setFont(Font)
+ */
+public void setFont(Font font) {
+	if (font != null && font.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	int index = begin(FONT, 1);
+	commands[index] = font == null ? -1 : objectIndex(font);
+}
+
+/**
+ * Records setting the line width.
+ *
+ * @param lineWidth the new line width
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setLineWidth(int)
+ */
+public void setLineWidth(int lineWidth) {
+	int index = begin(LINE_WIDTH, 1);
+	commands[index] = lineWidth;
+}
+
+/**
+ * Records setting the line style.
+ *
+ * @param lineStyle the new line style, one of <code>SWT.LINE_SOLID</code>,
+ * <code>SWT.LINE_DASH</code>, <code>SWT.LINE_DOT</code>,
+ * <code>SWT.LINE_DASHDOT</code> or <code>SWT.LINE_DASHDOTDOT</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the style is not valid</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setLineStyle(int)
+ */
+public void setLineStyle(int lineStyle) {
+	switch (lineStyle) {
+		case SWT.LINE_SOLID:
+		case SWT.LINE_DASH:
+		case SWT.LINE_DOT:
+		case SWT.LINE_DASHDOT:
+		case SWT.LINE_DASHDOTDOT:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	int index = begin(LINE_STYLE, 1);
+	commands[index] = lineStyle;
+}
+
+/**
+ * Records setting the alpha value.
+ *
+ * @param alpha the new alpha value, from 0 (transparent) to 255 (opaque)
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#setAlpha(int)
+ */
+public void setAlpha(int alpha) {
+	int index = begin(ALPHA, 1);
+	commands[index] = alpha;
+}
+
+/**
+ * Records drawing a line.
+ *
+ * @param x1 the first point's x coordinate
+ * @param y1 the first point's y coordinate
+ * @param x2 the second point's x coordinate
+ * @param y2 the second point's y coordinate
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawLine(int, int, int, int)
+ */
+public void drawLine(int x1, int y1, int x2, int y2) {
+	int index = begin(LINE, 8);
+	setBounds(index, x1, y1, x2 - x1, y2 - y1);
+	commands[index + 4] = x1;
+	commands[index + 5] = y1;
+	commands[index + 6] = x2;
+	commands[index + 7] = y2;
+}
+
+/**
+ * Records drawing lines between pairs of points.
+ *
+ * @param segments an array of the coordinates of the end points of the lines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the segment array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawLines(int[])
+ */
+public void drawLines(int[] segments) {
+	addPoints(LINES, segments);
+}
+
+/**
+ * Records drawing a point.
+ *
+ * @param x the point's x coordinate
+ * @param y the point's y coordinate
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawPoint(int, int)
+ */
+public void drawPoint(int x, int y) {
+	int index = begin(POINT, 6);
+	setBounds(index, x, y, 1, 1);
+	commands[index + 4] = x;
+	commands[index + 5] = y;
+}
+
+/**
+ * Records drawing points.
+ *
+ * @param pointArray an array of alternating x and y values of the points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawPoints(int[])
+ */
+public void drawPoints(int[] pointArray) {
+	int index = addPoints(POINTS, pointArray);
+	/* every point covers one pixel */
+	commands[index + 2]++;
+	commands[index + 3]++;
+}
+
+/**
+ * Records drawing the outline of a rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be drawn
+ * @param y the y coordinate of the rectangle to be drawn
+ * @param width the width of the rectangle to be drawn
+ * @param height the height of the rectangle to be drawn
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawRectangle(int, int, int, int)
+ */
+public void drawRectangle(int x, int y, int width, int height) {
+	addShape(RECTANGLE, x, y, width, height);
+}
+
+/**
+ * Records filling the interior of a rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be filled
+ * @param y the y coordinate of the rectangle to be filled
+ * @param width the width of the rectangle to be filled
+ * @param height the height of the rectangle to be filled
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillRectangle(int, int, int, int)
+ */
+public void fillRectangle(int x, int y, int width, int height) {
+	addShape(FILL_RECTANGLE, x, y, width, height);
+}
+
+/**
+ * Records filling the interior of rectangles.
+ *
+ * @param rects an array of the coordinates and sizes of the rectangles
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillRectangles(int[])
+ */
+public void fillRectangles(int[] rects) {
+	if (rects == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int length = rects.length / 4 * 4;
+	int index = begin(FILL_RECTANGLES, 4 + length);
+	int left = Integer.MAX_VALUE, top = Integer.MAX_VALUE;
+	int right = Integer.MIN_VALUE, bottom = Integer.MIN_VALUE;
+	for (int i = 0; i < length; i += 4) {
+		int x = rects[i], y = rects[i + 1], width = rects[i + 2], height = rects[i + 3];
+		left = Math.min(left, Math.min(x, x + width));
+		top = Math.min(top, Math.min(y, y + height));
+		right = Math.max(right, Math.max(x, x + width));
+		bottom = Math.max(bottom, Math.max(y, y + height));
+	}
+	if (left > right) {
+		setBounds(index, 0, 0, 0, 0);
+	} else {
+		setBounds(index, left, top, right - left, bottom - top);
+	}
+	System.arraycopy(rects, 0, commands, index + 4, length);
+}
+
+/**
+ * Records drawing the outline of an oval.
+ *
+ * @param x the x coordinate of the upper left corner of the oval to be drawn
+ * @param y the y coordinate of the upper left corner of the oval to be drawn
+ * @param width the width of the oval to be drawn
+ * @param height the height of the oval to be drawn
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawOval(int, int, int, int)
+ */
+public void drawOval(int x, int y, int width, int height) {
+	addShape(OVAL, x, y, width, height);
+}
+
+/**
+ * Records filling the interior of an oval.
+ *
+ * @param x the x coordinate of the upper left corner of the oval to be filled
+ * @param y the y coordinate of the upper left corner of the oval to be filled
+ * @param width the width of the oval to be filled
+ * @param height the height of the oval to be filled
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillOval(int, int, int, int)
+ */
+public void fillOval(int x, int y, int width, int height) {
+	addShape(FILL_OVAL, x, y, width, height);
+}
+
+/**
+ * Records drawing the outline of a circular or elliptical arc.
+ *
+ * @param x the x coordinate of the upper-left corner of the arc to be drawn
+ * @param y the y coordinate of the upper-left corner of the arc to be drawn
+ * @param width the width of the arc to be drawn
+ * @param height the height of the arc to be drawn
+ * @param startAngle the beginning angle
+ * @param arcAngle the angular extent of the arc, relative to the start angle
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawArc(int, int, int, int, int, int)
+ */
+public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+	addShape(ARC, x, y, width, height, startAngle, arcAngle);
+}
+
+/**
+ * Records filling a circular or elliptical arc.
+ *
+ * @param x the x coordinate of the upper-left corner of the arc to be filled
+ * @param y the y coordinate of the upper-left corner of the arc to be filled
+ * @param width the width of the arc to be filled
+ * @param height the height of the arc to be filled
+ * @param startAngle the beginning angle
+ * @param arcAngle the angular extent of the arc, relative to the start angle
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillArc(int, int, int, int, int, int)
+ */
+public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+	addShape(FILL_ARC, x, y, width, height, startAngle, arcAngle);
+}
+
+/**
+ * Records drawing the outline of a round-cornered rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be drawn
+ * @param y the y coordinate of the rectangle to be drawn
+ * @param width the width of the rectangle to be drawn
+ * @param height the height of the rectangle to be drawn
+ * @param arcWidth the width of the arc
+ * @param arcHeight the height of the arc
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawRoundRectangle(int, int, int, int, int, int)
+ */
+public void drawRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+	addShape(ROUND_RECTANGLE, x, y, width, height, arcWidth, arcHeight);
+}
+
+/**
+ * Records filling the interior of a round-cornered rectangle.
+ *
+ * @param x the x coordinate of the rectangle to be filled
+ * @param y the y coordinate of the rectangle to be filled
+ * @param width the width of the rectangle to be filled
+ * @param height the height of the rectangle to be filled
+ * @param arcWidth the width of the arc
+ * @param arcHeight the height of the arc
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillRoundRectangle(int, int, int, int, int, int)
+ */
+public void fillRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+	addShape(FILL_ROUND_RECTANGLE, x, y, width, height, arcWidth, arcHeight);
+}
+
+/**
+ * Records drawing a polyline.
+ *
+ * @param pointArray an array of alternating x and y values which are the corners of the polyline
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawPolyline(int[])
+ */
+public void drawPolyline(int[] pointArray) {
+	addPoints(POLYLINE, pointArray);
+}
+
+/**
+ * Records drawing the outline of a polygon.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawPolygon(int[])
+ */
+public void drawPolygon(int[] pointArray) {
+	addPoints(POLYGON, pointArray);
+}
+
+/**
+ * Records filling the interior of a polygon.
+ *
+ * @param pointArray an array of alternating x and y values which are the vertices of the polygon
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#fillPolygon(int[])
+ */
+public void fillPolygon(int[] pointArray) {
+	addPoints(FILL_POLYGON, pointArray);
+}
+
+/**
+ * Records drawing a string, processing tab expansion and line
+ * delimiters, with a transparent background.
+ *
+ * @param string the string to be drawn
+ * @param x the x coordinate of the top left corner of the rectangular area where the text is to be drawn
+ * @param y the y coordinate of the top left corner of the rectangular area where the text is to be drawn
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the string is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawText(String, int, int)
+ */
+public void drawText(String string, int x, int y) {
+	drawText(string, x, y, SWT.DRAW_DELIMITER | SWT.DRAW_TAB | SWT.DRAW_TRANSPARENT);
+}
+
+/**
+ * Records drawing a string with the given flags.
+ *
+ * @param string the string to be drawn
+ * @param x the x coordinate of the top left corner of the rectangular area where the text is to be drawn
+ * @param y the y coordinate of the top left corner of the rectangular area where the text is to be drawn
+ * @param flags the flags specifying how to process the text
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the string is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawText(String, int, int, int)
+ */
+public void drawText(String string, int x, int y, int flags) {
+	if (string == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int index = begin(TEXT, 8);
+	/* the size of a string is only known once it is drawn with a font */
+	commands[index] = x;
+	commands[index + 1] = y;
+	commands[index + 2] = commands[index + 3] = -1;
+	commands[index + 4] = objectIndex(string);
+	commands[index + 5] = x;
+	commands[index + 6] = y;
+	commands[index + 7] = flags;
+}
+
+/**
+ * Records drawing a string without processing tab expansion and
+ * line delimiters, with a transparent background.
+ *
+ * @param string the string to be drawn
+ * @param x the x coordinate of the top left corner of the rectangular area where the string is to be drawn
+ * @param y the y coordinate of the top left corner of the rectangular area where the string is to be drawn
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the string is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawString(String, int, int, boolean)
+ */
+public void drawString(String string, int x, int y) {
+	if (string == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int index = begin(STRING, 7);
+	commands[index] = x;
+	commands[index + 1] = y;
+	commands[index + 2] = commands[index + 3] = -1;
+	commands[index + 4] = objectIndex(string);
+	commands[index + 5] = x;
+	commands[index + 6] = y;
+}
+
+/**
+ * Records drawing an image.
+ *
+ * @param image the image to draw
+ * @param x the x coordinate of where to draw
+ * @param y the y coordinate of where to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the image is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the image has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawImage(Image, int, int)
+ */
+public void drawImage(Image image, int x, int y) {
+	if (image == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (image.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	Rectangle bounds = image.getBounds();
+	int index = begin(IMAGE, 7);
+	setBounds(index, x, y, bounds.width, bounds.height);
+	commands[index + 4] = objectIndex(image);
+	commands[index + 5] = x;
+	commands[index + 6] = y;
+}
+
+/**
+ * Records drawing a rectangular area of an image into a rectangular
+ * area, stretching or shrinking it as needed.
+ *
+ * @param image the source image
+ * @param srcX the x coordinate in the source image to copy from
+ * @param srcY the y coordinate in the source image to copy from
+ * @param srcWidth the width in points to copy from the source
+ * @param srcHeight the height in points to copy from the source
+ * @param destX the x coordinate in the destination to copy to
+ * @param destY the y coordinate in the destination to copy to
+ * @param destWidth the width in points of the destination rectangle
+ * @param destHeight the height in points of the destination rectangle
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the image is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the image has been disposed</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if any of the width or height arguments are negative</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see GC#drawImage(Image, int, int, int, int, int, int, int, int)
+ */
+public void drawImage(Image image, int srcX, int srcY, int srcWidth, int srcHeight, int destX, int destY, int destWidth, int destHeight) {
+	if (image == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (image.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (srcWidth < 0 || srcHeight < 0 || destWidth < 0 || destHeight < 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	int index = begin(IMAGE_SCALED, 13);
+	setBounds(index, destX, destY, destWidth, destHeight);
+	commands[index + 4] = objectIndex(image);
+	commands[index + 5] = srcX;
+	commands[index + 6] = srcY;
+	commands[index + 7] = srcWidth;
+	commands[index + 8] = srcHeight;
+	commands[index + 9] = destX;
+	commands[index + 10] = destY;
+	commands[index + 11] = destWidth;
+	commands[index + 12] = destHeight;
+}
+
+/**
+ * Returns <code>true</code> if no command has been recorded,
+ * and <code>false</code> otherwise.
+ *
+ * @return <code>true</code> when the receiver is empty and <code>false</code> otherwise
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ */
+public boolean isEmpty() {
+	checkList();
+	return count == 0;
+}
+
+/**
+ * Forgets all the recorded commands, so that the receiver can record
+ * new ones. The colors, fonts and images created by the receiver when
+ * it was read from a stream are kept until it is disposed.
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ */
+public void clear() {
+	checkList();
+	count = 0;
+	objects.clear();
+	objectIndices.clear();
+}
+
+/**
+ * Draws the recorded commands on the given graphics context.
+ *
+ * @param gc the graphics context to draw on
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the graphics context is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the graphics context has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ */
+public void replay(GC gc) {
+	replay(gc, 0, 0, null);
+}
+
+/**
+ * Draws the recorded commands on the given graphics context, translated
+ * by the given offsets. When a damaged area is given, the drawing is
+ * clipped to it and the commands which are entirely outside of it are
+ * skipped.
+ *
+ * @param gc the graphics context to draw on
+ * @param x the x offset of the commands
+ * @param y the y offset of the commands
+ * @param damage the area to draw in the coordinates of the graphics context, or <code>null</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the graphics context is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the graphics context has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ */
+public void replay(GC gc, int x, int y, Rectangle damage) {
+	checkList();
+	if (gc == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (gc.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (count == 0) return;
+	Color foreground = gc.getForeground(), background = gc.getBackground();
+	Font font = gc.getFont();
+	int lineWidth = gc.getLineWidth(), lineStyle = gc.getLineStyle(), alpha = gc.getAlpha();
+	int changed = 0;
+	Region clipping = null;
+	boolean clipped = gc.isClipped();
+	Rectangle area = null;
+	if (damage != null) {
+		Region region = new Region(gc.getDevice());
+		gc.getClipping(region);
+		region.intersect(damage);
+		if (clipped) {
+			clipping = new Region(gc.getDevice());
+			gc.getClipping(clipping);
+		}
+		gc.setClipping(region);
+		region.dispose();
+		/* the damaged area in the coordinates of the commands */
+		area = new Rectangle(damage.x - x, damage.y - y, damage.width, damage.height);
+	}
+	try {
+		int currentLineWidth = lineWidth;
+		int index = 0;
+		while (index < count) {
+			int header = commands[index];
+			int command = header & 0xFF;
+			int start = index + 1;
+			index = start + (header >>> 8);
+			if (command < FIRST_DRAWING) {
+				int value = commands[start];
+				switch (command) {
+					case FOREGROUND: gc.setForeground((Color) objects.get(value)); break;
+					case BACKGROUND: gc.setBackground((Color) objects.get(value)); break;
+					case FONT: gc.setFont(value == -1 ? null : (Font) objects.get(value)); break;
+					case LINE_WIDTH: gc.setLineWidth(currentLineWidth = value); break;
+					case LINE_STYLE: gc.setLineStyle(value); break;
+					case ALPHA: gc.setAlpha(value); break;
+				}
+				changed |= 1 << command;
+				continue;
+			}
+			if (area != null && !intersects(gc, command, start, area, currentLineWidth)) continue;
+			draw(gc, command, start + 4, index, x, y);
+		}
+	} finally {
+		if (damage != null) {
+			gc.setClipping(clipping);
+			if (clipping != null) clipping.dispose();
+		}
+		if ((changed & (1 << FOREGROUND)) != 0) gc.setForeground(foreground);
+		if ((changed & (1 << BACKGROUND)) != 0) gc.setBackground(background);
+		if ((changed & (1 << FONT)) != 0) gc.setFont(font);
+		if ((changed & (1 << LINE_WIDTH)) != 0) gc.setLineWidth(lineWidth);
+		if ((changed & (1 << LINE_STYLE)) != 0) gc.setLineStyle(lineStyle);
+		if ((changed & (1 << ALPHA)) != 0) gc.setAlpha(alpha);
+	}
+}
+
+boolean intersects(GC gc, int command, int start, Rectangle area, int lineWidth) {
+	int x = commands[start], y = commands[start + 1];
+	int width = commands[start + 2], height = commands[start + 3];
+	switch (command) {
+		case TEXT:
+		case STRING: {
+			String string = (String) objects.get(commands[start + 4]);
+			Point extent = command == TEXT ? gc.textExtent(string, commands[start + 7]) : gc.stringExtent(string);
+			width = extent.x;
+			height = extent.y;
+			break;
+		}
+		case LINE:
+		case LINES:
+		case RECTANGLE:
+		case OVAL:
+		case ARC:
+		case ROUND_RECTANGLE:
+		case POLYLINE:
+		case POLYGON: {
+			/* the outline is centered on the shape and ends may be capped */
+			int inset = Math.max(lineWidth, 1);
+			x -= inset;
+			y -= inset;
+			width += inset * 2 + 1;
+			height += inset * 2 + 1;
+			break;
+		}
+	}
+	return x < area.x + area.width && y < area.y + area.height && x + width > area.x && y + height > area.y;
+}
+
+int[] translate(int start, int end, int x, int y, int step) {
+	int[] values = new int[end - start];
+	System.arraycopy(commands, start, values, 0, values.length);
+	if (x != 0 || y != 0) {
+		for (int i = 0; i + 1 < values.length; i += step) {
+			values[i] += x;
+			values[i + 1] += y;
+		}
+	}
+	return values;
+}
+
+void draw(GC gc, int command, int start, int end, int x, int y) {
+	int[] c = commands;
+	switch (command) {
+		case LINE: gc.drawLine(c[start] + x, c[start + 1] + y, c[start + 2] + x, c[start + 3] + y); break;
+		case LINES: gc.drawLines(translate(start, end, x, y, 2)); break;
+		case POINT: gc.drawPoint(c[start] + x, c[start + 1] + y); break;
+		case POINTS: gc.drawPoints(translate(start, end, x, y, 2)); break;
+		case RECTANGLE: gc.drawRectangle(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3]); break;
+		case FILL_RECTANGLE: gc.fillRectangle(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3]); break;
+		case FILL_RECTANGLES: gc.fillRectangles(translate(start, end, x, y, 4)); break;
+		case OVAL: gc.drawOval(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3]); break;
+		case FILL_OVAL: gc.fillOval(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3]); break;
+		case ARC: gc.drawArc(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3], c[start + 4], c[start + 5]); break;
+		case FILL_ARC: gc.fillArc(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3], c[start + 4], c[start + 5]); break;
+		case ROUND_RECTANGLE: gc.drawRoundRectangle(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3], c[start + 4], c[start + 5]); break;
+		case FILL_ROUND_RECTANGLE: gc.fillRoundRectangle(c[start] + x, c[start + 1] + y, c[start + 2], c[start + 3], c[start + 4], c[start + 5]); break;
+		case POLYLINE: gc.drawPolyline(translate(start, end, x, y, 2)); break;
+		case POLYGON: gc.drawPolygon(translate(start, end, x, y, 2)); break;
+		case FILL_POLYGON: gc.fillPolygon(translate(start, end, x, y, 2)); break;
+		case TEXT: gc.drawText((String) objects.get(c[start]), c[start + 1] + x, c[start + 2] + y, c[start + 3]); break;
+		case STRING: gc.drawString((String) objects.get(c[start]), c[start + 1] + x, c[start + 2] + y, true); break;
+		case IMAGE: gc.drawImage((Image) objects.get(c[start]), c[start + 1] + x, c[start + 2] + y); break;
+		case IMAGE_SCALED:
+			gc.drawImage((Image) objects.get(c[start]), c[start + 1], c[start + 2], c[start + 3], c[start + 4], c[start + 5] + x, c[start + 6] + y, c[start + 7], c[start + 8]);
+			break;
+	}
+}
+
+/**
+ * Writes the recorded commands to the given stream, together with the
+ * colors, fonts, images and strings they use. Images are written at
+ * their size in points.
+ *
+ * @param stream the output stream to write the commands to
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the stream is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if a color, font or image of the commands has been disposed</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_IO - if an IO error occurs while writing to the stream</li>
+ * </ul>
+ *
+ * @see #load(Device, InputStream)
+ */
+public void save(OutputStream stream) {
+	checkList();
+	if (stream == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	try {
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeInt(objects.size());
+		for (Object object : objects) {
+			if (object instanceof Color color) {
+				if (color.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				RGBA rgba = color.getRGBA();
+				output.writeByte(COLOR_OBJECT);
+				output.writeInt((rgba.rgb.red << 24) | (rgba.rgb.green << 16) | (rgba.rgb.blue << 8) | rgba.alpha);
+			} else if (object instanceof Font font) {
+				if (font.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				FontData[] fontData = font.getFontData();
+				output.writeByte(FONT_OBJECT);
+				output.writeInt(fontData.length);
+				for (FontData data : fontData) {
+					output.writeUTF(data.toString());
+				}
+			} else if (object instanceof Image image) {
+				if (image.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+				ImageLoader loader = new ImageLoader();
+				loader.data = new ImageData[] {image.getImageData()};
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				loader.save(bytes, SWT.IMAGE_PNG);
+				output.writeByte(IMAGE_OBJECT);
+				output.writeInt(bytes.size());
+				bytes.writeTo(output);
+			} else {
+				String string = (String) object;
+				output.writeByte(STRING_OBJECT);
+				output.writeInt(string.length());
+				output.writeChars(string);
+			}
+		}
+		output.writeInt(count);
+		for (int i = 0; i < count; i++) {
+			output.writeInt(commands[i]);
+		}
+		output.flush();
+	} catch (IOException e) {
+		SWT.error(SWT.ERROR_IO, e);
+	}
+}
+
+/**
+ * Reads a display list which was written by {@link #save(OutputStream)}
+ * from the given stream. The colors, fonts and images of the commands
+ * are created on the given device and are disposed when the display
+ * list is disposed.
+ *
+ * @param device the device to create the colors, fonts and images on
+ * @param stream the input stream to read the commands from
+ * @return the display list
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the device or the stream is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_IO - if an IO error occurs while reading the stream, if the stream ends early or if it holds an array longer than the display list format allows</li>
+ *    <li>ERROR_UNSUPPORTED_FORMAT - if the stream does not contain a display list or contains invalid data</li>
+ * </ul>
+ */
+public static DisplayList load(Device device, InputStream stream) {
+	if (device == null || stream == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	DisplayList list = new DisplayList();
+	try {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+		if (input.readInt() != MAGIC || input.readInt() != VERSION) SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+		int objectCount = input.readInt();
+		if (objectCount < 0) SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+		for (int i = 0; i < objectCount; i++) {
+			Object object = null;
+			switch (input.readByte()) {
+				case COLOR_OBJECT: {
+					int rgba = input.readInt();
+					object = new Color(device, rgba >>> 24, (rgba >>> 16) & 0xFF, (rgba >>> 8) & 0xFF, rgba & 0xFF);
+					break;
+				}
+				case FONT_OBJECT: {
+					int length = readLength(input);
+					List<FontData> fontData = new ArrayList<>(Math.min(length, 8));
+					for (int j = 0; j < length; j++) {
+						fontData.add(new FontData(input.readUTF()));
+					}
+					object = new Font(device, fontData.toArray(new FontData[length]));
+					break;
+				}
+				case IMAGE_OBJECT: {
+					byte[] bytes = readBytes(input, readLength(input));
+					object = new Image(device, new ImageData(new ByteArrayInputStream(bytes)));
+					break;
+				}
+				case STRING_OBJECT: {
+					object = new String(readChars(input, readLength(input)));
+					break;
+				}
+				default:
+					SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+			}
+			list.objects.add(object);
+			if (object instanceof Resource resource) list.resources.add(resource);
+		}
+		int count = readLength(input);
+		int[] commands = readInts(input, count);
+		list.commands = commands.length < 64 ? Arrays.copyOf(commands, 64) : commands;
+		list.count = count;
+		list.validate();
+	} catch (IOException e) {
+		list.dispose();
+		SWT.error(SWT.ERROR_IO, e);
+	} catch (RuntimeException e) {
+		list.dispose();
+		throw e;
+	}
+	return list;
+}
+
+/*
+ * Reads the length of an array which follows in the stream. A negative
+ * length is invalid data, a length above MAX_LENGTH is rejected before
+ * anything is allocated for it.
+ */
+static int readLength(DataInputStream input) throws IOException {
+	int length = input.readInt();
+	if (length < 0) SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+	if (length > MAX_LENGTH) throw new IOException("Array length " + length + " exceeds " + MAX_LENGTH); //$NON-NLS-1$ //$NON-NLS-2$
+	return length;
+}
+
+/*
+ * The arrays below grow by CHUNK_LENGTH elements as they are read, so a
+ * length larger than the remaining input ends with an EOFException after
+ * allocating no more than the input actually holds.
+ */
+static byte[] readBytes(DataInputStream input, int length) throws IOException {
+	byte[] bytes = new byte[Math.min(length, CHUNK_LENGTH)];
+	for (int read = 0; read < length; read = bytes.length) {
+		if (read == bytes.length) bytes = Arrays.copyOf(bytes, Math.min(length, read * 2));
+		input.readFully(bytes, read, bytes.length - read);
+	}
+	return bytes;
+}
+
+static char[] readChars(DataInputStream input, int length) throws IOException {
+	char[] chars = new char[Math.min(length, CHUNK_LENGTH)];
+	for (int i = 0; i < length; i++) {
+		if (i == chars.length) chars = Arrays.copyOf(chars, Math.min(length, i * 2));
+		chars[i] = input.readChar();
+	}
+	return chars;
+}
+
+static int[] readInts(DataInputStream input, int length) throws IOException {
+	int[] values = new int[Math.min(length, CHUNK_LENGTH)];
+	for (int i = 0; i < length; i++) {
+		if (i == values.length) values = Arrays.copyOf(values, Math.min(length, i * 2));
+		values[i] = input.readInt();
+	}
+	return values;
+}
+
+/*
+ * Checks that every command of a display list which was read from a
+ * stream fits in the buffer and references an object of the right type.
+ */
+void validate() {
+	int index = 0;
+	while (index < count) {
+		int header = commands[index];
+		int command = header & 0xFF;
+		int start = index + 1;
+		int length = header >>> 8;
+		if (length > count - start) SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+		index = start + length;
+		Class<?> type = null;
+		int object = 0;
+		int minimum;
+		switch (command) {
+			case FOREGROUND:
+			case BACKGROUND: type = Color.class; object = start; minimum = 1; break;
+			case FONT: type = Font.class; object = start; minimum = 1; break;
+			case LINE_WIDTH:
+			case LINE_STYLE:
+			case ALPHA: minimum = 1; break;
+			case LINE:
+			case RECTANGLE:
+			case FILL_RECTANGLE:
+			case OVAL:
+			case FILL_OVAL: minimum = 8; break;
+			case ARC:
+			case FILL_ARC:
+			case ROUND_RECTANGLE:
+			case FILL_ROUND_RECTANGLE: minimum = 10; break;
+			case POINT: minimum = 6; break;
+			case LINES:
+			case POINTS:
+			case FILL_RECTANGLES:
+			case POLYLINE:
+			case POLYGON:
+			case FILL_POLYGON: minimum = 4; break;
+			case TEXT: type = String.class; object = start + 4; minimum = 8; break;
+			case STRING: type = String.class; object = start + 4; minimum = 7; break;
+			case IMAGE: type = Image.class; object = start + 4; minimum = 7; break;
+			case IMAGE_SCALED: type = Image.class; object = start + 4; minimum = 13; break;
+			default: SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT); return;
+		}
+		if (length < minimum) SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+		if (type != null) {
+			int value = commands[object];
+			if (command == FONT && value == -1) continue;
+			if (value < 0 || value >= objects.size() || !type.isInstance(objects.get(value))) {
+				SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT);
+			}
+		}
+	}
+}
+
+/**
+ * Disposes of the commands of the receiver, and of the colors, fonts
+ * and images it created when it was read from a stream.
+ * This method does nothing if the receiver is already disposed.
+ *
+ * @see #load(Device, InputStream)
+ */
+public void dispose() {
+	if (disposed) return;
+	for (Resource resource : resources) {
+		resource.dispose();
+	}
+	resources.clear();
+	objects.clear();
+	objectIndices.clear();
+	commands = null;
+	count = 0;
+	disposed = true;
+}
+
+/**
+ * Returns <code>true</code> if the display list has been disposed,
+ * and <code>false</code> otherwise.
+ *
+ * @return <code>true</code> when the display list is disposed and <code>false</code> otherwise
+ */
+public boolean isDisposed() {
+	return disposed;
+}
+}
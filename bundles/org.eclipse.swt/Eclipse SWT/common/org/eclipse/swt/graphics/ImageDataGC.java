@@ -0,0 +1,2048 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class draw lines, shapes, paths and images into an
+ * <code>ImageData</code> entirely in Java.
+ * <p>
+ * The drawing methods have the same signatures and the same meaning as
+ * the ones of <code>GC</code>, and the lines are stroked and the shapes
+ * filled the way the graphics library of the platform does it: lines of
+ * odd widths are centered on pixels, dashes scale with the line width and
+ * shapes are antialiased unless antialiasing is turned off. Since no
+ * operating system resources are involved, colors, gradients, transforms
+ * and clipping paths are given as <code>RGB</code>, <code>RGBA</code>,
+ * arrays of floats and <code>PathData</code> instead of the resources
+ * used by <code>GC</code>, and text cannot be drawn.
+ * </p><p>
+ * This class does not need a display and can be used on any thread, which
+ * makes it suitable to render images on servers or in parallel. An
+ * instance must only be used by one thread at a time, but any number of
+ * instances may draw at the same time. The image data is changed in place
+ * and must have a direct palette.
+ * </p>
+ *
+ * @see GC
+ * @see ImageData
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.133
+ */
+public final class ImageDataGC {
+
+	/* the same dash patterns as the ones of GC */
+	static final float[] LINE_DOT = new float[]{1, 1};
+	static final float[] LINE_DASH = new float[]{3, 1};
+	static final float[] LINE_DASHDOT = new float[]{3, 1, 1, 1};
+	static final float[] LINE_DASHDOTDOT = new float[]{3, 1, 1, 1, 1, 1};
+	static final float[] LINE_DOT_ZERO = new float[]{3, 3};
+	static final float[] LINE_DASH_ZERO = new float[]{18, 6};
+	static final float[] LINE_DASHDOT_ZERO = new float[]{9, 6, 3, 6};
+	static final float[] LINE_DASHDOTDOT_ZERO = new float[]{9, 3, 3, 3, 3, 3};
+
+	/* the number of scanlines sampled in every row of pixels when antialiasing */
+	static final int SUBSAMPLES = 8;
+
+	/* the maximum distance in pixels between a curve and the lines approximating it */
+	static final float TOLERANCE = 0.1f;
+
+	/**
+	 * The paint of an operation, which gives the color of every pixel.
+	 */
+	interface Paint {
+		/* the color of the pixel as 0xAARRGGBB */
+		int color(int x, int y);
+	}
+
+	/**
+	 * A paint of a single color.
+	 */
+	static final class Solid implements Paint {
+		final int color;
+
+		Solid(int color) {
+			this.color = color;
+		}
+
+		@Override
+		public int color(int x, int y) {
+			return color;
+		}
+	}
+
+	/**
+	 * The receiver of the coverage of the rows of pixels of a shape.
+	 */
+	interface RowTarget {
+		void row(int y, float[] cover, int from, int to);
+	}
+
+	/**
+	 * A linear gradient in user space, the equivalent of a gradient
+	 * <code>Pattern</code>.
+	 */
+	final class Gradient implements Paint {
+		final float x1, y1, dx, dy, length2;
+		final int color1, color2;
+		final boolean repeat;
+
+		Gradient(float x1, float y1, float x2, float y2, int color1, int color2, boolean repeat) {
+			this.x1 = x1;
+			this.y1 = y1;
+			this.dx = x2 - x1;
+			this.dy = y2 - y1;
+			this.length2 = dx * dx + dy * dy;
+			this.color1 = color1;
+			this.color2 = color2;
+			this.repeat = repeat;
+		}
+
+		@Override
+		public int color(int x, int y) {
+			if (length2 == 0) return color1;
+			float px = x + 0.5f, py = y + 0.5f;
+			if (inverse != null) {
+				float ux = inverse[0] * px + inverse[2] * py + inverse[4];
+				py = inverse[1] * px + inverse[3] * py + inverse[5];
+				px = ux;
+			}
+			float t = ((px - x1) * dx + (py - y1) * dy) / length2;
+			if (repeat) {
+				t -= (float) Math.floor(t);
+			} else {
+				t = Math.max(0, Math.min(1, t));
+			}
+			return interpolate(color1, color2, t);
+		}
+	}
+
+	/**
+	 * The pixels of an image scaled into a rectangle in user space.
+	 */
+	final class ImagePaint implements Paint {
+		final int[] pixels;
+		final int width, height;
+		final float x, y, scaleX, scaleY;
+		final boolean smooth;
+
+		ImagePaint(int[] pixels, int width, int height, float x, float y, float destWidth, float destHeight, boolean smooth) {
+			this.pixels = pixels;
+			this.width = width;
+			this.height = height;
+			this.x = x;
+			this.y = y;
+			this.scaleX = width / destWidth;
+			this.scaleY = height / destHeight;
+			this.smooth = smooth;
+		}
+
+		@Override
+		public int color(int px, int py) {
+			float ux = px + 0.5f, uy = py + 0.5f;
+			if (inverse != null) {
+				float tx = inverse[0] * ux + inverse[2] * uy + inverse[4];
+				uy = inverse[1] * ux + inverse[3] * uy + inverse[5];
+				ux = tx;
+			}
+			float sx = (ux - x) * scaleX, sy = (uy - y) * scaleY;
+			if (!smooth) {
+				int ix = Math.max(0, Math.min(width - 1, (int) Math.floor(sx)));
+				int iy = Math.max(0, Math.min(height - 1, (int) Math.floor(sy)));
+				return pixels[iy * width + ix];
+			}
+			sx -= 0.5f;
+			sy -= 0.5f;
+			int x0 = (int) Math.floor(sx), y0 = (int) Math.floor(sy);
+			float tx = sx - x0, ty = sy - y0;
+			int x1 = Math.max(0, Math.min(width - 1, x0 + 1)), y1 = Math.max(0, Math.min(height - 1, y0 + 1));
+			x0 = Math.max(0, Math.min(width - 1, x0));
+			y0 = Math.max(0, Math.min(height - 1, y0));
+			int c00 = pixels[y0 * width + x0], c10 = pixels[y0 * width + x1];
+			int c01 = pixels[y1 * width + x0], c11 = pixels[y1 * width + x1];
+			/* interpolate the premultiplied components, so that transparent pixels do not bleed */
+			float w00 = (1 - tx) * (1 - ty), w10 = tx * (1 - ty), w01 = (1 - tx) * ty, w11 = tx * ty;
+			float a00 = (c00 >>> 24) * w00, a10 = (c10 >>> 24) * w10, a01 = (c01 >>> 24) * w01, a11 = (c11 >>> 24) * w11;
+			float a = a00 + a10 + a01 + a11;
+			if (a <= 0) return 0;
+			int r = Math.round((((c00 >> 16) & 0xFF) * a00 + ((c10 >> 16) & 0xFF) * a10 + ((c01 >> 16) & 0xFF) * a01 + ((c11 >> 16) & 0xFF) * a11) / a);
+			int g = Math.round((((c00 >> 8) & 0xFF) * a00 + ((c10 >> 8) & 0xFF) * a10 + ((c01 >> 8) & 0xFF) * a01 + ((c11 >> 8) & 0xFF) * a11) / a);
+			int b = Math.round(((c00 & 0xFF) * a00 + (c10 & 0xFF) * a10 + (c01 & 0xFF) * a01 + (c11 & 0xFF) * a11) / a);
+			return (Math.min(255, Math.round(a)) << 24) | (Math.min(255, r) << 16) | (Math.min(255, g) << 8) | Math.min(255, b);
+		}
+	}
+
+	/**
+	 * A list of polygons or polylines in user space.
+	 */
+	static final class Polygons {
+		float[] points = new float[64];
+		int[] starts = new int[8];
+		boolean[] closed = new boolean[8];
+		int pointCount, count;
+
+		void moveTo(float x, float y) {
+			if (count == starts.length) {
+				int[] newStarts = new int[count * 2];
+				System.arraycopy(starts, 0, newStarts, 0, count);
+				starts = newStarts;
+				boolean[] newClosed = new boolean[count * 2];
+				System.arraycopy(closed, 0, newClosed, 0, count);
+				closed = newClosed;
+			}
+			starts[count] = pointCount;
+			closed[count] = false;
+			count++;
+			add(x, y);
+		}
+
+		void lineTo(float x, float y) {
+			if (count == 0) {
+				moveTo(x, y);
+				return;
+			}
+			/* ignore the repeated points, they have no direction */
+			int last = pointCount - 1;
+			if (last >= starts[count - 1] && points[last * 2] == x && points[last * 2 + 1] == y) return;
+			add(x, y);
+		}
+
+		void close() {
+			if (count > 0) closed[count - 1] = true;
+		}
+
+		void add(float x, float y) {
+			if (pointCount * 2 == points.length) {
+				float[] newPoints = new float[points.length * 2];
+				System.arraycopy(points, 0, newPoints, 0, pointCount * 2);
+				points = newPoints;
+			}
+			points[pointCount * 2] = x;
+			points[pointCount * 2 + 1] = y;
+			pointCount++;
+		}
+
+		int start(int index) {
+			return starts[index];
+		}
+
+		int end(int index) {
+			return index + 1 < count ? starts[index + 1] : pointCount;
+		}
+	}
+
+	/**
+	 * The edges of the polygons being filled, in device space.
+	 */
+	static final class Edges {
+		/* x0, y0, x1, y1 of every edge, with y0 < y1 */
+		float[] coords = new float[256];
+		/* 1 if the edge goes down, -1 if it goes up */
+		byte[] directions = new byte[64];
+		int count;
+		float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+		void reset() {
+			count = 0;
+			minY = Float.MAX_VALUE;
+			maxY = -Float.MAX_VALUE;
+		}
+
+		void add(float x0, float y0, float x1, float y1) {
+			if (y0 == y1) return;
+			if (!(Float.isFinite(x0) && Float.isFinite(y0) && Float.isFinite(x1) && Float.isFinite(y1))) return;
+			if (count == directions.length) {
+				float[] newCoords = new float[coords.length * 2];
+				System.arraycopy(coords, 0, newCoords, 0, count * 4);
+				coords = newCoords;
+				byte[] newDirections = new byte[directions.length * 2];
+				System.arraycopy(directions, 0, newDirections, 0, count);
+				directions = newDirections;
+			}
+			int index = count * 4;
+			if (y0 < y1) {
+				coords[index] = x0;
+				coords[index + 1] = y0;
+				coords[index + 2] = x1;
+				coords[index + 3] = y1;
+				directions[count] = 1;
+			} else {
+				coords[index] = x1;
+				coords[index + 1] = y1;
+				coords[index + 2] = x0;
+				coords[index + 3] = y0;
+				directions[count] = -1;
+			}
+			minY = Math.min(minY, Math.min(y0, y1));
+			maxY = Math.max(maxY, Math.max(y0, y1));
+			count++;
+		}
+	}
+
+	final ImageData data;
+	final int redMask, greenMask, blueMask, redShift, greenShift, blueShift;
+
+	/* the colors as 0xAARRGGBB, and the gradients which replace them */
+	int foreground = 0xFF000000, background = 0xFFFFFFFF;
+	Gradient foregroundGradient, backgroundGradient;
+	int alpha = 0xFF;
+	int antialias = SWT.DEFAULT, interpolation = SWT.DEFAULT, fillRule = SWT.FILL_EVEN_ODD;
+
+	float lineWidth, lineDashesOffset, lineMiterLimit = 10;
+	int lineStyle = SWT.LINE_SOLID, lineCap = SWT.CAP_FLAT, lineJoin = SWT.JOIN_MITER;
+	float[] lineDashes;
+
+	/* the transform and its inverse, like Transform.getElements(), or null when it is the identity */
+	float[] transform, inverse;
+
+	/* the coverage of every pixel by the clipping, or null when not clipped */
+	byte[] clipMask;
+	int clipTop, clipBottom;
+
+	/* the buffers of the rasterizer, reused by all the operations */
+	final Edges edges = new Edges();
+	float[] cover, crossings;
+	int[] windings, active, order;
+
+/**
+ * Constructs a new instance of this class which draws into the given
+ * image data. The image data must have a direct palette and the drawing
+ * operations change it in place.
+ * <p>
+ * The foreground is black, the background is white, lines are solid and
+ * one pixel wide, and nothing is clipped.
+ * </p>
+ *
+ * @param data the image data to draw into
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the image data is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_UNSUPPORTED_DEPTH - if the image data does not have a direct palette</li>
+ * </ul>
+ */
+public ImageDataGC(ImageData data) {
+	if (data == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (data.palette == null || !data.palette.isDirect) SWT.error(SWT.ERROR_UNSUPPORTED_DEPTH);
+	this.data = data;
+	PaletteData palette = data.palette;
+	redMask = palette.redMask;
+	greenMask = palette.greenMask;
+	blueMask = palette.blueMask;
+	redShift = palette.redShift;
+	greenShift = palette.greenShift;
+	blueShift = palette.blueShift;
+	cover = new float[data.width + 2];
+}
+
+static int argb(RGB rgb, int alpha) {
+	return ((alpha & 0xFF) << 24) | (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
+}
+
+static int interpolate(int color1, int color2, float t) {
+	int a = Math.round((color1 >>> 24) + ((color2 >>> 24) - (color1 >>> 24)) * t);
+	int r = Math.round(((color1 >> 16) & 0xFF) + (((color2 >> 16) & 0xFF) - ((color1 >> 16) & 0xFF)) * t);
+	int g = Math.round(((color1 >> 8) & 0xFF) + (((color2 >> 8) & 0xFF) - ((color1 >> 8) & 0xFF)) * t);
+	int b = Math.round((color1 & 0xFF) + ((color2 & 0xFF) - (color1 & 0xFF)) * t);
+	return (a << 24) | (r << 16) | (g << 8) | b;
+}
+
+Paint foregroundPaint() {
+	if (foregroundGradient != null) return foregroundGradient;
+	return new Solid(foreground);
+}
+
+Paint backgroundPaint() {
+	if (backgroundGradient != null) return backgroundGradient;
+	return new Solid(background);
+}
+
+boolean isAntialiased() {
+	return antialias != SWT.OFF;
+}
+
+/**
+ * Returns the image data the receiver draws into.
+ *
+ * @return the image data of the receiver
+ */
+public ImageData getImageData() {
+	return data;
+}
+
+/**
+ * Returns the foreground color of the receiver.
+ *
+ * @return the foreground color
+ */
+public RGB getForeground() {
+	return new RGB((foreground >> 16) & 0xFF, (foreground >> 8) & 0xFF, foreground & 0xFF);
+}
+
+/**
+ * Sets the foreground color of the receiver, which is used to draw
+ * lines, and removes the foreground gradient.
+ *
+ * @param rgb the new foreground color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the color is null</li>
+ * </ul>
+ */
+public void setForeground(RGB rgb) {
+	if (rgb == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	foreground = argb(rgb, 0xFF);
+	foregroundGradient = null;
+}
+
+/**
+ * Returns the background color of the receiver.
+ *
+ * @return the background color
+ */
+public RGB getBackground() {
+	return new RGB((background >> 16) & 0xFF, (background >> 8) & 0xFF, background & 0xFF);
+}
+
+/**
+ * Sets the background color of the receiver, which is used to fill
+ * shapes, and removes the background gradient.
+ *
+ * @param rgb the new background color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the color is null</li>
+ * </ul>
+ */
+public void setBackground(RGB rgb) {
+	if (rgb == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	background = argb(rgb, 0xFF);
+	backgroundGradient = null;
+}
+
+/**
+ * Sets the foreground of the receiver to a linear gradient, like
+ * <code>GC.setForegroundPattern()</code> with a gradient pattern. The
+ * gradient goes from the first color at the first point to the second
+ * color at the second point, in the coordinates of the drawing
+ * operations, and repeats itself beyond these points.
+ *
+ * @param x1 the x coordinate of the first point
+ * @param y1 the y coordinate of the first point
+ * @param x2 the x coordinate of the second point
+ * @param y2 the y coordinate of the second point
+ * @param color1 the color at the first point
+ * @param alpha1 the alpha value at the first point
+ * @param color2 the color at the second point
+ * @param alpha2 the alpha value at the second point
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if either color is null</li>
+ * </ul>
+ *
+ * @see Pattern#Pattern(Device, float, float, float, float, Color, int, Color, int)
+ */
+public void setForegroundGradient(float x1, float y1, float x2, float y2, RGB color1, int alpha1, RGB color2, int alpha2) {
+	if (color1 == null || color2 == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	foregroundGradient = new Gradient(x1, y1, x2, y2, argb(color1, alpha1), argb(color2, alpha2), true);
+}
+
+/**
+ * Sets the background of the receiver to a linear gradient, like
+ * <code>GC.setBackgroundPattern()</code> with a gradient pattern. The
+ * gradient goes from the first color at the first point to the second
+ * color at the second point, in the coordinates of the drawing
+ * operations, and repeats itself beyond these points.
+ *
+ * @param x1 the x coordinate of the first point
+ * @param y1 the y coordinate of the first point
+ * @param x2 the x coordinate of the second point
+ * @param y2 the y coordinate of the second point
+ * @param color1 the color at the first point
+ * @param alpha1 the alpha value at the first point
+ * @param color2 the color at the second point
+ * @param alpha2 the alpha value at the second point
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if either color is null</li>
+ * </ul>
+ *
+ * @see Pattern#Pattern(Device, float, float, float, float, Color, int, Color, int)
+ */
+public void setBackgroundGradient(float x1, float y1, float x2, float y2, RGB color1, int alpha1, RGB color2, int alpha2) {
+	if (color1 == null || color2 == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	backgroundGradient = new Gradient(x1, y1, x2, y2, argb(color1, alpha1), argb(color2, alpha2), true);
+}
+
+/**
+ * Returns the alpha value of the receiver.
+ *
+ * @return the alpha value
+ */
+public int getAlpha() {
+	return alpha;
+}
+
+/**
+ * Sets the alpha value of the receiver, which is applied to all the
+ * drawing operations. The value goes from 0 (transparent) to 255 (opaque).
+ *
+ * @param alpha the alpha value
+ */
+public void setAlpha(int alpha) {
+	this.alpha = alpha & 0xFF;
+}
+
+/**
+ * Returns the antialiasing setting of the receiver, which will be one
+ * of <code>SWT.DEFAULT</code>, <code>SWT.OFF</code> or <code>SWT.ON</code>.
+ *
+ * @return the antialiasing setting
+ */
+public int getAntialias() {
+	return antialias;
+}
+
+/**
+ * Sets the antialiasing setting of the receiver, which is used to draw
+ * lines, shapes and the edges of images. The default is to antialias.
+ *
+ * @param antialias the antialiasing setting, one of <code>SWT.DEFAULT</code>,
+ * <code>SWT.OFF</code> or <code>SWT.ON</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the setting is not one of <code>SWT.DEFAULT</code>,
+ *                                 <code>SWT.OFF</code> or <code>SWT.ON</code></li>
+ * </ul>
+ */
+public void setAntialias(int antialias) {
+	switch (antialias) {
+		case SWT.DEFAULT:
+		case SWT.OFF:
+		case SWT.ON:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	this.antialias = antialias;
+}
+
+/**
+ * Returns the interpolation setting of the receiver, which will be one
+ * of <code>SWT.DEFAULT</code>, <code>SWT.NONE</code>, <code>SWT.LOW</code>
+ * or <code>SWT.HIGH</code>.
+ *
+ * @return the interpolation setting
+ */
+public int getInterpolation() {
+	return interpolation;
+}
+
+/**
+ * Sets the interpolation setting of the receiver, which is used to scale
+ * and transform images. <code>SWT.NONE</code> and <code>SWT.LOW</code>
+ * take the nearest pixel, the other settings interpolate between the
+ * pixels.
+ *
+ * @param interpolation the interpolation setting, one of <code>SWT.DEFAULT</code>,
+ * <code>SWT.NONE</code>, <code>SWT.LOW</code> or <code>SWT.HIGH</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the setting is not one of <code>SWT.DEFAULT</code>,
+ *                                 <code>SWT.NONE</code>, <code>SWT.LOW</code> or <code>SWT.HIGH</code></li>
+ * </ul>
+ */
+public void setInterpolation(int interpolation) {
+	switch (interpolation) {
+		case SWT.DEFAULT:
+		case SWT.NONE:
+		case SWT.LOW:
+		case SWT.HIGH:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	this.interpolation = interpolation;
+}
+
+/**
+ * Returns the fill rule of the receiver, which will be one of
+ * <code>SWT.FILL_EVEN_ODD</code> or <code>SWT.FILL_WINDING</code>.
+ *
+ * @return the fill rule
+ */
+public int getFillRule() {
+	return fillRule;
+}
+
+/**
+ * Sets the fill rule of the receiver, which is used to fill polygons and
+ * paths and to clip with paths.
+ *
+ * @param rule the fill rule, one of <code>SWT.FILL_EVEN_ODD</code> or
+ * <code>SWT.FILL_WINDING</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the rule is not one of <code>SWT.FILL_EVEN_ODD</code>
+ *                                 or <code>SWT.FILL_WINDING</code></li>
+ * </ul>
+ */
+public void setFillRule(int rule) {
+	switch (rule) {
+		case SWT.FILL_EVEN_ODD:
+		case SWT.FILL_WINDING:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	fillRule = rule;
+}
+
+/**
+ * Returns the width of the lines drawn by the receiver.
+ *
+ * @return the line width
+ */
+public int getLineWidth() {
+	return (int) lineWidth;
+}
+
+/**
+ * Sets the width of the lines drawn by the receiver. A width of zero
+ * draws lines one pixel wide.
+ *
+ * @param lineWidth the line width
+ */
+public void setLineWidth(int lineWidth) {
+	this.lineWidth = Math.max(0, lineWidth);
+}
+
+/**
+ * Returns the style of the lines drawn by the receiver, which will be
+ * one of the constants <code>SWT.LINE_SOLID</code>, <code>SWT.LINE_DASH</code>,
+ * <code>SWT.LINE_DOT</code>, <code>SWT.LINE_DASHDOT</code>,
+ * <code>SWT.LINE_DASHDOTDOT</code> or <code>SWT.LINE_CUSTOM</code>.
+ *
+ * @return the line style
+ */
+public int getLineStyle() {
+	return lineStyle;
+}
+
+/**
+ * Sets the style of the lines drawn by the receiver.
+ *
+ * @param lineStyle the line style, one of the constants <code>SWT.LINE_SOLID</code>,
+ * <code>SWT.LINE_DASH</code>, <code>SWT.LINE_DOT</code>, <code>SWT.LINE_DASHDOT</code>,
+ * <code>SWT.LINE_DASHDOTDOT</code> or <code>SWT.LINE_CUSTOM</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the style is not valid</li>
+ * </ul>
+ */
+public void setLineStyle(int lineStyle) {
+	switch (lineStyle) {
+		case SWT.LINE_SOLID:
+		case SWT.LINE_DASH:
+		case SWT.LINE_DOT:
+		case SWT.LINE_DASHDOT:
+		case SWT.LINE_DASHDOTDOT:
+			break;
+		case SWT.LINE_CUSTOM:
+			if (lineDashes == null) lineStyle = SWT.LINE_SOLID;
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	this.lineStyle = lineStyle;
+}
+
+/**
+ * Returns the style of the ends of the lines drawn by the receiver,
+ * which will be one of <code>SWT.CAP_FLAT</code>, <code>SWT.CAP_ROUND</code>
+ * or <code>SWT.CAP_SQUARE</code>.
+ *
+ * @return the cap style
+ */
+public int getLineCap() {
+	return lineCap;
+}
+
+/**
+ * Sets the style of the ends of the lines drawn by the receiver.
+ *
+ * @param cap the cap style, one of <code>SWT.CAP_FLAT</code>,
+ * <code>SWT.CAP_ROUND</code> or <code>SWT.CAP_SQUARE</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the style is not valid</li>
+ * </ul>
+ */
+public void setLineCap(int cap) {
+	switch (cap) {
+		case SWT.CAP_FLAT:
+		case SWT.CAP_ROUND:
+		case SWT.CAP_SQUARE:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	lineCap = cap;
+}
+
+/**
+ * Returns the style of the joins between the segments of the lines
+ * drawn by the receiver, which will be one of <code>SWT.JOIN_MITER</code>,
+ * <code>SWT.JOIN_ROUND</code> or <code>SWT.JOIN_BEVEL</code>.
+ *
+ * @return the join style
+ */
+public int getLineJoin() {
+	return lineJoin;
+}
+
+/**
+ * Sets the style of the joins between the segments of the lines drawn
+ * by the receiver.
+ *
+ * @param join the join style, one of <code>SWT.JOIN_MITER</code>,
+ * <code>SWT.JOIN_ROUND</code> or <code>SWT.JOIN_BEVEL</code>
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the style is not valid</li>
+ * </ul>
+ */
+public void setLineJoin(int join) {
+	switch (join) {
+		case SWT.JOIN_MITER:
+		case SWT.JOIN_ROUND:
+		case SWT.JOIN_BEVEL:
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	lineJoin = join;
+}
+
+/**
+ * Returns the dashes of the lines drawn by the receiver, or null if
+ * no custom dashes are set.
+ *
+ * @return the line dashes
+ */
+public int[] getLineDash() {
+	if (lineDashes == null) return null;
+	int[] dashes = new int[lineDashes.length];
+	for (int i = 0; i < dashes.length; i++) {
+		dashes[i] = (int) lineDashes[i];
+	}
+	return dashes;
+}
+
+/**
+ * Sets the dashes of the lines drawn by the receiver and sets the line
+ * style to <code>SWT.LINE_CUSTOM</code>, or to <code>SWT.LINE_SOLID</code>
+ * when the dashes are null or empty.
+ *
+ * @param dashes the lengths of the dashes and of the gaps between them
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if any of the values is not greater than zero</li>
+ * </ul>
+ */
+public void setLineDash(int[] dashes) {
+	if (dashes != null && dashes.length > 0) {
+		float[] newDashes = new float[dashes.length];
+		for (int i = 0; i < dashes.length; i++) {
+			if (dashes[i] <= 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+			newDashes[i] = dashes[i];
+		}
+		lineDashes = newDashes;
+		lineStyle = SWT.LINE_CUSTOM;
+	} else {
+		lineDashes = null;
+		lineStyle = SWT.LINE_SOLID;
+	}
+}
+
+/**
+ * Returns the attributes of the lines drawn by the receiver.
+ *
+ * @return the line attributes
+ */
+public LineAttributes getLineAttributes() {
+	float[] dashes = lineDashes != null ? lineDashes.clone() : null;
+	return new LineAttributes(lineWidth, lineCap, lineJoin, lineStyle, dashes, lineDashesOffset, lineMiterLimit);
+}
+
+/**
+ * Sets the attributes of the lines drawn by the receiver.
+ *
+ * @param attributes the line attributes
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the attributes are null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if any of the attributes is not valid</li>
+ * </ul>
+ */
+public void setLineAttributes(LineAttributes attributes) {
+	if (attributes == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	float[] dashes = null;
+	if (attributes.dash != null && attributes.dash.length > 0) {
+		dashes = attributes.dash.clone();
+		for (float dash : dashes) {
+			if (!(dash > 0)) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+	}
+	int style = attributes.style;
+	switch (style) {
+		case SWT.LINE_SOLID:
+		case SWT.LINE_DASH:
+		case SWT.LINE_DOT:
+		case SWT.LINE_DASHDOT:
+		case SWT.LINE_DASHDOTDOT:
+			break;
+		case SWT.LINE_CUSTOM:
+			if (dashes == null) style = SWT.LINE_SOLID;
+			break;
+		default:
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	setLineCap(attributes.cap);
+	setLineJoin(attributes.join);
+	lineDashes = dashes;
+	lineStyle = style;
+	lineWidth = Math.max(0, attributes.width);
+	lineDashesOffset = attributes.dashOffset;
+	lineMiterLimit = attributes.miterLimit;
+}
+
+/**
+ * Returns the transform of the receiver in the array, which must have
+ * room for six values, in the same order as <code>Transform.getElements()</code>.
+ *
+ * @param elements the array which receives the transform
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the array is too small to hold the transform</li>
+ * </ul>
+ *
+ * @see Transform#getElements(float[])
+ */
+public void getTransform(float[] elements) {
+	if (elements == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (elements.length < 6) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	if (transform == null) {
+		elements[0] = elements[3] = 1;
+		elements[1] = elements[2] = elements[4] = elements[5] = 0;
+	} else {
+		System.arraycopy(transform, 0, elements, 0, 6);
+	}
+}
+
+/**
+ * Sets the transform applied to the coordinates of the drawing operations
+ * of the receiver, given as the six values returned by
+ * <code>Transform.getElements()</code>. A null array sets the identity.
+ * Setting the transform does not change the clipping.
+ *
+ * @param elements the transform, or null
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - if the array does not hold six values or the transform cannot be inverted</li>
+ * </ul>
+ *
+ * @see Transform#getElements(float[])
+ */
+public void setTransform(float[] elements) {
+	if (elements == null) {
+		transform = inverse = null;
+		return;
+	}
+	if (elements.length < 6) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	float m11 = elements[0], m12 = elements[1], m21 = elements[2], m22 = elements[3], dx = elements[4], dy = elements[5];
+	if (m11 == 1 && m12 == 0 && m21 == 0 && m22 == 1 && dx == 0 && dy == 0) {
+		transform = inverse = null;
+		return;
+	}
+	float det = m11 * m22 - m12 * m21;
+	if (det == 0 || !Float.isFinite(det)) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	transform = new float[]{m11, m12, m21, m22, dx, dy};
+	inverse = new float[]{m22 / det, -m12 / det, -m21 / det, m11 / det, (m21 * dy - m22 * dx) / det, (m12 * dx - m11 * dy) / det};
+}
+
+/**
+ * Returns <code>true</code> if the receiver is clipped, and
+ * <code>false</code> otherwise.
+ *
+ * @return whether the receiver is clipped
+ */
+public boolean isClipped() {
+	return clipMask != null;
+}
+
+/**
+ * Sets the area of the receiver which can be changed by drawing to the
+ * rectangle, in the coordinates of the drawing operations.
+ *
+ * @param x the x coordinate of the clipping rectangle
+ * @param y the y coordinate of the clipping rectangle
+ * @param width the width of the clipping rectangle
+ * @param height the height of the clipping rectangle
+ */
+public void setClipping(int x, int y, int width, int height) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, x, y, width, height);
+	setClipping(polygons, false);
+}
+
+/**
+ * Sets the area of the receiver which can be changed by drawing to the
+ * rectangle, in the coordinates of the drawing operations. A null
+ * rectangle removes the clipping.
+ *
+ * @param rect the clipping rectangle, or null
+ */
+public void setClipping(Rectangle rect) {
+	if (rect == null) {
+		clipMask = null;
+		return;
+	}
+	setClipping(rect.x, rect.y, rect.width, rect.height);
+}
+
+/**
+ * Sets the area of the receiver which can be changed by drawing to the
+ * inside of the path, in the coordinates of the drawing operations and
+ * with the fill rule of the receiver. A null path removes the clipping.
+ *
+ * @param path the clipping path, or null
+ *
+ * @see PathData
+ */
+public void setClipping(PathData path) {
+	if (path == null) {
+		clipMask = null;
+		return;
+	}
+	setClipping(polygons(path), fillRule == SWT.FILL_EVEN_ODD);
+}
+
+void setClipping(Polygons polygons, boolean evenOdd) {
+	int width = data.width, height = data.height;
+	byte[] mask = new byte[width * height];
+	int[] rows = {height, 0};
+	edges.reset();
+	addPolygons(polygons, true);
+	rasterize(evenOdd, 0, height, (y, cover, from, to) -> {
+		int offset = y * width;
+		for (int x = from; x < to; x++) {
+			float c = cover[x];
+			if (c > 0) mask[offset + x] = (byte) Math.round(Math.min(1, c) * 255);
+		}
+		rows[0] = Math.min(rows[0], y);
+		rows[1] = Math.max(rows[1], y + 1);
+	});
+	clipMask = mask;
+	clipTop = Math.min(rows[0], rows[1]);
+	clipBottom = rows[1];
+}
+
+/* Shapes */
+
+void addRectangle(Polygons polygons, float x, float y, float width, float height) {
+	polygons.moveTo(x, y);
+	polygons.lineTo(x + width, y);
+	polygons.lineTo(x + width, y + height);
+	polygons.lineTo(x, y + height);
+	polygons.close();
+}
+
+/*
+ * Adds the points of an elliptical arc, with the angles in degrees going
+ * counter-clockwise from the 3 o'clock position, like in GC.drawArc().
+ */
+void addArc(Polygons polygons, float cx, float cy, float rx, float ry, float startAngle, float arcAngle, boolean newPolygon) {
+	int segments = segments(Math.max(rx, ry));
+	int n = Math.max(1, (int) Math.ceil(segments * Math.abs(arcAngle) / 360));
+	/* a full oval ends where it starts */
+	int last = Math.abs(arcAngle) >= 360 ? n - 1 : n;
+	for (int i = 0; i <= last; i++) {
+		double angle = Math.toRadians(startAngle + arcAngle * i / n);
+		float x = cx + rx * (float) Math.cos(angle), y = cy - ry * (float) Math.sin(angle);
+		if (i == 0 && newPolygon) {
+			polygons.moveTo(x, y);
+		} else {
+			polygons.lineTo(x, y);
+		}
+	}
+}
+
+void addRoundRectangle(Polygons polygons, float x, float y, float width, float height, float arcWidth, float arcHeight) {
+	float rx = Math.min(Math.abs(arcWidth) / 2, width / 2), ry = Math.min(Math.abs(arcHeight) / 2, height / 2);
+	if (rx == 0 || ry == 0) {
+		addRectangle(polygons, x, y, width, height);
+		return;
+	}
+	addArc(polygons, x + width - rx, y + ry, rx, ry, 0, 90, true);
+	addArc(polygons, x + rx, y + ry, rx, ry, 90, 90, false);
+	addArc(polygons, x + rx, y + height - ry, rx, ry, 180, 90, false);
+	addArc(polygons, x + width - rx, y + height - ry, rx, ry, 270, 90, false);
+	polygons.close();
+}
+
+/* the number of segments of a full circle of the radius in user space */
+int segments(float radius) {
+	float scale = 1;
+	if (transform != null) {
+		scale = (float) Math.sqrt(Math.max(
+				transform[0] * transform[0] + transform[1] * transform[1],
+				transform[2] * transform[2] + transform[3] * transform[3]));
+	}
+	float r = radius * scale;
+	if (r <= TOLERANCE) return 4;
+	int n = (int) Math.ceil(Math.PI / Math.acos(1 - TOLERANCE / r));
+	return Math.max(8, Math.min(n, 1024));
+}
+
+Polygons polygons(PathData path) {
+	Polygons polygons = new Polygons();
+	float[] points = path.points;
+	byte[] types = path.types;
+	if (points == null || types == null) return polygons;
+	float x = 0, y = 0, startX = 0, startY = 0;
+	int index = 0;
+	for (byte type : types) {
+		switch (type) {
+			case SWT.PATH_MOVE_TO:
+				if (index + 2 > points.length) return polygons;
+				startX = x = points[index++];
+				startY = y = points[index++];
+				polygons.moveTo(x, y);
+				break;
+			case SWT.PATH_LINE_TO:
+				if (index + 2 > points.length) return polygons;
+				x = points[index++];
+				y = points[index++];
+				polygons.lineTo(x, y);
+				break;
+			case SWT.PATH_QUAD_TO: {
+				if (index + 4 > points.length) return polygons;
+				float cx = points[index++], cy = points[index++];
+				float x2 = points[index++], y2 = points[index++];
+				int n = curveSegments(x, y, cx, cy, cx, cy, x2, y2);
+				for (int i = 1; i <= n; i++) {
+					float t = (float) i / n, u = 1 - t;
+					polygons.lineTo(u * u * x + 2 * u * t * cx + t * t * x2, u * u * y + 2 * u * t * cy + t * t * y2);
+				}
+				x = x2;
+				y = y2;
+				break;
+			}
+			case SWT.PATH_CUBIC_TO: {
+				if (index + 6 > points.length) return polygons;
+				float cx1 = points[index++], cy1 = points[index++];
+				float cx2 = points[index++], cy2 = points[index++];
+				float x2 = points[index++], y2 = points[index++];
+				int n = curveSegments(x, y, cx1, cy1, cx2, cy2, x2, y2);
+				for (int i = 1; i <= n; i++) {
+					float t = (float) i / n, u = 1 - t;
+					float a = u * u * u, b = 3 * u * u * t, c = 3 * u * t * t, d = t * t * t;
+					polygons.lineTo(a * x + b * cx1 + c * cx2 + d * x2, a * y + b * cy1 + c * cy2 + d * y2);
+				}
+				x = x2;
+				y = y2;
+				break;
+			}
+			case SWT.PATH_CLOSE:
+				polygons.close();
+				x = startX;
+				y = startY;
+				break;
+			default:
+				return polygons;
+		}
+	}
+	return polygons;
+}
+
+/* the number of segments of a curve, from the length of its control polygon in device space */
+int curveSegments(float x0, float y0, float x1, float y1, float x2, float y2, float x3, float y3) {
+	float length = distance(x0, y0, x1, y1) + distance(x1, y1, x2, y2) + distance(x2, y2, x3, y3);
+	int n = segments(length / 2) / 4;
+	return Math.max(2, Math.min(n, 256));
+}
+
+static float distance(float x0, float y0, float x1, float y1) {
+	return (float) Math.hypot(x1 - x0, y1 - y0);
+}
+
+/* Filling */
+
+void addPolygons(Polygons polygons, boolean allClosed) {
+	float[] m = transform;
+	float[] points = polygons.points;
+	for (int i = 0; i < polygons.count; i++) {
+		int start = polygons.start(i), end = polygons.end(i);
+		if (end - start < 2) continue;
+		float firstX = 0, firstY = 0, lastX = 0, lastY = 0;
+		for (int j = start; j < end; j++) {
+			float x = points[j * 2], y = points[j * 2 + 1];
+			if (m != null) {
+				float tx = m[0] * x + m[2] * y + m[4];
+				y = m[1] * x + m[3] * y + m[5];
+				x = tx;
+			}
+			if (j == start) {
+				firstX = x;
+				firstY = y;
+			} else {
+				edges.add(lastX, lastY, x, y);
+			}
+			lastX = x;
+			lastY = y;
+		}
+		/* filled polygons are always closed */
+		if (allClosed || polygons.closed[i]) edges.add(lastX, lastY, firstX, firstY);
+	}
+}
+
+void fill(Polygons polygons, Paint paint, boolean evenOdd) {
+	edges.reset();
+	addPolygons(polygons, true);
+	paint(paint, evenOdd);
+}
+
+void paint(Paint paint, boolean evenOdd) {
+	int top = 0, bottom = data.height;
+	if (clipMask != null) {
+		top = clipTop;
+		bottom = clipBottom;
+	}
+	float globalAlpha = alpha / 255f;
+	byte[] mask = clipMask;
+	int width = data.width;
+	/* the runs of covered pixels of an opaque color are written at once */
+	int[] run = null;
+	if (paint instanceof Solid solid && (solid.color >>> 24) == 0xFF && alpha == 0xFF) {
+		run = new int[width];
+		Arrays.fill(run, pixel(solid.color));
+	}
+	int[] solidRun = run;
+	rasterize(evenOdd, top, bottom, (y, cover, from, to) -> {
+		int offset = y * width;
+		for (int x = from; x < to; x++) {
+			float c = cover[x];
+			if (c <= 0) continue;
+			if (c > 1) c = 1;
+			if (mask != null) c *= (mask[offset + x] & 0xFF) / 255f;
+			if (solidRun != null && c >= 1) {
+				int end = x + 1;
+				while (end < to && cover[end] >= 1 && (mask == null || mask[offset + end] == (byte) 0xFF)) end++;
+				data.setPixels(x, y, end - x, solidRun, 0);
+				if (data.alphaData != null) Arrays.fill(data.alphaData, offset + x, offset + end, (byte) 0xFF);
+				x = end - 1;
+				continue;
+			}
+			c *= globalAlpha;
+			if (c < 1 / 512f) continue;
+			blend(x, y, paint.color(x, y), c);
+		}
+	});
+}
+
+/* the pixel of the color in the palette of the image data */
+int pixel(int color) {
+	int red = (color >> 16) & 0xFF, green = (color >> 8) & 0xFF, blue = color & 0xFF;
+	int pixel = ((redShift < 0) ? red << -redShift : red >>> redShift) & redMask;
+	pixel |= ((greenShift < 0) ? green << -greenShift : green >>> greenShift) & greenMask;
+	pixel |= ((blueShift < 0) ? blue << -blueShift : blue >>> blueShift) & blueMask;
+	return pixel;
+}
+
+/* composites the color over the pixel with the coverage */
+void blend(int x, int y, int color, float coverage) {
+	float sa = (color >>> 24) / 255f * coverage;
+	if (sa <= 0) return;
+	int sr = (color >> 16) & 0xFF, sg = (color >> 8) & 0xFF, sb = color & 0xFF;
+	float r, g, b;
+	if (sa >= 1) {
+		r = sr;
+		g = sg;
+		b = sb;
+	} else {
+		int pixel = data.getPixel(x, y);
+		int dr = pixel & redMask;
+		dr = (redShift < 0) ? dr >>> -redShift : dr << redShift;
+		int dg = pixel & greenMask;
+		dg = (greenShift < 0) ? dg >>> -greenShift : dg << greenShift;
+		int db = pixel & blueMask;
+		db = (blueShift < 0) ? db >>> -blueShift : db << blueShift;
+		float da = 1;
+		byte[] alphaData = data.alphaData;
+		int index = y * data.width + x;
+		if (alphaData != null) da = (alphaData[index] & 0xFF) / 255f;
+		float oa = sa + da * (1 - sa);
+		float dw = da * (1 - sa);
+		r = (sr * sa + dr * dw) / oa;
+		g = (sg * sa + dg * dw) / oa;
+		b = (sb * sa + db * dw) / oa;
+		if (alphaData != null) alphaData[index] = (byte) Math.round(oa * 255);
+	}
+	if (sa >= 1 && data.alphaData != null) data.alphaData[y * data.width + x] = (byte) 0xFF;
+	int red = Math.min(255, Math.round(r)), green = Math.min(255, Math.round(g)), blue = Math.min(255, Math.round(b));
+	data.setPixel(x, y, pixel((red << 16) | (green << 8) | blue));
+}
+
+/*
+ * Scan converts the edges into the coverage of every pixel of the rows
+ * between top and bottom. When antialiasing, every row is sampled along
+ * several scanlines and the horizontal coverage of the spans of every
+ * scanline is exact, otherwise a pixel is inside when its center is.
+ */
+void rasterize(boolean evenOdd, int top, int bottom, RowTarget target) {
+	Edges edges = this.edges;
+	int count = edges.count;
+	if (count == 0) return;
+	top = Math.max(top, (int) Math.floor(edges.minY));
+	bottom = Math.min(bottom, (int) Math.ceil(edges.maxY));
+	if (top >= bottom) return;
+	float[] coords = edges.coords;
+	byte[] directions = edges.directions;
+
+	/* sort the edges by their top */
+	if (order == null || order.length < count) {
+		order = new int[count];
+		active = new int[count];
+	}
+	long[] keys = new long[count];
+	for (int i = 0; i < count; i++) {
+		keys[i] = ((long) Math.floor(coords[i * 4 + 1] * 16) << 32) | i;
+	}
+	Arrays.sort(keys);
+	for (int i = 0; i < count; i++) {
+		order[i] = (int) keys[i];
+	}
+	if (crossings == null || crossings.length < count) {
+		crossings = new float[count];
+		windings = new int[count];
+	}
+
+	int width = data.width;
+	float[] cover = this.cover;
+	boolean antialias = isAntialiased();
+	int samples = antialias ? SUBSAMPLES : 1;
+	float weight = 1f / samples;
+	int next = 0, activeCount = 0;
+	for (int y = top; y < bottom; y++) {
+		int minX = width, maxX = 0;
+		for (int s = 0; s < samples; s++) {
+			float sy = y + (s + 0.5f) / samples;
+			/* add the edges which start above the scanline */
+			while (next < count && (keys[next] >> 32) <= sy * 16) {
+				active[activeCount++] = order[next++];
+			}
+			/* remove the edges which end above the scanline and find the crossings */
+			int crossingCount = 0;
+			for (int i = 0; i < activeCount; i++) {
+				int edge = active[i], index = edge * 4;
+				float y0 = coords[index + 1], y1 = coords[index + 3];
+				if (y1 <= sy) {
+					active[i--] = active[--activeCount];
+					continue;
+				}
+				if (y0 > sy) continue;
+				float x0 = coords[index], x1 = coords[index + 2];
+				float x = x0 + (x1 - x0) * (sy - y0) / (y1 - y0);
+				/* insertion sort, the crossings of a scanline are few */
+				int j = crossingCount++;
+				while (j > 0 && crossings[j - 1] > x) {
+					crossings[j] = crossings[j - 1];
+					windings[j] = windings[j - 1];
+					j--;
+				}
+				crossings[j] = x;
+				windings[j] = directions[edge];
+			}
+			/* accumulate the spans inside the shape */
+			int winding = 0;
+			float start = 0;
+			for (int i = 0; i < crossingCount; i++) {
+				boolean wasInside = evenOdd ? (winding & 1) != 0 : winding != 0;
+				winding += windings[i];
+				boolean inside = evenOdd ? (winding & 1) != 0 : winding != 0;
+				if (!wasInside && inside) {
+					start = crossings[i];
+				} else if (wasInside && !inside) {
+					float end = crossings[i];
+					if (!antialias) {
+						/* the pixels whose centers are inside */
+						start = (float) Math.ceil(start - 0.5f);
+						end = (float) Math.ceil(end - 0.5f);
+					}
+					start = Math.max(0, start);
+					end = Math.min(width, end);
+					if (start >= end) continue;
+					int x0 = (int) start, x1 = (int) end;
+					/*
+					 * The cover array holds differences, the coverage of a pixel is
+					 * the sum of the differences up to it. The pixels at the ends of
+					 * the span are covered partially.
+					 */
+					if (x0 == x1) {
+						cover[x0] += (end - start) * weight;
+						cover[x0 + 1] -= (end - start) * weight;
+					} else {
+						float first = (x0 + 1 - start) * weight, last = (end - x1) * weight;
+						cover[x0] += first;
+						cover[x0 + 1] += weight - first;
+						cover[x1] += last - weight;
+						cover[x1 + 1] -= last;
+					}
+					minX = Math.min(minX, x0);
+					maxX = Math.max(maxX, x1 + 1);
+				}
+			}
+		}
+		if (minX < maxX) {
+			float sum = 0;
+			for (int x = minX; x < maxX; x++) {
+				sum += cover[x];
+				cover[x] = sum;
+			}
+			/* the coverage is summed in place, the trailing difference is dropped below */
+			target.row(y, cover, minX, Math.min(maxX, width));
+			for (int x = minX; x <= maxX && x < cover.length; x++) {
+				cover[x] = 0;
+			}
+		}
+		if (next == count && activeCount == 0) break;
+	}
+}
+
+/* Stroking */
+
+float[] dashes(float width) {
+	float[] dashes;
+	switch (lineStyle) {
+		case SWT.LINE_DOT: dashes = lineWidth != 0 ? LINE_DOT : LINE_DOT_ZERO; break;
+		case SWT.LINE_DASH: dashes = lineWidth != 0 ? LINE_DASH : LINE_DASH_ZERO; break;
+		case SWT.LINE_DASHDOT: dashes = lineWidth != 0 ? LINE_DASHDOT : LINE_DASHDOT_ZERO; break;
+		case SWT.LINE_DASHDOTDOT: dashes = lineWidth != 0 ? LINE_DASHDOTDOT : LINE_DASHDOTDOT_ZERO; break;
+		case SWT.LINE_CUSTOM: return lineDashes;
+		default: return null;
+	}
+	if (lineWidth == 0) return dashes;
+	float[] scaled = new float[dashes.length];
+	for (int i = 0; i < dashes.length; i++) {
+		scaled[i] = dashes[i] * width;
+	}
+	return scaled;
+}
+
+/* the offset which centers the lines of odd widths on the pixels, in user space */
+float[] strokeOffset() {
+	float width = lineWidth == 0 ? 1 : lineWidth;
+	if (((int) width & 1) == 0 || width != (int) width) return new float[]{0, 0};
+	if (inverse == null) return new float[]{0.5f, 0.5f};
+	float x = inverse[0] * 0.5f + inverse[2] * 0.5f, y = inverse[1] * 0.5f + inverse[3] * 0.5f;
+	return new float[]{Math.abs(x), Math.abs(y)};
+}
+
+void stroke(Polygons polygons, Paint paint) {
+	float width = lineWidth == 0 ? 1 : lineWidth;
+	float[] dashes = dashes(width);
+	edges.reset();
+	for (int i = 0; i < polygons.count; i++) {
+		int start = polygons.start(i), end = polygons.end(i);
+		if (dashes != null) {
+			strokeDashes(polygons.points, start, end, polygons.closed[i], width, dashes);
+		} else {
+			strokePolyline(polygons.points, start, end, polygons.closed[i], width);
+		}
+	}
+	/* the pieces of the stroke all turn the same way, so their union is filled */
+	paint(paint, false);
+}
+
+void strokeDashes(float[] points, int start, int end, boolean closed, float width, float[] dashes) {
+	float total = 0;
+	for (float dash : dashes) total += dash;
+	if (!(total > 0)) {
+		strokePolyline(points, start, end, closed, width);
+		return;
+	}
+	int dashIndex = 0;
+	boolean on = true;
+	float remaining = dashes[0];
+	float offset = lineDashesOffset % (total * (dashes.length % 2 == 0 ? 1 : 2));
+	if (offset < 0) offset += total * (dashes.length % 2 == 0 ? 1 : 2);
+	while (offset > 0) {
+		if (offset >= remaining) {
+			offset -= remaining;
+			dashIndex = (dashIndex + 1) % dashes.length;
+			remaining = dashes[dashIndex];
+			on = !on;
+		} else {
+			remaining -= offset;
+			offset = 0;
+		}
+	}
+	Polygons dash = new Polygons();
+	if (on) dash.moveTo(points[start * 2], points[start * 2 + 1]);
+	int segmentCount = closed ? end - start : end - start - 1;
+	for (int i = 0; i < segmentCount; i++) {
+		int a = start + i, b = a + 1 < end ? a + 1 : start;
+		float ax = points[a * 2], ay = points[a * 2 + 1], bx = points[b * 2], by = points[b * 2 + 1];
+		float length = distance(ax, ay, bx, by);
+		if (length == 0) continue;
+		float dx = (bx - ax) / length, dy = (by - ay) / length, position = 0;
+		while (length - position > remaining) {
+			position += remaining;
+			float x = ax + dx * position, y = ay + dy * position;
+			if (on) {
+				dash.lineTo(x, y);
+				strokeDash(dash, width);
+			} else {
+				dash = new Polygons();
+				dash.moveTo(x, y);
+			}
+			on = !on;
+			dashIndex = (dashIndex + 1) % dashes.length;
+			remaining = dashes[dashIndex];
+		}
+		remaining -= length - position;
+		if (on) dash.lineTo(bx, by);
+	}
+	if (on) strokeDash(dash, width);
+}
+
+void strokeDash(Polygons dash, float width) {
+	if (dash.count == 0) return;
+	strokePolyline(dash.points, 0, dash.pointCount, false, width);
+}
+
+void strokePolyline(float[] points, int start, int end, boolean closed, float width) {
+	int n = end - start;
+	if (n <= 0) return;
+	float hw = width / 2;
+	if (closed && n > 1 && points[start * 2] == points[(end - 1) * 2] && points[start * 2 + 1] == points[(end - 1) * 2 + 1]) n--;
+	float x0 = points[start * 2], y0 = points[start * 2 + 1];
+	if (n == 1) {
+		/* a line of no length only shows its caps */
+		if (lineCap == SWT.CAP_ROUND) {
+			addCircle(x0, y0, hw);
+		} else if (lineCap == SWT.CAP_SQUARE) {
+			addPiece(x0 - hw, y0 - hw, x0 + hw, y0 - hw, x0 + hw, y0 + hw, x0 - hw, y0 + hw);
+		}
+		return;
+	}
+	int segmentCount = closed ? n : n - 1;
+	for (int i = 0; i < segmentCount; i++) {
+		int a = start + i, b = start + (i + 1) % n;
+		float ax = points[a * 2], ay = points[a * 2 + 1], bx = points[b * 2], by = points[b * 2 + 1];
+		float length = distance(ax, ay, bx, by);
+		float nx = -(by - ay) / length * hw, ny = (bx - ax) / length * hw;
+		addPiece(ax + nx, ay + ny, bx + nx, by + ny, bx - nx, by - ny, ax - nx, ay - ny);
+	}
+	for (int i = closed ? 0 : 1; i < (closed ? n : n - 1); i++) {
+		int prev = start + (i - 1 + n) % n, current = start + i, next = start + (i + 1) % n;
+		addJoin(points[prev * 2], points[prev * 2 + 1], points[current * 2], points[current * 2 + 1], points[next * 2], points[next * 2 + 1], hw);
+	}
+	if (!closed) {
+		addCap(points[(start + 1) * 2], points[(start + 1) * 2 + 1], x0, y0, hw);
+		int last = start + n - 1;
+		addCap(points[(last - 1) * 2], points[(last - 1) * 2 + 1], points[last * 2], points[last * 2 + 1], hw);
+	}
+}
+
+void addJoin(float px, float py, float x, float y, float nx, float ny, float hw) {
+	float length1 = distance(px, py, x, y), length2 = distance(x, y, nx, ny);
+	float d1x = (x - px) / length1, d1y = (y - py) / length1;
+	float d2x = (nx - x) / length2, d2y = (ny - y) / length2;
+	float cross = d1x * d2y - d1y * d2x, dot = d1x * d2x + d1y * d2y;
+	if (Math.abs(cross) < 1e-6f && dot > 0) return;
+	if (lineJoin == SWT.JOIN_ROUND) {
+		addCircle(x, y, hw);
+		return;
+	}
+	/* the normals on the outer side of the turn */
+	float n1x = -d1y, n1y = d1x, n2x = -d2y, n2y = d2x;
+	float side = (n1x * d2x + n1y * d2y) > 0 ? -1 : 1;
+	n1x *= side * hw;
+	n1y *= side * hw;
+	n2x *= side * hw;
+	n2y *= side * hw;
+	if (lineJoin == SWT.JOIN_MITER && dot > -1 && Math.sqrt(2 / (1 + dot)) <= lineMiterLimit) {
+		float mx = (n1x + n2x) / (1 + dot), my = (n1y + n2y) / (1 + dot);
+		addPiece(x, y, x + n1x, y + n1y, x + mx, y + my, x + n2x, y + n2y);
+	} else {
+		addPiece(x, y, x + n1x, y + n1y, x + n2x, y + n2y);
+	}
+}
+
+void addCap(float px, float py, float x, float y, float hw) {
+	if (lineCap == SWT.CAP_FLAT) return;
+	if (lineCap == SWT.CAP_ROUND) {
+		addCircle(x, y, hw);
+		return;
+	}
+	float length = distance(px, py, x, y);
+	float dx = (x - px) / length * hw, dy = (y - py) / length * hw;
+	float nx = -dy, ny = dx;
+	addPiece(x + nx, y + ny, x + nx + dx, y + ny + dy, x - nx + dx, y - ny + dy, x - nx, y - ny);
+}
+
+void addCircle(float cx, float cy, float r) {
+	int n = segments(r);
+	float[] points = new float[n * 2];
+	for (int i = 0; i < n; i++) {
+		double angle = 2 * Math.PI * i / n;
+		points[i * 2] = cx + r * (float) Math.cos(angle);
+		points[i * 2 + 1] = cy + r * (float) Math.sin(angle);
+	}
+	addPiece(points);
+}
+
+/*
+ * Adds a convex piece of a stroke in user space. The pieces are turned
+ * the same way in device space so that they are filled as a union.
+ */
+void addPiece(float... points) {
+	float[] m = transform;
+	int n = points.length / 2;
+	if (m != null) {
+		for (int i = 0; i < n; i++) {
+			float x = points[i * 2], y = points[i * 2 + 1];
+			points[i * 2] = m[0] * x + m[2] * y + m[4];
+			points[i * 2 + 1] = m[1] * x + m[3] * y + m[5];
+		}
+	}
+	float area = 0;
+	for (int i = 0; i < n; i++) {
+		int j = (i + 1) % n;
+		area += points[i * 2] * points[j * 2 + 1] - points[j * 2] * points[i * 2 + 1];
+	}
+	if (area == 0) return;
+	for (int i = 0; i < n; i++) {
+		int a = area > 0 ? i : n - 1 - i, b = area > 0 ? (i + 1) % n : (2 * n - 2 - i) % n;
+		edges.add(points[a * 2], points[a * 2 + 1], points[b * 2], points[b * 2 + 1]);
+	}
+}
+
+/* Drawing */
+
+/**
+ * Draws a line between the points (<code>x1</code>, <code>y1</code>) and
+ * (<code>x2</code>, <code>y2</code>) with the foreground and the line
+ * attributes of the receiver.
+ *
+ * @param x1 the first point's x coordinate
+ * @param y1 the first point's y coordinate
+ * @param x2 the second point's x coordinate
+ * @param y2 the second point's y coordinate
+ */
+public void drawLine(int x1, int y1, int x2, int y2) {
+	float[] offset = strokeOffset();
+	Polygons polygons = new Polygons();
+	polygons.moveTo(x1 + offset[0], y1 + offset[1]);
+	polygons.lineTo(x2 + offset[0], y2 + offset[1]);
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Draws the line segments given by consecutive groups of four values
+ * of the array, as if <code>drawLine()</code> was called for each of them.
+ *
+ * @param segments an array of x1, y1, x2, y2 values
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array is null</li>
+ * </ul>
+ */
+public void drawLines(int[] segments) {
+	if (segments == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	float[] offset = strokeOffset();
+	Polygons polygons = new Polygons();
+	for (int i = 0; i + 3 < segments.length; i += 4) {
+		polygons.moveTo(segments[i] + offset[0], segments[i + 1] + offset[1]);
+		polygons.lineTo(segments[i + 2] + offset[0], segments[i + 3] + offset[1]);
+	}
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Draws a pixel at the point with the foreground of the receiver.
+ *
+ * @param x the point's x coordinate
+ * @param y the point's y coordinate
+ */
+public void drawPoint(int x, int y) {
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, x, y, 1, 1);
+	fill(polygons, foregroundPaint(), false);
+}
+
+/**
+ * Draws the outline of the rectangle with the foreground and the line
+ * attributes of the receiver. The rectangle covers
+ * <code>width + 1</code> pixels wide by <code>height + 1</code> pixels
+ * tall with a line width of one.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ */
+public void drawRectangle(int x, int y, int width, int height) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	float[] offset = strokeOffset();
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, x + offset[0], y + offset[1], width, height);
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Draws the outline of the rectangle with the foreground and the line
+ * attributes of the receiver.
+ *
+ * @param rect the rectangle to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle is null</li>
+ * </ul>
+ */
+public void drawRectangle(Rectangle rect) {
+	if (rect == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	drawRectangle(rect.x, rect.y, rect.width, rect.height);
+}
+
+/**
+ * Fills the interior of the rectangle with the background of the receiver.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ */
+public void fillRectangle(int x, int y, int width, int height) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, x, y, width, height);
+	fill(polygons, backgroundPaint(), false);
+}
+
+/**
+ * Fills the interior of the rectangle with the background of the receiver.
+ *
+ * @param rect the rectangle to fill
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle is null</li>
+ * </ul>
+ */
+public void fillRectangle(Rectangle rect) {
+	if (rect == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	fillRectangle(rect.x, rect.y, rect.width, rect.height);
+}
+
+/**
+ * Fills the interior of the rectangle with a gradient which goes from
+ * the foreground to the background of the receiver, horizontally or
+ * vertically. A negative width or height swaps the colors of a gradient
+ * in that direction.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ * @param vertical if true the gradient goes from top to bottom, otherwise from left to right
+ */
+public void fillGradientRectangle(int x, int y, int width, int height, boolean vertical) {
+	if (width == 0 || height == 0) return;
+	int fromColor = foreground, toColor = background;
+	boolean swapColors = false;
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+		if (!vertical) swapColors = true;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+		if (vertical) swapColors = true;
+	}
+	if (swapColors) {
+		fromColor = background;
+		toColor = foreground;
+	}
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, x, y, width, height);
+	Paint paint;
+	if (fromColor == toColor) {
+		paint = new Solid(toColor);
+	} else if (vertical) {
+		paint = new Gradient(x, y, x, y + height, fromColor, toColor, false);
+	} else {
+		paint = new Gradient(x, y, x + width, y, fromColor, toColor, false);
+	}
+	fill(polygons, paint, false);
+}
+
+/**
+ * Draws the outline of the oval which fits within the rectangle with
+ * the foreground and the line attributes of the receiver.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ */
+public void drawOval(int x, int y, int width, int height) {
+	drawArc(x, y, width, height, 0, 360);
+}
+
+/**
+ * Fills the interior of the oval which fits within the rectangle with
+ * the background of the receiver.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ */
+public void fillOval(int x, int y, int width, int height) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	if (width == 0 || height == 0) return;
+	Polygons polygons = new Polygons();
+	addArc(polygons, x + width / 2f, y + height / 2f, width / 2f, height / 2f, 0, 360, true);
+	polygons.close();
+	fill(polygons, backgroundPaint(), false);
+}
+
+/**
+ * Draws the outline of the arc of the oval which fits within the
+ * rectangle with the foreground and the line attributes of the receiver.
+ * The angles are in degrees and positive angles go counter-clockwise
+ * from the 3 o'clock position.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ * @param startAngle the beginning angle
+ * @param arcAngle the angular extent of the arc, relative to the start angle
+ */
+public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	if (width == 0 || height == 0 || arcAngle == 0) return;
+	float[] offset = strokeOffset();
+	Polygons polygons = new Polygons();
+	addArc(polygons, x + offset[0] + width / 2f, y + offset[1] + height / 2f, width / 2f, height / 2f, startAngle, arcAngle, true);
+	if (Math.abs(arcAngle) >= 360) polygons.close();
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Fills the pie shaped area of the oval which fits within the rectangle
+ * with the background of the receiver. The angles are in degrees and
+ * positive angles go counter-clockwise from the 3 o'clock position.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ * @param startAngle the beginning angle
+ * @param arcAngle the angular extent of the arc, relative to the start angle
+ */
+public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	if (width == 0 || height == 0 || arcAngle == 0) return;
+	Polygons polygons = new Polygons();
+	float cx = x + width / 2f, cy = y + height / 2f;
+	polygons.moveTo(cx, cy);
+	addArc(polygons, cx, cy, width / 2f, height / 2f, startAngle, arcAngle, false);
+	polygons.close();
+	fill(polygons, backgroundPaint(), false);
+}
+
+/**
+ * Draws the outline of the rectangle with round corners with the
+ * foreground and the line attributes of the receiver.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ * @param arcWidth the width of the arc of the corners
+ * @param arcHeight the height of the arc of the corners
+ */
+public void drawRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	float[] offset = strokeOffset();
+	Polygons polygons = new Polygons();
+	addRoundRectangle(polygons, x + offset[0], y + offset[1], width, height, arcWidth, arcHeight);
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Fills the interior of the rectangle with round corners with the
+ * background of the receiver.
+ *
+ * @param x the x coordinate of the rectangle
+ * @param y the y coordinate of the rectangle
+ * @param width the width of the rectangle
+ * @param height the height of the rectangle
+ * @param arcWidth the width of the arc of the corners
+ * @param arcHeight the height of the arc of the corners
+ */
+public void fillRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+	if (width < 0) {
+		x = x + width;
+		width = -width;
+	}
+	if (height < 0) {
+		y = y + height;
+		height = -height;
+	}
+	Polygons polygons = new Polygons();
+	addRoundRectangle(polygons, x, y, width, height, arcWidth, arcHeight);
+	fill(polygons, backgroundPaint(), false);
+}
+
+Polygons polygons(int[] pointArray, float[] offset) {
+	Polygons polygons = new Polygons();
+	for (int i = 0; i + 1 < pointArray.length; i += 2) {
+		if (i == 0) {
+			polygons.moveTo(pointArray[i] + offset[0], pointArray[i + 1] + offset[1]);
+		} else {
+			polygons.lineTo(pointArray[i] + offset[0], pointArray[i + 1] + offset[1]);
+		}
+	}
+	return polygons;
+}
+
+/**
+ * Draws the lines joining the points of the array, which holds the x
+ * and y coordinates of the points in turn, with the foreground and the
+ * line attributes of the receiver.
+ *
+ * @param pointArray an array of alternating x and y values
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array is null</li>
+ * </ul>
+ */
+public void drawPolyline(int[] pointArray) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	stroke(polygons(pointArray, strokeOffset()), foregroundPaint());
+}
+
+/**
+ * Draws the outline of the polygon whose vertices are the points of the
+ * array, which holds the x and y coordinates of the points in turn, with
+ * the foreground and the line attributes of the receiver.
+ *
+ * @param pointArray an array of alternating x and y values
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array is null</li>
+ * </ul>
+ */
+public void drawPolygon(int[] pointArray) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	Polygons polygons = polygons(pointArray, strokeOffset());
+	polygons.close();
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Fills the interior of the polygon whose vertices are the points of the
+ * array, which holds the x and y coordinates of the points in turn, with
+ * the background and the fill rule of the receiver.
+ *
+ * @param pointArray an array of alternating x and y values
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array is null</li>
+ * </ul>
+ */
+public void fillPolygon(int[] pointArray) {
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	fill(polygons(pointArray, new float[]{0, 0}), backgroundPaint(), fillRule == SWT.FILL_EVEN_ODD);
+}
+
+/**
+ * Draws the outline of the path with the foreground and the line
+ * attributes of the receiver.
+ *
+ * @param path the path to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the path is null</li>
+ * </ul>
+ *
+ * @see Path#getPathData()
+ */
+public void drawPath(PathData path) {
+	if (path == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	Polygons polygons = polygons(path);
+	float[] offset = strokeOffset();
+	if (offset[0] != 0 || offset[1] != 0) {
+		for (int i = 0; i < polygons.pointCount; i++) {
+			polygons.points[i * 2] += offset[0];
+			polygons.points[i * 2 + 1] += offset[1];
+		}
+	}
+	stroke(polygons, foregroundPaint());
+}
+
+/**
+ * Fills the interior of the path with the background and the fill rule
+ * of the receiver.
+ *
+ * @param path the path to fill
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the path is null</li>
+ * </ul>
+ *
+ * @see Path#getPathData()
+ */
+public void fillPath(PathData path) {
+	if (path == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	fill(polygons(path), backgroundPaint(), fillRule == SWT.FILL_EVEN_ODD);
+}
+
+/**
+ * Draws the image data at the point, blending it with the alpha and
+ * transparency of the image data and the alpha of the receiver.
+ *
+ * @param image the image data to draw
+ * @param x the x coordinate of where to draw
+ * @param y the y coordinate of where to draw
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the image data is null</li>
+ * </ul>
+ */
+public void drawImage(ImageData image, int x, int y) {
+	if (image == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	drawImage(image, 0, 0, image.width, image.height, x, y, image.width, image.height);
+}
+
+/**
+ * Copies a rectangular area of the image data into a rectangular area
+ * of the receiver, scaling it to fit, and blending it with the alpha and
+ * transparency of the image data and the alpha of the receiver.
+ *
+ * @param image the image data to draw
+ * @param srcX the x coordinate in the source image to copy from
+ * @param srcY the y coordinate in the source image to copy from
+ * @param srcWidth the width in points to copy from the source
+ * @param srcHeight the height in points to copy from the source
+ * @param destX the x coordinate in the destination to copy to
+ * @param destY the y coordinate in the destination to copy to
+ * @param destWidth the width in points of the destination rectangle
+ * @param destHeight the height in points of the destination rectangle
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the image data is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if any of the width or height arguments are negative</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the source rectangle is not contained within the bounds of the source image</li>
+ * </ul>
+ */
+public void drawImage(ImageData image, int srcX, int srcY, int srcWidth, int srcHeight, int destX, int destY, int destWidth, int destHeight) {
+	if (image == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (srcWidth == 0 || srcHeight == 0 || destWidth == 0 || destHeight == 0) return;
+	if (srcX < 0 || srcY < 0 || srcWidth < 0 || srcHeight < 0 || destWidth < 0 || destHeight < 0) {
+		SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	if (srcX + srcWidth > image.width || srcY + srcHeight > image.height) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	int[] pixels = new int[srcWidth * srcHeight];
+	ImageData mask = image.getTransparencyType() == SWT.TRANSPARENCY_MASK ? image.getTransparencyMask() : null;
+	PaletteData palette = image.palette;
+	for (int y = 0; y < srcHeight; y++) {
+		for (int x = 0; x < srcWidth; x++) {
+			int pixel = image.getPixel(srcX + x, srcY + y);
+			int a = 0xFF;
+			if (image.alphaData != null || image.alpha != -1) a = image.getAlpha(srcX + x, srcY + y);
+			if (image.transparentPixel != -1 && pixel == image.transparentPixel) a = 0;
+			if (mask != null && mask.getPixel(srcX + x, srcY + y) == 0) a = 0;
+			pixels[y * srcWidth + x] = argb(palette.getRGB(pixel), a);
+		}
+	}
+	boolean smooth = interpolation != SWT.NONE && interpolation != SWT.LOW;
+	Paint paint = new ImagePaint(pixels, srcWidth, srcHeight, destX, destY, destWidth, destHeight, smooth);
+	Polygons polygons = new Polygons();
+	addRectangle(polygons, destX, destY, destWidth, destHeight);
+	fill(polygons, paint, false);
+}
+}
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class hand out fonts, colors and cursors of a device
+ * which are shared by value, so that the code asking for the same font
+ * in many places creates a single operating system resource.
+ * <p>
+ * Every call to one of the <code>get</code> methods returns a resource
+ * which is equal to the ones returned before for the same value, and
+ * adds a reference to it. Every reference must be given back with
+ * {@link #release(Resource)}, and the resource is disposed when its last
+ * reference is released. Shared resources must not be disposed by the
+ * application, the remaining ones are disposed with the device.
+ * </p><p>
+ * The shared resources of a device are returned by
+ * {@link Device#getSharedResources()}. Colors and fonts may be requested
+ * and released from any thread. Cursors are created and disposed like
+ * {@link Cursor} itself, which some platforms only support on the user
+ * interface thread, so {@link #getCursor(int)} and the release of a
+ * cursor must be called from the thread which created the display.
+ * </p>
+ *
+ * @see Device#getSharedResources()
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.133
+ */
+public final class SharedResources {
+
+	record FontKey(List<FontData> fontData) {}
+	record CursorKey(int style) {}
+
+	static final class Entry {
+		final Object key;
+		final Resource resource;
+		int references;
+
+		Entry(Object key, Resource resource) {
+			this.key = key;
+			this.resource = resource;
+		}
+	}
+
+	final Device device;
+
+	/* the entries by value and by resource */
+	final Map<Object, Entry> entries = new HashMap<>();
+	final Map<Resource, Entry> resources = new IdentityHashMap<>();
+
+SharedResources(Device device) {
+	this.device = device;
+}
+
+void checkDevice() {
+	if (device.isDisposed()) SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+}
+
+/* returns the shared resource of the key, or null if there is none */
+Resource acquire(Object key) {
+	checkDevice();
+	Entry entry = entries.get(key);
+	if (entry == null) return null;
+	if (entry.resource.isDisposed()) {
+		/* the application disposed a shared resource, forget it */
+		entries.remove(key);
+		resources.remove(entry.resource);
+		return null;
+	}
+	entry.references++;
+	return entry.resource;
+}
+
+Resource add(Object key, Resource resource) {
+	Entry entry = new Entry(key, resource);
+	entry.references = 1;
+	entries.put(key, entry);
+	resources.put(resource, entry);
+	return resource;
+}
+
+static FontKey fontKey(FontData[] fds) {
+	List<FontData> list = new ArrayList<>(fds.length);
+	for (FontData fd : fds) {
+		if (fd == null) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		/* copy the font data, the caller may change it afterwards */
+		list.add(new FontData(fd.toString()));
+	}
+	return new FontKey(List.copyOf(list));
+}
+
+/**
+ * Returns a shared color with the given RGB value and adds a reference
+ * to it.
+ *
+ * @param rgb the RGB value of the color
+ * @return the shared color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rgb argument is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ *
+ * @see #release(Resource)
+ */
+public Color getColor(RGB rgb) {
+	if (rgb == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	return getColor(new RGBA(rgb.red, rgb.green, rgb.blue, 255));
+}
+
+/**
+ * Returns a shared color with the given RGBA value and adds a reference
+ * to it.
+ *
+ * @param rgba the RGBA value of the color
+ * @return the shared color
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rgba argument is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ *
+ * @see #release(Resource)
+ */
+public synchronized Color getColor(RGBA rgba) {
+	if (rgba == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	RGBA key = new RGBA(rgba.rgb.red, rgba.rgb.green, rgba.rgb.blue, rgba.alpha);
+	Resource color = acquire(key);
+	if (color == null) color = add(key, new Color(device, key));
+	return (Color) color;
+}
+
+/**
+ * Returns a shared font with the given font data and adds a reference
+ * to it.
+ *
+ * @param fds the font data of the font
+ * @return the shared font
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the fds argument is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the length of fds is zero or any element of fds is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ * @exception SWTError <ul>
+ *    <li>ERROR_NO_HANDLES - if a font could not be created from the given font data</li>
+ * </ul>
+ *
+ * @see #release(Resource)
+ */
+public synchronized Font getFont(FontData... fds) {
+	if (fds == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (fds.length == 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	FontKey key = fontKey(fds);
+	Resource font = acquire(key);
+	if (font == null) font = add(key, new Font(device, key.fontData().toArray(new FontData[0])));
+	return (Font) font;
+}
+
+/**
+ * Returns a shared font with the given name, height and style, and adds
+ * a reference to it.
+ *
+ * @param name the name of the font (must not be null)
+ * @param height the font height in points
+ * @param style a bit or combination of NORMAL, BOLD, ITALIC
+ * @return the shared font
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the name argument is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the height is negative</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ *
+ * @see #release(Resource)
+ */
+public Font getFont(String name, int height, int style) {
+	if (name == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	return getFont(new FontData(name, height, style));
+}
+
+/**
+ * Returns a shared font which is a variant of the given font, with the
+ * given style and with its height multiplied by the given scale, and
+ * adds a reference to it. The variant is the same font as the one which
+ * is returned by <code>getFont()</code> for its font data.
+ *
+ * @param font the font to derive the variant from
+ * @param style a bit or combination of NORMAL, BOLD, ITALIC
+ * @param scale the factor applied to the height of the font
+ * @return the shared font
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the font is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the font has been disposed or the scale is not greater than zero</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ *
+ * @see #release(Resource)
+ */
+public Font getFont(Font font, int style, float scale) {
+	if (font == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (font.isDisposed() || !(scale > 0)) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	FontData[] fds = font.getFontData();
+	for (FontData fd : fds) {
+		fd.setStyle(style);
+		/* scale the fractional height, the integer height is rounded */
+		if (scale != 1) fd.setHeight(Math.max(1, fd.getHeightF() * scale));
+	}
+	return getFont(fds);
+}
+
+/**
+ * Returns a shared cursor with the given style and adds a reference to
+ * it. The style is one of the cursor constants of <code>SWT</code>.
+ * <p>
+ * This method, and the release of the cursor, must be called from the
+ * user interface thread of the display, as creating and disposing a
+ * cursor from another thread is not safe on every platform.
+ * </p>
+ *
+ * @param style the style of the cursor
+ * @return the shared cursor
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_ARGUMENT - when an unknown style is specified</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the device has been disposed</li>
+ * </ul>
+ *
+ * @see Cursor#Cursor(Device, int)
+ * @see #release(Resource)
+ */
+public synchronized Cursor getCursor(int style) {
+	CursorKey key = new CursorKey(style);
+	Resource cursor = acquire(key);
+	if (cursor == null) cursor = add(key, new Cursor(device, style));
+	return (Cursor) cursor;
+}
+
+/**
+ * Gives back a reference to a shared resource. The resource is disposed
+ * when its last reference is given back. Resources which were not
+ * returned by the receiver are ignored.
+ *
+ * @param resource the shared resource
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the resource is null</li>
+ * </ul>
+ */
+public synchronized void release(Resource resource) {
+	if (resource == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	Entry entry = resources.get(resource);
+	if (entry == null) return;
+	if (--entry.references > 0) return;
+	resources.remove(resource);
+	entries.remove(entry.key);
+	resource.dispose();
+}
+
+/**
+ * Returns the number of references to a shared resource, or zero if
+ * the resource was not returned by the receiver or has been released.
+ *
+ * @param resource the shared resource
+ * @return the number of references
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the resource is null</li>
+ * </ul>
+ */
+public synchronized int getReferenceCount(Resource resource) {
+	if (resource == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	Entry entry = resources.get(resource);
+	return entry != null ? entry.references : 0;
+}
+
+/**
+ * Returns the number of shared resources which are alive, that is
+ * which have not been released by all the code using them. This
+ * count is meant to track down leaks of references.
+ *
+ * @return the number of live shared resources
+ */
+public synchronized int getResourceCount() {
+	return resources.size();
+}
+
+/**
+ * Returns the shared resources which are alive. The array is a copy
+ * and the resources must not be disposed.
+ *
+ * @return the live shared resources
+ */
+public synchronized Resource[] getResources() {
+	return resources.keySet().toArray(new Resource[0]);
+}
+
+synchronized void dispose() {
+	for (Resource resource : resources.keySet()) {
+		resource.dispose();
+	}
+	resources.clear();
+	entries.clear();
+}
+}
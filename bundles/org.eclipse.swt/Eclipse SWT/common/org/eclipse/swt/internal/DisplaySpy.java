@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import org.eclipse.swt.widgets.*;
+
+/**
+ * Helper class to allow monitoring of the event loop of a {@link Display}
+ */
+public class DisplaySpy {
+
+	/**
+	 * Flag to prevent {@link Display} from entering this class,
+	 * if monitoring of the event loop is not enabled.
+	 */
+	public static boolean isEnabled;
+
+	private static final DisplaySpy instance = new DisplaySpy();
+
+	private DisplayTracker displayTracker;
+
+	static {
+		ResponsivenessMonitor.startFromSystemProperty();
+	}
+
+	private DisplaySpy() {
+		// singleton
+	}
+
+	public static DisplaySpy getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Enables monitoring of the event loop of all displays.
+	 *
+	 * WARNING: the tracker will be called from the UI thread. Do not block
+	 * it and do not throw any exceptions.
+	 *
+	 * @param tracker                notified about event loop activity. Use
+	 *                               {@code null} to disable monitoring.
+	 */
+	public void setDisplayTracker(DisplayTracker tracker) {
+		isEnabled = tracker != null;
+		displayTracker = tracker;
+	}
+
+	public void dispatchStarted(Display display) {
+		if (displayTracker != null) {
+			displayTracker.dispatchStarted(display);
+		}
+	}
+
+	public void dispatchFinished(Display display, long nanos) {
+		if (displayTracker != null) {
+			displayTracker.dispatchFinished(display, nanos);
+		}
+	}
+
+	public void listenerInvoked(int eventType, Event event, Listener listener, long nanos) {
+		if (displayTracker != null) {
+			displayTracker.listenerInvoked(eventType, event, listener, nanos);
+		}
+	}
+
+	public void asyncExecRun(Display display, Runnable runnable, long latencyNanos, long nanos) {
+		if (displayTracker != null) {
+			displayTracker.asyncExecRun(display, runnable, latencyNanos, nanos);
+		}
+	}
+
+	public void timerExecRun(Display display, Runnable runnable, long nanos) {
+		if (displayTracker != null) {
+			displayTracker.timerExecRun(display, runnable, nanos);
+		}
+	}
+
+	public void sleepStarted(Display display) {
+		if (displayTracker != null) {
+			displayTracker.sleepStarted(display);
+		}
+	}
+
+	public void sleepFinished(Display display, int polls, long nanos) {
+		if (displayTracker != null) {
+			displayTracker.sleepFinished(display, polls, nanos);
+		}
+	}
+
+	public void wakeRequested(Display display, boolean signalled) {
+		if (displayTracker != null) {
+			displayTracker.wakeRequested(display, signalled);
+		}
+	}
+
+	public void deferredEventPosted(Display display, Event event, int depth) {
+		if (displayTracker != null) {
+			displayTracker.deferredEventPosted(display, event, depth);
+		}
+	}
+
+	public void deferredEventRun(Display display, Event event, int depth) {
+		if (displayTracker != null) {
+			displayTracker.deferredEventRun(display, event, depth);
+		}
+	}
+
+	/**
+	 * Custom callback to monitor the event loop of a display
+	 */
+	public static interface DisplayTracker {
+		/**
+		 * Called when {@link Display#readAndDispatch()} starts to read and dispatch events.
+		 *
+		 * @param display the display running the event loop
+		 */
+		default void dispatchStarted(Display display) {}
+
+		/**
+		 * Called when {@link Display#readAndDispatch()} returns.
+		 *
+		 * @param display the display running the event loop
+		 * @param nanos the wall time spent in <code>readAndDispatch()</code>
+		 */
+		default void dispatchFinished(Display display, long nanos) {}
+
+		/**
+		 * Called after a listener has handled an event.
+		 *
+		 * @param eventType the type of the event when it was sent
+		 * @param event the event, its <code>type</code> may have been changed by the listener
+		 * @param listener the listener which handled the event
+		 * @param nanos the wall time spent in the listener
+		 */
+		default void listenerInvoked(int eventType, Event event, Listener listener, long nanos) {}
+
+		/**
+		 * Called after a runnable passed to {@link Display#asyncExec(Runnable)}
+		 * or {@link Display#syncExec(Runnable)} has been run.
+		 *
+		 * @param display the display running the runnable
+		 * @param runnable the runnable, may be <code>null</code>
+		 * @param latencyNanos the time the runnable waited in the queue
+		 * @param nanos the wall time spent in the runnable
+		 */
+		default void asyncExecRun(Display display, Runnable runnable, long latencyNanos, long nanos) {}
+
+		/**
+		 * Called after a runnable passed to {@link Display#timerExec(int, Runnable)} has been run.
+		 *
+		 * @param display the display running the runnable
+		 * @param runnable the runnable
+		 * @param nanos the wall time spent in the runnable
+		 */
+		default void timerExecRun(Display display, Runnable runnable, long nanos) {}
+
+		/**
+		 * Called when {@link Display#sleep()} is about to block the user-interface
+		 * thread waiting for input. Until the matching {@link #sleepFinished(Display, int, long)},
+		 * the thread is idle, even when it sleeps in a nested event loop.
+		 *
+		 * @param display the display which is going to sleep
+		 */
+		default void sleepStarted(Display display) {}
+
+		/**
+		 * Called when {@link Display#sleep()} returns.
+		 *
+		 * @param display the display which was sleeping
+		 * @param polls the number of times the user-interface thread blocked
+		 *              waiting for input, timers or wakeups
+		 * @param nanos the wall time spent in <code>sleep()</code>
+		 */
+		default void sleepFinished(Display display, int polls, long nanos) {}
+
+		/**
+		 * Called when the user-interface thread of a display is asked to wake up,
+		 * for example by {@link Display#wake()} or {@link Display#asyncExec(Runnable)}.
+		 * Currently only reported on GTK.
+		 * <p>
+		 * This method is called from the thread requesting the wakeup, which is
+		 * usually not the user-interface thread.
+		 * </p>
+		 *
+		 * @param display the display to wake up
+		 * @param signalled <code>true</code> if the sleeping user-interface thread was
+		 *                  signalled, <code>false</code> if the request was redundant
+		 */
+		default void wakeRequested(Display display, boolean signalled) {}
+
+		/**
+		 * Called after an event was added to the deferred event queue.
+		 *
+		 * @param display the display owning the queue
+		 * @param event the posted event
+		 * @param depth the number of events waiting in the queue, including the posted one
+		 */
+		default void deferredEventPosted(Display display, Event event, int depth) {}
+
+		/**
+		 * Called after an event was taken from the deferred event queue, before it is sent.
+		 *
+		 * @param display the display owning the queue
+		 * @param event the event about to be sent
+		 * @param depth the number of events still waiting in the queue
+		 */
+		default void deferredEventRun(Display display, Event event, int depth) {}
+	}
+}
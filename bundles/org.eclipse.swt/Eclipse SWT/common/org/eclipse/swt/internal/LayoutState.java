@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.*;
+
+import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * Remembers the inputs of the last layout pass of a layout, so that a
+ * pass over the same inputs can be skipped.
+ * <p>
+ * A <code>requestLayout()</code> on a control flushes the cached size of
+ * that control and of all its ancestors, and then lays out every
+ * ancestor. When a flushed control still has the same preferred sizes,
+ * see {@link SizeCache#revalidate(Control)}, and neither the client area,
+ * the children, the fields of the layout nor the fields of the layout
+ * data changed, the pass would set the bounds the children already have
+ * and can be skipped. The layout describes its fields and the fields of
+ * the layout data of the children as an array of ints. The bounds the
+ * pass gave to the children are remembered as well, so that a pass is
+ * not skipped after the application moved or resized a child.
+ * </p><p>
+ * A layout may be shared by several composites, so the state is only
+ * valid for the composite which was laid out last.
+ * </p>
+ */
+public class LayoutState {
+	/**
+	 * Whether layouts skip passes over unchanged inputs, enabled by
+	 * default. Set the system property
+	 * <code>org.eclipse.swt.internal.incrementalLayout</code> to
+	 * <code>false</code> to always lay out all the children.
+	 */
+	public static final boolean ENABLED = !"false".equals(System.getProperty("org.eclipse.swt.internal.incrementalLayout")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private Composite composite;
+	private int x, y, width, height;
+	private Control[] children;
+	private Object[] data;
+	private int[] values;
+	private int[] bounds;
+
+	/**
+	 * Returns whether the given inputs are those of the last pass.
+	 *
+	 * @param composite the composite being laid out
+	 * @param area the client area of the composite
+	 * @param children the children of the composite
+	 * @param data the layout data of the children
+	 * @param values the fields of the layout and of the layout data
+	 * @return <code>true</code> if the pass can be skipped
+	 */
+	public boolean matches(Composite composite, Rectangle area, Control[] children, Object[] data, int[] values) {
+		return ENABLED && this.composite == composite
+			&& x == area.x && y == area.y && width == area.width && height == area.height
+			&& Arrays.equals(this.children, children) && Arrays.equals(this.data, data) && Arrays.equals(this.values, values)
+			&& Arrays.equals(bounds, getBounds(children));
+	}
+
+	private static int[] getBounds(Control[] children) {
+		int[] result = new int[children.length * 4];
+		for (int i = 0; i < children.length; i++) {
+			Rectangle rect = children[i].getBounds();
+			result[i * 4] = rect.x;
+			result[i * 4 + 1] = rect.y;
+			result[i * 4 + 2] = rect.width;
+			result[i * 4 + 3] = rect.height;
+		}
+		return result;
+	}
+
+	/**
+	 * Remembers the inputs of a completed pass, and the bounds it gave
+	 * to the children.
+	 *
+	 * @param composite the composite which was laid out
+	 * @param area the client area of the composite
+	 * @param children the children of the composite
+	 * @param data the layout data of the children
+	 * @param values the fields of the layout and of the layout data
+	 */
+	public void update(Composite composite, Rectangle area, Control[] children, Object[] data, int[] values) {
+		this.composite = composite;
+		x = area.x;
+		y = area.y;
+		width = area.width;
+		height = area.height;
+		this.children = children;
+		this.data = data;
+		this.values = values;
+		bounds = getBounds(children);
+	}
+
+	/**
+	 * Forgets the last pass, so that the next pass is not skipped.
+	 */
+	public void invalidate() {
+		composite = null;
+		children = null;
+		data = null;
+		values = null;
+		bounds = null;
+	}
+}
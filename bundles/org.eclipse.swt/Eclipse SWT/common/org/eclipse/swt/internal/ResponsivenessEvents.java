@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder events emitted by the {@link ResponsivenessMonitor}.
+ * <p>
+ * This class is only loaded when the <code>jdk.jfr</code> module is present.
+ * </p>
+ */
+class ResponsivenessEvents {
+
+	@Name("org.eclipse.swt.Listener")
+	@Label("SWT Listener")
+	@Category({ "SWT", "UI Thread" })
+	@Description("A listener which took longer than the event threshold of the responsiveness monitor")
+	@StackTrace(false)
+	static class ListenerEvent extends jdk.jfr.Event {
+		@Label("Event Type")
+		int eventType;
+
+		@Label("Widget Class")
+		String widgetClass;
+
+		@Label("Listener Class")
+		String listenerClass;
+
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("org.eclipse.swt.Runnable")
+	@Label("SWT Runnable")
+	@Category({ "SWT", "UI Thread" })
+	@Description("A runnable passed to asyncExec, syncExec or timerExec which took longer than the event threshold of the responsiveness monitor")
+	@StackTrace(false)
+	static class RunnableEvent extends jdk.jfr.Event {
+		@Label("Kind")
+		String kind;
+
+		@Label("Runnable Class")
+		String runnableClass;
+
+		@Label("Queue Latency")
+		@Timespan(Timespan.NANOSECONDS)
+		long queueLatency;
+
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("org.eclipse.swt.Freeze")
+	@Label("SWT UI Freeze")
+	@Category({ "SWT", "UI Thread" })
+	@Description("The user-interface thread did not return to the event loop for longer than the freeze threshold")
+	@StackTrace(false)
+	static class FreezeEvent extends jdk.jfr.Event {
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+
+		@Label("UI Thread Stack")
+		String uiThreadStack;
+	}
+
+	static void listener(int eventType, String widgetClass, String listenerClass, long elapsed) {
+		ListenerEvent event = new ListenerEvent();
+		if (!event.shouldCommit()) return;
+		event.eventType = eventType;
+		event.widgetClass = widgetClass;
+		event.listenerClass = listenerClass;
+		event.elapsed = elapsed;
+		event.commit();
+	}
+
+	static void runnable(String kind, String runnableClass, long queueLatency, long elapsed) {
+		RunnableEvent event = new RunnableEvent();
+		if (!event.shouldCommit()) return;
+		event.kind = kind;
+		event.runnableClass = runnableClass;
+		event.queueLatency = queueLatency;
+		event.elapsed = elapsed;
+		event.commit();
+	}
+
+	static void freeze(long elapsed, StackTraceElement[] stackTrace) {
+		FreezeEvent event = new FreezeEvent();
+		if (!event.shouldCommit()) return;
+		event.elapsed = elapsed;
+		StringBuilder builder = new StringBuilder();
+		for (StackTraceElement element : stackTrace) {
+			builder.append("\tat ").append(element).append('\n'); //$NON-NLS-1$
+		}
+		event.uiThreadStack = builder.toString();
+		event.commit();
+	}
+
+}
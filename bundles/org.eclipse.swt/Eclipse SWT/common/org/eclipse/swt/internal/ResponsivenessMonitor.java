@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.eclipse.swt.widgets.*;
+
+/**
+ * Measures the responsiveness of the user-interface thread.
+ * <p>
+ * The monitor installs itself as the {@link DisplaySpy.DisplayTracker} and
+ * records the wall time spent per event type, per listener class and per
+ * runnable passed to <code>asyncExec</code>, <code>syncExec</code> and
+ * <code>timerExec</code>, together with the time the asynchronous runnables
+ * waited in the queue. A watchdog thread detects freezes of the
+ * user-interface thread which last longer than a threshold and captures the
+ * stack of the user-interface thread while the freeze is still in progress.
+ * On GTK the monitor also counts how often the idle user-interface thread
+ * wakes up in <code>Display.sleep()</code> and how many wakeup requests were
+ * coalesced.
+ * </p><p>
+ * The collected data is available through {@link #getSnapshot()}. When the
+ * <code>jdk.jfr</code> module is present, slow listeners, slow runnables and
+ * freezes are also emitted as Java Flight Recorder events.
+ * </p><p>
+ * Setting the system property
+ * <code>org.eclipse.swt.internal.responsivenessMonitor.freezeThreshold</code>
+ * to a number of milliseconds starts a monitor when the first display is used.
+ * </p>
+ */
+public class ResponsivenessMonitor implements DisplaySpy.DisplayTracker {
+
+	static final String FREEZE_THRESHOLD_PROPERTY = "org.eclipse.swt.internal.responsivenessMonitor.freezeThreshold"; //$NON-NLS-1$
+
+	private final long freezeThresholdNanos;
+	private volatile long eventThresholdNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+	/* Updated without locking, the user-interface thread must not wait for the watchdog */
+	private final Map<Integer, Accumulator> eventTypes = new ConcurrentHashMap<>();
+	private final Map<String, Accumulator> listeners = new ConcurrentHashMap<>();
+	private final Map<String, Accumulator> asyncRunnables = new ConcurrentHashMap<>();
+	private final Map<String, Accumulator> asyncLatencies = new ConcurrentHashMap<>();
+	private final Map<String, Accumulator> timerRunnables = new ConcurrentHashMap<>();
+	private final Accumulator dispatches = new Accumulator();
+	private final Accumulator sleeps = new Accumulator();
+	private final LongAdder sleepPolls = new LongAdder();
+	private final AtomicLong wakeSignals = new AtomicLong();
+	private final AtomicLong wakesCoalesced = new AtomicLong();
+	private final List<Freeze> freezes = new ArrayList<>();
+	private static final int MAX_FREEZES = 100;
+
+	/* Written by the user-interface thread, read by the watchdog */
+	private volatile Thread uiThread;
+	private volatile int dispatchDepth;
+	private volatile long heartbeat;
+	/* the user-interface thread is idle in Display.sleep(), possibly in a nested event loop */
+	private volatile boolean sleeping;
+
+	/* Written by the watchdog while a freeze is in progress */
+	private volatile Freeze freeze;
+	private long reportedHeartbeat;
+
+	private Thread watchdog;
+	private volatile boolean running;
+	private final boolean jfr = isJfrAvailable();
+
+	/**
+	 * Accumulated wall times of one kind of work on the user-interface thread.
+	 *
+	 * @param count the number of times the work ran
+	 * @param totalNanos the total wall time in nanoseconds
+	 * @param maxNanos the longest single run in nanoseconds
+	 */
+	public record Statistics(long count, long totalNanos, long maxNanos) {
+		public long averageNanos() {
+			return count == 0 ? 0 : totalNanos / count;
+		}
+	}
+
+	/**
+	 * A freeze of the user-interface thread.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} when the freeze started
+	 * @param durationNanos the duration of the freeze, or the duration observed
+	 *                      so far if the freeze is still in progress
+	 * @param stackTrace the stack of the user-interface thread captured during the freeze
+	 */
+	public record Freeze(long startNanos, long durationNanos, StackTraceElement[] stackTrace) {
+	}
+
+	/**
+	 * An immutable copy of the data collected by a monitor.
+	 *
+	 * @param dispatches the time spent in <code>Display.readAndDispatch()</code>
+	 * @param eventTypes the time spent in listeners by event type
+	 * @param listeners the time spent in listeners by listener class
+	 * @param asyncRunnables the time spent in runnables passed to <code>asyncExec</code>
+	 *                       and <code>syncExec</code> by runnable class
+	 * @param asyncLatencies the time the runnables passed to <code>asyncExec</code>
+	 *                       and <code>syncExec</code> waited to be run, by runnable class
+	 * @param timerRunnables the time spent in runnables passed to <code>timerExec</code>
+	 *                       by runnable class
+	 * @param freezes the most recent freezes, oldest first
+	 * @param sleeps the time spent in <code>Display.sleep()</code>
+	 * @param sleepPolls the number of times the user-interface thread blocked
+	 *                   waiting for input while sleeping, each return from such
+	 *                   a wait is a wakeup of the idle user-interface thread
+	 * @param wakeSignals the number of wakeup requests which signalled the
+	 *                    sleeping user-interface thread
+	 * @param wakesCoalesced the number of redundant wakeup requests
+	 */
+	public record Snapshot(Statistics dispatches, Map<Integer, Statistics> eventTypes, Map<String, Statistics> listeners,
+			Map<String, Statistics> asyncRunnables, Map<String, Statistics> asyncLatencies,
+			Map<String, Statistics> timerRunnables, List<Freeze> freezes, Statistics sleeps, long sleepPolls,
+			long wakeSignals, long wakesCoalesced) {
+	}
+
+	private static class Accumulator {
+		final LongAdder count = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		void add(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		void reset() {
+			count.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
+
+		Statistics toStatistics() {
+			return new Statistics(count.sum(), totalNanos.sum(), maxNanos.get());
+		}
+	}
+
+	/**
+	 * Starts a monitor if the system property
+	 * <code>org.eclipse.swt.internal.responsivenessMonitor.freezeThreshold</code>
+	 * is set to a positive number of milliseconds.
+	 */
+	static void startFromSystemProperty() {
+		String threshold = System.getProperty(FREEZE_THRESHOLD_PROPERTY);
+		if (threshold == null) return;
+		try {
+			long millis = Long.parseLong(threshold.trim());
+			if (millis > 0) new ResponsivenessMonitor(millis).start();
+		} catch (NumberFormatException e) {
+			// ignore invalid threshold
+		}
+	}
+
+	/**
+	 * Creates a monitor.
+	 *
+	 * @param freezeThresholdMillis the time in milliseconds after which a busy
+	 *                              user-interface thread is considered frozen
+	 */
+	public ResponsivenessMonitor(long freezeThresholdMillis) {
+		if (freezeThresholdMillis <= 0) throw new IllegalArgumentException("freezeThresholdMillis must be positive"); //$NON-NLS-1$
+		freezeThresholdNanos = TimeUnit.MILLISECONDS.toNanos(freezeThresholdMillis);
+	}
+
+	/**
+	 * Sets the minimum wall time of a listener or runnable for it to be
+	 * emitted as a Java Flight Recorder event. The default is 10 milliseconds.
+	 *
+	 * @param thresholdMillis the threshold in milliseconds
+	 */
+	public void setEventThreshold(long thresholdMillis) {
+		eventThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+	}
+
+	/**
+	 * Installs the monitor as the tracker of the {@link DisplaySpy} and starts
+	 * the freeze detection. Any previously installed tracker is replaced.
+	 */
+	public synchronized void start() {
+		if (running) return;
+		running = true;
+		DisplaySpy.getInstance().setDisplayTracker(this);
+		watchdog = new Thread(this::watch, "SWT UI Responsiveness Monitor"); //$NON-NLS-1$
+		watchdog.setDaemon(true);
+		watchdog.start();
+	}
+
+	/**
+	 * Uninstalls the monitor and stops the freeze detection. The collected
+	 * data remains available through {@link #getSnapshot()}.
+	 */
+	public synchronized void stop() {
+		if (!running) return;
+		running = false;
+		DisplaySpy.getInstance().setDisplayTracker(null);
+		watchdog.interrupt();
+		watchdog = null;
+	}
+
+	/**
+	 * Discards all collected data.
+	 */
+	public synchronized void reset() {
+		eventTypes.clear();
+		listeners.clear();
+		asyncRunnables.clear();
+		asyncLatencies.clear();
+		timerRunnables.clear();
+		freezes.clear();
+		dispatches.reset();
+		sleeps.reset();
+		sleepPolls.reset();
+		wakeSignals.set(0);
+		wakesCoalesced.set(0);
+	}
+
+	/**
+	 * Returns a copy of the data collected so far. This method can be called
+	 * from any thread. A freeze which is still in progress is included with
+	 * the duration observed so far.
+	 *
+	 * @return the snapshot
+	 */
+	public synchronized Snapshot getSnapshot() {
+		List<Freeze> freezeList = new ArrayList<>(freezes);
+		Freeze current = freeze;
+		if (current != null) {
+			freezeList.add(new Freeze(current.startNanos(), System.nanoTime() - current.startNanos(), current.stackTrace()));
+		}
+		return new Snapshot(dispatches.toStatistics(), copy(eventTypes), copy(listeners), copy(asyncRunnables),
+				copy(asyncLatencies), copy(timerRunnables), Collections.unmodifiableList(freezeList), sleeps.toStatistics(),
+				sleepPolls.sum(), wakeSignals.get(), wakesCoalesced.get());
+	}
+
+	private static <K> Map<K, Statistics> copy(Map<K, Accumulator> map) {
+		Map<K, Statistics> result = new HashMap<>();
+		map.forEach((key, value) -> result.put(key, value.toStatistics()));
+		return Collections.unmodifiableMap(result);
+	}
+
+	@SuppressWarnings("removal")
+	private static String nameOf(Object object) {
+		if (object == null) return "null"; //$NON-NLS-1$
+		if (object instanceof TypedListener typedListener) {
+			Object eventListener = typedListener.getEventListener();
+			if (eventListener != null) object = eventListener;
+		}
+		return object.getClass().getName();
+	}
+
+	private static <K> Accumulator accumulator(Map<K, Accumulator> map, K key) {
+		Accumulator accumulator = map.get(key);
+		return accumulator != null ? accumulator : map.computeIfAbsent(key, k -> new Accumulator());
+	}
+
+	private void beat() {
+		long now = System.nanoTime();
+		long previous = heartbeat;
+		heartbeat = now;
+		if (freeze != null) {
+			synchronized (this) {
+				Freeze current = freeze;
+				if (current != null) {
+					freeze = null;
+					if (current.startNanos() == previous) endFreeze(current.startNanos(), now - previous, current.stackTrace());
+				}
+			}
+		}
+	}
+
+	private void endFreeze(long start, long duration, StackTraceElement[] stackTrace) {
+		if (freezes.size() == MAX_FREEZES) freezes.remove(0);
+		freezes.add(new Freeze(start, duration, stackTrace));
+		if (jfr) ResponsivenessEvents.freeze(duration, stackTrace);
+	}
+
+	private void watch() {
+		long interval = Math.max(1, TimeUnit.NANOSECONDS.toMillis(freezeThresholdNanos) / 4);
+		while (running) {
+			try {
+				Thread.sleep(interval);
+			} catch (InterruptedException e) {
+				return;
+			}
+			Thread thread = uiThread;
+			long beat = heartbeat;
+			if (thread == null || dispatchDepth == 0 || sleeping || beat == reportedHeartbeat) continue;
+			if (System.nanoTime() - beat < freezeThresholdNanos) continue;
+			StackTraceElement[] stackTrace = thread.getStackTrace();
+			synchronized (this) {
+				reportedHeartbeat = beat;
+				long current = heartbeat;
+				if (current == beat) {
+					freeze = new Freeze(beat, 0, stackTrace);
+				} else {
+					endFreeze(beat, current - beat, stackTrace);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void dispatchStarted(Display display) {
+		uiThread = Thread.currentThread();
+		dispatchDepth++;
+		beat();
+	}
+
+	@Override
+	public void dispatchFinished(Display display, long nanos) {
+		dispatchDepth--;
+		beat();
+		dispatches.add(nanos);
+	}
+
+	@Override
+	public void sleepStarted(Display display) {
+		sleeping = true;
+		beat();
+	}
+
+	@Override
+	public void sleepFinished(Display display, int polls, long nanos) {
+		sleeping = false;
+		beat();
+		sleeps.add(nanos);
+		sleepPolls.add(polls);
+	}
+
+	@Override
+	public void wakeRequested(Display display, boolean signalled) {
+		(signalled ? wakeSignals : wakesCoalesced).incrementAndGet();
+	}
+
+	@Override
+	public void listenerInvoked(int eventType, Event event, Listener listener, long nanos) {
+		String name = nameOf(listener);
+		accumulator(eventTypes, eventType).add(nanos);
+		accumulator(listeners, name).add(nanos);
+		if (jfr && nanos >= eventThresholdNanos) {
+			ResponsivenessEvents.listener(eventType, event.widget != null ? event.widget.getClass().getName() : null, name, nanos);
+		}
+	}
+
+	@Override
+	public void asyncExecRun(Display display, Runnable runnable, long latencyNanos, long nanos) {
+		String name = nameOf(runnable);
+		accumulator(asyncRunnables, name).add(nanos);
+		accumulator(asyncLatencies, name).add(latencyNanos);
+		if (jfr && nanos >= eventThresholdNanos) {
+			ResponsivenessEvents.runnable("asyncExec", name, latencyNanos, nanos); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void timerExecRun(Display display, Runnable runnable, long nanos) {
+		String name = nameOf(runnable);
+		accumulator(timerRunnables, name).add(nanos);
+		if (jfr && nanos >= eventThresholdNanos) {
+			ResponsivenessEvents.runnable("timerExec", name, 0, nanos); //$NON-NLS-1$
+		}
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			return ModuleLayer.boot().findModule("jdk.jfr").isPresent(); //$NON-NLS-1$
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
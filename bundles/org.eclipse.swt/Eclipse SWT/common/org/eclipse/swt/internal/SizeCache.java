@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.concurrent.atomic.*;
+
+import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * Remembers the preferred sizes of a control for several pairs of
+ * width and height hints.
+ * <p>
+ * The built-in layouts keep one instance in the layout data of each
+ * control. Wrapping controls and nested composites are usually asked
+ * for their size with several different width hints during one layout
+ * pass, and again in later passes, so remembering more than one hint
+ * avoids going down to the native <code>computeSize</code>. The cache
+ * must be flushed by its owner whenever the control changes, which the
+ * layouts do in <code>Layout.flushCache(Control)</code>, called for every
+ * control passed to <code>Composite.layout(Control[], int)</code> or
+ * <code>Control.requestLayout()</code>.
+ * </p><p>
+ * The sizes forgotten by the last flush are kept aside so that
+ * {@link #revalidate(Control)} can tell whether the control still has
+ * the same preferred sizes, in which case a layout does not need to
+ * move any control. Hits and misses of all caches are counted for
+ * diagnostics.
+ * </p>
+ */
+public class SizeCache {
+	private static final int INITIAL_SIZE = 2;
+	private static final int MAX_SIZE = 8;
+
+	private static final LongAdder hits = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+
+	/* wHint, hHint, width and height of each entry, most recently used first */
+	private int[] entries;
+	private int count;
+
+	/* entries forgotten by the last flush which have not been revalidated yet */
+	private int[] previous;
+	private int previousCount;
+
+	/**
+	 * Returns the preferred size of the control for the given hints,
+	 * computing it only if it is not cached.
+	 *
+	 * @param control the control to measure
+	 * @param wHint the width hint
+	 * @param hHint the height hint
+	 * @param flushCache passed to <code>Control.computeSize</code> on a miss
+	 * @return the preferred size, which the caller may modify
+	 */
+	public Point computeSize(Control control, int wHint, int hHint, boolean flushCache) {
+		for (int i = 0; i < count; i++) {
+			int index = i * 4;
+			if (entries[index] == wHint && entries[index + 1] == hHint) {
+				hits.increment();
+				int width = entries[index + 2], height = entries[index + 3];
+				if (i != 0) {
+					System.arraycopy(entries, 0, entries, 4, index);
+					entries[0] = wHint;
+					entries[1] = hHint;
+					entries[2] = width;
+					entries[3] = height;
+				}
+				return new Point(width, height);
+			}
+		}
+		misses.increment();
+		Point size = control.computeSize(wHint, hHint, flushCache);
+		if (entries == null) {
+			entries = new int[INITIAL_SIZE * 4];
+		} else if (count * 4 == entries.length && count < MAX_SIZE) {
+			int[] newEntries = new int[Math.min(count * 2, MAX_SIZE) * 4];
+			System.arraycopy(entries, 0, newEntries, 0, entries.length);
+			entries = newEntries;
+		}
+		if (count * 4 < entries.length) count++;
+		System.arraycopy(entries, 0, entries, 4, (count - 1) * 4);
+		entries[0] = wHint;
+		entries[1] = hHint;
+		entries[2] = size.x;
+		entries[3] = size.y;
+		return new Point(size.x, size.y);
+	}
+
+	/**
+	 * Forgets all cached sizes.
+	 */
+	public void flush() {
+		if (count == 0) return;
+		if (previous == null || previous.length < count * 4) previous = new int[entries.length];
+		System.arraycopy(entries, 0, previous, 0, count * 4);
+		previousCount = count;
+		count = 0;
+	}
+
+	/**
+	 * Returns whether the control still has the preferred sizes it had,
+	 * for the same hints, before the cache was last flushed. The sizes
+	 * are computed as needed and cached again.
+	 *
+	 * @param control the control measured by the receiver
+	 * @return <code>true</code> if no cached size was flushed or all flushed sizes are unchanged
+	 */
+	public boolean revalidate(Control control) {
+		boolean unchanged = true;
+		for (int i = 0; i < previousCount && unchanged; i++) {
+			int index = i * 4;
+			Point size = computeSize(control, previous[index], previous[index + 1], false);
+			unchanged = size.x == previous[index + 2] && size.y == previous[index + 3];
+		}
+		previousCount = 0;
+		return unchanged;
+	}
+
+	/**
+	 * Returns the number of lookups of all caches which were answered from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public static long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups of all caches which had to compute the size.
+	 *
+	 * @return the number of misses
+	 */
+	public static long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public static void resetStatistics() {
+		hits.reset();
+		misses.reset();
+	}
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.graphics.*;
+
+/**
+ * Remembers the extents of the texts measured by <code>GC.textExtent</code>,
+ * <code>GC.stringExtent</code> and by the <code>computeSize</code> of the
+ * controls which measure their text themselves.
+ * <p>
+ * Forms often show thousands of controls with the same strings in the same
+ * font, and each of them would otherwise measure its text natively. An extent
+ * is identified by the device, the native font handle, the string, platform
+ * specific flags describing how the string is measured, and the width at which
+ * it is wrapped. Where the platform lets the text antialiasing and the font
+ * options of a GC change the measurement, they are part of the key as well.
+ * Callers must use different flags whenever the measurements differ for the
+ * same font and string. Only the most recently used extents are kept.
+ * </p><p>
+ * Font handles are reused by the operating system once they are freed, so
+ * the extents measured with a font must be flushed when the font is disposed.
+ * All the extents of a device are flushed when the device is disposed.
+ * </p>
+ */
+public final class TextExtentCache {
+	private static final int MAX_SIZE = 2048;
+
+	private static final LongAdder hits = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+
+	private record Key(Device device, long font, String string, int flags, int wrapWidth, int antialias, long options) {}
+
+	/* the extents in access order, least recently used first */
+	private static final LinkedHashMap<Key, Point> extents = new LinkedHashMap<>(64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Point> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private TextExtentCache() {
+	}
+
+	/**
+	 * Returns the extent of the string measured with the given font,
+	 * flags and wrap width, or <code>null</code> if it is not cached.
+	 *
+	 * @param device the device the string is measured on
+	 * @param font the native handle of the font
+	 * @param string the measured string
+	 * @param flags the platform specific flags describing the measurement
+	 * @param wrapWidth the width at which the string is wrapped, or <code>SWT.DEFAULT</code>
+	 * @return the extent, which the caller may modify, or <code>null</code>
+	 */
+	public static Point get(Device device, long font, String string, int flags, int wrapWidth) {
+		return get(device, font, string, flags, wrapWidth, SWT.DEFAULT, 0);
+	}
+
+	/**
+	 * Returns the extent of the string measured with the given font, flags,
+	 * wrap width, text antialiasing and font options, or <code>null</code>
+	 * if it is not cached.
+	 *
+	 * @param device the device the string is measured on
+	 * @param font the native handle of the font
+	 * @param string the measured string
+	 * @param flags the platform specific flags describing the measurement
+	 * @param wrapWidth the width at which the string is wrapped, or <code>SWT.DEFAULT</code>
+	 * @param antialias the text antialiasing the string is measured with
+	 * @param options a platform specific value identifying the font options
+	 * @return the extent, which the caller may modify, or <code>null</code>
+	 */
+	public static Point get(Device device, long font, String string, int flags, int wrapWidth, int antialias, long options) {
+		Point extent;
+		synchronized (extents) {
+			extent = extents.get(new Key(device, font, string, flags, wrapWidth, antialias, options));
+		}
+		if (extent == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return new Point(extent.x, extent.y);
+	}
+
+	/**
+	 * Remembers the extent of the string measured with the given font,
+	 * flags and wrap width.
+	 *
+	 * @param device the device the string was measured on
+	 * @param font the native handle of the font
+	 * @param string the measured string
+	 * @param flags the platform specific flags describing the measurement
+	 * @param wrapWidth the width at which the string was wrapped, or <code>SWT.DEFAULT</code>
+	 * @param extent the extent of the string, which is copied
+	 */
+	public static void put(Device device, long font, String string, int flags, int wrapWidth, Point extent) {
+		put(device, font, string, flags, wrapWidth, SWT.DEFAULT, 0, extent);
+	}
+
+	/**
+	 * Remembers the extent of the string measured with the given font, flags,
+	 * wrap width, text antialiasing and font options.
+	 *
+	 * @param device the device the string was measured on
+	 * @param font the native handle of the font
+	 * @param string the measured string
+	 * @param flags the platform specific flags describing the measurement
+	 * @param wrapWidth the width at which the string was wrapped, or <code>SWT.DEFAULT</code>
+	 * @param antialias the text antialiasing the string was measured with
+	 * @param options a platform specific value identifying the font options
+	 * @param extent the extent of the string, which is copied
+	 */
+	public static void put(Device device, long font, String string, int flags, int wrapWidth, int antialias, long options, Point extent) {
+		synchronized (extents) {
+			extents.put(new Key(device, font, string, flags, wrapWidth, antialias, options), new Point(extent.x, extent.y));
+		}
+	}
+
+	/**
+	 * Forgets the extents measured with a font which is being disposed.
+	 *
+	 * @param font the native handle of the font
+	 */
+	public static void flush(long font) {
+		synchronized (extents) {
+			extents.keySet().removeIf(key -> key.font == font);
+		}
+	}
+
+	/**
+	 * Forgets the extents measured on a device which is being disposed.
+	 *
+	 * @param device the device
+	 */
+	public static void flush(Device device) {
+		synchronized (extents) {
+			extents.keySet().removeIf(key -> key.device == device);
+		}
+	}
+
+	/**
+	 * Returns the number of lookups which were answered from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public static long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups which had to measure the text.
+	 *
+	 * @return the number of misses
+	 */
+	public static long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public static void resetStatistics() {
+		hits.reset();
+		misses.reset();
+	}
+}
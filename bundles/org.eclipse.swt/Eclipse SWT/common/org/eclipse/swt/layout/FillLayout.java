@@ -16,6 +16,7 @@ package org.eclipse.swt.layout;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -91,6 +92,8 @@ public final class FillLayout extends Layout {
 	 */
 	public int spacing = 0;
 
+	final LayoutState state = new LayoutState ();
+
 /**
  * Constructs a new instance of this class.
  */
@@ -199,6 +202,15 @@ protected void layout (Composite composite, boolean flushCache) {
 	Control [] children = composite.getChildren ();
 	int count = children.length;
 	if (count == 0) return;
+	int [] values = new int [] {type, marginWidth, marginHeight, spacing};
+	if (!flushCache && state.matches (composite, rect, children, null, values)) return;
+	state.invalidate ();
+	layout (rect, children);
+	state.update (composite, rect, children, null, values);
+}
+
+void layout (Rectangle rect, Control [] children) {
+	int count = children.length;
 	int width = rect.width - marginWidth * 2;
 	int height = rect.height - marginHeight * 2;
 	if (type == SWT.HORIZONTAL) {
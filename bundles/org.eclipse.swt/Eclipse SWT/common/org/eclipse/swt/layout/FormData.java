@@ -16,6 +16,7 @@ package org.eclipse.swt.layout;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -88,8 +89,7 @@ public final class FormData {
 	public FormAttachment bottom;
 
 	int cacheWidth = -1, cacheHeight = -1;
-	int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
-	int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
+	SizeCache sizeCache;
 	FormAttachment cacheLeft, cacheRight, cacheTop, cacheBottom;
 	boolean isVisited, needed;
 
@@ -115,33 +115,15 @@ public FormData (int width, int height) {
 
 void computeSize (Control control, int wHint, int hHint, boolean flushCache) {
 	if (cacheWidth != -1 && cacheHeight != -1) return;
-	if (wHint == this.width && hHint == this.height) {
-		if (defaultWidth == -1 || defaultHeight == -1 || wHint != defaultWhint || hHint != defaultHhint) {
-			Point size =  control.computeSize (wHint, hHint, flushCache);
-			defaultWhint = wHint;
-			defaultHhint = hHint;
-			defaultWidth = size.x;
-			defaultHeight = size.y;
-		}
-		cacheWidth = defaultWidth;
-		cacheHeight = defaultHeight;
-		return;
-	}
-	if (currentWidth == -1 || currentHeight == -1 || wHint != currentWhint || hHint != currentHhint) {
-		Point size =  control.computeSize (wHint, hHint, flushCache);
-		currentWhint = wHint;
-		currentHhint = hHint;
-		currentWidth = size.x;
-		currentHeight = size.y;
-	}
-	cacheWidth = currentWidth;
-	cacheHeight = currentHeight;
+	if (sizeCache == null) sizeCache = new SizeCache ();
+	Point size = sizeCache.computeSize (control, wHint, hHint, flushCache);
+	cacheWidth = size.x;
+	cacheHeight = size.y;
 }
 
 void flushCache () {
 	cacheWidth = cacheHeight = -1;
-	defaultHeight = defaultWidth = -1;
-	currentHeight = currentWidth = -1;
+	if (sizeCache != null) sizeCache.flush ();
 }
 
 int getWidth (Control control, boolean flushCache) {
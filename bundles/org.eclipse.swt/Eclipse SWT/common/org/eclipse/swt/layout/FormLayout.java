@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.swt.layout;
 
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -158,6 +161,8 @@ public final class FormLayout extends Layout {
 	 */
 	public int spacing = 0;
 
+	final LayoutState state = new LayoutState ();
+
 /**
  * Constructs a new instance of this class.
  */
@@ -251,10 +256,63 @@ protected Point computeSize (Composite composite, int wHint, int hHint, boolean
 @Override
 protected boolean flushCache (Control control) {
 	Object data = control.getLayoutData ();
-	if (data != null) ((FormData) data).flushCache ();
+	if (data != null) {
+		((FormData) data).flushCache ();
+	} else {
+		state.invalidate ();
+	}
 	return true;
 }
 
+/*
+ * Returns the fields of the receiver, of the layout data and of
+ * the attachments which determine the bounds of the children.
+ */
+int [] getValues (Control [] children, Object [] data) {
+	int [] values = new int [7 + data.length * 26];
+	Map<Control, Integer> indices = new IdentityHashMap<> (children.length);
+	for (int i=0; i<children.length; i++) {
+		indices.put (children [i], i);
+	}
+	int index = 0;
+	values [index++] = marginWidth;
+	values [index++] = marginHeight;
+	values [index++] = marginLeft;
+	values [index++] = marginTop;
+	values [index++] = marginRight;
+	values [index++] = marginBottom;
+	values [index++] = spacing;
+	for (Object object : data) {
+		FormData childData = (FormData) object;
+		if (childData == null) {
+			index += 26;
+			continue;
+		}
+		values [index++] = childData.width;
+		values [index++] = childData.height;
+		index = getValues (indices, childData.left, values, index);
+		index = getValues (indices, childData.right, values, index);
+		index = getValues (indices, childData.top, values, index);
+		index = getValues (indices, childData.bottom, values, index);
+	}
+	return values;
+}
+
+int getValues (Map<Control, Integer> indices, FormAttachment attachment, int [] values, int index) {
+	if (attachment == null) return index + 6;
+	values [index++] = 1;
+	values [index++] = attachment.numerator;
+	values [index++] = attachment.denominator;
+	values [index++] = attachment.offset;
+	values [index++] = attachment.alignment;
+	if (attachment.control == null) {
+		values [index++] = -1;
+	} else {
+		values [index++] = indices.getOrDefault (attachment.control, -2);
+	}
+	return index;
+}
+
 String getName () {
 	String string = getClass ().getName ();
 	int index = string.lastIndexOf ('.');
@@ -285,11 +343,26 @@ int computeWidth (Control control, FormData data, boolean flushCache) {
 @Override
 protected void layout (Composite composite, boolean flushCache) {
 	Rectangle rect = composite.getClientArea ();
+	Control [] children = composite.getChildren ();
+	Object [] data = new Object [children.length];
+	boolean unchanged = true;
+	for (int i=0; i<children.length; i++) {
+		FormData childData = (FormData) (data [i] = children [i].getLayoutData ());
+		if (!flushCache && childData != null && childData.sizeCache != null) {
+			unchanged &= childData.sizeCache.revalidate (children [i]);
+		}
+	}
+	if (!flushCache && unchanged && state.matches (composite, rect, children, data, getValues (children, data))) return;
+	state.invalidate ();
 	int x = rect.x + marginLeft + marginWidth;
 	int y = rect.y + marginTop + marginHeight;
 	int width = Math.max (0, rect.width - marginLeft - 2 * marginWidth - marginRight);
 	int height = Math.max (0, rect.height - marginTop - 2 * marginHeight - marginBottom);
 	layout (composite, true, x, y, width, height, flushCache);
+	for (int i=0; i<children.length; i++) {
+		data [i] = children [i].getLayoutData ();
+	}
+	state.update (composite, rect, children, data, getValues (children, data));
 }
 
 Point layout (Composite composite, boolean move, int x, int y, int width, int height, boolean flushCache) {
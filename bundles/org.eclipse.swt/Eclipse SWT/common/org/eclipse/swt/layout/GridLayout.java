@@ -15,6 +15,7 @@ package org.eclipse.swt.layout;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -140,6 +141,8 @@ public final class GridLayout extends Layout {
 	 */
 	public int verticalSpacing = 5;
 
+	final LayoutState state = new LayoutState ();
+
 /**
  * Constructs a new instance of this class
  * with a single column.
@@ -174,7 +177,11 @@ protected Point computeSize (Composite composite, int wHint, int hHint, boolean
 @Override
 protected boolean flushCache (Control control) {
 	Object data = control.getLayoutData ();
-	if (data != null) ((GridData) data).flushCache ();
+	if (data != null) {
+		((GridData) data).flushCache ();
+	} else {
+		state.invalidate ();
+	}
 	return true;
 }
 
@@ -198,7 +205,23 @@ GridData getData (Control [][] grid, int row, int column, int rowCount, int colu
 @Override
 protected void layout (Composite composite, boolean flushCache) {
 	Rectangle rect = composite.getClientArea ();
+	Control [] children = composite.getChildren ();
+	Object [] data = new Object [children.length];
+	boolean unchanged = true;
+	for (int i=0; i<children.length; i++) {
+		GridData childData = (GridData) (data [i] = children [i].getLayoutData ());
+		/* a flushed layout recomputes every size, so the cached sizes need no revalidation */
+		if (!flushCache && childData != null && childData.sizeCache != null) {
+			unchanged &= childData.sizeCache.revalidate (children [i]);
+		}
+	}
+	if (!flushCache && unchanged && state.matches (composite, rect, children, data, getValues (data))) return;
+	state.invalidate ();
 	layout (composite, true, rect.x, rect.y, rect.width, rect.height, flushCache);
+	for (int i=0; i<children.length; i++) {
+		data [i] = children [i].getLayoutData ();
+	}
+	state.update (composite, rect, children, data, getValues (data));
 }
 
 Point layout (Composite composite, boolean move, int x, int y, int width, int height, boolean flushCache) {
@@ -721,6 +744,46 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 	return new Point (totalDefaultWidth, totalDefaultHeight);
 }
 
+/*
+ * Returns the fields of the receiver and of the layout data
+ * which determine the bounds of the children.
+ */
+int [] getValues (Object [] data) {
+	int [] values = new int [10 + data.length * 13];
+	int index = 0;
+	values [index++] = numColumns;
+	values [index++] = makeColumnsEqualWidth ? 1 : 0;
+	values [index++] = marginWidth;
+	values [index++] = marginHeight;
+	values [index++] = marginLeft;
+	values [index++] = marginTop;
+	values [index++] = marginRight;
+	values [index++] = marginBottom;
+	values [index++] = horizontalSpacing;
+	values [index++] = verticalSpacing;
+	for (Object object : data) {
+		GridData childData = (GridData) object;
+		if (childData == null) {
+			index += 13;
+			continue;
+		}
+		values [index++] = childData.verticalAlignment;
+		values [index++] = childData.horizontalAlignment;
+		values [index++] = childData.widthHint;
+		values [index++] = childData.heightHint;
+		values [index++] = childData.horizontalIndent;
+		values [index++] = childData.verticalIndent;
+		values [index++] = childData.horizontalSpan;
+		values [index++] = childData.verticalSpan;
+		values [index++] = childData.grabExcessHorizontalSpace ? 1 : 0;
+		values [index++] = childData.grabExcessVerticalSpace ? 1 : 0;
+		values [index++] = childData.minimumWidth;
+		values [index++] = childData.minimumHeight;
+		values [index++] = childData.exclude ? 1 : 0;
+	}
+	return values;
+}
+
 String getName () {
 	String string = getClass ().getName ();
 	int index = string.lastIndexOf ('.');
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.*;
+import java.util.List;
+import java.util.function.*;
+
+import org.eclipse.swt.*;
+
+/**
+ * Instances of this class describe a control, its properties, its
+ * layout data and, for composites, its layout and children, without
+ * creating any native resources.
+ * <p>
+ * Unlike controls, descriptions may be created and modified on any
+ * thread. This allows a background thread to prepare the description
+ * of a large form, including the layout data objects such as
+ * <code>GridData</code> with precomputed size hints, while the user-interface thread keeps processing events.
+ * The user-interface thread then creates all the controls in a single
+ * pass with {@link #create(Composite)}, during which layout is deferred,
+ * so that the new controls are laid out only once.
+ * </p><p>
+ * The properties are applied in the order: layout data, layout, text,
+ * keyed data, children, and finally the initializers registered with
+ * {@link #onCreate(Consumer)}, which run on the user-interface thread and
+ * can set any property not covered by this class.
+ * </p>
+ * <pre><code>
+ * ControlDescription form = new ControlDescription (Composite.class, Composite::new, SWT.NONE);
+ * form.setLayout (() -&gt; new GridLayout (2, false));
+ * for (String name : names) {
+ *     form.add (Label.class, Label::new, SWT.NONE).setText (name);
+ *     form.add (Text.class, Text::new, SWT.BORDER).setLayoutData (new GridData (SWT.FILL, SWT.CENTER, true, false));
+ * }
+ * display.asyncExec (() -&gt; form.create (shell));
+ * </code></pre>
+ *
+ * @see Composite#setLayoutDeferred(boolean)
+ * @see <a href="http://www.eclipse.org/swt/">Sample code and further information</a>
+ *
+ * @since 3.133
+ */
+public final class ControlDescription {
+	final Class<? extends Control> type;
+	final BiFunction<Composite, Integer, ? extends Control> factory;
+	final int style;
+	String text;
+	Supplier<? extends Layout> layout;
+	Object layoutData;
+	Map<String, Object> data;
+	final List<ControlDescription> children = new ArrayList<> ();
+	/* the description the receiver was added to, guarded by the class */
+	ControlDescription parent;
+	final List<Consumer<? super Control>> initializers = new ArrayList<> ();
+
+/**
+ * Constructs a new description of a control of the given class and style.
+ * The control is created by calling the factory with the parent and the
+ * style, which is usually the constructor of the control, such as
+ * <code>Button::new</code>.
+ *
+ * @param <T> the type of the control
+ * @param type the class of the control
+ * @param factory the function creating the control from its parent and style
+ * @param style the style of the control
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the type or the factory is null</li>
+ * </ul>
+ */
+public <T extends Control> ControlDescription (Class<T> type, BiFunction<Composite, Integer, T> factory, int style) {
+	if (type == null || factory == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	this.type = type;
+	this.factory = factory;
+	this.style = style;
+}
+
+/**
+ * Creates a description of a child control of the given class and style
+ * and appends it to the children of the receiver.
+ *
+ * @param <T> the type of the child control
+ * @param type the class of the child control
+ * @param factory the function creating the child control from its parent and style
+ * @param style the style of the child control
+ * @return the description of the child
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the type or the factory is null</li>
+ * </ul>
+ * @exception IllegalStateException if the receiver does not describe a <code>Composite</code>
+ *
+ * @see #add(ControlDescription)
+ */
+public <T extends Control> ControlDescription add (Class<T> type, BiFunction<Composite, Integer, T> factory, int style) {
+	ControlDescription child = new ControlDescription (type, factory, style);
+	add (child);
+	return child;
+}
+
+/**
+ * Appends the given description to the children of the receiver.
+ * A description can only be the child of one description, and the
+ * descriptions must form a tree.
+ *
+ * @param child the description of the child control
+ * @return the receiver
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the child is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the child is the receiver or one of its ancestors</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the child has already been added to a description</li>
+ * </ul>
+ * @exception IllegalStateException if the receiver does not describe a <code>Composite</code>
+ */
+public ControlDescription add (ControlDescription child) {
+	if (child == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	checkComposite ();
+	synchronized (ControlDescription.class) {
+		if (child.parent != null) SWT.error (SWT.ERROR_INVALID_ARGUMENT);
+		/* the child has no parent, so it can only be reached from the receiver if it is an ancestor */
+		for (ControlDescription ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+			if (ancestor == child) SWT.error (SWT.ERROR_INVALID_ARGUMENT);
+		}
+		child.parent = this;
+	}
+	synchronized (this) {
+		children.add (child);
+	}
+	return this;
+}
+
+void checkComposite () {
+	if (!Composite.class.isAssignableFrom (type)) {
+		throw new IllegalStateException (type.getName () + " is not a Composite"); //$NON-NLS-1$
+	}
+}
+
+/**
+ * Creates the described control, its children and all their descendants
+ * as children of the given composite, and lays them out once.
+ * <p>
+ * The same description may be used to create several controls, as
+ * long as its layout data is not shared between controls.
+ * </p>
+ *
+ * @param parent the parent of the control
+ * @return the new control
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the parent is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the parent is disposed</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if a factory does not return a control of the described class</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the parent</li>
+ * </ul>
+ */
+public Control create (Composite parent) {
+	if (parent == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	if (parent.isDisposed ()) SWT.error (SWT.ERROR_INVALID_ARGUMENT);
+	parent.setLayoutDeferred (true);
+	try {
+		Control control = createControl (parent);
+		parent.layout (new Control [] {control}, SWT.DEFER);
+		return control;
+	} finally {
+		if (!parent.isDisposed ()) parent.setLayoutDeferred (false);
+	}
+}
+
+synchronized Control createControl (Composite parent) {
+	Control control = factory.apply (parent, style);
+	if (!type.isInstance (control)) SWT.error (SWT.ERROR_INVALID_ARGUMENT);
+	if (layoutData != null) control.setLayoutData (layoutData);
+	if (layout != null) {
+		/* every control gets its own layout, layouts may keep state */
+		Layout newLayout = layout.get ();
+		if (newLayout != null) ((Composite) control).setLayout (newLayout);
+	}
+	if (text != null) setText (control, text);
+	if (data != null) {
+		data.forEach (control::setData);
+	}
+	if (!children.isEmpty ()) {
+		Composite composite = (Composite) control;
+		for (ControlDescription child : children) {
+			child.createControl (composite);
+		}
+	}
+	for (Consumer<? super Control> initializer : initializers) {
+		initializer.accept (control);
+	}
+	return control;
+}
+
+/**
+ * Returns a copy of the list of the descriptions of the children of the receiver.
+ *
+ * @return the descriptions of the children
+ */
+public synchronized List<ControlDescription> getChildren () {
+	return new ArrayList<> (children);
+}
+
+/**
+ * Returns the number of controls described by the receiver,
+ * including the receiver and all its descendants.
+ *
+ * @return the number of described controls
+ */
+public synchronized int getControlCount () {
+	int count = 1;
+	for (ControlDescription child : children) {
+		count += child.getControlCount ();
+	}
+	return count;
+}
+
+/**
+ * Returns the style of the described control.
+ *
+ * @return the style
+ */
+public int getStyle () {
+	return style;
+}
+
+/**
+ * Returns the class of the described control.
+ *
+ * @return the class
+ */
+public Class<? extends Control> getType () {
+	return type;
+}
+
+/**
+ * Adds an initializer which is called on the user-interface thread with
+ * the created control, after its children have been created.
+ *
+ * @param initializer the initializer
+ * @return the receiver
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the initializer is null</li>
+ * </ul>
+ */
+public synchronized ControlDescription onCreate (Consumer<? super Control> initializer) {
+	if (initializer == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	initializers.add (initializer);
+	return this;
+}
+
+/**
+ * Sets the application defined property of the described control
+ * with the specified name to the given value.
+ *
+ * @param key the name of the property
+ * @param value the new value for the property, <code>null</code> removes the property from the description
+ * @return the receiver
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the key is null</li>
+ * </ul>
+ *
+ * @see Widget#setData(String, Object)
+ */
+public synchronized ControlDescription setData (String key, Object value) {
+	if (key == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	if (value == null) {
+		if (data != null) data.remove (key);
+	} else {
+		if (data == null) data = new LinkedHashMap<> ();
+		data.put (key, value);
+	}
+	return this;
+}
+
+/**
+ * Sets the supplier of the layout of the described composite. The
+ * supplier is called on the user-interface thread for every composite
+ * created from the receiver, so that composites do not share a layout.
+ *
+ * @param layout the supplier of the layout, or <code>null</code> to keep the default layout
+ * @return the receiver
+ *
+ * @exception IllegalStateException if the receiver does not describe a <code>Composite</code>
+ *
+ * @see Composite#setLayout(Layout)
+ */
+public synchronized ControlDescription setLayout (Supplier<? extends Layout> layout) {
+	checkComposite ();
+	this.layout = layout;
+	return this;
+}
+
+/**
+ * Sets the layout data of the described control. The layout data is
+ * shared by all the controls created from the receiver and must therefore
+ * not be shared if the receiver is used to create several controls.
+ *
+ * @param layoutData the layout data, or <code>null</code>
+ * @return the receiver
+ *
+ * @see Control#setLayoutData(Object)
+ */
+public synchronized ControlDescription setLayoutData (Object layoutData) {
+	this.layoutData = layoutData;
+	return this;
+}
+
+/**
+ * Sets the text of the described control. Text is supported for
+ * <code>Button</code>, <code>Combo</code>, <code>Group</code>,
+ * <code>Label</code>, <code>Link</code> and <code>Text</code> and
+ * their subclasses.
+ *
+ * @param text the text, or <code>null</code> to keep the default text
+ * @return the receiver
+ *
+ * @exception IllegalStateException if the described control does not support text
+ */
+public synchronized ControlDescription setText (String text) {
+	if (!(Button.class.isAssignableFrom (type) || Combo.class.isAssignableFrom (type)
+		|| Group.class.isAssignableFrom (type) || Label.class.isAssignableFrom (type)
+		|| Link.class.isAssignableFrom (type) || Text.class.isAssignableFrom (type))) {
+		throw new IllegalStateException (type.getName () + " does not support text"); //$NON-NLS-1$
+	}
+	this.text = text;
+	return this;
+}
+
+static void setText (Control control, String text) {
+	if (control instanceof Button button) {
+		button.setText (text);
+	} else if (control instanceof Combo combo) {
+		combo.setText (text);
+	} else if (control instanceof Group group) {
+		group.setText (text);
+	} else if (control instanceof Label label) {
+		label.setText (text);
+	} else if (control instanceof Link link) {
+		link.setText (text);
+	} else if (control instanceof Text textControl) {
+		textControl.setText (text);
+	}
+}
+
+/**
+ * Returns a string containing a concise, human-readable
+ * description of the receiver.
+ *
+ * @return a string representation of the receiver
+ */
+@Override
+public String toString () {
+	return "ControlDescription {" + type.getSimpleName () + "}"; //$NON-NLS-1$ //$NON-NLS-2$
+}
+
+}
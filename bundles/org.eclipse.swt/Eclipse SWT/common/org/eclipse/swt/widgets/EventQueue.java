@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+
+/**
+ * Instances of this class hold the deferred events of a display
+ * in first-in first-out order.
+ * <p>
+ * The events are stored in a growable ring buffer whose capacity
+ * is always a power of two, so that both adding an event at the
+ * tail and removing the event at the head take constant time.
+ * The queue is only accessed from the display's thread and is
+ * therefore not synchronized.
+ * </p>
+ */
+class EventQueue {
+	Event [] events;
+	int head, size;
+	static final int INITIAL_SIZE = 16;
+
+EventQueue () {
+	events = new Event [INITIAL_SIZE];
+}
+
+/**
+ * Appends an event at the tail of the queue, growing the
+ * ring buffer when it is full.
+ *
+ * @param event the event to add
+ */
+void add (Event event) {
+	int length = events.length;
+	if (size == length) {
+		Event [] newEvents = new Event [length << 1];
+		int tail = length - head;
+		System.arraycopy (events, head, newEvents, 0, tail);
+		System.arraycopy (events, 0, newEvents, tail, head);
+		events = newEvents;
+		head = 0;
+		length = newEvents.length;
+	}
+	events [(head + size) & (length - 1)] = event;
+	size++;
+}
+
+boolean isEmpty () {
+	return size == 0;
+}
+
+/**
+ * Removes and returns the event at the head of the queue.
+ *
+ * @return the oldest event or <code>null</code> if the queue is empty
+ */
+Event poll () {
+	if (size == 0) return null;
+	Event event = events [head];
+	events [head] = null;
+	head = (head + 1) & (events.length - 1);
+	size--;
+	return event;
+}
+
+int size () {
+	return size;
+}
+
+}
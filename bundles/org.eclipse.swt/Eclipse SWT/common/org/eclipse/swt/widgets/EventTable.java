@@ -87,10 +87,17 @@ public void sendEvent (Event event) {
 			if (types [i] == event.type) {
 				Listener listener = listeners [i];
 				if (listener != null) {
+					boolean spy = DisplaySpy.isEnabled;
+					int eventType = event.type;
+					long start = spy ? System.nanoTime () : 0;
 					try {
 						listener.handleEvent (event);
 					} catch (Error | RuntimeException ex) {
 						exceptions.stash (ex);
+					} finally {
+						if (spy) {
+							DisplaySpy.getInstance ().listenerInvoked (eventType, event, listener, System.nanoTime () - start);
+						}
 					}
 				}
 			}
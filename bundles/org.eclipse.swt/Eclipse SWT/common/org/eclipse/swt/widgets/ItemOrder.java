@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.util.*;
+
+/**
+ * This class computes the order of the items of a table or
+ * a tree, so that the native widget can be reordered in a
+ * single operation instead of moving the items one by one.
+ * <p>
+ * The comparator is called on the thread that sorts, which
+ * must be the thread of the widget, since comparators read
+ * the texts and data of the items.
+ * </p>
+ */
+class ItemOrder {
+
+/**
+ * Sorts the first <code>count</code> items with the given comparator.
+ * The sort is stable, so items that compare equal keep their order.
+ *
+ * @param items the items to sort, which are not modified
+ * @param count the number of items to sort
+ * @param comparator the comparator deciding the order of the items
+ * @return an array whose element at index <code>i</code> is the old
+ * index of the item that moves to index <code>i</code>, or
+ * <code>null</code> if the items are already sorted
+ */
+static <T extends Item> int [] sort (T [] items, int count, Comparator<? super T> comparator) {
+	if (count < 2) return null;
+	Integer [] order = new Integer [count];
+	for (int i=0; i<count; i++) order [i] = i;
+	Arrays.sort (order, (index1, index2) -> comparator.compare (items [index1], items [index2]));
+	int [] result = new int [count];
+	boolean changed = false;
+	for (int i=0; i<count; i++) {
+		result [i] = order [i];
+		if (result [i] != i) changed = true;
+	}
+	return changed ? result : null;
+}
+
+/**
+ * Returns the inverse of an order computed by {@link #sort}: the
+ * element at index <code>i</code> is the new index of the item
+ * that was at index <code>i</code>.
+ *
+ * @param order the order to invert
+ * @return the new index of every item
+ */
+static int [] invert (int [] order) {
+	int [] result = new int [order.length];
+	for (int i=0; i<order.length; i++) result [order [i]] = i;
+	return result;
+}
+}
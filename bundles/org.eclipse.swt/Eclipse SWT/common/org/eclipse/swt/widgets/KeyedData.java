@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.widgets;
+
+
+/**
+ * Instances of this class hold the unnamed data and the named
+ * properties of a widget once at least one property has been set.
+ * <p>
+ * Up to <code>LINEAR_LIMIT</code> properties are kept in flat arrays
+ * which are scanned, first comparing the keys by identity, which
+ * succeeds for the usual constant (interned) keys, and then by
+ * <code>equals</code>. Beyond that the properties are kept in an
+ * open-addressing hash table with linear probing.
+ * </p>
+ */
+class KeyedData {
+	Object data;
+	String [] keys;
+	Object [] values;
+	int size;
+	boolean hashed;
+	static final int LINEAR_LIMIT = 8;
+	static final int INITIAL_SIZE = 4;
+
+KeyedData (Object data) {
+	this.data = data;
+	keys = new String [INITIAL_SIZE];
+	values = new Object [INITIAL_SIZE];
+}
+
+/**
+ * Makes room for the given number of additional properties.
+ *
+ * @param count the number of properties about to be added
+ */
+void ensureCapacity (int count) {
+	int required = size + count;
+	if (required <= (hashed ? keys.length / 2 : LINEAR_LIMIT)) return;
+	int length = LINEAR_LIMIT * 4;
+	while (length < required * 2) length <<= 1;
+	rehash (length);
+}
+
+static int hash (String key) {
+	int hash = key.hashCode ();
+	return hash ^ (hash >>> 16);
+}
+
+Object get (String key) {
+	int index = indexOf (key);
+	return index != -1 ? values [index] : null;
+}
+
+int indexOf (String key) {
+	if (hashed) {
+		int mask = keys.length - 1;
+		int index = hash (key) & mask;
+		String current;
+		while ((current = keys [index]) != null) {
+			if (current == key || current.equals (key)) return index;
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+	for (int i=0; i<size; i++) {
+		if (keys [i] == key) return i;
+	}
+	for (int i=0; i<size; i++) {
+		if (key.equals (keys [i])) return i;
+	}
+	return -1;
+}
+
+boolean isEmpty () {
+	return size == 0;
+}
+
+/**
+ * Sets the value of a property.
+ *
+ * @param key the name of the property
+ * @param value the new value, must not be <code>null</code>
+ */
+void put (String key, Object value) {
+	int index = indexOf (key);
+	if (index != -1) {
+		values [index] = value;
+		return;
+	}
+	if (hashed) {
+		if ((size + 1) * 2 > keys.length) rehash (keys.length << 1);
+		insert (key, value);
+	} else if (size < keys.length) {
+		keys [size] = key;
+		values [size] = value;
+		size++;
+	} else if (size < LINEAR_LIMIT) {
+		String [] newKeys = new String [Math.min (keys.length << 1, LINEAR_LIMIT)];
+		Object [] newValues = new Object [newKeys.length];
+		System.arraycopy (keys, 0, newKeys, 0, size);
+		System.arraycopy (values, 0, newValues, 0, size);
+		keys = newKeys;
+		values = newValues;
+		keys [size] = key;
+		values [size] = value;
+		size++;
+	} else {
+		rehash (LINEAR_LIMIT * 4);
+		insert (key, value);
+	}
+}
+
+void insert (String key, Object value) {
+	int mask = keys.length - 1;
+	int index = hash (key) & mask;
+	while (keys [index] != null) index = (index + 1) & mask;
+	keys [index] = key;
+	values [index] = value;
+	size++;
+}
+
+void rehash (int length) {
+	String [] oldKeys = keys;
+	Object [] oldValues = values;
+	int count = hashed ? oldKeys.length : size;
+	keys = new String [length];
+	values = new Object [length];
+	size = 0;
+	hashed = true;
+	for (int i=0; i<count; i++) {
+		if (oldKeys [i] != null) insert (oldKeys [i], oldValues [i]);
+	}
+}
+
+/**
+ * Removes a property.
+ *
+ * @param key the name of the property
+ * @return <code>true</code> if the property was set
+ */
+boolean remove (String key) {
+	int index = indexOf (key);
+	if (index == -1) return false;
+	if (!hashed) {
+		int last = --size;
+		keys [index] = keys [last];
+		values [index] = values [last];
+		keys [last] = null;
+		values [last] = null;
+		return true;
+	}
+	/* Shift back the entries following the removed one in the probe sequence */
+	int mask = keys.length - 1;
+	int next = index;
+	while (true) {
+		next = (next + 1) & mask;
+		String current = keys [next];
+		if (current == null) break;
+		int home = hash (current) & mask;
+		boolean keep = index <= next ? (index < home && home <= next) : (index < home || home <= next);
+		if (!keep) {
+			keys [index] = current;
+			values [index] = values [next];
+			index = next;
+		}
+	}
+	keys [index] = null;
+	values [index] = null;
+	size--;
+	if (size <= LINEAR_LIMIT / 2) {
+		String [] oldKeys = keys;
+		Object [] oldValues = values;
+		keys = new String [LINEAR_LIMIT];
+		values = new Object [LINEAR_LIMIT];
+		hashed = false;
+		int count = 0;
+		for (int i=0; i<oldKeys.length; i++) {
+			if (oldKeys [i] != null) {
+				keys [count] = oldKeys [i];
+				values [count] = oldValues [i];
+				count++;
+			}
+		}
+	}
+	return true;
+}
+
+}
@@ -25,6 +25,7 @@ class RunnableLock {
 	Runnable runnable;
 	Thread thread;
 	Throwable throwable;
+	long postTime;
 
 RunnableLock (Runnable runnable) {
 	this.runnable = runnable;
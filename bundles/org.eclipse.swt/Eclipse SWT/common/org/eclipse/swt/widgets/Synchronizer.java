@@ -18,6 +18,7 @@ import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.*;
 
 /**
  * Instances of this class provide synchronization support
@@ -74,6 +75,7 @@ void moveAllEventsTo (Synchronizer toReceiveTheEvents) {
 
 
 void addLast (RunnableLock lock) {
+	if (DisplaySpy.isEnabled) lock.postTime = System.nanoTime ();
 	boolean wake = messages.isEmpty();
 	messages.add(lock);
 	if (wake) display.wakeThread ();
@@ -128,12 +130,19 @@ boolean runAsyncMessages (boolean all) {
 		synchronized (lock) {
 			syncThread = lock.thread;
 			display.sendPreEvent(SWT.None);
+			/* the latency of a runnable posted before monitoring started is unknown */
+			boolean spy = DisplaySpy.isEnabled && lock.postTime != 0;
+			Runnable runnable = lock.runnable;
+			long start = spy ? System.nanoTime () : 0;
 			try {
 				lock.run (display);
 			} catch (Throwable t) {
 				lock.throwable = t;
 				SWT.error (SWT.ERROR_FAILED_EXEC, t);
 			} finally {
+				if (spy) {
+					DisplaySpy.getInstance ().asyncExecRun (display, runnable, start - lock.postTime, System.nanoTime () - start);
+				}
 				if (display != null && !display.isDisposed()) {
 					display.sendPostEvent(SWT.None);
 				}
@@ -113,6 +113,9 @@ public abstract class Device implements Drawable {
 		COLOR_WHITE = new Color (0xFF, 0xFF,0xFF);
 	}
 
+	/* Fonts, colors and cursors shared by value */
+	SharedResources sharedResources;
+
 	/* System Font */
 	Font systemFont;
 
@@ -121,6 +124,9 @@ public abstract class Device implements Drawable {
 
 	long emptyTab;
 
+	/* Shaped strings shared by the GCs of the device */
+	LayoutCache layoutCache;
+
 	/*
 	* TEMPORARY CODE. When a graphics object is
 	* created and the device parameter is null,
@@ -300,6 +306,7 @@ public void dispose () {
 			}
 
 			destroy ();
+			TextExtentCache.flush (this);
 			deregister (this);
 			xDisplay = 0;
 			disposed = true;
@@ -531,6 +538,15 @@ public FontData[] getFontList (String faceName, boolean scalable) {
 	return result;
 }
 
+/*
+* Returns the cache of shaped strings of the device, or null
+* if caching is disabled.
+*/
+synchronized LayoutCache getLayoutCache () {
+	if (layoutCache == null && LayoutCache.MAX_SIZE > 0) layoutCache = new LayoutCache ();
+	return layoutCache;
+}
+
 Point getScreenDPI () {
 	Point ptDPI;
 
@@ -545,6 +561,29 @@ Point getScreenDPI () {
 	return ptDPI;
 }
 
+/**
+ * Returns the shared resources of the receiver, which hand out fonts,
+ * colors and cursors that are shared by value and disposed when the
+ * code using them has released them. This method may be called
+ * from any thread.
+ *
+ * @return the shared resources of the receiver
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see SharedResources
+ *
+ * @since 3.133
+ */
+public synchronized SharedResources getSharedResources () {
+	/* Fonts and colors are shared with other threads, so only the disposal is checked */
+	if (isDisposed ()) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+	if (sharedResources == null) sharedResources = new SharedResources (this);
+	return sharedResources;
+}
+
 /**
  * Returns the matching standard color for the given
  * constant, which should be one of the color constants
@@ -966,6 +1005,9 @@ static synchronized void register (Device device) {
  * @see #destroy
  */
 protected void release () {
+	if (sharedResources != null) sharedResources.dispose ();
+	sharedResources = null;
+
 	if (shellHandle != 0) {
 		if (GTK.GTK4) {
 			GTK4.gtk_window_destroy(shellHandle);
@@ -975,6 +1017,9 @@ protected void release () {
 	}
 	shellHandle = 0;
 
+	if (layoutCache != null) layoutCache.dispose ();
+	layoutCache = null;
+
 	/* Dispose the default font */
 	if (systemFont != null) systemFont.dispose ();
 	systemFont = null;
@@ -149,6 +149,8 @@ public Font(Device device, String name, int height, int style) {
 
 @Override
 void destroy() {
+	TextExtentCache.flush(handle);
+	if (device.layoutCache != null) device.layoutCache.flush(handle);
 	OS.pango_font_description_free(handle);
 	handle = 0;
 }
@@ -202,7 +202,7 @@ int checkStyle(int style) {
 }
 
 static void addCairoString(long cairo, String string, float x, float y, Font font) {
-	byte[] buffer = Converter.wcsToMbcs(string, true);
+	byte[] buffer = Converter.wcsToMbcsScratch(string);
 	long layout = OS.pango_cairo_create_layout(cairo);
 	if (layout == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	OS.pango_layout_set_text(layout, buffer, -1);
@@ -319,7 +319,8 @@ void checkGC (int mask) {
 		}
 	}
 	if ((state & FONT) != 0) {
-		if (data.layout != 0) {
+		/* The layouts of the cache are created with their font and never changed */
+		if (data.layout != 0 && !data.sharedLayout) {
 			Font font = data.font;
 			OS.pango_layout_set_font_description(data.layout, font.handle);
 		}
@@ -662,6 +663,22 @@ void disposeLayout() {
 	if (data.context != 0) OS.g_object_unref(data.context);
 	if (data.layout != 0) OS.g_object_unref(data.layout);
 	data.layout = data.context = 0;
+	data.sharedLayout = false;
+}
+
+void releaseSharedLayout() {
+	/*
+	* The layout of the cache is shared by the GCs of the device and
+	* must not be changed, so the GC gets a layout of its own again.
+	*/
+	if (!data.sharedLayout) return;
+	long layout = OS.pango_layout_new(data.context);
+	if (layout == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	OS.pango_layout_set_auto_dir(layout, false);
+	OS.g_object_unref(data.layout);
+	data.layout = layout;
+	data.sharedLayout = false;
+	data.state &= ~FONT;
 }
 
 @Override
@@ -1010,6 +1027,49 @@ void drawLineInPixels(int x1, int y1, int x2, int y2) {
 	Cairo.cairo_stroke(cairo);
 }
 
+/**
+ * Draws lines, using the foreground color, between the pairs of points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains the values <code>x1</code>, <code>y1</code>, <code>x2</code>
+ * and <code>y2</code> of every line in turn, so that drawing the lines is
+ * the same as calling <code>drawLine</code> for every four values, but is
+ * done in one operation. Values at the end of the array which do not make
+ * a complete line are ignored.
+ *
+ * @param segments an array of the coordinates of the end points of the lines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the segment array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawLine(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void drawLines(int[] segments) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (segments == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	drawLinesInPixels(segments);
+}
+void drawLinesInPixels(int[] segments) {
+	int count = segments.length / 4;
+	if (count == 0) return;
+	checkGC(DRAW);
+	long cairo = data.cairo;
+	double xOffset = data.cairoXoffset, yOffset = data.cairoYoffset;
+	if (Cairo.cairo_version() >= Cairo.CAIRO_VERSION_ENCODE(1, 12, 0)) {
+		Cairo.cairo_set_antialias(cairo, Cairo.CAIRO_ANTIALIAS_BEST);
+	}
+	for (int i = 0, j = 0; i < count; i++, j += 4) {
+		Cairo.cairo_move_to(cairo, segments[j] + xOffset, segments[j + 1] + yOffset);
+		Cairo.cairo_line_to(cairo, segments[j + 2] + xOffset, segments[j + 3] + yOffset);
+	}
+	Cairo.cairo_stroke(cairo);
+}
+
 /**
  * Draws the outline of an oval, using the foreground color,
  * within the specified rectangular area.
@@ -1130,6 +1190,58 @@ void drawPointInPixels (int x, int y) {
 	Cairo.cairo_fill(cairo);
 }
 
+/**
+ * Draws SWT logical points, using the foreground color, at the points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains alternating x and y values, so that drawing the points
+ * is the same as calling <code>drawPoint</code> for every pair of values,
+ * but is done in one operation.
+ * <p>
+ * Note that the receiver's line attributes do not affect this
+ * operation.
+ * </p>
+ *
+ * @param pointArray an array of alternating x and y values of the points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPoint(int, int)
+ *
+ * @since 3.133
+ */
+public void drawPoints (int[] pointArray) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	drawPointsInPixels(pointArray);
+}
+void drawPointsInPixels (int[] pointArray) {
+	int count = pointArray.length / 2;
+	if (count == 0) return;
+	checkGC(DRAW);
+	long cairo = data.cairo;
+	for (int i = 0, j = 0; i < count; i++, j += 2) {
+		Cairo.cairo_rectangle(cairo, pointArray[j], pointArray[j + 1], 1, 1);
+	}
+	fillWinding(cairo);
+}
+
+/*
+ * Fills the current path, which is made of rectangles, with the winding
+ * rule, so that the rectangles which overlap do not cancel each other
+ * out when the even-odd fill rule is set.
+ */
+void fillWinding(long cairo) {
+	int fillRule = Cairo.cairo_get_fill_rule(cairo);
+	if (fillRule != Cairo.CAIRO_FILL_RULE_WINDING) Cairo.cairo_set_fill_rule(cairo, Cairo.CAIRO_FILL_RULE_WINDING);
+	Cairo.cairo_fill(cairo);
+	if (fillRule != Cairo.CAIRO_FILL_RULE_WINDING) Cairo.cairo_set_fill_rule(cairo, fillRule);
+}
+
 /**
  * Draws the closed polygon which is defined by the specified array
  * of integer coordinates, using the receiver's foreground color. The array
@@ -1201,6 +1313,44 @@ void drawPolyline(long cairo, int[] pointArray, boolean close) {
 	if (close) Cairo.cairo_close_path(cairo);
 }
 
+/**
+ * Draws the polylines which are defined by the specified arrays of
+ * integer coordinates, using the receiver's foreground color. Every
+ * array contains alternating x and y values which are the corners of a
+ * polyline, so that drawing the polylines is the same as calling
+ * <code>drawPolyline</code> for every array, but is done in one operation.
+ *
+ * @param pointArrays the arrays of alternating x and y values which are the corners of the polylines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array of point arrays or any of the point arrays is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolyline(int[])
+ *
+ * @since 3.133
+ */
+public void drawPolylines(int[][] pointArrays) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (pointArrays == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	for (int[] pointArray : pointArrays) {
+		if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	}
+	drawPolylinesInPixels(pointArrays);
+}
+void drawPolylinesInPixels(int[][] pointArrays) {
+	if (pointArrays.length == 0) return;
+	checkGC(DRAW);
+	long cairo = data.cairo;
+	for (int[] pointArray : pointArrays) {
+		drawPolyline(cairo, pointArray, false);
+	}
+	Cairo.cairo_stroke(cairo);
+}
+
 /**
  * Draws the outline of the rectangle specified by the arguments,
  * using the receiver's foreground color. The left and right edges
@@ -1885,6 +2035,60 @@ void fillRectangleInPixels(Rectangle rect) {
 	fillRectangleInPixels(rect.x, rect.y, rect.width, rect.height);
 }
 
+/**
+ * Fills the interior of the rectangles which are defined by the
+ * specified array of integer coordinates, using the receiver's
+ * background color. The array contains the values <code>x</code>,
+ * <code>y</code>, <code>width</code> and <code>height</code> of every
+ * rectangle in turn, so that filling the rectangles is the same as
+ * calling <code>fillRectangle</code> for every four values, but is done
+ * in one operation. Values at the end of the array which do not make a
+ * complete rectangle are ignored.
+ *
+ * @param rects an array of the coordinates and sizes of the rectangles
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #fillRectangle(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void fillRectangles(int[] rects) {
+	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
+	if (rects == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	fillRectanglesInPixels(rects);
+}
+void fillRectanglesInPixels(int[] rects) {
+	int count = rects.length / 4;
+	if (count == 0) return;
+	if (data.regionSet != 0) {
+		for (int i = 0, j = 0; i < count; i++, j += 4) {
+			fillRectangleInPixels(rects[j], rects[j + 1], rects[j + 2], rects[j + 3]);
+		}
+		return;
+	}
+	checkGC(FILL);
+	long cairo = data.cairo;
+	for (int i = 0, j = 0; i < count; i++, j += 4) {
+		int x = rects[j], y = rects[j + 1], width = rects[j + 2], height = rects[j + 3];
+		if (width < 0) {
+			x = x + width;
+			width = -width;
+		}
+		if (height < 0) {
+			y = y + height;
+			height = -height;
+		}
+		Cairo.cairo_rectangle(cairo, x, y, width, height);
+	}
+	fillWinding(cairo);
+}
+
 /**
  * Fills the interior of the round-cornered rectangle specified by
  * the arguments, using the receiver's background color.
@@ -2232,7 +2436,7 @@ public void getClipping(Region region) {
 	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (region == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (region.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	long clipping = region.handle;
+	long clipping = region.nativeHandleForUpdate();
 	Cairo.cairo_region_subtract(clipping, clipping);
 	long clipRgn = data.clipRgn;
 	if (clipRgn == 0) {
@@ -3060,7 +3264,7 @@ private void limitClipping(long gcClipping) {
 	} else {
 		clippingRegion.add(clipping);
 	}
-	Cairo.cairo_region_intersect(gcClipping, clippingRegion.handle);
+	Cairo.cairo_region_intersect(gcClipping, clippingRegion.nativeHandle());
 	clippingRegion.dispose();
 }
 
@@ -3285,7 +3489,7 @@ public void setClipping(Region region) {
 	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (region != null && region.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	if (region != null) {
-		setClipping(region.handle);
+		setClipping(region.nativeHandle());
 	} else {
 		resetClipping();
 	}
@@ -3310,7 +3514,9 @@ public void setFont(Font font) {
 	if (handle == 0) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (font != null && font.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	data.font = font != null ? font : data.device.systemFont;
+	releaseSharedLayout();
 	data.state &= ~FONT;
+	data.string = null;
 	data.stringWidth = data.stringHeight = -1;
 }
 
@@ -3737,9 +3943,35 @@ void setString(String string, int flags) {
 	if (string == data.string && (flags & ~SWT.DRAW_TRANSPARENT) == (data.drawFlags  & ~SWT.DRAW_TRANSPARENT)) {
 		return;
 	}
+	/*
+	* The layouts of the cache are shared by the GCs of the device, so the
+	* string is only set on the layouts created for the cache. The layout of
+	* the GC is replaced by a reference to the shared layout.
+	*/
+	LayoutCache cache = data.device.getLayoutCache();
+	if (cache != null) {
+		long layout = cache.get(data, string, flags);
+		if (layout == 0) {
+			layout = cache.createLayout(data);
+			setString(layout, string, flags);
+			cache.put(data, string, flags, layout);
+			OS.g_object_ref(layout);
+		}
+		OS.g_object_unref(data.layout);
+		data.layout = layout;
+		data.sharedLayout = true;
+	} else {
+		releaseSharedLayout();
+		setString(data.layout, string, flags);
+		data.stringWidth = data.stringHeight = -1;
+	}
+	data.string = string;
+	data.drawFlags = flags;
+}
+
+void setString(long layout, String string, int flags) {
 	byte[] buffer;
 	int mnemonic, length = string.length ();
-	long layout = data.layout;
 	char[] text = new char[length];
 	string.getChars(0, length, text, 0);
 	if ((flags & SWT.DRAW_MNEMONIC) != 0 && (mnemonic = fixMnemonic(text)) != -1) {
@@ -3749,7 +3981,7 @@ void setString(String string, int flags) {
 		char[] text2 = new char[text.length - mnemonic];
 		System.arraycopy(text, mnemonic - 1, text2, 0, text2.length);
 		byte[] buffer2 = Converter.wcsToMbcs(text2, false);
-		buffer = new byte[buffer1.length + buffer2.length];
+		buffer = new byte[buffer1.length + buffer2.length + 1];
 		System.arraycopy(buffer1, 0, buffer, 0, buffer1.length);
 		System.arraycopy(buffer2, 0, buffer, buffer1.length, buffer2.length);
 		long attr_list = OS.pango_attr_list_new();
@@ -3763,15 +3995,12 @@ void setString(String string, int flags) {
 		OS.pango_layout_set_attributes(layout, attr_list);
 		OS.pango_attr_list_unref(attr_list);
 	} else {
-		buffer = Converter.wcsToMbcs(text, false);
+		buffer = Converter.wcsToMbcsScratch(text);
 		OS.pango_layout_set_attributes(layout, 0);
 	}
-	OS.pango_layout_set_text(layout, buffer, buffer.length);
+	OS.pango_layout_set_text(layout, buffer, -1);
 	OS.pango_layout_set_single_paragraph_mode(layout, (flags & SWT.DRAW_DELIMITER) == 0);
 	OS.pango_layout_set_tabs(layout, (flags & SWT.DRAW_TAB) != 0 ? 0 : data.device.emptyTab);
-	data.string = string;
-	data.stringWidth = data.stringHeight = -1;
-	data.drawFlags = flags;
 }
 
 /**
@@ -3820,6 +4049,9 @@ public void setTextAntialias(int antialias) {
 	if (data.context == 0) createLayout();
 	OS.pango_cairo_context_set_font_options(data.context, options);
 	Cairo.cairo_font_options_destroy(options);
+	data.textAntialias = mode;
+	releaseSharedLayout();
+	data.string = null;
 }
 
 /**
@@ -3978,12 +4210,24 @@ public Point textExtent(String string, int flags) {
 	return textExtentInPixels(string, flags);
 }
 Point textExtentInPixels(String string, int flags) {
+	int measureFlags = flags & ~SWT.DRAW_TRANSPARENT;
+	/*
+	* The hinting of the font options of the Pango context changes the
+	* extents, and so does the text antialiasing, which replaces them.
+	*/
+	if (data.layout == 0) createLayout();
+	long options = OS.pango_cairo_context_get_font_options(data.context);
+	long fontOptions = options != 0 ? Cairo.cairo_font_options_hash(options) : 0;
+	Point extent = TextExtentCache.get(data.device, data.font.handle, string, measureFlags, SWT.DEFAULT, data.textAntialias, fontOptions);
+	if (extent != null) return extent;
 	setString(string, flags);
 	checkGC(FONT);
 	if (data.stringWidth == -1) {
 		computeStringSize();
 	}
-	return new Point(data.stringWidth, data.stringHeight);
+	extent = new Point(data.stringWidth, data.stringHeight);
+	TextExtentCache.put(data.device, data.font.handle, string, measureFlags, SWT.DEFAULT, data.textAntialias, fontOptions, extent);
+	return extent;
 }
 
 /**
@@ -70,6 +70,8 @@ public final class GCData {
 	public int stringWidth = -1;
 	public int stringHeight = -1;
 	public int drawFlags;
+	public boolean sharedLayout;
+	public int textAntialias;
 	public boolean realDrawable;
 	public int width = -1, height = -1;
 }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.eclipse.swt.*;
+import org.eclipse.swt.internal.cairo.*;
+import org.eclipse.swt.internal.gtk.*;
+
+/**
+ * This class keeps the most recently drawn strings of a device shaped
+ * in Pango layouts, so that GCs drawing or measuring the same strings
+ * again, like the cells of tables and trees, do not shape them again.
+ * <p>
+ * A layout is identified by the string, the font and the flags it is
+ * drawn with, and the direction and text antialiasing of the GC. The
+ * layouts are created in contexts owned by the cache and are shared by
+ * all the GCs of the device, so a GC must not change a layout it got
+ * from the cache. Each GC holds a reference to the layout it is drawing.
+ * </p><p>
+ * The number of layouts is set with the system property
+ * <code>org.eclipse.swt.internal.gtk.layoutCacheSize</code>, a size of
+ * zero disables the cache.
+ * </p>
+ */
+final class LayoutCache {
+	static final int MAX_SIZE = Integer.getInteger ("org.eclipse.swt.internal.gtk.layoutCacheSize", 256); //$NON-NLS-1$
+
+	record Key (String string, long font, int flags, boolean mirrored, int antialias) {}
+
+	static final class Entry {
+		long layout;
+		int width, height;
+	}
+
+	/* the layouts in access order, least recently used first */
+	final LinkedHashMap<Key, Entry> layouts = new LinkedHashMap<> (64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<Key, Entry> eldest) {
+			if (size () <= MAX_SIZE) return false;
+			OS.g_object_unref (eldest.getValue ().layout);
+			return true;
+		}
+	};
+
+	/* the contexts of the layouts, by direction and text antialiasing */
+	final long [] contexts = new long [8];
+
+	final LongAdder hits = new LongAdder ();
+	final LongAdder misses = new LongAdder ();
+
+Key key (GCData data, String string, int flags) {
+	boolean mirrored = (data.style & SWT.MIRRORED) != 0;
+	return new Key (string, data.font.handle, flags & ~SWT.DRAW_TRANSPARENT, mirrored, data.textAntialias);
+}
+
+/**
+ * Returns a new reference to the layout of the string drawn with the
+ * state of the GC and sets the size of the string in the GC data, or
+ * returns 0 if the string is not cached.
+ */
+synchronized long get (GCData data, String string, int flags) {
+	Entry entry = layouts.get (key (data, string, flags));
+	if (entry == null) {
+		misses.increment ();
+		return 0;
+	}
+	hits.increment ();
+	data.stringWidth = entry.width;
+	data.stringHeight = entry.height;
+	return OS.g_object_ref (entry.layout);
+}
+
+/**
+ * Returns a new layout in the context that matches the state of the GC,
+ * with the font of the GC.
+ */
+synchronized long createLayout (GCData data) {
+	boolean mirrored = (data.style & SWT.MIRRORED) != 0;
+	int index = (mirrored ? 4 : 0) + (data.textAntialias & 3);
+	long context = contexts [index];
+	if (context == 0) {
+		if (GTK.GTK4) {
+			long fontMap = OS.pango_cairo_font_map_get_default ();
+			context = OS.pango_font_map_create_context (fontMap);
+		} else {
+			context = GDK.gdk_pango_context_get ();
+		}
+		if (context == 0) SWT.error (SWT.ERROR_NO_HANDLES);
+		OS.pango_context_set_language (context, GTK.gtk_get_default_language ());
+		OS.pango_context_set_base_dir (context, mirrored ? OS.PANGO_DIRECTION_RTL : OS.PANGO_DIRECTION_LTR);
+		if (data.textAntialias != Cairo.CAIRO_ANTIALIAS_DEFAULT) {
+			long options = Cairo.cairo_font_options_create ();
+			Cairo.cairo_font_options_set_antialias (options, data.textAntialias);
+			OS.pango_cairo_context_set_font_options (context, options);
+			Cairo.cairo_font_options_destroy (options);
+		}
+		contexts [index] = context;
+	}
+	long layout = OS.pango_layout_new (context);
+	if (layout == 0) SWT.error (SWT.ERROR_NO_HANDLES);
+	OS.pango_layout_set_auto_dir (layout, false);
+	OS.pango_layout_set_font_description (layout, data.font.handle);
+	return layout;
+}
+
+/**
+ * Remembers a layout created by {@link #createLayout} once the string
+ * has been set, and sets the size of the string in the GC data. The
+ * reference of the caller is kept by the cache.
+ */
+synchronized void put (GCData data, String string, int flags, long layout) {
+	int [] width = new int [1], height = new int [1];
+	OS.pango_layout_get_pixel_size (layout, width, height);
+	Entry entry = new Entry ();
+	entry.layout = layout;
+	entry.width = data.stringWidth = width [0];
+	entry.height = data.stringHeight = height [0];
+	Entry oldEntry = layouts.put (key (data, string, flags), entry);
+	if (oldEntry != null) OS.g_object_unref (oldEntry.layout);
+}
+
+/**
+ * Forgets the layouts of a font which is being disposed.
+ */
+synchronized void flush (long font) {
+	Iterator<Map.Entry<Key, Entry>> iterator = layouts.entrySet ().iterator ();
+	while (iterator.hasNext ()) {
+		Map.Entry<Key, Entry> entry = iterator.next ();
+		if (entry.getKey ().font == font) {
+			OS.g_object_unref (entry.getValue ().layout);
+			iterator.remove ();
+		}
+	}
+}
+
+synchronized void dispose () {
+	for (Entry entry : layouts.values ()) {
+		OS.g_object_unref (entry.layout);
+	}
+	layouts.clear ();
+	for (int i = 0; i < contexts.length; i++) {
+		if (contexts [i] != 0) OS.g_object_unref (contexts [i]);
+		contexts [i] = 0;
+	}
+}
+
+long getHitCount () {
+	return hits.sum ();
+}
+
+long getMissCount () {
+	return misses.sum ();
+}
+}
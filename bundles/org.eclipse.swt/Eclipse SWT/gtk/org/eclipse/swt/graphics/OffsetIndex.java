@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+import org.eclipse.swt.internal.*;
+
+/**
+ * This class maps between the UTF-16 offsets used by Java, the
+ * byte indices and the character offsets used by Pango in the
+ * UTF-8 text of a layout.
+ * <p>
+ * The text is split into runs of characters that have the same
+ * length in UTF-8, so that a run of ASCII or of CJK characters is
+ * a single run, and every conversion is a binary search over the
+ * runs. The results are the same as the ones of the native
+ * functions that walk the text, like <code>g_utf16_offset_to_pointer</code>:
+ * an offset in the middle of a character is moved to the end of the
+ * character and an offset after the text is moved to its end.
+ * </p>
+ */
+final class OffsetIndex {
+	/* the first UTF-16 offset, byte index and character offset of every run */
+	int [] offsets, indices, chars;
+	/* the number of bytes of the characters of every run */
+	byte [] sizes;
+	int count;
+	int length, byteLength, charLength;
+
+OffsetIndex (long ptr) {
+	int strlen = C.strlen (ptr);
+	byte [] text = new byte [strlen];
+	C.memmove (text, ptr, strlen);
+	offsets = new int [4];
+	indices = new int [4];
+	chars = new int [4];
+	sizes = new byte [4];
+	int index = 0;
+	while (index < strlen) {
+		int lead = text [index] & 0xFF;
+		/* the same lengths as g_utf8_next_char() */
+		int size = lead < 0xC0 ? 1 : lead < 0xE0 ? 2 : lead < 0xF0 ? 3 : lead < 0xF8 ? 4 : lead < 0xFC ? 5 : lead < 0xFE ? 6 : 1;
+		if (count == 0 || sizes [count - 1] != size) {
+			if (count == offsets.length) {
+				int newLength = count * 2;
+				int [] newOffsets = new int [newLength];
+				System.arraycopy (offsets, 0, newOffsets, 0, count);
+				offsets = newOffsets;
+				int [] newIndices = new int [newLength];
+				System.arraycopy (indices, 0, newIndices, 0, count);
+				indices = newIndices;
+				int [] newChars = new int [newLength];
+				System.arraycopy (chars, 0, newChars, 0, count);
+				chars = newChars;
+				byte [] newSizes = new byte [newLength];
+				System.arraycopy (sizes, 0, newSizes, 0, count);
+				sizes = newSizes;
+			}
+			offsets [count] = length;
+			indices [count] = index;
+			chars [count] = charLength;
+			sizes [count] = (byte) size;
+			count++;
+		}
+		length += units (size);
+		charLength++;
+		index += size;
+	}
+	byteLength = strlen;
+}
+
+/* characters of four bytes or more are surrogate pairs in UTF-16 */
+static int units (int size) {
+	return size >= 4 ? 2 : 1;
+}
+
+/* the last run that starts at or before the value */
+int find (int [] starts, int value) {
+	int low = 0, high = count - 1;
+	while (low < high) {
+		int mid = (low + high + 1) >>> 1;
+		if (starts [mid] <= value) {
+			low = mid;
+		} else {
+			high = mid - 1;
+		}
+	}
+	return low;
+}
+
+/**
+ * Returns the byte index of the UTF-16 offset, like
+ * <code>g_utf16_offset_to_pointer (ptr, offset) - ptr</code>.
+ */
+int byteIndex (int offset) {
+	if (offset <= 0) return 0;
+	if (offset >= length) return byteLength;
+	int run = find (offsets, offset);
+	int units = units (sizes [run]);
+	return indices [run] + (offset - offsets [run] + units - 1) / units * sizes [run];
+}
+
+/**
+ * Returns the UTF-16 offset of the byte index, like
+ * <code>g_utf16_pointer_to_offset (ptr, ptr + index)</code>.
+ */
+int offset (int index) {
+	if (index <= 0) return 0;
+	if (index >= byteLength) return length;
+	int run = find (indices, index);
+	int size = sizes [run];
+	return offsets [run] + (index - indices [run] + size - 1) / size * units (size);
+}
+
+/**
+ * Returns the character offset of the UTF-16 offset, like
+ * <code>g_utf16_offset_to_utf8_offset (ptr, offset)</code>.
+ */
+int charOffset (int offset) {
+	if (offset <= 0) return 0;
+	if (offset >= length) return charLength;
+	int run = find (offsets, offset);
+	int units = units (sizes [run]);
+	return chars [run] + (offset - offsets [run] + units - 1) / units;
+}
+
+/**
+ * Returns the character offset of the byte index, like
+ * <code>g_utf8_pointer_to_offset (ptr, ptr + index)</code>.
+ */
+int charOffsetOfIndex (int index) {
+	if (index <= 0) return 0;
+	if (index >= byteLength) return charLength;
+	int run = find (indices, index);
+	int size = sizes [run];
+	return chars [run] + (index - indices [run] + size - 1) / size;
+}
+
+/**
+ * Returns the UTF-16 offset of the character offset, like
+ * <code>g_utf8_offset_to_utf16_offset (ptr, offset)</code>.
+ */
+int offsetOfChar (int charOffset) {
+	if (charOffset <= 0) return 0;
+	if (charOffset >= charLength) return length;
+	int run = find (chars, charOffset);
+	return offsets [run] + (charOffset - chars [run]) * units (sizes [run]);
+}
+}
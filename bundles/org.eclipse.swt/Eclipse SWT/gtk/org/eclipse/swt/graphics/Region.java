@@ -15,6 +15,7 @@ package org.eclipse.swt.graphics;
 
 
 import org.eclipse.swt.*;
+import org.eclipse.swt.internal.*;
 import org.eclipse.swt.internal.cairo.*;
 import org.eclipse.swt.internal.gtk.*;
 
@@ -46,6 +47,16 @@ public final class Region extends Resource {
 	 */
 	public long handle;
 
+	/*
+	 * The area of the region as bands of rectangles, or null when only the
+	 * native region knows it. The operations on rectangles and regions are
+	 * done on the bands, and the native region is only updated when it is
+	 * needed, like when the region is used to clip a GC.
+	 */
+	RegionBands bands;
+	/* whether the native region holds the same area as the bands */
+	boolean nativeValid;
+
 /**
  * Constructs a new empty region.
  * <p>
@@ -85,12 +96,73 @@ public Region(Device device) {
 	super(device);
 	handle = Cairo.cairo_region_create();
 	if (handle == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	bands = new RegionBands();
+	nativeValid = true;
 	init();
 }
 
 Region(Device device, long handle) {
 	super(device);
 	this.handle = handle;
+	nativeValid = true;
+}
+
+static RegionBands bands(long region) {
+	int count = Cairo.cairo_region_num_rectangles(region);
+	int[] rectangles = new int[count * 4];
+	if (count > 0) {
+		long[] buffer = new long[1];
+		cairo_region_get_rectangles(region, buffer, null);
+		C.memmove(rectangles, buffer[0], count * cairo_rectangle_int_t.sizeof);
+		OS.g_free(buffer[0]);
+	}
+	return RegionBands.fromRectangles(rectangles, count);
+}
+
+/* Returns the bands of the region, reading them from the native region if needed */
+RegionBands bands() {
+	if (bands == null) bands = bands(handle);
+	return bands;
+}
+
+void setBands(RegionBands bands) {
+	this.bands = bands;
+	nativeValid = false;
+}
+
+/* Returns the native region, after updating it with the bands if needed */
+long nativeHandle() {
+	if (!nativeValid) {
+		Cairo.cairo_region_subtract(handle, handle);
+		cairo_rectangle_int_t rect = new cairo_rectangle_int_t();
+		int[] rects = bands.rects;
+		for (int i = 0; i < bands.count * 4; i += 4) {
+			rect.x = rects[i];
+			rect.y = rects[i + 1];
+			rect.width = rects[i + 2] - rects[i];
+			rect.height = rects[i + 3] - rects[i + 1];
+			Cairo.cairo_region_union_rectangle(handle, rect);
+		}
+		nativeValid = true;
+	}
+	return handle;
+}
+
+/* Returns the native region for the caller to change it, the bands are read from it again afterwards */
+long nativeHandleForUpdate() {
+	long handle = nativeHandle();
+	bands = null;
+	return handle;
+}
+
+void combine(RegionBands other, int op) {
+	setBands(RegionBands.combine(bands(), other, op));
+}
+
+void combine(int[] pointArray, int op) {
+	long polyRgn = gdk_region_polygon(pointArray, pointArray.length / 2, GDK.GDK_EVEN_ODD_RULE);
+	combine(bands(polyRgn), op);
+	Cairo.cairo_region_destroy(polyRgn);
 }
 
 static long gdk_region_polygon(int[] pointArray, int npoints, int fill_rule) {
@@ -161,9 +233,7 @@ public void add (int[] pointArray) {
 	* with enough points for a polygon.
 	*/
 	if (pointArray.length < 6) return;
-	long polyRgn = gdk_region_polygon(pointArray, pointArray.length / 2, GDK.GDK_EVEN_ODD_RULE);
-	Cairo.cairo_region_union(handle, polyRgn);
-	Cairo.cairo_region_destroy(polyRgn);
+	combine(pointArray, RegionBands.UNION);
 }
 
 /**
@@ -207,12 +277,8 @@ public void add(Rectangle rect) {
 public void add(int x, int y, int width, int height) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (width < 0 || height < 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	cairo_rectangle_int_t rect = new cairo_rectangle_int_t();
-	rect.x = x;
-	rect.y = y;
-	rect.width = width;
-	rect.height = height;
-	Cairo.cairo_region_union_rectangle(handle, rect);
+	if (width == 0 || height == 0) return;
+	combine(RegionBands.rectangle(x, y, width, height), RegionBands.UNION);
 }
 
 /**
@@ -234,7 +300,7 @@ public void add(Region region) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (region == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (region.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	Cairo.cairo_region_union(handle, region.handle);
+	combine(region.bands(), RegionBands.UNION);
 }
 
 /**
@@ -252,7 +318,7 @@ public void add(Region region) {
  */
 public boolean contains(int x, int y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
-	return Cairo.cairo_region_contains_point(handle, x, y);
+	return bands().contains(x, y);
 }
 
 /**
@@ -312,9 +378,7 @@ public boolean equals(Object object) {
  */
 public Rectangle getBounds() {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
-	cairo_rectangle_int_t rect = new cairo_rectangle_int_t();
-	Cairo.cairo_region_get_extents(handle, rect);
-	return new Rectangle(rect.x, rect.y, rect.width, rect.height);
+	return bands().getBounds();
 }
 
 /**
@@ -337,6 +401,26 @@ public static Region gtk_new(Device device, long handle) {
 	return new Region(device, handle);
 }
 
+/**
+ * Invokes platform specific functionality to get the native region
+ * of a region, which holds the area of the region.
+ * <p>
+ * <b>IMPORTANT:</b> This method is <em>not</em> part of the public
+ * API for <code>Region</code>. It is marked public only so that it
+ * can be shared within the packages provided by SWT. It is not
+ * available on all platforms, and should never be called from
+ * application code.
+ * </p>
+ *
+ * @param region the region
+ * @return the handle of the native region
+ *
+ * @noreference This method is not intended to be referenced by clients.
+ */
+public static long gtk_getHandle(Region region) {
+	return region.nativeHandle();
+}
+
 /**
  * Returns an integer hash code for the receiver. Any two
  * objects that return <code>true</code> when passed to
@@ -395,14 +479,7 @@ public void intersect(Rectangle rect) {
 public void intersect(int x, int y, int width, int height) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (width < 0 || height < 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	cairo_rectangle_int_t rect = new cairo_rectangle_int_t();
-	rect.x = x;
-	rect.y = y;
-	rect.width = width;
-	rect.height = height;
-	long rectRgn = Cairo.cairo_region_create_rectangle(rect);
-	Cairo.cairo_region_intersect(handle, rectRgn);
-	Cairo.cairo_region_destroy(rectRgn);
+	combine(RegionBands.rectangle(x, y, width, height), RegionBands.INTERSECT);
 }
 
 /**
@@ -426,7 +503,7 @@ public void intersect(Region region) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (region == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (region.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	Cairo.cairo_region_intersect(handle, region.handle);
+	combine(region.bands(), RegionBands.INTERSECT);
 }
 
 /**
@@ -452,12 +529,7 @@ public boolean intersects (int x, int y, int width, int height) {
 }
 
 boolean intersectsInPixels (int x, int y, int width, int height) {
-	cairo_rectangle_int_t rect = new cairo_rectangle_int_t();
-	rect.x = x;
-	rect.y = y;
-	rect.width = width;
-	rect.height = height;
-	return Cairo.cairo_region_contains_rectangle(handle, rect) != Cairo.CAIRO_REGION_OVERLAP_OUT;
+	return bands().intersects(x, y, width, height);
 }
 /**
  * Returns <code>true</code> if the given rectangle intersects
@@ -514,7 +586,7 @@ public boolean isDisposed() {
  */
 public boolean isEmpty() {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
-	return Cairo.cairo_region_is_empty(handle);
+	return bands().isEmpty();
 }
 
 /**
@@ -541,9 +613,7 @@ public void subtract (int[] pointArray) {
 	* with enough points for a polygon.
 	*/
 	if (pointArray.length < 6) return;
-	long polyRgn = gdk_region_polygon(pointArray, pointArray.length / 2, GDK.GDK_EVEN_ODD_RULE);
-	Cairo.cairo_region_subtract(handle, polyRgn);
-	Cairo.cairo_region_destroy(polyRgn);
+	combine(pointArray, RegionBands.SUBTRACT);
 }
 /**
  * Subtracts the given rectangle from the collection of polygons
@@ -588,14 +658,8 @@ public void subtract(Rectangle rect) {
 public void subtract(int x, int y, int width, int height) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (width < 0 || height < 0) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	cairo_rectangle_int_t rect = new cairo_rectangle_int_t ();
-	rect.x = x;
-	rect.y = y;
-	rect.width = width;
-	rect.height = height;
-	long rectRgn = Cairo.cairo_region_create_rectangle(rect);
-	Cairo.cairo_region_subtract(handle, rectRgn);
-	Cairo.cairo_region_destroy(rectRgn);
+	if (width == 0 || height == 0) return;
+	combine(RegionBands.rectangle(x, y, width, height), RegionBands.SUBTRACT);
 }
 
 /**
@@ -619,7 +683,7 @@ public void subtract(Region region) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
 	if (region == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
 	if (region.isDisposed()) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
-	Cairo.cairo_region_subtract(handle, region.handle);
+	combine(region.bands(), RegionBands.SUBTRACT);
 }
 
 /**
@@ -637,7 +701,8 @@ public void subtract(Region region) {
  */
 public void translate (int x, int y) {
 	if (isDisposed()) SWT.error(SWT.ERROR_GRAPHIC_DISPOSED);
-	Cairo.cairo_region_translate (handle, x, y);
+	bands ().translate (x, y);
+	nativeValid = false;
 }
 
 /**
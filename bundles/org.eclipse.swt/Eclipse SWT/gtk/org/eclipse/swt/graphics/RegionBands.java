@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.graphics;
+
+/**
+ * This class holds an area as a list of rectangles in y-x bands, the
+ * same form as the one of cairo regions, so that a <code>Region</code>
+ * can be built and queried without a native call per rectangle.
+ * <p>
+ * The rectangles are sorted from top to bottom. The rectangles of a band
+ * have the same top and bottom, are sorted from left to right and do not
+ * touch. Two bands which touch vertically do not have the same rectangles,
+ * they would be a single band otherwise. So an area has a single list of
+ * rectangles, whatever operations built it.
+ * </p>
+ */
+final class RegionBands {
+	static final int UNION = 0;
+	static final int INTERSECT = 1;
+	static final int SUBTRACT = 2;
+
+	/* the left, top, right and bottom of every rectangle */
+	int [] rects;
+	int count;
+
+	/* the first rectangle of the last band while building */
+	int lastBand = -1;
+
+RegionBands () {
+	rects = new int [16];
+}
+
+RegionBands (int [] rects, int count) {
+	this.rects = rects;
+	this.count = count;
+}
+
+static RegionBands rectangle (int x, int y, int width, int height) {
+	if (width <= 0 || height <= 0) return new RegionBands ();
+	return new RegionBands (new int [] {x, y, x + width, y + height}, 1);
+}
+
+/*
+ * Returns the bands of the rectangles of a cairo region, given as
+ * x, y, width and height, which are already in y-x bands.
+ */
+static RegionBands fromRectangles (int [] rectangles, int count) {
+	int [] rects = new int [Math.max (count * 4, 16)];
+	for (int i = 0; i < count * 4; i += 4) {
+		rects [i] = rectangles [i];
+		rects [i + 1] = rectangles [i + 1];
+		rects [i + 2] = rectangles [i] + rectangles [i + 2];
+		rects [i + 3] = rectangles [i + 1] + rectangles [i + 3];
+	}
+	return new RegionBands (rects, count);
+}
+
+/* the index of the first rectangle of the band after the one of the rectangle */
+int nextBand (int index) {
+	int top = rects [index * 4 + 1];
+	int next = index + 1;
+	while (next < count && rects [next * 4 + 1] == top) next++;
+	return next;
+}
+
+/* the index of the first rectangle whose bottom is below y, or count */
+int findBand (int y) {
+	int low = 0, high = count;
+	while (low < high) {
+		int mid = (low + high) >>> 1;
+		if (rects [mid * 4 + 3] <= y) {
+			low = mid + 1;
+		} else {
+			high = mid;
+		}
+	}
+	return low;
+}
+
+/*
+ * Appends a band with the given spans, as left and right pairs, below
+ * the last band, or grows the last band when it has the same spans
+ * and touches the new one.
+ */
+void addBand (int top, int bottom, int [] spans, int length) {
+	if (length == 0 || top >= bottom) return;
+	int spanCount = length / 2;
+	if (lastBand != -1 && rects [lastBand * 4 + 3] == top && count - lastBand == spanCount) {
+		boolean same = true;
+		for (int i = 0; i < spanCount && same; i++) {
+			int index = (lastBand + i) * 4;
+			same = rects [index] == spans [i * 2] && rects [index + 2] == spans [i * 2 + 1];
+		}
+		if (same) {
+			for (int i = lastBand; i < count; i++) {
+				rects [i * 4 + 3] = bottom;
+			}
+			return;
+		}
+	}
+	if ((count + spanCount) * 4 > rects.length) {
+		int [] newRects = new int [Math.max (rects.length * 2, (count + spanCount) * 4)];
+		System.arraycopy (rects, 0, newRects, 0, count * 4);
+		rects = newRects;
+	}
+	lastBand = count;
+	for (int i = 0; i < spanCount; i++) {
+		int index = count * 4;
+		rects [index] = spans [i * 2];
+		rects [index + 1] = top;
+		rects [index + 2] = spans [i * 2 + 1];
+		rects [index + 3] = bottom;
+		count++;
+	}
+}
+
+/*
+ * Combines the spans of a band of each area, from start to end, and
+ * stores the resulting spans as left and right pairs.
+ */
+static int combineSpans (int [] a, int aStart, int aEnd, int [] b, int bStart, int bEnd, int op, int [] spans) {
+	int length = 0, start = 0;
+	int aEdges = (aEnd - aStart) * 2, bEdges = (bEnd - bStart) * 2;
+	int i = 0, j = 0;
+	boolean inA = false, inB = false, inside = false;
+	while (i < aEdges || j < bEdges) {
+		/* the left and right of the rectangles are the edges where the inside changes */
+		int aX = i < aEdges ? a [(aStart + i / 2) * 4 + (i & 1) * 2] : Integer.MAX_VALUE;
+		int bX = j < bEdges ? b [(bStart + j / 2) * 4 + (j & 1) * 2] : Integer.MAX_VALUE;
+		int x = Math.min (aX, bX);
+		if (aX == x) {
+			inA = !inA;
+			i++;
+		}
+		if (bX == x) {
+			inB = !inB;
+			j++;
+		}
+		boolean now;
+		switch (op) {
+			case UNION: now = inA || inB; break;
+			case INTERSECT: now = inA && inB; break;
+			default: now = inA && !inB; break;
+		}
+		if (now != inside) {
+			if (now) {
+				start = x;
+			} else {
+				spans [length++] = start;
+				spans [length++] = x;
+			}
+			inside = now;
+		}
+	}
+	return length;
+}
+
+/*
+ * Returns the union, the intersection or the difference of two areas,
+ * by combining the spans of the areas between every pair of successive
+ * tops and bottoms of their bands.
+ */
+static RegionBands combine (RegionBands a, RegionBands b, int op) {
+	RegionBands result = new RegionBands ();
+	int [] spans = new int [(a.count + b.count) * 2 + 2];
+	int ai = 0, bi = 0;
+	int y = Integer.MAX_VALUE;
+	if (a.count > 0) y = a.rects [1];
+	if (b.count > 0) y = Math.min (y, b.rects [1]);
+	while (true) {
+		/* skip the bands which end above y */
+		while (ai < a.count && a.rects [ai * 4 + 3] <= y) ai = a.nextBand (ai);
+		while (bi < b.count && b.rects [bi * 4 + 3] <= y) bi = b.nextBand (bi);
+		if (ai == a.count && bi == b.count) break;
+		if (op != UNION && ai == a.count) break;
+		boolean inA = ai < a.count && a.rects [ai * 4 + 1] <= y;
+		boolean inB = bi < b.count && b.rects [bi * 4 + 1] <= y;
+		int next = Integer.MAX_VALUE;
+		if (ai < a.count) next = Math.min (next, inA ? a.rects [ai * 4 + 3] : a.rects [ai * 4 + 1]);
+		if (bi < b.count) next = Math.min (next, inB ? b.rects [bi * 4 + 3] : b.rects [bi * 4 + 1]);
+		if (inA || inB) {
+			int aEnd = inA ? a.nextBand (ai) : ai, bEnd = inB ? b.nextBand (bi) : bi;
+			int length = combineSpans (a.rects, ai, aEnd, b.rects, bi, bEnd, op, spans);
+			result.addBand (y, next, spans, length);
+		}
+		y = next;
+	}
+	result.lastBand = -1;
+	return result;
+}
+
+boolean contains (int x, int y) {
+	int index = findBand (y);
+	if (index == count || rects [index * 4 + 1] > y) return false;
+	int end = nextBand (index);
+	for (int i = index; i < end; i++) {
+		if (rects [i * 4] > x) return false;
+		if (x < rects [i * 4 + 2]) return true;
+	}
+	return false;
+}
+
+boolean intersects (int x, int y, int width, int height) {
+	if (width <= 0 || height <= 0) return false;
+	int right = x + width, bottom = y + height;
+	for (int i = findBand (y); i < count; i++) {
+		int index = i * 4;
+		if (rects [index + 1] >= bottom) return false;
+		if (rects [index] < right && rects [index + 2] > x) return true;
+	}
+	return false;
+}
+
+boolean isEmpty () {
+	return count == 0;
+}
+
+Rectangle getBounds () {
+	if (count == 0) return new Rectangle (0, 0, 0, 0);
+	int left = rects [0], right = rects [2];
+	for (int i = 1; i < count; i++) {
+		left = Math.min (left, rects [i * 4]);
+		right = Math.max (right, rects [i * 4 + 2]);
+	}
+	int top = rects [1], bottom = rects [(count - 1) * 4 + 3];
+	return new Rectangle (left, top, right - left, bottom - top);
+}
+
+void translate (int dx, int dy) {
+	for (int i = 0; i < count * 4; i += 4) {
+		rects [i] += dx;
+		rects [i + 1] += dy;
+		rects [i + 2] += dx;
+		rects [i + 3] += dy;
+	}
+}
+}
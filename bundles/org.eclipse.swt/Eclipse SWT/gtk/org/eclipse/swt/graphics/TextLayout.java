@@ -62,6 +62,7 @@ public final class TextLayout extends Resource {
 	int stylesCount;
 	long layout, context, attrList, selAttrList;
 	int[] invalidOffsets;
+	OffsetIndex offsetIndex;
 	int verticalIndentInPoints;
 	MetricsAdapter metricsAdapter = new MetricsAdapter();
 	static final char LTR_MARK = '\u200E', RTL_MARK = '\u200F', ZWS = '\u200B', ZWNBS = '\uFEFF';
@@ -265,8 +266,9 @@ void checkLayout() {
 void computeRuns () {
 	if (attrList != 0) return;
 	String segmentsText = getSegmentsText();
-	byte[] buffer = Converter.wcsToMbcs(segmentsText, false);
-	OS.pango_layout_set_text (layout, buffer, buffer.length);
+	byte[] buffer = Converter.wcsToMbcsScratch(segmentsText);
+	OS.pango_layout_set_text (layout, buffer, -1);
+	offsetIndex = new OffsetIndex(OS.pango_layout_get_text(layout));
 	attrList = OS.pango_attr_list_new();
 	selAttrList = OS.pango_attr_list_new();
 	// pango_attr_insert_hyphens_new function is available only on Pango 1.44.0+
@@ -282,7 +284,6 @@ void computeRuns () {
 		OS.pango_layout_set_attributes(layout, attrList);
 		return;
 	}
-	long ptr = OS.pango_layout_get_text(layout);
 	PangoAttribute attribute = new PangoAttribute();
 	char[] chars = null;
 	int segementsLength = segmentsText.length();
@@ -323,7 +324,7 @@ void computeRuns () {
 			OS.memmove (attr, attribute, PangoAttribute.sizeof);
 			OS.pango_attr_list_insert(attrList, attr);
 			OS.pango_attr_list_insert(selAttrList, OS.pango_attribute_copy(attr));
-			int pos = (int)OS.g_utf16_pointer_to_offset(ptr, ptr + bytePos);
+			int pos = offsetIndex.offset(bytePos);
 			chars[pos + lineIndex * 2] = ZWS;
 			chars[pos + lineIndex * 2 + 1] = ZWNBS;
 			segmentsText.getChars(oldPos, pos, chars,  oldPos + lineIndex * 2);
@@ -332,9 +333,9 @@ void computeRuns () {
 			lineIndex++;
 		}
 		segmentsText.getChars(oldPos, segementsLength, chars,  oldPos + lineIndex * 2);
-		buffer = Converter.wcsToMbcs(chars, false);
-		OS.pango_layout_set_text (layout, buffer, buffer.length);
-		ptr = OS.pango_layout_get_text(layout);
+		buffer = Converter.wcsToMbcsScratch(chars);
+		OS.pango_layout_set_text (layout, buffer, -1);
+		offsetIndex = new OffsetIndex(OS.pango_layout_get_text(layout));
 		offsetCount += 2 * lineCount;
 	} else {
 		chars = new char[segementsLength];
@@ -357,7 +358,6 @@ void computeRuns () {
 			}
 		}
 	}
-	int strlen = C.strlen(ptr);
 	Font defaultFont = font != null ? font : device.systemFont;
 	for (int i = 0; i < stylesCount - 1; i++) {
 		StyleItem styleItem = styles[i];
@@ -365,10 +365,8 @@ void computeRuns () {
 		if (style == null) continue;
 		int start = translateOffset(styleItem.start);
 		int end = translateOffset(styles[i+1].start - 1);
-		int byteStart = (int)(OS.g_utf16_offset_to_pointer(ptr, start) - ptr);
-		int byteEnd = (int)(OS.g_utf16_offset_to_pointer(ptr, end + 1) - ptr);
-		byteStart = Math.min(byteStart, strlen);
-		byteEnd = Math.min(byteEnd, strlen);
+		int byteStart = offsetIndex.byteIndex(start);
+		int byteEnd = offsetIndex.byteIndex(end + 1);
 		Font font = style.font;
 		if (font != null && !font.isDisposed() && !defaultFont.equals(font)) {
 			long attr = OS.pango_attr_font_desc_new (font.handle);
@@ -645,7 +643,6 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 		PangoLogAttr logAttr = new PangoLogAttr();
 		PangoRectangle rect = new PangoRectangle();
 		int lineCount = OS.pango_layout_get_line_count(layout);
-		long ptr = OS.pango_layout_get_text(layout);
 		long iter = OS.pango_layout_get_iter(layout);
 		if (selectionBackground == null) selectionBackground = device.getSystemColor(SWT.COLOR_LIST_SELECTION);
 		Cairo.cairo_save(cairo);
@@ -657,9 +654,9 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 			metricsAdapter.pango_layout_iter_get_line_extents(iter, null, rect);
 			if (OS.pango_layout_iter_next_line(iter)) {
 				int bytePos = OS.pango_layout_iter_get_index(iter);
-				lineEnd = (int)OS.g_utf16_pointer_to_offset(ptr, ptr + bytePos);
+				lineEnd = offsetIndex.offset(bytePos);
 			} else {
-				lineEnd = (int)OS.g_utf16_strlen(ptr, -1);
+				lineEnd = offsetIndex.length;
 			}
 			if (lineIndex == lineCount - 1 && (flags & SWT.LAST_LINE_SELECTION) != 0) {
 				extent = true;
@@ -707,7 +704,7 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 	} else {
 		selectionStart = Math.min(Math.max(0, selectionStart), length - 1);
 		selectionEnd = Math.min(Math.max(0, selectionEnd), length - 1);
-		length = (int)OS.g_utf16_strlen(OS.pango_layout_get_text(layout), -1);
+		length = offsetIndex.length;
 		selectionStart = translateOffset(selectionStart);
 		selectionEnd = translateOffset(selectionEnd);
 		if (selectionForeground == null) selectionForeground = device.getSystemColor(SWT.COLOR_LIST_SELECTION_TEXT);
@@ -715,24 +712,19 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 		int yExtent = extent ? getSpacingInPixels() : 0;
 		boolean fullSelection = selectionStart == 0 && selectionEnd == length - 1;
 		if (fullSelection) {
-			long ptr = OS.pango_layout_get_text(layout);
 			if ((data.style & SWT.MIRRORED) != 0) {
 				Cairo.cairo_save(cairo);
 				Cairo.cairo_scale(cairo, -1,  1);
 				Cairo.cairo_translate(cairo, -2 * x - width(), 0);
 			}
-			drawWithCairo(gc, x, y, 0, C.strlen(ptr), yExtent, fullSelection, selectionForeground.handle,
+			drawWithCairo(gc, x, y, 0, offsetIndex.byteLength, yExtent, fullSelection, selectionForeground.handle,
 					selectionBackground.handle);
 			if ((data.style & SWT.MIRRORED) != 0) {
 				Cairo.cairo_restore(cairo);
 			}
 		} else {
-			long ptr = OS.pango_layout_get_text(layout);
-			int byteSelStart = (int)(OS.g_utf16_offset_to_pointer(ptr, selectionStart) - ptr);
-			int byteSelEnd = (int)(OS.g_utf16_offset_to_pointer(ptr, selectionEnd + 1) - ptr);
-			int strlen = C.strlen(ptr);
-			byteSelStart = Math.min(byteSelStart, strlen);
-			byteSelEnd = Math.min(byteSelEnd, strlen);
+			int byteSelStart = offsetIndex.byteIndex(selectionStart);
+			int byteSelEnd = offsetIndex.byteIndex(selectionEnd + 1);
 			if ((data.style & SWT.MIRRORED) != 0) {
 				Cairo.cairo_save(cairo);
 				Cairo.cairo_scale(cairo, -1,  1);
@@ -798,8 +790,8 @@ void drawBorder(GC gc, int x, int y, GdkRGBA selectionColor) {
 			}
 			start = translateOffset(start);
 			int end = translateOffset(styles[i+1].start - 1);
-			int byteStart = (int)(OS.g_utf16_offset_to_pointer(ptr, start) - ptr);
-			int byteEnd = (int)(OS.g_utf16_offset_to_pointer(ptr, end + 1) - ptr);
+			int byteStart = offsetIndex.byteIndex(start);
+			int byteEnd = offsetIndex.byteIndex(end + 1);
 			int[] ranges = new int[]{byteStart, byteEnd};
 			long rgn = metricsAdapter.gdk_pango_layout_get_clip_region(layout, x, y, ranges, ranges.length / 2);
 			if (rgn != 0) {
@@ -853,6 +845,7 @@ void freeRuns() {
 		selAttrList = 0;
 	}
 	invalidOffsets = null;
+	offsetIndex = null;
 }
 
 /**
@@ -960,12 +953,8 @@ Rectangle getBoundsInPixels(int start, int end) {
 	end = Math.min(Math.max(0, end), length - 1);
 	start = translateOffset(start);
 	end = translateOffset(end);
-	long ptr = OS.pango_layout_get_text(layout);
-	int byteStart = (int)(OS.g_utf16_offset_to_pointer (ptr, start) - ptr);
-	int byteEnd = (int)(OS.g_utf16_offset_to_pointer (ptr, end + 1) - ptr);
-	int strlen = C.strlen(ptr);
-	byteStart = Math.min(byteStart, strlen);
-	byteEnd = Math.min(byteEnd, strlen);
+	int byteStart = offsetIndex.byteIndex(start);
+	int byteEnd = offsetIndex.byteIndex(end + 1);
 	int[] ranges = new int[]{byteStart, byteEnd};
 	long clipRegion = metricsAdapter.gdk_pango_layout_get_clip_region(layout, 0, 0, ranges, 1);
 	if (clipRegion == 0) return new Rectangle(0, 0, 0, 0);
@@ -987,7 +976,7 @@ Rectangle getBoundsInPixels(int start, int end) {
 		if (OS.pango_layout_iter_next_line(iter)) {
 			lineEnd = OS.pango_layout_iter_get_index(iter) - 1;
 		} else {
-			lineEnd = strlen;
+			lineEnd = offsetIndex.byteLength;
 		}
 		if (byteStart > lineEnd) continue;
 		rect.x = OS.PANGO_PIXELS(pangoRect.x);
@@ -1101,10 +1090,7 @@ public int getLevel(int offset) {
 	int level = 0;
 	PangoItem item = new PangoItem();
 	PangoLayoutRun run = new PangoLayoutRun();
-	long ptr = OS.pango_layout_get_text(layout);
-	long byteOffset = OS.g_utf16_offset_to_pointer(ptr, offset) - ptr;
-	int strlen = C.strlen(ptr);
-	byteOffset = Math.min(byteOffset, strlen);
+	long byteOffset = offsetIndex.byteIndex(offset);
 	do {
 		long runPtr = OS.pango_layout_iter_get_run(iter);
 		if (runPtr != 0) {
@@ -1203,10 +1189,7 @@ public int getLineIndex(int offset) {
 	if (!(0 <= offset && offset <= length)) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 	offset = translateOffset(offset);
 	int line = 0;
-	long ptr = OS.pango_layout_get_text(layout);
-	long byteOffset = OS.g_utf16_offset_to_pointer(ptr,offset) - ptr;
-	int strlen = C.strlen(ptr);
-	byteOffset = Math.min(byteOffset, strlen);
+	long byteOffset = offsetIndex.byteIndex(offset);
 	long iter = OS.pango_layout_get_iter(layout);
 	if (iter == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	while (OS.pango_layout_iter_next_line(iter)) {
@@ -1284,12 +1267,11 @@ public int[] getLineOffsets() {
 	computeRuns();
 	int lineCount = OS.pango_layout_get_line_count(layout);
 	int[] offsets = new int [lineCount + 1];
-	long ptr = OS.pango_layout_get_text(layout);
 	PangoLayoutLine line = new PangoLayoutLine();
 	for (int i = 0; i < lineCount; i++) {
 		long linePtr = OS.pango_layout_get_line(layout, i);
 		OS.memmove(line, linePtr, PangoLayoutLine.sizeof);
-		int pos = (int)OS.g_utf16_pointer_to_offset(ptr, ptr + line.start_index);
+		int pos = offsetIndex.offset(line.start_index);
 		offsets[i] = untranslateOffset(pos);
 	}
 	offsets[lineCount] = text.length();
@@ -1322,10 +1304,7 @@ Point getLocationInPixels(int offset, boolean trailing) {
 	int length = text.length();
 	if (!(0 <= offset && offset <= length)) SWT.error(SWT.ERROR_INVALID_RANGE);
 	offset = translateOffset(offset);
-	long ptr = OS.pango_layout_get_text(layout);
-	int byteOffset = (int)(OS.g_utf16_offset_to_pointer(ptr, offset) - ptr);
-	int strlen = C.strlen(ptr);
-	byteOffset = Math.min(byteOffset, strlen);
+	int byteOffset = offsetIndex.byteIndex(offset);
 	PangoRectangle pos = new PangoRectangle();
 	OS.pango_layout_index_to_pos(layout, byteOffset, pos);
 	int x = trailing ? pos.x + pos.width : pos.x;
@@ -1378,9 +1357,8 @@ int _getOffset (int offset, int movement, boolean forward) {
 	OS.pango_layout_get_log_attrs(layout, attrs, nAttrs);
 	if (attrs[0] == 0) return offset + step;
 
-	long ptr = OS.pango_layout_get_text(layout);
-	int utf8Offset = (int)OS.g_utf16_offset_to_utf8_offset (ptr, translateOffset(offset));
-	int utf8Length = (int)OS.g_utf8_strlen(ptr, -1);
+	int utf8Offset = offsetIndex.charOffset(translateOffset(offset));
+	int utf8Length = offsetIndex.charLength;
 	utf8Offset += step;
 	PangoLogAttr logAttr = new PangoLogAttr();
 	while (0 <= utf8Offset && utf8Offset <= utf8Length) {
@@ -1408,7 +1386,7 @@ int _getOffset (int offset, int movement, boolean forward) {
 			if (utf8Offset == 0) limit = true;
 		}
 		if (found || limit) {
-			int testOffset = (int)OS.g_utf8_offset_to_utf16_offset (ptr, utf8Offset);
+			int testOffset = offsetIndex.offsetOfChar(utf8Offset);
 			if (found && invalidOffsets != null) {
 				for (int i = 0; i < invalidOffsets.length; i++) {
 					if (testOffset == invalidOffsets[i]) {
@@ -1524,12 +1502,11 @@ int getOffsetInPixels(int x, int y, int[] trailing) {
 	int[] index = new int[1];
 	int[] piTrailing = new int[1];
 	OS.pango_layout_xy_to_index(layout, x * OS.PANGO_SCALE, y * OS.PANGO_SCALE, index, piTrailing);
-	long ptr = OS.pango_layout_get_text(layout);
-	int offset = (int)OS.g_utf16_pointer_to_offset(ptr, ptr + index[0]);
+	int offset = offsetIndex.offset(index[0]);
 	if (trailing != null) {
 		trailing[0] = piTrailing[0];
 		if (piTrailing[0] != 0) {
-			trailing[0] = (int)OS.g_utf8_offset_to_utf16_offset(ptr, OS.g_utf8_pointer_to_offset(ptr, ptr + index[0]) + piTrailing[0]) - offset;
+			trailing[0] = offsetIndex.offsetOfChar(offsetIndex.charOffsetOfIndex(index[0]) + piTrailing[0]) - offset;
 		}
 	}
 	return untranslateOffset(offset);
@@ -17,6 +17,7 @@ package org.eclipse.swt.internal;
 import java.io.*;
 import java.nio.*;
 import java.nio.charset.*;
+import java.util.*;
 
 import org.eclipse.swt.internal.gtk.*;
 
@@ -84,6 +85,8 @@ import org.eclipse.swt.internal.gtk.*;
  * - Glib has some conversion functions:
  *   g_utf16_to_utf8
  *   g_utf8_to_utf16
+ *   This class converts in Java instead, with the same results as these functions (see encode() and decode()),
+ *   so that converting a string needs neither native memory nor JNI calls.
  *
  * - So does java: (e.g null terminated UTF-8)
  *   ("myString" + '\0').getBytes(StandardCharsets.UTF-8)
@@ -119,6 +122,16 @@ public final class Converter {
 	public static final byte [] EmptyByteArray = new byte [0];
 	public static final char [] EmptyCharArray = new char [0];
 
+	/* Buffers reused by the conversions of a thread, larger buffers are not kept */
+	static final int MAX_BUFFER_SIZE = 64 * 1024;
+	private static final class Buffers {
+		byte [] encoded = new byte [256];
+		byte [] scratch = new byte [256];
+		byte [] bytes = new byte [256];
+		char [] chars = new char [256];
+	}
+	private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial (Buffers::new);
+
 
 /**
  * Convert a "C" multibyte UTF-8 string byte array into a Java UTF-16 Wide character array.
@@ -127,14 +140,24 @@ public final class Converter {
  * @return char array representing the string. Usually used for String construction like: new String(mbcsToWcs(..))
  */
 public static char [] mbcsToWcs (byte [] buffer) {
-	long [] items_written = new long [1];
-	long ptr = OS.g_utf8_to_utf16 (buffer, buffer.length, null, items_written, null);
-	if (ptr == 0) return EmptyCharArray;
-	int length = (int)items_written [0];
+	return mbcsToWcs (buffer, buffer.length);
+}
+
+/**
+ * Convert the first <code>length</code> bytes of a "C" multibyte UTF-8 string byte array into a Java UTF-16 Wide character array.
+ *
+ * Like g_utf8_to_utf16(), this algorithm stops when it finds the first NULL character, and returns an empty
+ * array when the bytes are not valid UTF-8.
+ *
+ * @param buffer - byte buffer with C bytes representing a string.
+ * @param length - the number of bytes to convert.
+ * @return char array representing the string.
+ */
+public static char [] mbcsToWcs (byte [] buffer, int length) {
 	char [] chars = new char [length];
-	C.memmove (chars, ptr, length * 2);
-	OS.g_free (ptr);
-	return chars;
+	int count = decode (buffer, length, chars);
+	if (count <= 0) return EmptyCharArray;
+	return count == length ? chars : Arrays.copyOf (chars, count);
 }
 
 /**
@@ -149,10 +172,50 @@ public static char [] mbcsToWcs (byte [] buffer) {
  * @return byte array that can be passed to a native function.
  */
 public static byte [] wcsToMbcs (String string, boolean terminate) {
-	int length = string.length ();
-	char [] buffer = new char [length];
-	string.getChars (0, length, buffer, 0);
-	return wcsToMbcs (buffer, terminate);
+	return wcsToMbcs (string, null, string.length (), terminate);
+}
+
+/**
+ * Convert a Java UTF-16 Wide character string into a null terminated C UTF-8 Multibyte byte array
+ * that belongs to the calling thread. Use it for native functions which copy the string, passing
+ * <code>-1</code> as the length of the string.
+ *
+ * The array is overwritten by the next call of this method in the same thread, so it must not be
+ * kept or used after another conversion.
+ *
+ * @param string - a regular Java String
+ * @return byte array that can be passed to a native function.
+ */
+public static byte [] wcsToMbcsScratch (String string) {
+	return wcsToMbcsScratch (string, null, string.length ());
+}
+
+/**
+ * Convert a Java UTF-16 Wide character array into a null terminated C UTF-8 Multibyte byte array
+ * that belongs to the calling thread. Use it for native functions which copy the string, passing
+ * <code>-1</code> as the length of the string.
+ *
+ * The array is overwritten by the next call of this method in the same thread, so it must not be
+ * kept or used after another conversion.
+ *
+ * @param chars - a regular Java String
+ * @return byte array that can be passed to a native function.
+ */
+public static byte [] wcsToMbcsScratch (char [] chars) {
+	return wcsToMbcsScratch (null, chars, chars.length);
+}
+
+static byte [] wcsToMbcsScratch (String string, char [] chars, int length) {
+	int size = length * 3 + 1;
+	Buffers buffers = BUFFERS.get ();
+	byte [] bytes = buffers.scratch;
+	if (bytes.length < size) {
+		bytes = new byte [size];
+		if (size <= MAX_BUFFER_SIZE) buffers.scratch = bytes;
+	}
+	int count = encode (string, chars, length, bytes);
+	bytes [Math.max (count, 0)] = 0;
+	return bytes;
 }
 
 /**
@@ -182,12 +245,23 @@ public static byte [] javaStringToCString (String string) {
  */
 public static String cCharPtrToJavaString(long cCharPtr, boolean freecCharPtr) {
 	int length = C.strlen (cCharPtr);
-	byte[] buffer = new byte [length];
-	C.memmove (buffer, cCharPtr, length);
+	Buffers buffers = BUFFERS.get ();
+	byte [] bytes = buffers.bytes;
+	char [] chars = buffers.chars;
+	if (bytes.length < length) {
+		bytes = new byte [length];
+		chars = new char [length];
+		if (length <= MAX_BUFFER_SIZE) {
+			buffers.bytes = bytes;
+			buffers.chars = chars;
+		}
+	}
+	C.memmove (bytes, cCharPtr, length);
 	if (freecCharPtr) {
 		OS.g_free (cCharPtr);
 	}
-	return new String (mbcsToWcs (buffer));
+	int count = decode (bytes, length, chars);
+	return count <= 0 ? "" : new String (chars, 0, count);
 }
 
 /**
@@ -201,18 +275,115 @@ public static String cCharPtrToJavaString(long cCharPtr, boolean freecCharPtr) {
  * @return byte array that can be passed to a native function.
  */
 public static byte [] wcsToMbcs (char [] chars, boolean terminate) {
-	long [] items_read = new long [1], items_written = new long [1];
-	/*
-	* Note that g_utf16_to_utf8()  stops converting
-	* when it finds the first NULL.
-	*/
-	long ptr = OS.g_utf16_to_utf8 (chars, chars.length, items_read, items_written, null);
-	if (ptr == 0) return terminate ? NullByteArray : EmptyByteArray;
-	int written = (int)items_written [0];
-	byte [] bytes = new byte [written + (terminate ? 1 : 0)];
-	C.memmove (bytes, ptr, written);
-	OS.g_free (ptr);
-	return bytes;
+	return wcsToMbcs (null, chars, chars.length, terminate);
+}
+
+static byte [] wcsToMbcs (String string, char [] chars, int length, boolean terminate) {
+	int size = length * 3 + 1;
+	Buffers buffers = BUFFERS.get ();
+	byte [] bytes = buffers.encoded;
+	if (bytes.length < size) {
+		bytes = new byte [size];
+		if (size <= MAX_BUFFER_SIZE) buffers.encoded = bytes;
+	}
+	int count = encode (string, chars, length, bytes);
+	if (count == -1) return terminate ? NullByteArray : EmptyByteArray;
+	bytes [count] = 0;
+	return Arrays.copyOf (bytes, count + (terminate ? 1 : 0));
+}
+
+/*
+* Encodes the first length characters of the string, or of the chars when
+* the string is null, into UTF-8. The bytes must hold three bytes for every
+* character. Returns the number of bytes written, or -1 when the characters
+* are not valid UTF-16.
+*
+* Like g_utf16_to_utf8() when it is asked for the number of characters read,
+* the conversion stops at the first NULL character, a low surrogate that does
+* not follow a high surrogate or a high surrogate that is not followed by a
+* low surrogate is an error, and a high surrogate at the end is dropped.
+*/
+static int encode (String string, char [] chars, int length, byte [] bytes) {
+	int count = 0;
+	for (int i = 0; i < length; i++) {
+		char ch = string != null ? string.charAt (i) : chars [i];
+		if (ch == 0) break;
+		if (ch < 0x80) {
+			bytes [count++] = (byte) ch;
+		} else if (ch < 0x800) {
+			bytes [count++] = (byte) (0xC0 | (ch >> 6));
+			bytes [count++] = (byte) (0x80 | (ch & 0x3F));
+		} else if (Character.isHighSurrogate (ch)) {
+			if (i + 1 == length) break;
+			char low = string != null ? string.charAt (i + 1) : chars [i + 1];
+			if (low == 0) break;
+			if (!Character.isLowSurrogate (low)) return -1;
+			int codePoint = Character.toCodePoint (ch, low);
+			bytes [count++] = (byte) (0xF0 | (codePoint >> 18));
+			bytes [count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+			bytes [count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+			bytes [count++] = (byte) (0x80 | (codePoint & 0x3F));
+			i++;
+		} else if (Character.isLowSurrogate (ch)) {
+			return -1;
+		} else {
+			bytes [count++] = (byte) (0xE0 | (ch >> 12));
+			bytes [count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+			bytes [count++] = (byte) (0x80 | (ch & 0x3F));
+		}
+	}
+	return count;
+}
+
+/*
+* Decodes the first length bytes from UTF-8. The chars must hold one
+* character for every byte. Returns the number of characters written,
+* or -1 when the bytes are not valid UTF-8.
+*
+* Like g_utf8_to_utf16() when it is not asked for the number of bytes
+* read, the conversion stops at the first NULL character, and overlong
+* or truncated sequences, surrogates and code points above U+10FFFF are
+* errors.
+*/
+static int decode (byte [] bytes, int length, char [] chars) {
+	int count = 0, i = 0;
+	while (i < length) {
+		int lead = bytes [i] & 0xFF;
+		if (lead == 0) break;
+		if (lead < 0x80) {
+			chars [count++] = (char) lead;
+			i++;
+			continue;
+		}
+		int size, codePoint, min;
+		if (lead < 0xC0) {
+			return -1;
+		} else if (lead < 0xE0) {
+			size = 2; codePoint = lead & 0x1F; min = 0x80;
+		} else if (lead < 0xF0) {
+			size = 3; codePoint = lead & 0x0F; min = 0x800;
+		} else if (lead < 0xF8) {
+			size = 4; codePoint = lead & 0x07; min = 0x10000;
+		} else {
+			/* sequences of five or six bytes are beyond U+10FFFF */
+			return -1;
+		}
+		if (i + size > length) return -1;
+		for (int j = 1; j < size; j++) {
+			int trail = bytes [i + j] & 0xFF;
+			if ((trail & 0xC0) != 0x80) return -1;
+			codePoint = (codePoint << 6) | (trail & 0x3F);
+		}
+		if (codePoint < min || (codePoint >= 0xD800 && codePoint <= 0xDFFF) || codePoint > Character.MAX_CODE_POINT) return -1;
+		if (codePoint < 0x10000) {
+			chars [count++] = (char) codePoint;
+		} else {
+			chars [count++] = Character.highSurrogate (codePoint);
+			chars [count++] = Character.lowSurrogate (codePoint);
+		}
+		i += size;
+	}
+	return count;
 }
 
 
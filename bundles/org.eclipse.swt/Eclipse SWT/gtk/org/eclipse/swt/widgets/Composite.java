@@ -71,7 +71,8 @@ public class Composite extends Scrollable {
 	long imHandle, socketHandle;
 	Layout layout;
 	Control[] tabList;
-	int layoutCount, backgroundMode;
+	int layoutCount, boundsCount, backgroundMode;
+	Map<Control, Rectangle> deferredBounds;
 	/**
 	 * When this field is set, it indicates that a child widget of this Composite
 	 * needs to have its clip set to its allocation. This is because on GTK3.20+
@@ -820,6 +821,26 @@ public Layout getLayout () {
 	return layout;
 }
 
+/**
+ * Returns <code>true</code> if the receiver has deferred changes
+ * to the bounds of its children, and <code>false</code> otherwise.
+ *
+ * @return the receiver's deferred child bounds state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setChildBoundsDeferred(boolean)
+ *
+ * @since 3.133
+ */
+public boolean getChildBoundsDeferred () {
+	checkWidget ();
+	return boundsCount > 0;
+}
+
 /**
  * Returns <code>true</code> if the receiver has deferred
  * the performing of layout, and <code>false</code> otherwise.
@@ -1577,6 +1598,7 @@ void releaseWidget () {
 	imHandle = 0;
 	layout = null;
 	tabList = null;
+	deferredBounds = null;
 }
 
 void removeControl (Control control) {
@@ -1683,6 +1705,64 @@ public void setLayout (Layout layout) {
 	this.layout = layout;
 }
 
+/**
+ * If the argument is <code>true</code>, causes subsequent changes to
+ * the bounds of the children of the receiver made with
+ * <code>setBounds</code> to be collected instead of applied. When the
+ * flag is set to <code>false</code>, the collected bounds are applied
+ * in a single pass, and <code>Move</code> and <code>Resize</code> events
+ * are sent at that time for the children whose bounds changed. Querying
+ * the bounds, the location or the size of a child, or setting only its
+ * location or its size, applies the bounds collected for that child
+ * first. Nested calls to this method are stacked.
+ * <p>
+ * Layout passes do not defer the bounds of the children by themselves.
+ * Applications laying out or positioning many children can wrap that code
+ * in calls to this method, so that each child is moved and resized
+ * natively at most once.
+ * </p>
+ *
+ * @param defer the new defer state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see Control#setBounds(int, int, int, int)
+ * @see #setLayoutDeferred(boolean)
+ *
+ * @since 3.133
+ */
+public void setChildBoundsDeferred (boolean defer) {
+	checkWidget ();
+	deferChildBounds (defer);
+}
+
+void deferChildBounds (boolean defer) {
+	if (defer) {
+		boundsCount++;
+	} else {
+		if (boundsCount > 0 && --boundsCount == 0 && deferredBounds != null) {
+			Map<Control, Rectangle> bounds = deferredBounds;
+			deferredBounds = null;
+			for (Map.Entry<Control, Rectangle> entry : bounds.entrySet ()) {
+				if (isDisposed ()) return;
+				Control child = entry.getKey ();
+				Rectangle rect = entry.getValue ();
+				if (!child.isDisposed () && child.parent == this) {
+					child.setBounds (rect.x, rect.y, rect.width, rect.height, true, true);
+				}
+			}
+		}
+	}
+}
+
+void applyDeferredBounds (Control child) {
+	Rectangle rect = deferredBounds.remove (child);
+	if (rect != null) child.setBounds (rect.x, rect.y, rect.width, rect.height, true, true);
+}
+
 /**
  * If the argument is <code>true</code>, causes subsequent layout
  * operations in the receiver or any of its children to be ignored.
@@ -784,7 +784,16 @@ void createWidget(int index) {
 	checkBuffered();
 	showWidget();
 	setInitialBounds();
-	setZOrder(null, false, false);
+	/*
+	* Querying the native window of the control to lower it realizes the
+	* control and all its ancestors. When lazy realization is enabled and the
+	* control is not realized yet, the control is lowered when it is realized.
+	*/
+	if (!GTK.GTK4 && Display.LAZY_REALIZE && !GTK.gtk_widget_get_realized (topHandle ())) {
+		state |= ZORDER_PENDING;
+	} else {
+		setZOrder(null, false, false);
+	}
 	if (!GTK.GTK4) setRelations();
 	checkMirrored();
 	checkBorder();
@@ -927,6 +936,7 @@ Accessible _getAccessible () {
  */
 public Rectangle getBounds () {
 	checkWidget();
+	applyDeferredBounds ();
 	return getBoundsInPixels();
 }
 
@@ -969,7 +979,9 @@ Rectangle getBoundsInPixels () {
 public void setBounds (Rectangle rect) {
 	checkWidget ();
 	if (rect == null) error (SWT.ERROR_NULL_ARGUMENT);
-	setBounds (rect.x, rect.y, Math.max (0, rect.width), Math.max (0, rect.height), true, true);
+	int width = Math.max (0, rect.width), height = Math.max (0, rect.height);
+	if (deferBounds (rect.x, rect.y, width, height)) return;
+	setBounds (rect.x, rect.y, width, height, true, true);
 }
 
 void setBoundsInPixels (Rectangle rect) {
@@ -1008,8 +1020,9 @@ void setBoundsInPixels (Rectangle rect) {
  */
 public void setBounds (int x, int y, int width, int height) {
 	checkWidget();
-	Rectangle rect = new Rectangle (x, y, width, height);
-	setBounds (rect.x, rect.y, Math.max (0, rect.width), Math.max (0, rect.height), true, true);
+	Rectangle rect = new Rectangle (x, y, Math.max (0, width), Math.max (0, height));
+	if (deferBounds (rect.x, rect.y, rect.width, rect.height)) return;
+	setBounds (rect.x, rect.y, rect.width, rect.height, true, true);
 }
 
 void setBoundsInPixels (int x, int y, int width, int height) {
@@ -1059,6 +1072,25 @@ Point resizeCalculationsGTK3 (long widget, int width, int height) {
 	return sizes;
 }
 
+/*
+ * Applies the bounds collected for the receiver by its parent,
+ * see Composite.setChildBoundsDeferred(boolean).
+ */
+void applyDeferredBounds () {
+	if (parent != null && parent.deferredBounds != null) parent.applyDeferredBounds (this);
+}
+
+/*
+ * Collects the bounds of the receiver in its parent when the
+ * parent defers the bounds of its children.
+ */
+boolean deferBounds (int x, int y, int width, int height) {
+	if (parent == null || parent.boundsCount == 0) return false;
+	if (parent.deferredBounds == null) parent.deferredBounds = new LinkedHashMap<> ();
+	parent.deferredBounds.put (this, new Rectangle (x, y, width, height));
+	return true;
+}
+
 int setBounds (int x, int y, int width, int height, boolean move, boolean resize) {
 	// bug in GTK3 the crashes new shell only. See bug 472743
 	width = Math.min(width, (2 << 14) - 1);
@@ -1227,6 +1259,7 @@ int setBounds (int x, int y, int width, int height, boolean move, boolean resize
  */
 public Point getLocation () {
 	checkWidget();
+	applyDeferredBounds ();
 	return getLocationInPixels();
 }
 
@@ -1263,6 +1296,7 @@ Point getLocationInPixels () {
  */
 public void setLocation (Point location) {
 	checkWidget ();
+	applyDeferredBounds ();
 	if (location == null) error (SWT.ERROR_NULL_ARGUMENT);
 	setBounds (location.x, location.y, 0, 0, true, false);
 }
@@ -1293,6 +1327,7 @@ void setLocationInPixels (Point location) {
  */
 public void setLocation(int x, int y) {
 	checkWidget();
+	applyDeferredBounds ();
 	Point loc = new Point (x, y);
 	setBounds (loc.x, loc.y, 0, 0, true, false);
 }
@@ -1317,6 +1352,7 @@ void setLocationInPixels(int x, int y) {
  */
 public Point getSize () {
 	checkWidget();
+	applyDeferredBounds ();
 	return getSizeInPixels();
 }
 
@@ -1355,6 +1391,7 @@ Point getSizeInPixels () {
  */
 public void setSize (Point size) {
 	checkWidget ();
+	applyDeferredBounds ();
 	if (size == null) error (SWT.ERROR_NULL_ARGUMENT);
 	setBounds (0, 0, Math.max (0, size.x), Math.max (0, size.y), false, true);
 }
@@ -1385,7 +1422,7 @@ void setSizeInPixels (Point size) {
 public void setRegion (Region region) {
 	checkWidget ();
 	if (region != null && region.isDisposed()) error (SWT.ERROR_INVALID_ARGUMENT);
-	long shape_region = (region == null) ? 0 : region.handle;
+	long shape_region = (region == null) ? 0 : Region.gtk_getHandle(region);
 	this.region = region;
 	long topHandle = topHandle ();
 
@@ -1479,6 +1516,7 @@ void setRelations () {
  */
 public void setSize (int width, int height) {
 	checkWidget();
+	applyDeferredBounds ();
 	Point size = new Point (width, height);
 	setBounds (0, 0, Math.max (0, size.x), Math.max (0, size.y), false, true);
 }
@@ -3787,7 +3825,7 @@ long gtk3_event_after (long widget, long gdkEvent) {
  */
 void cairoCopyRegion (Region region) {
 	if (region == null || region.isDisposed() || region.handle == 0) return;
-	regionHandle = Cairo.cairo_region_copy(region.handle);
+	regionHandle = Cairo.cairo_region_copy(Region.gtk_getHandle(region));
 	return;
 }
 
@@ -4256,6 +4294,7 @@ long gtk_preedit_changed (long imcontext) {
 @Override
 long gtk_realize (long widget) {
 	if (!GTK.GTK4) {
+		if ((state & ZORDER_PENDING) != 0) realizeZOrder ();
 		long imHandle = imHandle ();
 		if (imHandle != 0) {
 			long window = gtk_widget_get_window (paintHandle ());
@@ -4619,6 +4658,43 @@ public void requestLayout () {
 	getShell ().layout (new Control[] {this}, SWT.DEFER);
 }
 
+/*
+* Realizes the handle, unless lazy realization is enabled and the receiver
+* or one of its ancestors in the shell is hidden. GTK realizes the handle
+* when it is mapped.
+*/
+void realizeHandle () {
+	if (Display.LAZY_REALIZE) {
+		Control control = this;
+		while (control != null && !(control instanceof Shell)) {
+			if ((control.state & HIDDEN) != 0) return;
+			control = control.parent;
+		}
+	}
+	GTK.gtk_widget_realize (handle);
+}
+
+/*
+* Applies the stacking order that was deferred when the receiver was
+* created. The siblings of the receiver are usually realized in their
+* order, but some of them may have been realized earlier, so the
+* receiver is stacked above the first sibling below it that is realized.
+*/
+void realizeZOrder () {
+	state &= ~ZORDER_PENDING;
+	Control [] children = parent._getChildren ();
+	int index = 0;
+	while (index < children.length && children [index] != this) index++;
+	for (int i = index + 1; i < children.length; i++) {
+		Control sibling = children [i];
+		if ((sibling.state & ZORDER_PENDING) == 0 && GTK.gtk_widget_get_realized (sibling.topHandle ())) {
+			setZOrder (sibling, true, false, false);
+			return;
+		}
+	}
+	setZOrder (null, false, false, false);
+}
+
 /**
  * Causes the entire bounds of the receiver to be marked
  * as needing to be redrawn. The next time a paint request
@@ -6192,7 +6268,7 @@ void setZOrder (Control sibling, boolean above, boolean fixRelations, boolean fi
 	if (GTK.GTK4) {
 		//TODO: Test GTK3 behavior then implement, probably using gdk_toplevel_lower
 	} else {
-		long window = gtk_widget_get_window (topHandle);
+		long window = (state & ZORDER_PENDING) != 0 ? 0 : gtk_widget_get_window (topHandle);
 		if (window != 0) {
 			long siblingWindow = 0;
 			if (sibling != null) {
@@ -124,10 +124,25 @@ public class Display extends Device implements Executor {
 	long [] gdkEvents;
 	Widget [] gdkEventWidgets;
 	int [] dispatchEvents;
-	Event [] eventQueue;
+	EventQueue eventQueue;
 	long fds;
 	int allocated_nfds;
-	boolean wake;
+	/* Set by wakeThread() until sleep() returns, sleeping is true while sleep() may block in poll */
+	final AtomicBoolean wakePending = new AtomicBoolean ();
+	volatile boolean sleeping;
+	/*
+	* Maximum time in milliseconds that sleep() blocks in poll when there are
+	* neither timers nor wakeups. A negative value blocks until input arrives.
+	*/
+	static final int MAX_SLEEP_TIMEOUT = Integer.getInteger ("org.eclipse.swt.internal.gtk.maxSleepTimeout", -1); //$NON-NLS-1$
+	/*
+	* When set, controls that are created in a part of the UI that has not been
+	* shown yet, or that are hidden, are realized when they are first mapped
+	* instead of when they are created or resized. Their GdkWindows and the
+	* X or Wayland resources behind them are then only created for the parts
+	* of the UI that are actually shown, such as the selected page of a folder.
+	*/
+	static final boolean LAZY_REALIZE = Boolean.getBoolean ("org.eclipse.swt.internal.gtk.lazyRealize"); //$NON-NLS-1$
 	boolean windowSizeSet;
 	int [] max_priority = new int [1], timeout = new int [1];
 	Callback eventCallback;
@@ -4464,19 +4479,11 @@ void postEvent (Event event) {
 	* thread so it must be re-enterant but does not
 	* need to be synchronized.
 	*/
-	if (eventQueue == null) eventQueue = new Event [4];
-	int index = 0;
-	int length = eventQueue.length;
-	while (index < length) {
-		if (eventQueue [index] == null) break;
-		index++;
-	}
-	if (index == length) {
-		Event [] newQueue = new Event [length + 4];
-		System.arraycopy (eventQueue, 0, newQueue, 0, length);
-		eventQueue = newQueue;
+	if (eventQueue == null) eventQueue = new EventQueue ();
+	eventQueue.add (event);
+	if (DisplaySpy.isEnabled) {
+		DisplaySpy.getInstance ().deferredEventPosted (this, event, eventQueue.size ());
 	}
-	eventQueue [index] = event;
 }
 
 void putGdkEvents () {
@@ -4530,6 +4537,17 @@ void putGdkEvents () {
  */
 public boolean readAndDispatch () {
 	checkDevice ();
+	if (!DisplaySpy.isEnabled) return readAndDispatchEvents ();
+	long start = System.nanoTime ();
+	DisplaySpy.getInstance ().dispatchStarted (this);
+	try {
+		return readAndDispatchEvents ();
+	} finally {
+		DisplaySpy.getInstance ().dispatchFinished (this, System.nanoTime () - start);
+	}
+}
+
+boolean readAndDispatchEvents () {
 	runSkin ();
 	runDeferredLayouts ();
 	boolean events = false;
@@ -5094,11 +5112,11 @@ boolean runDeferredEvents () {
 	while (eventQueue != null) {
 
 		/* Take an event off the queue */
-		Event event = eventQueue [0];
+		Event event = eventQueue.poll ();
 		if (event == null) break;
-		int length = eventQueue.length;
-		System.arraycopy (eventQueue, 1, eventQueue, 0, --length);
-		eventQueue [length] = null;
+		if (DisplaySpy.isEnabled) {
+			DisplaySpy.getInstance ().deferredEventRun (this, event, eventQueue.size ());
+		}
 
 		/* Run the event */
 		Widget widget = event.widget;
@@ -5657,6 +5675,17 @@ public boolean sleep () {
 	max_priority [0] = timeout [0] = 0;
 	long context = OS.g_main_context_default ();
 	boolean result = false;
+	boolean spy = DisplaySpy.isEnabled;
+	long start = spy ? System.nanoTime () : 0;
+	if (spy) DisplaySpy.getInstance ().sleepStarted (this);
+	int polls = 0;
+	/*
+	* Publish that the UI thread may block before checking for pending
+	* wakeups, so that wakeThread() either sees the UI thread sleeping
+	* and signals the main context, or sleep() sees the pending wakeup
+	* and does not block.
+	*/
+	sleeping = true;
 	do {
 		if (OS.g_main_context_acquire (context)) {
 			result = OS.g_main_context_prepare (context, max_priority);
@@ -5668,23 +5697,26 @@ public boolean sleep () {
 			}
 			long poll = OS.g_main_context_get_poll_func (context);
 			if (poll != 0) {
-				if (nfds > 0 || timeout [0] != 0) {
+				if ((nfds > 0 || timeout [0] != 0) && !wakePending.get ()) {
 					/*
-					* Bug in GTK. For some reason, g_main_context_wakeup() may
-					* fail to wake up the UI thread from the polling function.
-					* The fix is to sleep for a maximum of 50 milliseconds.
+					* The wakeup pipe of the main context is part of the polled
+					* descriptors and stays signaled until g_main_context_check()
+					* acknowledges it, so a wakeup issued after the check above
+					* makes the poll return immediately. There is no need to wake
+					* up periodically unless explicitly requested.
 					*/
-					if (timeout [0] < 0) timeout [0] = 50;
-
-					wake = false;
+					if (timeout [0] < 0) timeout [0] = MAX_SLEEP_TIMEOUT;
 					OS.Call (poll, fds, nfds, timeout [0]);
+					polls++;
 				}
 			}
 			OS.g_main_context_check (context, max_priority [0], fds, nfds);
 			OS.g_main_context_release (context);
 		}
-	} while (!result && synchronizer.isMessagesEmpty() && !wake);
-	wake = false;
+	} while (!result && synchronizer.isMessagesEmpty() && !wakePending.get ());
+	sleeping = false;
+	wakePending.set (false);
+	if (spy) DisplaySpy.getInstance ().sleepFinished (this, polls, System.nanoTime () - start);
 	if (!GTK.GTK4) GDK.gdk_threads_enter ();
 	sendPostExternalEventDispatchEvent ();
 	return true;
@@ -5766,12 +5798,18 @@ long timerProc (long i) {
 		timerList [index] = null;
 		timerIds [index] = 0;
 		if (runnable != null) {
+			boolean spy = DisplaySpy.isEnabled;
+			long start = spy ? System.nanoTime () : 0;
 			try {
 				runnable.run ();
 			} catch (RuntimeException exception) {
 				runtimeExceptionHandler.accept (exception);
 			} catch (Error exception) {
 				errorHandler.accept (exception);
+			} finally {
+				if (spy) {
+					DisplaySpy.getInstance ().timerExecRun (this, runnable, System.nanoTime () - start);
+				}
 			}
 		}
 	}
@@ -6096,8 +6134,13 @@ public void wake () {
 }
 
 void wakeThread () {
-	OS.g_main_context_wakeup (0);
-	wake = true;
+	/*
+	* Only signal the main context if the UI thread may be blocked in
+	* sleep() and no wakeup is pending yet. Redundant wakeups are coalesced.
+	*/
+	boolean signal = !wakePending.getAndSet (true) && sleeping;
+	if (signal) OS.g_main_context_wakeup (0);
+	if (DisplaySpy.isEnabled) DisplaySpy.getInstance ().wakeRequested (this, signal);
 }
 
 void enterMotionProc(long controller, double x, double y, long user_data) {
@@ -159,16 +159,22 @@ Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
 	boolean fixWrap = labelHandle != 0 && (style & SWT.WRAP) != 0 && GTK.gtk_widget_get_visible (labelHandle);
 	if (fixWrap || frameHandle != 0) forceResize ();
 	if (fixWrap) {
-		long labelLayout = GTK.gtk_label_get_layout (labelHandle);
-		int pangoWidth = OS.pango_layout_get_width (labelLayout);
-		if (wHint != SWT.DEFAULT) {
-			OS.pango_layout_set_width (labelLayout, wHint * OS.PANGO_SCALE);
-		} else {
-			OS.pango_layout_set_width (labelLayout, -1);
+		long font = getFont ().handle;
+		Point extent = TextExtentCache.get (display, font, text, SWT.WRAP, wHint);
+		if (extent == null) {
+			long labelLayout = GTK.gtk_label_get_layout (labelHandle);
+			int pangoWidth = OS.pango_layout_get_width (labelLayout);
+			if (wHint != SWT.DEFAULT) {
+				OS.pango_layout_set_width (labelLayout, wHint * OS.PANGO_SCALE);
+			} else {
+				OS.pango_layout_set_width (labelLayout, -1);
+			}
+			int [] w = new int [1], h = new int [1];
+			OS.pango_layout_get_pixel_size (labelLayout, w, h);
+			OS.pango_layout_set_width (labelLayout, pangoWidth);
+			extent = new Point (w [0], h [0]);
+			TextExtentCache.put (display, font, text, SWT.WRAP, wHint, extent);
 		}
-		int [] w = new int [1], h = new int [1];
-		OS.pango_layout_get_pixel_size (labelLayout, w, h);
-		OS.pango_layout_set_width (labelLayout, pangoWidth);
 		if (frameHandle != 0) {
 			int [] labelWidth = new int [1], labelHeight = new int [1];
 			GTK.gtk_widget_get_size_request (labelHandle, labelWidth, labelHeight);
@@ -180,8 +186,8 @@ Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
 		} else {
 			size = new Point (0,0);
 		}
-		size.x += wHint == SWT.DEFAULT ? w [0] : wHint;
-		size.y += hHint == SWT.DEFAULT ? h [0] : hHint;
+		size.x += wHint == SWT.DEFAULT ? extent.x : wHint;
+		size.y += hHint == SWT.DEFAULT ? extent.y : hHint;
 	} else {
 		if (frameHandle != 0) {
 			int [] reqWidth = new int [1], reqHeight = new int [1];
@@ -26,11 +26,24 @@ import org.eclipse.swt.internal.gtk4.*;
  * Instances of this class represent a selectable user interface
  * object that displays a list of strings and issues notification
  * when a string is selected.  A list may be single or multi select.
+ * <p>
+ * Style <code>VIRTUAL</code> is used to create a <code>List</code> whose
+ * strings are provided by the client on an on-demand basis instead of
+ * up-front.  Only the strings that are displayed or queried are requested,
+ * using the <code>SetData</code> event whose <code>index</code> field is the
+ * index of the string.
+ * </p><p>
+ * Here is an example of using a <code>List</code> with style <code>VIRTUAL</code>:</p>
+ * <pre><code>
+ *  final List list = new List (parent, SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL);
+ *  list.setItemCount (1000000);
+ *  list.addListener (SWT.SetData, event -&gt; list.setItem (event.index, "Item " + event.index));
+ * </code></pre>
  * <dl>
  * <dt><b>Styles:</b></dt>
- * <dd>SINGLE, MULTI, NO_SEARCH</dd>
+ * <dd>SINGLE, MULTI, NO_SEARCH, VIRTUAL</dd>
  * <dt><b>Events:</b></dt>
- * <dd>Selection, DefaultSelection</dd>
+ * <dd>Selection, DefaultSelection, SetData</dd>
  * </dl>
  * <p>
  * Note: Only one of SINGLE and MULTI may be specified.
@@ -52,6 +65,8 @@ public class List extends Scrollable {
 	double cachedAdjustment, currentAdjustment;
 	boolean rowActivated;
 
+	static final byte [] EMPTY_TEXT = new byte [1];
+
 /**
  * Constructs a new instance of this class given its parent
  * and a style value describing its behavior and appearance.
@@ -191,10 +206,137 @@ public void addSelectionListener(SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+@Override
+long cellDataProc (long tree_column, long cell, long tree_model, long iter, long data) {
+	if ((style & SWT.VIRTUAL) == 0) return 0;
+	long [] ptr = new long [1];
+	GTK.gtk_tree_model_get (tree_model, iter, TEXT_COLUMN, ptr, -1);
+	if (ptr [0] != 0) {
+		OS.g_free (ptr [0]);
+		return 0;
+	}
+	long path = GTK.gtk_tree_model_get_path (tree_model, iter);
+	int [] index = new int [1];
+	C.memmove (index, GTK.gtk_tree_path_get_indices (path), 4);
+	GTK.gtk_tree_path_free (path);
+	if (!checkData (iter, index [0])) return 0;
+	GTK.gtk_tree_model_get (tree_model, iter, TEXT_COLUMN, ptr, -1);
+	if (ptr [0] != 0) {
+		OS.g_object_set (cell, OS.text, ptr [0], 0);
+		OS.g_free (ptr [0]);
+		GtkRequisition requisition = new GtkRequisition ();
+		GTK.gtk_cell_renderer_get_preferred_size (cell, handle, null, requisition);
+		if (requisition.width > GTK.gtk_tree_view_column_get_fixed_width (tree_column)) {
+			GTK.gtk_tree_view_column_set_fixed_width (tree_column, requisition.width);
+		}
+	}
+	return 0;
+}
+
+/*
+* The text of a row of a virtual list is NULL until it is requested.
+* The row is given an empty text before the SetData event is sent, so
+* that it is only requested once when the client does not set it.
+*/
+boolean checkData (long iter, int index) {
+	int mask = OS.G_SIGNAL_MATCH_DATA | OS.G_SIGNAL_MATCH_ID;
+	int signal_id = OS.g_signal_lookup (OS.row_changed, GTK.gtk_tree_model_get_type ());
+	OS.g_signal_handlers_block_matched (modelHandle, mask, signal_id, 0, 0, 0, handle);
+	GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, EMPTY_TEXT, -1);
+	Event event = new Event ();
+	event.index = index;
+	sendEvent (SWT.SetData, event);
+	//widget could be disposed at this point
+	if (isDisposed ()) return false;
+	OS.g_signal_handlers_unblock_matched (modelHandle, mask, signal_id, 0, 0, 0, handle);
+	return true;
+}
+
 static int checkStyle (int style) {
 	return checkBits (style, SWT.SINGLE, SWT.MULTI, 0, 0, 0, 0);
 }
 
+/**
+ * Clears the item at the given zero-relative index in the receiver.
+ * The text of the item is set to the empty string.  If the list was
+ * created with the <code>SWT.VIRTUAL</code> style, the text is requested
+ * again as needed.
+ *
+ * @param index the index of the item to clear
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_RANGE - if the index is not between 0 and the number of elements in the list minus 1 (inclusive)</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clear (int index) {
+	checkWidget ();
+	if (!(0 <= index && index < GTK.gtk_tree_model_iter_n_children (modelHandle, 0))) {
+		error (SWT.ERROR_INVALID_RANGE);
+	}
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, index);
+	if ((style & SWT.VIRTUAL) != 0) {
+		GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, (long) 0, -1);
+	} else {
+		GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, EMPTY_TEXT, -1);
+	}
+	OS.g_free (iter);
+}
+
+/**
+ * Clears all the items in the receiver. The texts of the items are set
+ * to the empty string.  If the list was created with the <code>SWT.VIRTUAL</code>
+ * style, the texts are requested again as needed.
+ * <p>
+ * Together with <code>setItemCount(int)</code>, this can be used to filter
+ * a virtual list: the client changes the strings it provides, sets the new
+ * number of items and clears the items so that only the strings that are
+ * displayed are requested again.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clearAll () {
+	checkWidget ();
+	boolean isVirtual = (style & SWT.VIRTUAL) != 0;
+	long [] ptr = new long [1];
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	boolean valid = GTK.gtk_tree_model_get_iter_first (modelHandle, iter);
+	while (valid) {
+		/* Only the rows that were requested have a text to clear */
+		GTK.gtk_tree_model_get (modelHandle, iter, TEXT_COLUMN, ptr, -1);
+		if (ptr [0] != 0) {
+			if (isVirtual || C.strlen (ptr [0]) != 0) {
+				if (isVirtual) {
+					GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, (long) 0, -1);
+				} else {
+					GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, EMPTY_TEXT, -1);
+				}
+			}
+			OS.g_free (ptr [0]);
+		}
+		valid = GTK.gtk_tree_model_iter_next (modelHandle, iter);
+	}
+	OS.g_free (iter);
+}
+
 @Override
 void createHandle (int index) {
 	state |= HANDLE;
@@ -225,6 +367,18 @@ void createHandle (int index) {
 	GTK.gtk_tree_view_column_add_attribute (columnHandle, textRenderer, OS.text, TEXT_COLUMN);
 	GTK.gtk_tree_view_column_set_min_width (columnHandle, 0);
 	GTK.gtk_tree_view_insert_column (handle, columnHandle, index);
+	if ((style & SWT.VIRTUAL) != 0) {
+		/*
+		* Feature in GTK. The tree view measures every row of its model
+		* in the background, which requests the text of every item of a
+		* virtual list. The fix is to use a fixed width column and to
+		* enable fixed-height-mode, so that only the visible rows are
+		* measured. The column grows as longer texts are displayed.
+		*/
+		GTK.gtk_tree_view_column_set_sizing (columnHandle, GTK.GTK_TREE_VIEW_COLUMN_FIXED);
+		GTK.gtk_tree_view_column_set_cell_data_func (columnHandle, textRenderer, display.cellDataProc, handle, 0);
+		OS.g_object_set (handle, OS.fixed_height_mode, true, 0);
+	}
 
 	if (GTK.GTK4) {
 		OS.swt_fixed_add(fixedHandle, scrolledHandle);
@@ -499,6 +653,13 @@ public String getItem (int index) {
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 	GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, index);
 	GTK.gtk_tree_model_get (modelHandle, iter, 0, ptr, -1);
+	if (ptr [0] == 0 && (style & SWT.VIRTUAL) != 0) {
+		if (!checkData (iter, index)) {
+			OS.g_free (iter);
+			error (SWT.ERROR_WIDGET_DISPOSED);
+		}
+		GTK.gtk_tree_model_get (modelHandle, iter, 0, ptr, -1);
+	}
 	OS.g_free (iter);
 	if (ptr [0] == 0) return null;
 	int length = C.strlen (ptr [0]);
@@ -586,6 +747,13 @@ public String [] getItems () {
 	for (int index=0; index<count; index++) {
 		GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, index);
 		GTK.gtk_tree_model_get (modelHandle, iter, 0, ptr, -1);
+		if (ptr [0] == 0 && (style & SWT.VIRTUAL) != 0) {
+			if (!checkData (iter, index)) {
+				OS.g_free (iter);
+				error (SWT.ERROR_WIDGET_DISPOSED);
+			}
+			GTK.gtk_tree_model_get (modelHandle, iter, 0, ptr, -1);
+		}
 		if (ptr [0] != 0) {
 			int length = C.strlen (ptr [0]);
 			byte[] buffer = new byte [length];
@@ -1027,6 +1195,12 @@ void hookEvents () {
  * If no item is found, -1 is returned.  Indexing
  * is zero based.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @return the index of the item
  *
@@ -1050,6 +1224,12 @@ public int indexOf (String string) {
  * no item is found or the starting index is out of range,
  * returns -1.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @param start the zero-relative index at which to start the search
  * @return the index of the item
@@ -1065,11 +1245,33 @@ public int indexOf (String string) {
 public int indexOf (String string, int start) {
 	checkWidget();
 	if (string == null) error (SWT.ERROR_NULL_ARGUMENT);
-	String [] items = getItems ();
-	for (int i=start; i<items.length; i++) {
-		if (items [i].equals (string)) return i;
+	int count = GTK.gtk_tree_model_iter_n_children (modelHandle, 0);
+	if (!(0 <= start && start < count)) return -1;
+	/*
+	* Compare with the texts in the model. The rows of a virtual
+	* list whose text was not requested yet have no text and are
+	* skipped instead of being requested.
+	*/
+	long [] ptr = new long [1];
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	int result = -1;
+	boolean valid = GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, start);
+	for (int index=start; valid; index++) {
+		GTK.gtk_tree_model_get (modelHandle, iter, TEXT_COLUMN, ptr, -1);
+		if (ptr [0] != 0) {
+			int length = C.strlen (ptr [0]);
+			byte [] buffer = new byte [length];
+			C.memmove (buffer, ptr [0], length);
+			OS.g_free (ptr [0]);
+			if (string.equals (new String (Converter.mbcsToWcs (buffer)))) {
+				result = index;
+				break;
+			}
+		}
+		valid = GTK.gtk_tree_model_iter_next (modelHandle, iter);
 	}
-	return -1;
+	OS.g_free (iter);
+	return result;
 }
 
 /**
@@ -1468,7 +1670,7 @@ int setBounds (int x, int y, int width, int height, boolean move, boolean resize
 	* a new shell is created. The fix is to ensure the tree view is realized
 	* after it has been resized.
 	*/
-	GTK.gtk_widget_realize (handle);
+	realizeHandle ();
 	return result;
 }
 
@@ -1501,6 +1703,57 @@ public void setItem (int index, String string) {
 	OS.g_free (iter);
 }
 
+/**
+ * Sets the number of items contained in the receiver. Items added
+ * at the end have an empty text.  If the list was created with the
+ * <code>SWT.VIRTUAL</code> style, their texts are requested as needed.
+ * <p>
+ * Note: On some platforms a native row is still created for every item,
+ * so the cost of this method grows with the number of items added even
+ * though their texts are requested as needed.
+ * </p>
+ *
+ * @param count the number of items
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void setItemCount (int count) {
+	checkWidget ();
+	count = Math.max (0, count);
+	int itemCount = GTK.gtk_tree_model_iter_n_children (modelHandle, 0);
+	if (count == itemCount) return;
+	if (count < itemCount) {
+		remove (count, itemCount - 1);
+		return;
+	}
+	/*
+	* Feature in GTK. The tree view processes every row inserted
+	* in an attached model. The fix is to disconnect the model
+	* while the rows are appended. This is only done when the
+	* list was empty, as there is no selection, cursor or scroll
+	* position to lose.
+	*/
+	boolean detach = itemCount == 0;
+	if (detach) GTK.gtk_tree_view_set_model (handle, 0);
+	boolean isVirtual = (style & SWT.VIRTUAL) != 0;
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	if (iter == 0) error (SWT.ERROR_ITEM_NOT_ADDED);
+	for (int i=itemCount; i<count; i++) {
+		GTK.gtk_list_store_append (modelHandle, iter);
+		if (!isVirtual) GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, EMPTY_TEXT, -1);
+	}
+	OS.g_free (iter);
+	if (detach) setModel (modelHandle);
+}
+
 /**
  * Sets the receiver's items to be the given array of items.
  *
@@ -1521,19 +1774,45 @@ public void setItems (String... items) {
 	for (int i=0; i<items.length; i++) {
 		if (items [i] == null) error (SWT.ERROR_INVALID_ARGUMENT);
 	}
-	long selection = GTK.gtk_tree_view_get_selection (handle);
-	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
-	GTK.gtk_list_store_clear (modelHandle);
-	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	/*
+	* Feature in GTK. The tree view processes every row removed
+	* from or inserted in its model. The fix is to fill a new
+	* model that is not attached to the view and to replace the
+	* old model with it.
+	*/
+	long [] types = new long [] {OS.G_TYPE_STRING ()};
+	long newModel = GTK.gtk_list_store_newv (types.length, types);
+	if (newModel == 0) error (SWT.ERROR_NO_HANDLES);
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
-	if (iter == 0) error (SWT.ERROR_ITEM_NOT_ADDED);
+	if (iter == 0) {
+		OS.g_object_unref (newModel);
+		error (SWT.ERROR_ITEM_NOT_ADDED);
+	}
 	for (int i=0; i<items.length; i++) {
 		String string = items [i];
 		byte [] buffer = Converter.wcsToMbcs (string, true);
-		GTK.gtk_list_store_append (modelHandle, iter);
-		GTK.gtk_list_store_set (modelHandle, iter, TEXT_COLUMN, buffer, -1);
+		GTK.gtk_list_store_append (newModel, iter);
+		GTK.gtk_list_store_set (newModel, iter, TEXT_COLUMN, buffer, -1);
 	}
 	OS.g_free (iter);
+	long oldModel = modelHandle;
+	setModel (newModel);
+	OS.g_object_unref (oldModel);
+	modelHandle = newModel;
+}
+
+/*
+* Attaches the given model to the tree view. The search column is
+* reset by GTK whenever the model changes.
+*/
+void setModel (long model) {
+	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	GTK.gtk_tree_view_set_model (handle, model);
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	if (!searchEnabled ()) {
+		GTK.gtk_tree_view_set_search_column (handle, -1);
+	}
 }
 
 @Override
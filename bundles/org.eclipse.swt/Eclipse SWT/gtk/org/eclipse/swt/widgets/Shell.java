@@ -2315,6 +2315,11 @@ void resizeBounds (int width, int height, boolean notify) {
 	}
 }
 
+@Override
+boolean deferBounds (int x, int y, int width, int height) {
+	return false;
+}
+
 @Override
 int setBounds (int x, int y, int width, int height, boolean move, boolean resize) {
 	width = Math.min(width, (2 << 14) - 1);
@@ -2856,7 +2861,7 @@ static Region mirrorRegion (Region region) {
 
 	Region mirrored = new Region (region.getDevice ());
 
-	long rgn = region.handle;
+	long rgn = Region.gtk_getHandle (region);
 	int [] nRects = new int [1];
 	long [] rects = new long [1];
 	gdk_region_get_rectangles (rgn, rects, nRects);
@@ -2865,7 +2870,7 @@ static Region mirrorRegion (Region region) {
 	for (int i = 0; i < nRects [0]; i++) {
 		Cairo.memmove (rect, rects[0] + (i * GdkRectangle.sizeof), GdkRectangle.sizeof);
 		rect.x = bounds.x + bounds.width - rect.x - rect.width;
-		Cairo.cairo_region_union_rectangle (mirrored.handle, rect);
+		mirrored.add (rect.x, rect.y, rect.width, rect.height);
 	}
 	if (rects [0] != 0) OS.g_free (rects [0]);
 	return mirrored;
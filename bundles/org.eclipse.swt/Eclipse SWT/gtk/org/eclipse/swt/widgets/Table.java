@@ -15,6 +15,9 @@
 package org.eclipse.swt.widgets;
 
 
+import java.util.*;
+import java.util.function.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -336,6 +339,17 @@ public void addSelectionListener (SelectionListener listener) {
 	addTypedListener(listener, SWT.Selection, SWT.DefaultSelection);
 }
 
+void attachModel () {
+	GTK.gtk_tree_view_set_model (handle, modelHandle);
+	if (!searchEnabled ()) {
+		GTK.gtk_tree_view_set_search_column (handle, -1);
+	} else {
+		/* Set the search column whenever the model changes */
+		int firstColumn = columnCount == 0 ? FIRST_COLUMN : columns [0].modelIndex;
+		GTK.gtk_tree_view_set_search_column (handle, firstColumn + CELL_TEXT);
+	}
+}
+
 int calculateWidth (long column, long iter) {
 	GTK.gtk_tree_view_column_cell_set_cell_data(column, modelHandle, iter, false, false);
 
@@ -3411,7 +3425,7 @@ int setBounds (int x, int y, int width, int height, boolean move, boolean resize
 	* a new shell is created. The fix is to ensure the tree view is realized
 	* after it has been resized.
 	*/
-	GTK.gtk_widget_realize (handle);
+	realizeHandle ();
 	return result;
 }
 
@@ -3623,6 +3637,20 @@ public void setItemCount (int count) {
 	System.arraycopy (items, 0, newItems, 0, itemCount);
 	items = newItems;
 	if (isVirtual) {
+		/*
+		* Feature in GTK. The tree view processes every row inserted
+		* in an attached model, which makes growing a virtual table
+		* to millions of rows take seconds. The fix is to disconnect
+		* the model while the rows are appended. This is only done
+		* when the table was empty, as there is no selection, cursor
+		* or scroll position to lose.
+		*
+		* Note that the model still holds one native row per item,
+		* so memory grows with the item count. Only the work done
+		* by the view for each appended row is avoided.
+		*/
+		boolean detach = itemCount == 0;
+		if (detach) GTK.gtk_tree_view_set_model (handle, 0);
 		long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 		if (iter == 0) error (SWT.ERROR_NO_HANDLES);
 		for (int i=itemCount; i<count; i++) {
@@ -3630,6 +3658,7 @@ public void setItemCount (int count) {
 		}
 		OS.g_free (iter);
 		itemCount = count;
+		if (detach) attachModel ();
 	} else {
 		for (int i=itemCount; i<count; i++) {
 			new TableItem (this, SWT.NONE, i, true);
@@ -3638,6 +3667,108 @@ public void setItemCount (int count) {
 	if (!isVirtual) setRedraw (true);
 }
 
+/**
+ * Replaces the items of the receiver with new items whose texts are
+ * given column by column. The element <code>texts[column][row]</code>
+ * is the text of the item at index <code>row</code> in the given column.
+ * The number of items is the length of the longest column array.
+ * Missing or <code>null</code> texts leave the cell empty, and columns
+ * beyond the number of columns of the receiver are ignored.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param texts the texts of the new items, one array per column
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the texts array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(int, IntFunction)
+ *
+ * @since 3.133
+ */
+public void setItems (String [][] texts) {
+	checkWidget ();
+	if (texts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = 0;
+	for (String [] column : texts) {
+		if (column != null) count = Math.max (count, column.length);
+	}
+	String [] row = new String [texts.length];
+	setItems (count, index -> {
+		for (int i=0; i<texts.length; i++) {
+			String [] column = texts [i];
+			row [i] = column != null && index < column.length ? column [index] : null;
+		}
+		return row;
+	});
+}
+
+/**
+ * Replaces the items of the receiver with <code>count</code> new items.
+ * The texts of the item at each index are requested from
+ * <code>rowTexts</code> in increasing index order, one element per
+ * column. The returned array is not retained by the receiver. A
+ * <code>null</code> array or <code>null</code> elements leave the
+ * cells empty.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param count the number of items
+ * @param rowTexts the function providing the texts of each item
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the function is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(String[][])
+ *
+ * @since 3.133
+ */
+public void setItems (int count, IntFunction<String []> rowTexts) {
+	checkWidget ();
+	if (rowTexts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	count = Math.max (0, count);
+	removeAll ();
+	if (count == 0) return;
+	int columns = Math.max (1, columnCount);
+	int [] textColumns = new int [columns];
+	for (int i=0; i<columns; i++) {
+		int modelIndex = columnCount == 0 ? FIRST_COLUMN : this.columns [i].modelIndex;
+		textColumns [i] = modelIndex + CELL_TEXT;
+	}
+	items = new TableItem [Math.max (4, (count + 3) / 4 * 4)];
+	/*
+	* Feature in GTK. The tree view processes every row inserted
+	* in an attached model. The fix is to disconnect the model
+	* while the rows are appended and their texts are set.
+	*/
+	GTK.gtk_tree_view_set_model (handle, 0);
+	try {
+		for (int i=0; i<count; i++) {
+			TableItem item = new TableItem (this, SWT.NONE, i, true);
+			String [] strings = rowTexts.apply (i);
+			if (strings != null) item.setText (strings, textColumns);
+		}
+	} finally {
+		attachModel ();
+	}
+}
+
 /**
  * Marks the receiver's lines as visible if the argument is <code>true</code>,
  * and marks it invisible otherwise. Note that some platforms draw grid lines
@@ -4090,6 +4221,53 @@ public void showSelection () {
 	showItem (item.handle);
 }
 
+/**
+ * Sorts the items of the receiver with the given comparator.
+ * Items that compare equal keep their relative order. The
+ * selection, the focus item and the items themselves are
+ * preserved; only their indices change.
+ * <p>
+ * The comparator is called on the thread of the receiver and
+ * may query the items. In a table created with the
+ * <code>SWT.VIRTUAL</code> style, all items are created and
+ * <code>SWT.SetData</code> is sent for the items the comparator
+ * reads.
+ * </p>
+ *
+ * @param comparator the comparator deciding the order of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.133
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if ((style & SWT.VIRTUAL) != 0) {
+		for (int i=0; i<itemCount; i++) _getItem (i);
+	}
+	int [] newOrder = ItemOrder.sort (items, itemCount, comparator);
+	if (newOrder == null) return;
+	/*
+	* The items keep their iterators, as the iterators of a list
+	* store persist when its rows are reordered, and the tree view
+	* moves the selection and the cursor along with the rows.
+	*/
+	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	GTK.gtk_list_store_reorder (modelHandle, newOrder);
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	TableItem [] newItems = new TableItem [items.length];
+	for (int i=0; i<itemCount; i++) newItems [i] = items [newOrder [i]];
+	items = newItems;
+}
+
 @Override
 void updateScrollBarValue (ScrollBar bar) {
 	super.updateScrollBarValue (bar);
@@ -1332,6 +1332,32 @@ public void setText (int index, String string) {
 	}
 }
 
+/*
+ * Sets the texts of an item created by Table.setItems(). The item
+ * has no text yet, so unlike setText(int, String) there is nothing
+ * to compare against and the model column of each text is known.
+ */
+void setText (String [] strings, int [] textColumns) {
+	int count = Math.min (strings.length, textColumns.length);
+	for (int i=0; i<count; i++) {
+		String string = strings [i];
+		if (string == null || string.isEmpty ()) continue;
+		if (this.strings == null) this.strings = new String [textColumns.length];
+		this.strings [i] = string;
+		if (string.length() > TEXT_LIMIT) {
+			string = string.substring(0, TEXT_LIMIT - ELLIPSIS.length()) + ELLIPSIS;
+		}
+		byte[] buffer = Converter.wcsToMbcs (string, true);
+		GTK.gtk_list_store_set (parent.modelHandle, handle, textColumns [i], buffer, -1);
+	}
+	cached = true;
+	/* See Bug 465056 in setText(int, String) */
+	if (parent.columnCount == 0 && this.strings != null) {
+		long column = GTK.gtk_tree_view_get_column (parent.handle, 0);
+		parent.maxWidth = Math.max(parent.maxWidth, parent.calculateWidth(column, this.handle));
+	}
+}
+
 @Override
 public void setText (String string) {
 	checkWidget ();
@@ -287,7 +287,7 @@ void configure () {
 	GTK.gtk_widget_realize(handle);
 	Region region = new Region (display);
 	region.add(polyline);
-	GTK3.gtk_widget_shape_combine_region (handle, region.handle);
+	GTK3.gtk_widget_shape_combine_region (handle, Region.gtk_getHandle (region));
 	region.dispose ();
 }
 
@@ -15,6 +15,7 @@ package org.eclipse.swt.widgets;
 
 
 import java.util.*;
+import java.util.function.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
@@ -88,7 +89,15 @@ public class Tree extends Composite {
 	int selectionCountOnPress,selectionCountOnRelease;
 	long ignoreCell;
 	TreeItem[] items;
-	int nextId;
+	int nextId, freeIdCount;
+	int [] freeIds;
+	/* Incremented whenever rows are inserted, removed or items released */
+	int modelGeneration;
+	/* Iterators and ids of the children of indexParent, see indexChildren() */
+	Object indexParent;
+	long indexIters;
+	int indexCount, indexGeneration;
+	int [] indexIds, indexOfId;
 	TreeColumn [] columns;
 	TreeColumn sortColumn;
 	TreeItem currentItem;
@@ -212,32 +221,23 @@ void reallocateIds(int newSize) {
 }
 
 int findAvailableId() {
-	// Adapt to cases where items[] array was resized since last search
-	// This also fixes cases where +1 below went too far
-	if (nextId >= items.length)
-		nextId = 0;
-
-	// Search from 'nextId' to end
-	for (int id = nextId; id < items.length; id++) {
-		if (items [id] == null) return id;
-	}
-
-	// Search from begin to nextId
-	for (int id = 0; id < nextId; id++) {
-		if (items [id] == null) return id;
+	// Reuse the ids of released items, see releaseItem()
+	while (freeIdCount > 0) {
+		int id = freeIds [--freeIdCount];
+		if (id < items.length && items [id] == null) return id;
 	}
 
-	// Still not found; no empty spots remaining
-	int newId = items.length;
-	if (drawCount <= 0) {
-		reallocateIds (items.length + 4);
-	} else {
-		// '.setRedraw(false)' is typically used during bulk operations.
-		// Reallocate to 1.5x the old size to avoid frequent reallocations.
-		reallocateIds ((items.length + 1) * 3 / 2);
+	// Ids below 'nextId' are in use, no need to search them
+	if (nextId >= items.length) {
+		if (drawCount <= 0) {
+			reallocateIds (items.length + 4);
+		} else {
+			// '.setRedraw(false)' is typically used during bulk operations.
+			// Reallocate to 1.5x the old size to avoid frequent reallocations.
+			reallocateIds ((items.length + 1) * 3 / 2);
+		}
 	}
-
-	return newId;
+	return nextId++;
 }
 
 int getId (long iter, boolean queryModel) {
@@ -248,12 +248,97 @@ int getId (long iter, boolean queryModel) {
 	}
 
 	int id = findAvailableId();
-	nextId = id + 1;
 
 	GTK.gtk_tree_store_set (modelHandle, iter, ID_COLUMN, id, -1);
 	return id;
 }
 
+/*
+ * Returns whether the children of the given parent (the receiver for the
+ * root items) are indexed in indexIters and indexIds. Walking the children
+ * of a GtkTreeStore by position is linear, which makes loops over getItem(int)
+ * and indexOf(TreeItem) quadratic. The index is built on the second query for
+ * the same parent and is valid until the model changes.
+ */
+boolean indexChildren (Object parent, long parentIter) {
+	if (indexParent == parent && indexGeneration == modelGeneration) {
+		if (indexIters != 0) return true;
+		int count = GTK.gtk_tree_model_iter_n_children (modelHandle, parentIter);
+		if (count == 0) return false;
+		int size = GTK.GtkTreeIter_sizeof ();
+		indexIters = OS.g_malloc ((long) count * size);
+		if (indexIters == 0) error (SWT.ERROR_NO_HANDLES);
+		indexIds = new int [count];
+		indexOfId = new int [items.length];
+		Arrays.fill (indexIds, -1);
+		Arrays.fill (indexOfId, -1);
+		int [] value = new int [1];
+		long iter = indexIters;
+		boolean valid = GTK.gtk_tree_model_iter_children (modelHandle, iter, parentIter);
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				C.memmove (iter + size, iter, size);
+				iter += size;
+				valid = GTK.gtk_tree_model_iter_next (modelHandle, iter);
+			}
+			if (!valid) break;
+			GTK.gtk_tree_model_get (modelHandle, iter, ID_COLUMN, value, -1);
+			recordIndex (i, value [0]);
+		}
+		indexCount = count;
+		return true;
+	}
+	releaseChildIndex ();
+	indexParent = parent;
+	indexGeneration = modelGeneration;
+	return false;
+}
+
+TreeItem _getIndexedItem (long parentIter, int index) {
+	if (index >= indexCount) error (SWT.ERROR_INVALID_RANGE);
+	int id = indexIds [index];
+	if (id != -1 && items [id] != null) return items [id];
+	long iter = indexIters + (long) index * GTK.GtkTreeIter_sizeof ();
+	id = getId (iter, true);
+	recordIndex (index, id);
+	if (items [id] != null) return items [id];
+	return items [id] = new TreeItem (this, parentIter, SWT.NONE, index, iter);
+}
+
+int indexOfIndexed (long iter) {
+	int [] value = new int [1];
+	GTK.gtk_tree_model_get (modelHandle, iter, ID_COLUMN, value, -1);
+	int id = value [0];
+	if (id < 0 || id >= indexOfId.length) return -1;
+	return indexOfId [id];
+}
+
+void recordIndex (int index, int id) {
+	if (id == -1) return;
+	if (id >= indexOfId.length) {
+		int [] newIndexOfId = new int [Math.max (items.length, id + 1)];
+		System.arraycopy (indexOfId, 0, newIndexOfId, 0, indexOfId.length);
+		Arrays.fill (newIndexOfId, indexOfId.length, newIndexOfId.length, -1);
+		indexOfId = newIndexOfId;
+	}
+	indexIds [index] = id;
+	indexOfId [id] = index;
+}
+
+void recordIndex (Object parent, int index, int id) {
+	if (indexParent == parent && indexGeneration == modelGeneration && indexIters != 0 && index < indexCount) {
+		recordIndex (index, id);
+	}
+}
+
+void releaseChildIndex () {
+	if (indexIters != 0) OS.g_free (indexIters);
+	indexIters = 0;
+	indexCount = 0;
+	indexIds = indexOfId = null;
+	indexParent = null;
+}
+
 static int checkStyle (int style) {
 	/*
 	* Feature in Windows.  Even when WS_HSCROLL or
@@ -442,6 +527,17 @@ public void addTreeListener(TreeListener listener) {
 	addTypedListener(listener, SWT.Expand, SWT.Collapse);
 }
 
+void attachModel () {
+	GTK.gtk_tree_view_set_model (handle, modelHandle);
+	if (!searchEnabled ()) {
+		GTK.gtk_tree_view_set_search_column (handle, -1);
+	} else {
+		/* Set the search column whenever the model changes */
+		int firstColumn = columnCount == 0 ? FIRST_COLUMN : columns [0].modelIndex;
+		GTK.gtk_tree_view_set_search_column (handle, firstColumn + CELL_TEXT);
+	}
+}
+
 int calculateWidth (long column, long iter, boolean recurse) {
 	GTK.gtk_tree_view_column_cell_set_cell_data (column, modelHandle, iter, false, false);
 	/*
@@ -715,6 +811,9 @@ void copyModel (long oldModel, int oldStart, long newModel, int newStart, long o
 						GTK.gtk_tree_store_set_value (newModel, newIterator, newStart + iOffset, value);
 						OS.g_value_unset (value);
 					}
+				} else {
+					releaseId (index);
+					GTK.gtk_tree_store_set (newModel, newIterator, ID_COLUMN, -1, -1);
 				}
 			} else {
 				GTK.gtk_tree_store_set (newModel, newIterator, ID_COLUMN, -1, -1);
@@ -1021,6 +1120,7 @@ void createItem (TreeItem item, long parentIter, int index) {
 	int id = getId (item.handle, false);
 	items [id] = item;
 	modelChanged = true;
+	modelGeneration++;
 
 	if (parentIter == 0 ) {
 		/*
@@ -1147,6 +1247,7 @@ void createRenderers (long columnHandle, int modelIndex, boolean check, int colu
 void createWidget (int index) {
 	super.createWidget (index);
 	items = new TreeItem [4];
+	nextId = freeIdCount = 0;
 	columns = new TreeColumn [4];
 	columnCount = 0;
 	// In GTK 3 font description is inherited from parent widget which is not how SWT has always worked,
@@ -1286,6 +1387,7 @@ void destroyItem (TreeItem item) {
 	GTK.gtk_tree_store_remove (modelHandle, item.handle);
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 	modelChanged = true;
+	modelGeneration++;
 
 	/*
 	 If this was the last root item fire an EmptinessChanged event.
@@ -1730,6 +1832,7 @@ public boolean getHeaderVisible () {
 public TreeItem getItem (int index) {
 	checkWidget();
 	if (index < 0) error (SWT.ERROR_INVALID_RANGE);
+	if (indexChildren (this, 0)) return _getIndexedItem (0, index);
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 	try {
 		if (!GTK.gtk_tree_model_iter_nth_child (modelHandle, iter, 0, index)) error (SWT.ERROR_INVALID_RANGE);
@@ -2761,6 +2864,8 @@ public int indexOf (TreeItem item) {
 	if (item == null) error (SWT.ERROR_NULL_ARGUMENT);
 	if (item.isDisposed()) error (SWT.ERROR_INVALID_ARGUMENT);
 	int index = -1;
+	boolean indexed = indexChildren (this, 0);
+	if (indexed && (index = indexOfIndexed (item.handle)) != -1) return index;
 	long path = GTK.gtk_tree_model_get_path (modelHandle, item.handle);
 	int depth = GTK.gtk_tree_path_get_depth (path);
 	if (depth == 1) {
@@ -2772,6 +2877,7 @@ public int indexOf (TreeItem item) {
 		}
 	}
 	GTK.gtk_tree_path_free (path);
+	if (indexed && index != -1) recordIndex (this, index, getId (item.handle, true));
 	return index;
 }
 
@@ -2862,7 +2968,26 @@ void releaseItem (TreeItem item, boolean release) {
 	GTK.gtk_tree_model_get (modelHandle, item.handle, ID_COLUMN, index, -1);
 	if (index [0] == -1) return;
 	if (release) item.release (false);
+	if (items [index [0]] != null) releaseId (index [0]);
 	items [index [0]] = null;
+	modelGeneration++;
+}
+
+/*
+ * Returns an id to findAvailableId(). Rows of a virtual tree get an id in
+ * getId() as soon as they are queried, even when no item is ever stored
+ * for them, so the ids of such rows have to be returned when they are
+ * removed as well.
+ */
+void releaseId (int id) {
+	if (freeIds == null) {
+		freeIds = new int [4];
+	} else if (freeIdCount == freeIds.length) {
+		int [] newFreeIds = new int [freeIds.length * 2];
+		System.arraycopy (freeIds, 0, newFreeIds, 0, freeIdCount);
+		freeIds = newFreeIds;
+	}
+	freeIds [freeIdCount++] = id;
 }
 
 void releaseItems (long parentIter) {
@@ -2875,7 +3000,11 @@ void releaseItems (long parentIter) {
 			GTK.gtk_tree_model_get (modelHandle, iter, ID_COLUMN, index, -1);
 			if (index [0] != -1) {
 				TreeItem item = items [index [0]];
-				if (item != null) releaseItem (item, true);
+				if (item != null) {
+					releaseItem (item, true);
+				} else {
+					releaseId (index [0]);
+				}
 			}
 		}
 		valid = GTK.gtk_tree_model_iter_next (modelHandle, iter);
@@ -2909,6 +3038,7 @@ void releaseChildren (boolean destroy) {
 @Override
 void releaseWidget () {
 	super.releaseWidget ();
+	releaseChildIndex ();
 	if (modelHandle != 0) OS.g_object_unref (modelHandle);
 	modelHandle = 0;
 	if (checkRenderer != 0) OS.g_object_unref (checkRenderer);
@@ -2945,9 +3075,12 @@ void remove (long parentIter, int start, int end) {
 				}
 				item.dispose ();
 			} else {
+				releaseItems (iter);
+				if (value [0] != -1 && items [value [0]] == null) releaseId (value [0]);
 				OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 				GTK.gtk_tree_store_remove (modelHandle, iter);
 				OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+				modelGeneration++;
 			}
 		}
 	} finally {
@@ -2971,6 +3104,7 @@ public void removeAll () {
 	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 
 	GTK.gtk_tree_store_clear (modelHandle);
+	modelGeneration++;
 
 	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 
@@ -2979,6 +3113,7 @@ public void removeAll () {
 		if (item != null && !item.isDisposed ()) item.release (false);
 	}
 	items = new TreeItem[4];
+	nextId = freeIdCount = 0;
 
 	if (!searchEnabled ()) {
 		GTK.gtk_tree_view_set_search_column (handle, -1);
@@ -3465,6 +3600,20 @@ void setItemCount (long parentIter, int count) {
 		remove (parentIter, count, itemCount - 1);
 	}
 	if (isVirtual) {
+		/*
+		* Feature in GTK. The tree view processes every row inserted
+		* in an attached model, which makes growing a virtual tree
+		* to millions of rows take seconds. The fix is to disconnect
+		* the model while the rows are appended. This is only done
+		* for the root of an empty tree, as there is no selection,
+		* cursor, expanded row or scroll position to lose.
+		*
+		* Note that the model still holds one native row per item,
+		* so memory grows with the item count. Only the work done
+		* by the view for each appended row is avoided.
+		*/
+		boolean detach = parentIter == 0 && itemCount == 0;
+		if (detach) GTK.gtk_tree_view_set_model (handle, 0);
 		long iters = OS.g_malloc (2 * GTK.GtkTreeIter_sizeof ());
 		if (iters == 0) error (SWT.ERROR_NO_HANDLES);
 
@@ -3481,8 +3630,10 @@ void setItemCount (long parentIter, int count) {
 			GTK.gtk_tree_store_insert_after (modelHandle, iterResult, parentIter, iterInsertAfter);
 			GTK.gtk_tree_store_set (modelHandle, iterResult, ID_COLUMN, -1, -1);
 		}
+		modelGeneration++;
 
 		OS.g_free (iters);
+		if (detach) attachModel ();
 	} else {
 		for (int i=itemCount; i<count; i++) {
 			new TreeItem (this, parentIter, SWT.NONE, itemCount, 0);
@@ -3513,6 +3664,120 @@ public void setItemCount (int count) {
 	setItemCount (0, count);
 }
 
+/**
+ * Replaces the root items of the receiver with new items whose texts
+ * are given column by column. The element <code>texts[column][row]</code>
+ * is the text of the root item at index <code>row</code> in the given
+ * column. The number of items is the length of the longest column array.
+ * Missing or <code>null</code> texts leave the cell empty, and columns
+ * beyond the number of columns of the receiver are ignored.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TreeItem.setText(String[])</code>, but is considerably
+ * faster for large trees.
+ * </p>
+ *
+ * @param texts the texts of the new items, one array per column
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the texts array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(int, IntFunction)
+ *
+ * @since 3.133
+ */
+public void setItems (String [][] texts) {
+	checkWidget ();
+	if (texts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = 0;
+	for (String [] column : texts) {
+		if (column != null) count = Math.max (count, column.length);
+	}
+	String [] row = new String [texts.length];
+	setItems (count, index -> {
+		for (int i=0; i<texts.length; i++) {
+			String [] column = texts [i];
+			row [i] = column != null && index < column.length ? column [index] : null;
+		}
+		return row;
+	});
+}
+
+/**
+ * Replaces the root items of the receiver with <code>count</code> new
+ * items. The texts of the item at each index are requested from
+ * <code>rowTexts</code> in increasing index order, one element per
+ * column. The returned array is not retained by the receiver. A
+ * <code>null</code> array or <code>null</code> elements leave the
+ * cells empty.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TreeItem.setText(String[])</code>, but is considerably
+ * faster for large trees.
+ * </p>
+ *
+ * @param count the number of root items
+ * @param rowTexts the function providing the texts of each item
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the function is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(String[][])
+ *
+ * @since 3.133
+ */
+public void setItems (int count, IntFunction<String []> rowTexts) {
+	checkWidget ();
+	if (rowTexts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	count = Math.max (0, count);
+	removeAll ();
+	if (count == 0) return;
+	int columns = Math.max (1, columnCount);
+	int [] textColumns = new int [columns];
+	for (int i=0; i<columns; i++) {
+		int modelIndex = columnCount == 0 ? FIRST_COLUMN : this.columns [i].modelIndex;
+		textColumns [i] = modelIndex + CELL_TEXT;
+	}
+	reallocateIds (Math.max (4, count));
+	/*
+	* Feature in GTK. The tree view processes every row inserted
+	* in an attached model. The fix is to disconnect the model
+	* while the rows are appended and their texts are set. The
+	* rows are appended here rather than in createItem(), which
+	* counts the root items after every insertion.
+	*/
+	GTK.gtk_tree_view_set_model (handle, 0);
+	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
+	if (iter == 0) error (SWT.ERROR_NO_HANDLES);
+	try {
+		for (int i=0; i<count; i++) {
+			GTK.gtk_tree_store_append (modelHandle, iter, 0);
+			TreeItem item = new TreeItem (this, 0, SWT.NONE, i, iter);
+			items [getId (item.handle, false)] = item;
+			String [] strings = rowTexts.apply (i);
+			if (strings != null) item.setText (strings, textColumns);
+		}
+	} finally {
+		OS.g_free (iter);
+		modelChanged = true;
+		modelGeneration++;
+		attachModel ();
+	}
+	Event event = new Event ();
+	event.detail = 0;
+	sendEvent (SWT.EmptinessChanged, event);
+}
+
 /**
  * Selects an item in the receiver.  If the item was already
  * selected, it remains selected.
@@ -3608,7 +3873,7 @@ int setBounds (int x, int y, int width, int height, boolean move, boolean resize
 	* a new shell is created. The fix is to ensure the tree view is realized
 	* after it has been resized.
 	*/
-	GTK.gtk_widget_realize (handle);
+	realizeHandle ();
 	return result;
 }
 
@@ -3828,6 +4093,7 @@ void setModel (long newModel) {
 	display.removeWidget (modelHandle);
 	OS.g_object_unref (modelHandle);
 	modelHandle = newModel;
+	modelGeneration++;
 	display.addWidget (modelHandle, this);
 }
 
@@ -4120,6 +4386,61 @@ public void showSelection () {
 	if (items.length != 0 && items [0] != null) showItem (items [0]);
 }
 
+/**
+ * Sorts the children of the given item, or the root items when
+ * the item is <code>null</code>, with the given comparator. Items
+ * that compare equal keep their relative order. The selection,
+ * the focus item, the expanded state and the items themselves
+ * are preserved; only their indices change.
+ * <p>
+ * The comparator is called on the thread of the receiver and
+ * may query the items. In a tree created with the
+ * <code>SWT.VIRTUAL</code> style, all children of the item are
+ * created and <code>SWT.SetData</code> is sent for the items the
+ * comparator reads.
+ * </p>
+ *
+ * @param parent the item whose children are sorted, or <code>null</code> for the root items
+ * @param comparator the comparator deciding the order of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the item has been disposed</li>
+ *    <li>ERROR_INVALID_PARENT - if the item is not in the receiver</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.133
+ */
+public void sort (TreeItem parent, Comparator<TreeItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	long parentIter = 0;
+	if (parent != null) {
+		if (parent.isDisposed ()) error (SWT.ERROR_INVALID_ARGUMENT);
+		if (parent.parent != this) error (SWT.ERROR_INVALID_PARENT);
+		parentIter = parent.handle;
+	}
+	TreeItem [] children = getItems (parentIter);
+	int [] newOrder = ItemOrder.sort (children, children.length, comparator);
+	if (newOrder == null) return;
+	/*
+	* The items keep their iterators, as the iterators of a tree
+	* store persist when its rows are reordered, and the tree view
+	* moves the selection, the cursor and the expanded rows along
+	* with the rows.
+	*/
+	long selection = GTK.gtk_tree_view_get_selection (handle);
+	OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	GTK.gtk_tree_store_reorder (modelHandle, parentIter, newOrder);
+	OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+	modelChanged = true;
+	modelGeneration++;
+}
+
 void showItem (long path, boolean scroll) {
 	int depth = GTK.gtk_tree_path_get_depth (path);
 	if (depth > 1) {
@@ -776,6 +776,7 @@ public TreeItem getItem (int index) {
 	checkWidget();
 	if (index < 0) error (SWT.ERROR_INVALID_RANGE);
 	if (!parent.checkData (this)) error (SWT.ERROR_WIDGET_DISPOSED);
+	if (parent.indexChildren (this, handle)) return parent._getIndexedItem (handle, index);
 
 	long iter = OS.g_malloc (GTK.GtkTreeIter_sizeof ());
 	try {
@@ -1009,6 +1010,8 @@ public int indexOf (TreeItem item) {
 	if (item == null) error (SWT.ERROR_NULL_ARGUMENT);
 	if (item.isDisposed()) error (SWT.ERROR_INVALID_ARGUMENT);
 	int index = -1;
+	boolean indexed = parent.indexChildren (this, handle);
+	if (indexed && (index = parent.indexOfIndexed (item.handle)) != -1) return index;
 	boolean isParent = false;
 	long currentPath = GTK.gtk_tree_model_get_path (parent.modelHandle, handle);
 	long parentPath = GTK.gtk_tree_model_get_path (parent.modelHandle, item.handle);
@@ -1029,6 +1032,7 @@ public int indexOf (TreeItem item) {
 		}
 	}
 	GTK.gtk_tree_path_free (path);
+	if (indexed && index != -1) parent.recordIndex (this, index, parent.getId (item.handle, true));
 	return index;
 }
 
@@ -1092,9 +1096,12 @@ public void removeAll () {
 		if (item != null && !item.isDisposed ()) {
 			item.dispose ();
 		} else {
+			parent.releaseItems (iter);
+			if (value [0] != -1 && parent.items [value [0]] == null) parent.releaseId (value [0]);
 			OS.g_signal_handlers_block_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
 			GTK.gtk_tree_store_remove (modelHandle, iter);
 			OS.g_signal_handlers_unblock_matched (selection, OS.G_SIGNAL_MATCH_DATA, 0, 0, 0, 0, CHANGED);
+			parent.modelGeneration++;
 		}
 	}
 	OS.g_free (iter);
@@ -1651,6 +1658,28 @@ public void setText (int index, String string) {
 	updated = true;
 }
 
+/*
+ * Sets the texts of an item created by Tree.setItems(). The item
+ * has no text yet, so unlike setText(int, String) there is nothing
+ * to compare against and the model column of each text is known.
+ */
+void setText (String [] strings, int [] textColumns) {
+	int count = Math.min (strings.length, textColumns.length);
+	for (int i=0; i<count; i++) {
+		String string = strings [i];
+		if (string == null || string.isEmpty ()) continue;
+		if (this.strings == null) this.strings = new String [textColumns.length];
+		this.strings [i] = string;
+		if (string.length() > TEXT_LIMIT) {
+			string = string.substring(0, TEXT_LIMIT - ELLIPSIS.length()) + ELLIPSIS;
+		}
+		byte[] buffer = Converter.wcsToMbcs (string, true);
+		GTK.gtk_tree_store_set (parent.modelHandle, handle, textColumns [i], buffer, -1);
+	}
+	cached = true;
+	updated = true;
+}
+
 @Override
 public void setText (String string) {
 	checkWidget ();
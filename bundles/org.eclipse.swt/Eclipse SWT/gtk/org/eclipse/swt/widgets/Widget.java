@@ -125,6 +125,9 @@ public abstract class Widget {
 	/* Should sub-windows be checked when EnterNotify received */
 	static final int CHECK_SUBWINDOW = 1<<25;
 
+	/* The stacking order of the native window is applied when the control is realized */
+	static final int ZORDER_PENDING = 1<<26;
+
 	/* Bidi "auto" text direction */
 	static final int HAS_AUTO_DIRECTION = 0;
 
@@ -622,7 +625,7 @@ void error (int code) {
  */
 public Object getData () {
 	checkWidget();
-	return (state & KEYED_DATA) != 0 ? ((Object []) data) [0] : data;
+	return (state & KEYED_DATA) != 0 ? ((KeyedData) data).data : data;
 }
 /**
  * Returns the application defined property of the receiver
@@ -655,15 +658,50 @@ public Object getData (String key) {
 		return (state & CHECK_SUBWINDOW) != 0;
 	}
 	if (key.equals(IS_ACTIVE)) return isActive ();
-	if ((state & KEYED_DATA) != 0) {
-		Object [] table = (Object []) data;
-		for (int i=1; i<table.length; i+=2) {
-			if (key.equals (table [i])) return table [i+1];
-		}
-	}
+	if ((state & KEYED_DATA) != 0) return ((KeyedData) data).get (key);
 	return null;
 }
 
+/**
+ * Returns the application defined properties of the receiver
+ * with the specified names, or null for the properties which
+ * have not been set.
+ * <p>
+ * This is equivalent to calling <code>getData(String)</code> for
+ * each of the keys, which is done in order after all the keys
+ * have been checked, so that no property is read when one of the
+ * keys is invalid.
+ * </p>
+ *
+ * @param keys the names of the properties
+ * @return an array of the same length as <code>keys</code> holding the values of the properties
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the keys array or any of the keys is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #getData(String)
+ * @see #setDataValues(String[], Object[])
+ *
+ * @since 3.133
+ */
+public Object [] getDataValues (String [] keys) {
+	checkWidget();
+	if (keys == null) error (SWT.ERROR_NULL_ARGUMENT);
+	for (String key : keys) {
+		if (key == null) error (SWT.ERROR_NULL_ARGUMENT);
+	}
+	Object [] values = new Object [keys.length];
+	for (int i=0; i<keys.length; i++) {
+		values [i] = getData (keys [i]);
+	}
+	return values;
+}
+
 /**
  * Returns the <code>Display</code> that is associated with
  * the receiver.
@@ -1857,7 +1895,7 @@ void sendSelectionEvent (int eventType, Event event, boolean send) {
 public void setData (Object data) {
 	checkWidget();
 	if ((state & KEYED_DATA) != 0) {
-		((Object []) this.data) [0] = data;
+		((KeyedData) this.data).data = data;
 	} else {
 		this.data = data;
 	}
@@ -1902,44 +1940,17 @@ public void setData (String key, Object value) {
 		return;
 	}
 
-	int index = 1;
-	Object [] table = null;
-	if ((state & KEYED_DATA) != 0) {
-		table = (Object []) data;
-		while (index < table.length) {
-			if (key.equals (table [index])) break;
-			index += 2;
-		}
-	}
 	if (value != null) {
-		if ((state & KEYED_DATA) != 0) {
-			if (index == table.length) {
-				Object [] newTable = new Object [table.length + 2];
-				System.arraycopy (table, 0, newTable, 0, table.length);
-				data = table = newTable;
-			}
-		} else {
-			table = new Object [3];
-			table [0] = data;
-			data = table;
+		if ((state & KEYED_DATA) == 0) {
+			data = new KeyedData (data);
 			state |= KEYED_DATA;
 		}
-		table [index] = key;
-		table [index + 1] = value;
-	} else {
-		if ((state & KEYED_DATA) != 0) {
-			if (index != table.length) {
-				int length = table.length - 2;
-				if (length == 1) {
-					data = table [0];
-					state &= ~KEYED_DATA;
-				} else {
-					Object [] newTable = new Object [length];
-					System.arraycopy (table, 0, newTable, 0, index);
-					System.arraycopy (table, index + 2, newTable, index, length - index);
-					data = newTable;
-				}
-			}
+		((KeyedData) data).put (key, value);
+	} else if ((state & KEYED_DATA) != 0) {
+		KeyedData table = (KeyedData) data;
+		if (table.remove (key) && table.isEmpty ()) {
+			data = table.data;
+			state &= ~KEYED_DATA;
 		}
 	}
 	if (key.equals(SWT.SKIN_CLASS) || key.equals(SWT.SKIN_ID)) this.reskin(SWT.ALL);
@@ -1958,6 +1969,60 @@ public void setData (String key, Object value) {
 	}
 }
 
+/**
+ * Sets the application defined properties of the receiver
+ * with the specified names to the given values.
+ * <p>
+ * This is equivalent to calling <code>setData(String, Object)</code>
+ * for each key and value pair, which is done in order after all
+ * the arguments have been checked, so that no property is changed
+ * when one of the arguments is invalid. The property storage of
+ * the receiver is grown at most once.
+ * </p>
+ *
+ * @param keys the names of the properties
+ * @param values the new values for the properties, <code>null</code> entries remove the property
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the keys or the values array or any of the keys is null</li>
+ *    <li>ERROR_INVALID_ARGUMENT - if the keys and the values arrays have different lengths</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setData(String, Object)
+ * @see #getDataValues(String[])
+ *
+ * @since 3.133
+ */
+public void setDataValues (String [] keys, Object [] values) {
+	checkWidget();
+	if (keys == null || values == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (keys.length != values.length) error (SWT.ERROR_INVALID_ARGUMENT);
+	for (String key : keys) {
+		if (key == null) error (SWT.ERROR_NULL_ARGUMENT);
+	}
+	if (keys.length > KeyedData.LINEAR_LIMIT) {
+		if ((state & KEYED_DATA) == 0) {
+			data = new KeyedData (data);
+			state |= KEYED_DATA;
+		}
+		((KeyedData) data).ensureCapacity (keys.length);
+	}
+	for (int i=0; i<keys.length; i++) {
+		setData (keys [i], values [i]);
+	}
+	if ((state & KEYED_DATA) != 0) {
+		KeyedData table = (KeyedData) data;
+		if (table.isEmpty ()) {
+			data = table.data;
+			state &= ~KEYED_DATA;
+		}
+	}
+}
+
 /**
  * @param fontDescription Font description in the form of
  *                        <code>PangoFontDescription*</code>. This pointer
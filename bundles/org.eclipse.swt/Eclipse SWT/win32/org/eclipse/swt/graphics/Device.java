@@ -42,6 +42,9 @@ public abstract class Device implements Drawable {
 	Object [] objects;
 	Object trackingLock;
 
+	/* Fonts, colors and cursors shared by value */
+	SharedResources sharedResources;
+
 	/* System Font */
 	Font systemFont;
 
@@ -347,6 +350,7 @@ public void dispose () {
 			}
 
 			destroy ();
+			TextExtentCache.flush (this);
 			disposed = true;
 			if (tracking) {
 				synchronized (trackingLock) {
@@ -625,6 +629,29 @@ String getLastError () {
 	return " [GetLastError=0x" + Integer.toHexString(error) + "]"; //$NON-NLS-1$ //$NON-NLS-2$
 }
 
+/**
+ * Returns the shared resources of the receiver, which hand out fonts,
+ * colors and cursors that are shared by value and disposed when the
+ * code using them has released them. This method may be called
+ * from any thread.
+ *
+ * @return the shared resources of the receiver
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see SharedResources
+ *
+ * @since 3.133
+ */
+public synchronized SharedResources getSharedResources () {
+	/* Fonts and colors are shared with other threads, so only the disposal is checked */
+	if (isDisposed ()) SWT.error (SWT.ERROR_DEVICE_DISPOSED);
+	if (sharedResources == null) sharedResources = new SharedResources (this);
+	return sharedResources;
+}
+
 /**
  * Returns the matching standard color for the given
  * constant, which should be one of the color constants
@@ -918,6 +945,9 @@ void printErrors () {
  * @see #destroy
  */
 protected void release () {
+	if (sharedResources != null) sharedResources.dispose ();
+	sharedResources = null;
+
 	if (gdipToken != null) {
 		if (fontCollection != 0) {
 			Gdip.PrivateFontCollection_delete(fontCollection);
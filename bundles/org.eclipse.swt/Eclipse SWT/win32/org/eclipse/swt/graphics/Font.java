@@ -191,6 +191,7 @@ public Font(Device device, String name, int height, int style) {
 
 @Override
 void destroy() {
+	TextExtentCache.flush(handle);
 	OS.DeleteObject(handle);
 	handle = 0;
 	isDestroyed = true;
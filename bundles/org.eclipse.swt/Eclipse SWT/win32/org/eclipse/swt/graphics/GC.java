@@ -1987,6 +1987,76 @@ private void drawLineInPixels (int x1, int y1, int x2, int y2) {
 	}
 }
 
+/**
+ * Draws lines, using the foreground color, between the pairs of points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains the values <code>x1</code>, <code>y1</code>, <code>x2</code>
+ * and <code>y2</code> of every line in turn, so that drawing the lines is
+ * the same as calling <code>drawLine</code> for every four values, but is
+ * done in one operation. Values at the end of the array which do not make
+ * a complete line are ignored.
+ *
+ * @param segments an array of the coordinates of the end points of the lines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the segment array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawLine(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void drawLines (int[] segments) {
+	checkNonDisposed();
+	if (segments == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (segments.length < 4) return;
+	storeAndApplyOperationForExistingHandle(new DrawLinesOperation(segments));
+}
+
+private class DrawLinesOperation extends Operation {
+	private final int[] segments;
+
+	DrawLinesOperation(int[] segments) {
+		/* batches are usually drawn from a buffer which is refilled for the next frame */
+		this.segments = segments.clone();
+	}
+
+	@Override
+	void apply() {
+		drawLinesInPixels(Win32DPIUtils.pointToPixel(drawable, segments, getZoom()));
+	}
+}
+
+private void drawLinesInPixels (int[] segments) {
+	checkGC(DRAW);
+	int count = segments.length / 4;
+	long gdipGraphics = data.gdipGraphics;
+	if (gdipGraphics != 0) {
+		if (count == 0) return;
+		/* Each segment is a figure of the path, which is stroked at once */
+		byte[] types = new byte[count * 2];
+		for (int i = 0; i < types.length; i += 2) {
+			types[i] = Gdip.PathPointTypeStart;
+			types[i + 1] = Gdip.PathPointTypeLine;
+		}
+		drawLinesPath(gdipGraphics, segments, types);
+		return;
+	}
+	int xOffset = 0;
+	if ((data.style & SWT.MIRRORED) != 0) {
+		if (data.lineWidth != 0 && data.lineWidth % 2 == 0) xOffset = -1;
+	}
+	boolean setPixel = data.lineWidth <= 1;
+	for (int i = 0, j = 0; i < count; i++, j += 4) {
+		OS.MoveToEx (handle, segments[j] + xOffset, segments[j + 1], 0);
+		OS.LineTo (handle, segments[j + 2] + xOffset, segments[j + 3]);
+		if (setPixel) OS.SetPixel (handle, segments[j + 2] + xOffset, segments[j + 3], data.foreground);
+	}
+}
+
 /**
  * Draws the outline of an oval, using the foreground color,
  * within the specified rectangular area.
@@ -2144,6 +2214,65 @@ private void drawPointInPixels (int x, int y) {
 	OS.SetPixel (handle, x, y, data.foreground);
 }
 
+/**
+ * Draws SWT logical points, using the foreground color, at the points
+ * which are defined by the specified array of integer coordinates. The
+ * array contains alternating x and y values, so that drawing the points
+ * is the same as calling <code>drawPoint</code> for every pair of values,
+ * but is done in one operation.
+ * <p>
+ * Note that the receiver's line attributes do not affect this
+ * operation.
+ * </p>
+ *
+ * @param pointArray an array of alternating x and y values of the points
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the point array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPoint(int, int)
+ *
+ * @since 3.133
+ */
+public void drawPoints (int[] pointArray) {
+	checkNonDisposed();
+	if (pointArray == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (pointArray.length < 2) return;
+	storeAndApplyOperationForExistingHandle(new DrawPointsOperation(pointArray));
+}
+
+private class DrawPointsOperation extends Operation {
+	private final int[] pointArray;
+
+	DrawPointsOperation(int[] pointArray) {
+		this.pointArray = pointArray.clone();
+	}
+
+	@Override
+	void apply() {
+		drawPointsInPixels(Win32DPIUtils.pointToPixel(pointArray, getZoom()));
+	}
+}
+
+private void drawPointsInPixels (int[] pointArray) {
+	int count = pointArray.length / 2;
+	if (data.gdipGraphics != 0) {
+		checkGC(DRAW);
+		long brush = getFgBrush();
+		for (int i = 0, j = 0; i < count; i++, j += 2) {
+			Gdip.Graphics_FillRectangle(data.gdipGraphics, brush, pointArray[j], pointArray[j + 1], 1, 1);
+		}
+		return;
+	}
+	for (int i = 0, j = 0; i < count; i++, j += 2) {
+		OS.SetPixel (handle, pointArray[j], pointArray[j + 1], data.foreground);
+	}
+}
+
 /**
  * Draws the closed polygon which is defined by the specified array
  * of integer coordinates, using the receiver's foreground color. The array
@@ -2274,6 +2403,94 @@ private void drawPolylineInPixels(int[] pointArray) {
 	}
 }
 
+/**
+ * Draws the polylines which are defined by the specified arrays of
+ * integer coordinates, using the receiver's foreground color. Every
+ * array contains alternating x and y values which are the corners of a
+ * polyline, so that drawing the polylines is the same as calling
+ * <code>drawPolyline</code> for every array, but is done in one operation.
+ *
+ * @param pointArrays the arrays of alternating x and y values which are the corners of the polylines
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the array of point arrays or any of the point arrays is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #drawPolyline(int[])
+ *
+ * @since 3.133
+ */
+public void drawPolylines (int[][] pointArrays) {
+	checkNonDisposed();
+	if (pointArrays == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	int[][] copies = new int[pointArrays.length][];
+	for (int i = 0; i < pointArrays.length; i++) {
+		if (pointArrays[i] == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		copies[i] = pointArrays[i].clone();
+	}
+	if (copies.length == 0) return;
+	storeAndApplyOperationForExistingHandle(new DrawPolylinesOperation(copies));
+}
+
+private class DrawPolylinesOperation extends Operation {
+	private final int[][] pointArrays;
+
+	DrawPolylinesOperation(int[][] pointArrays) {
+		this.pointArrays = pointArrays;
+	}
+
+	@Override
+	void apply() {
+		int zoom = getZoom();
+		int[][] scaledPointArrays = new int[pointArrays.length][];
+		for (int i = 0; i < pointArrays.length; i++) {
+			scaledPointArrays[i] = Win32DPIUtils.pointToPixel(drawable, pointArrays[i], zoom);
+		}
+		drawPolylinesInPixels(scaledPointArrays);
+	}
+}
+
+private void drawPolylinesInPixels(int[][] pointArrays) {
+	checkGC(DRAW);
+	long gdipGraphics = data.gdipGraphics;
+	if (gdipGraphics != 0) {
+		/* Each polyline is a figure of the path, which is stroked at once */
+		int pointCount = 0;
+		for (int[] pointArray : pointArrays) {
+			if (pointArray.length >= 4) pointCount += pointArray.length / 2;
+		}
+		if (pointCount == 0) return;
+		int[] points = new int[pointCount * 2];
+		byte[] types = new byte[pointCount];
+		int index = 0;
+		for (int[] pointArray : pointArrays) {
+			int length = pointArray.length / 2;
+			if (length < 2) continue;
+			System.arraycopy(pointArray, 0, points, index * 2, length * 2);
+			types[index] = Gdip.PathPointTypeStart;
+			Arrays.fill(types, index + 1, index + length, (byte) Gdip.PathPointTypeLine);
+			index += length;
+		}
+		drawLinesPath(gdipGraphics, points, types);
+		return;
+	}
+	for (int[] pointArray : pointArrays) {
+		drawPolylineInPixels(pointArray);
+	}
+}
+
+private void drawLinesPath(long gdipGraphics, int[] points, byte[] types) {
+	long path = Gdip.GraphicsPath_new(points, types, types.length, Gdip.FillModeAlternate);
+	if (path == 0) SWT.error(SWT.ERROR_NO_HANDLES);
+	Gdip.Graphics_TranslateTransform(gdipGraphics, data.gdipXOffset, data.gdipYOffset, Gdip.MatrixOrderPrepend);
+	Gdip.Graphics_DrawPath(gdipGraphics, data.gdipPen, path);
+	Gdip.Graphics_TranslateTransform(gdipGraphics, -data.gdipXOffset, -data.gdipYOffset, Gdip.MatrixOrderPrepend);
+	Gdip.GraphicsPath_delete(path);
+}
+
 /**
  * Draws the outline of the rectangle specified by the arguments,
  * using the receiver's foreground color. The left and right edges
@@ -3558,6 +3775,83 @@ public void fillRectangle (Rectangle rect) {
 	storeAndApplyOperationForExistingHandle(new FillRectangleOperation(rect));
 }
 
+/**
+ * Fills the interior of the rectangles which are defined by the
+ * specified array of integer coordinates, using the receiver's
+ * background color. The array contains the values <code>x</code>,
+ * <code>y</code>, <code>width</code> and <code>height</code> of every
+ * rectangle in turn, so that filling the rectangles is the same as
+ * calling <code>fillRectangle</code> for every four values, but is done
+ * in one operation. Values at the end of the array which do not make a
+ * complete rectangle are ignored.
+ *
+ * @param rects an array of the coordinates and sizes of the rectangles
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the rectangle array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #fillRectangle(int, int, int, int)
+ *
+ * @since 3.133
+ */
+public void fillRectangles (int[] rects) {
+	checkNonDisposed();
+	if (rects == null) SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	if (rects.length < 4) return;
+	storeAndApplyOperationForExistingHandle(new FillRectanglesOperation(rects));
+}
+
+private class FillRectanglesOperation extends Operation {
+	private final int[] rects;
+
+	FillRectanglesOperation(int[] rects) {
+		this.rects = rects.clone();
+	}
+
+	@Override
+	void apply() {
+		int zoom = getZoom();
+		int count = rects.length / 4;
+		int[] scaledRects = new int[count * 4];
+		for (int i = 0, j = 0; i < count; i++, j += 4) {
+			Rectangle scaledBounds = Win32DPIUtils.pointToPixel(drawable, new Rectangle(rects[j], rects[j + 1], rects[j + 2], rects[j + 3]), zoom);
+			scaledRects[j] = scaledBounds.x;
+			scaledRects[j + 1] = scaledBounds.y;
+			scaledRects[j + 2] = scaledBounds.width;
+			scaledRects[j + 3] = scaledBounds.height;
+		}
+		fillRectanglesInPixels(scaledRects);
+	}
+}
+
+void fillRectanglesInPixels (int[] rects) {
+	checkGC(FILL);
+	int count = rects.length / 4;
+	if (data.gdipGraphics != 0) {
+		for (int i = 0, j = 0; i < count; i++, j += 4) {
+			int x = rects[j], y = rects[j + 1], width = rects[j + 2], height = rects[j + 3];
+			if (width < 0) {
+				x = x + width;
+				width = -width;
+			}
+			if (height < 0) {
+				y = y + height;
+				height = -height;
+			}
+			Gdip.Graphics_FillRectangle(data.gdipGraphics, data.gdipBrush, x, y, width, height);
+		}
+		return;
+	}
+	int dwRop = OS.GetROP2(handle) == OS.R2_XORPEN ? OS.PATINVERT : OS.PATCOPY;
+	for (int i = 0, j = 0; i < count; i++, j += 4) {
+		OS.PatBlt(handle, rects[j], rects[j + 1], rects[j + 2], rects[j + 3], dwRop);
+	}
+}
+
 /**
  * Fills the interior of the round-cornered rectangle specified by
  * the arguments, using the receiver's background color.
@@ -5925,14 +6219,19 @@ Point textExtentInPixels(String string, int flags) {
 		OS.GetTextExtentPoint32(handle, new char [] {' '}, 1, size);
 		return new Point(0, size.cy);
 	}
-	RECT rect = new RECT();
-	char [] buffer = string.toCharArray();
 	int uFormat = OS.DT_LEFT | OS.DT_CALCRECT;
 	if ((flags & SWT.DRAW_DELIMITER) == 0) uFormat |= OS.DT_SINGLELINE;
 	if ((flags & SWT.DRAW_TAB) != 0) uFormat |= OS.DT_EXPANDTABS;
 	if ((flags & SWT.DRAW_MNEMONIC) == 0) uFormat |= OS.DT_NOPREFIX;
+	long hFont = SWTFontProvider.getFontHandle(data.font, data.nativeZoom);
+	Point extent = TextExtentCache.get(data.device, hFont, string, uFormat, SWT.DEFAULT);
+	if (extent != null) return extent;
+	RECT rect = new RECT();
+	char [] buffer = string.toCharArray();
 	OS.DrawText(handle, buffer, buffer.length, rect, uFormat);
-	return new Point(rect.right, rect.bottom);
+	extent = new Point(rect.right, rect.bottom);
+	TextExtentCache.put(data.device, hFont, string, uFormat, SWT.DEFAULT, extent);
+	return extent;
 }
 
 void refreshFor(Drawable drawable) {
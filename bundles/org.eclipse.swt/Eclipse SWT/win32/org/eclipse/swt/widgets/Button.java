@@ -380,9 +380,9 @@ Point computeSizeInPixels (Point hintInPoints, int zoom, boolean changed) {
 					height = Math.max (height, lptm.tmHeight);
 				} else {
 					extra = Math.max (DPIUtil.pointToPixel(MARGIN * 2, getZoom()), lptm.tmAveCharWidth);
-					char [] buffer = text.toCharArray ();
 					RECT rect = new RECT ();
 					int flags = OS.DT_CALCRECT | OS.DT_SINGLELINE;
+					int wrapWidth = SWT.DEFAULT;
 					if ((style & SWT.WRAP) != 0 && hintInPoints.x != SWT.DEFAULT) {
 						flags = OS.DT_CALCRECT | OS.DT_WORDBREAK;
 						rect.right = hintInPixels.x - width - 2 * border;
@@ -397,10 +397,17 @@ Point computeSizeInPixels (Point hintInPoints, int zoom, boolean changed) {
 								rect.right -= 2;
 							}
 						}
+						wrapWidth = rect.right;
 					}
-					OS.DrawText (hDC, buffer, buffer.length, rect, flags);
-					width += rect.right - rect.left;
-					height = Math.max (height, rect.bottom - rect.top);
+					Point extent = TextExtentCache.get (display, newFont, text, flags, wrapWidth);
+					if (extent == null) {
+						char [] buffer = text.toCharArray ();
+						OS.DrawText (hDC, buffer, buffer.length, rect, flags);
+						extent = new Point (rect.right - rect.left, rect.bottom - rect.top);
+						TextExtentCache.put (display, newFont, text, flags, wrapWidth, extent);
+					}
+					width += extent.x;
+					height = Math.max (height, extent.y);
 				}
 				if (newFont != 0) OS.SelectObject (hDC, oldFont);
 				OS.ReleaseDC (handle, hDC);
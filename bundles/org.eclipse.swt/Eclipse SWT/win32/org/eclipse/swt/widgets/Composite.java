@@ -53,7 +53,7 @@ public class Composite extends Scrollable {
 	Layout layout;
 	WINDOWPOS [] lpwp;
 	Control [] tabList;
-	int layoutCount, backgroundMode;
+	int layoutCount, boundsCount, backgroundMode;
 
 	static final int TOOLTIP_LIMIT = 4096;
 
@@ -530,6 +530,26 @@ boolean hooksKeys () {
 	return hooks (SWT.KeyDown) || hooks (SWT.KeyUp);
 }
 
+/**
+ * Returns <code>true</code> if the receiver has deferred changes
+ * to the bounds of its children, and <code>false</code> otherwise.
+ *
+ * @return the receiver's deferred child bounds state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setChildBoundsDeferred(boolean)
+ *
+ * @since 3.133
+ */
+public boolean getChildBoundsDeferred () {
+	checkWidget ();
+	return boundsCount > 0;
+}
+
 /**
  * Returns <code>true</code> if the receiver has deferred
  * the performing of layout, and <code>false</code> otherwise.
@@ -1095,6 +1115,55 @@ public void setLayout (Layout layout) {
 	this.layout = layout;
 }
 
+/**
+ * If the argument is <code>true</code>, causes subsequent changes to
+ * the bounds of the children of the receiver made with
+ * <code>setBounds</code> to be collected instead of applied. When the
+ * flag is set to <code>false</code>, the collected bounds are applied
+ * in a single pass, and <code>Move</code> and <code>Resize</code> events
+ * are sent at that time for the children whose bounds changed. Querying
+ * the bounds, the location or the size of a child, or setting only its
+ * location or its size, applies the bounds collected for that child
+ * first. Nested calls to this method are stacked.
+ * <p>
+ * Layout passes do not defer the bounds of the children by themselves.
+ * Applications laying out or positioning many children can wrap that code
+ * in calls to this method, so that each child is moved and resized
+ * natively at most once.
+ * </p>
+ *
+ * @param defer the new defer state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see Control#setBounds(int, int, int, int)
+ * @see #setLayoutDeferred(boolean)
+ *
+ * @since 3.133
+ */
+public void setChildBoundsDeferred (boolean defer) {
+	checkWidget ();
+	deferChildBounds (defer);
+}
+
+void deferChildBounds (boolean defer) {
+	if (defer) {
+		/*
+		* Unlike the deferral of WM_SIZE, an explicit deferral collects
+		* the bounds regardless of the number of children and of the
+		* resize nesting, the array grows as children are positioned.
+		*/
+		if (boundsCount++ == 0 && lpwp == null) {
+			lpwp = new WINDOWPOS [getChildrenCount ()];
+		}
+	} else {
+		if (boundsCount > 0 && --boundsCount == 0) resizeChildren ();
+	}
+}
+
 /**
  * If the argument is <code>true</code>, causes subsequent layout
  * operations in the receiver or any of its children to be ignored.
@@ -1161,7 +1230,8 @@ public void setTabList (Control [] tabList) {
 
 void setResizeChildren (boolean resize) {
 	if (resize) {
-		resizeChildren ();
+		/* The bounds are applied when the explicit deferral ends */
+		if (boundsCount == 0) resizeChildren ();
 	} else {
 		if (display.resizeCount > Display.RESIZE_LIMIT) {
 			return;
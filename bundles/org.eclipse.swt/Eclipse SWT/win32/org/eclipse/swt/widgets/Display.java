@@ -127,7 +127,7 @@ public class Display extends Device implements Executor {
 	String appLocalDir;
 
 	/* Windows and Events */
-	Event [] eventQueue;
+	EventQueue eventQueue;
 	Callback windowCallback;
 	long windowProc;
 	int threadId;
@@ -3696,19 +3696,11 @@ void postEvent (Event event) {
 	* thread so it must be re-enterant but does not
 	* need to be synchronized.
 	*/
-	if (eventQueue == null) eventQueue = new Event [4];
-	int index = 0;
-	int length = eventQueue.length;
-	while (index < length) {
-		if (eventQueue [index] == null) break;
-		index++;
+	if (eventQueue == null) eventQueue = new EventQueue ();
+	eventQueue.add (event);
+	if (DisplaySpy.isEnabled) {
+		DisplaySpy.getInstance ().deferredEventPosted (this, event, eventQueue.size ());
 	}
-	if (index == length) {
-		Event [] newQueue = new Event [length + 4];
-		System.arraycopy (eventQueue, 0, newQueue, 0, length);
-		eventQueue = newQueue;
-	}
-	eventQueue [index] = event;
 }
 
 /**
@@ -3737,6 +3729,17 @@ void postEvent (Event event) {
  */
 public boolean readAndDispatch () {
 	checkDevice ();
+	if (!DisplaySpy.isEnabled) return readAndDispatchEvents ();
+	long start = System.nanoTime ();
+	DisplaySpy.getInstance ().dispatchStarted (this);
+	try {
+		return readAndDispatchEvents ();
+	} finally {
+		DisplaySpy.getInstance ().dispatchFinished (this, System.nanoTime () - start);
+	}
+}
+
+boolean readAndDispatchEvents () {
 	lpStartupInfo = null;
 	drawMenuBars ();
 	runSkin ();
@@ -4147,11 +4150,11 @@ boolean runDeferredEvents () {
 	while (eventQueue != null) {
 
 		/* Take an event off the queue */
-		Event event = eventQueue [0];
+		Event event = eventQueue.poll ();
 		if (event == null) break;
-		int length = eventQueue.length;
-		System.arraycopy (eventQueue, 1, eventQueue, 0, --length);
-		eventQueue [length] = null;
+		if (DisplaySpy.isEnabled) {
+			DisplaySpy.getInstance ().deferredEventRun (this, event, eventQueue.size ());
+		}
 
 		/* Run the event */
 		Widget widget = event.widget;
@@ -4256,12 +4259,18 @@ boolean runTimer (long id) {
 				Runnable runnable = timerList [index];
 				timerList [index] = null;
 				if (runnable != null) {
+					boolean spy = DisplaySpy.isEnabled;
+					long start = spy ? System.nanoTime () : 0;
 					try {
 						runnable.run ();
 					} catch (RuntimeException exception) {
 						runtimeExceptionHandler.accept (exception);
 					} catch (Error exception) {
 						errorHandler.accept (exception);
+					} finally {
+						if (spy) {
+							DisplaySpy.getInstance ().timerExecRun (this, runnable, System.nanoTime () - start);
+						}
 					}
 				}
 				return true;
@@ -4860,7 +4869,11 @@ public boolean sleep () {
 	checkDevice ();
 	if (!synchronizer.isMessagesEmpty()) return true;
 	sendPreExternalEventDispatchEvent ();
+	boolean spy = DisplaySpy.isEnabled;
+	long start = spy ? System.nanoTime () : 0;
+	if (spy) DisplaySpy.getInstance ().sleepStarted (this);
 	boolean result = OS.WaitMessage ();
+	if (spy) DisplaySpy.getInstance ().sleepFinished (this, 1, System.nanoTime () - start);
 	sendPostExternalEventDispatchEvent ();
 	return result;
 }
@@ -152,29 +152,37 @@ Point computeSizeInPixels (Point hintInPoints, int zoom, boolean changed) {
 		width += rect.width;
 		height += rect.height;
 	} else {
-		long hDC = OS.GetDC (handle);
 		long newFont = OS.SendMessage (handle, OS.WM_GETFONT, 0, 0);
-		long oldFont = OS.SelectObject (hDC, newFont);
 		int length = OS.GetWindowTextLength (handle);
-		if (length == 0) {
-			TEXTMETRIC tm = new TEXTMETRIC ();
-			OS.GetTextMetrics (hDC, tm);
-			height = Math.max (height, tm.tmHeight);
-		} else {
-			RECT rect = new RECT ();
-			int flags = OS.DT_CALCRECT | OS.DT_EDITCONTROL | OS.DT_EXPANDTABS;
-			if ((style & SWT.WRAP) != 0 && hintInPoints.x != SWT.DEFAULT) {
-				flags |= OS.DT_WORDBREAK;
-				rect.right = Math.max (0, hintInPixels.x - width);
+		char [] buffer = new char [length + 1];
+		if (length != 0) OS.GetWindowText (handle, buffer, length + 1);
+		String string = new String (buffer, 0, length);
+		int flags = OS.DT_CALCRECT | OS.DT_EDITCONTROL | OS.DT_EXPANDTABS;
+		int wrapWidth = SWT.DEFAULT;
+		if ((style & SWT.WRAP) != 0 && hintInPoints.x != SWT.DEFAULT) {
+			flags |= OS.DT_WORDBREAK;
+			wrapWidth = Math.max (0, hintInPixels.x - width);
+		}
+		Point extent = TextExtentCache.get (display, newFont, string, flags, wrapWidth);
+		if (extent == null) {
+			long hDC = OS.GetDC (handle);
+			long oldFont = OS.SelectObject (hDC, newFont);
+			if (length == 0) {
+				TEXTMETRIC tm = new TEXTMETRIC ();
+				OS.GetTextMetrics (hDC, tm);
+				extent = new Point (0, tm.tmHeight);
+			} else {
+				RECT rect = new RECT ();
+				if (wrapWidth != SWT.DEFAULT) rect.right = wrapWidth;
+				OS.DrawText (hDC, buffer, length, rect, flags);
+				extent = new Point (rect.right - rect.left, rect.bottom - rect.top);
 			}
-			char [] buffer = new char [length + 1];
-			OS.GetWindowText (handle, buffer, length + 1);
-			OS.DrawText (hDC, buffer, length, rect, flags);
-			width += rect.right - rect.left;
-			height = Math.max (height, rect.bottom - rect.top);
+			if (newFont != 0) OS.SelectObject (hDC, oldFont);
+			OS.ReleaseDC (handle, hDC);
+			TextExtentCache.put (display, newFont, string, flags, wrapWidth, extent);
 		}
-		if (newFont != 0) OS.SelectObject (hDC, oldFont);
-		OS.ReleaseDC (handle, hDC);
+		width += extent.x;
+		height = Math.max (height, extent.y);
 	}
 	if (hintInPoints.x != SWT.DEFAULT) width = hintInPixels.x;
 	if (hintInPoints.y != SWT.DEFAULT) height = hintInPixels.y;
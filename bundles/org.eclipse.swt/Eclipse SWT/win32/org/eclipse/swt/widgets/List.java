@@ -24,11 +24,24 @@ import org.eclipse.swt.internal.win32.*;
  * Instances of this class represent a selectable user interface
  * object that displays a list of strings and issues notification
  * when a string is selected.  A list may be single or multi select.
+ * <p>
+ * Style <code>VIRTUAL</code> is used to create a <code>List</code> whose
+ * strings are provided by the client on an on-demand basis instead of
+ * up-front.  Only the strings that are displayed or queried are requested,
+ * using the <code>SetData</code> event whose <code>index</code> field is the
+ * index of the string.
+ * </p><p>
+ * Here is an example of using a <code>List</code> with style <code>VIRTUAL</code>:</p>
+ * <pre><code>
+ *  final List list = new List (parent, SWT.VIRTUAL | SWT.BORDER | SWT.V_SCROLL);
+ *  list.setItemCount (1000000);
+ *  list.addListener (SWT.SetData, event -&gt; list.setItem (event.index, "Item " + event.index));
+ * </code></pre>
  * <dl>
  * <dt><b>Styles:</b></dt>
- * <dd>SINGLE, MULTI, NO_SEARCH</dd>
+ * <dd>SINGLE, MULTI, NO_SEARCH, VIRTUAL</dd>
  * <dt><b>Events:</b></dt>
- * <dd>Selection, DefaultSelection</dd>
+ * <dd>Selection, DefaultSelection, SetData</dd>
  * </dl>
  * <p>
  * Note: Only one of SINGLE and MULTI may be specified.
@@ -43,6 +56,7 @@ import org.eclipse.swt.internal.win32.*;
  */
 public class List extends Scrollable {
 	static final int INSET = 3;
+	static final long UNREQUESTED = 1;
 	static final long ListProc;
 	static final TCHAR ListClass = new TCHAR (0, "LISTBOX", true);
 	boolean addedUCC = false; // indicates whether Bidi UCC were added; 'state & HAS_AUTO_DIRECTION' isn't a sufficient indicator
@@ -209,10 +223,92 @@ long callWindowProc (long hwnd, int msg, long wParam, long lParam) {
 	return code;
 }
 
+/*
+* The items of a virtual list whose text was not requested yet
+* have an empty text and their item data set to UNREQUESTED.
+*/
+boolean checkData (int index) {
+	if (OS.SendMessage (handle, OS.LB_GETITEMDATA, index, 0) != UNREQUESTED) return true;
+	OS.SendMessage (handle, OS.LB_SETITEMDATA, index, 0);
+	Event event = new Event ();
+	event.index = index;
+	sendEvent (SWT.SetData, event);
+	return !isDisposed ();
+}
+
 static int checkStyle (int style) {
 	return checkBits (style, SWT.SINGLE, SWT.MULTI, 0, 0, 0, 0);
 }
 
+/**
+ * Clears the item at the given zero-relative index in the receiver.
+ * The text of the item is set to the empty string.  If the list was
+ * created with the <code>SWT.VIRTUAL</code> style, the text is requested
+ * again as needed.
+ *
+ * @param index the index of the item to clear
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_INVALID_RANGE - if the index is not between 0 and the number of elements in the list minus 1 (inclusive)</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clear (int index) {
+	checkWidget ();
+	int count = (int)OS.SendMessage (handle, OS.LB_GETCOUNT, 0, 0);
+	if (!(0 <= index && index < count)) error (SWT.ERROR_INVALID_RANGE);
+	clearItem (index);
+}
+
+/**
+ * Clears all the items in the receiver. The texts of the items are set
+ * to the empty string.  If the list was created with the <code>SWT.VIRTUAL</code>
+ * style, the texts are requested again as needed.
+ * <p>
+ * Together with <code>setItemCount(int)</code>, this can be used to filter
+ * a virtual list: the client changes the strings it provides, sets the new
+ * number of items and clears the items so that only the strings that are
+ * displayed are requested again.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void clearAll () {
+	checkWidget ();
+	int count = (int)OS.SendMessage (handle, OS.LB_GETCOUNT, 0, 0);
+	boolean redraw = getDrawing () && OS.IsWindowVisible (handle);
+	if (redraw) OS.SendMessage (handle, OS.WM_SETREDRAW, 0, 0);
+	for (int i=0; i<count; i++) clearItem (i);
+	if (redraw) OS.SendMessage (handle, OS.WM_SETREDRAW, 1, 0);
+}
+
+void clearItem (int index) {
+	if ((style & SWT.VIRTUAL) != 0) {
+		/* Only the items that were requested have a text to clear */
+		if (OS.SendMessage (handle, OS.LB_GETITEMDATA, index, 0) == UNREQUESTED) return;
+		if (OS.SendMessage (handle, OS.LB_GETTEXTLEN, index, 0) != 0) setItem (index, "");
+		OS.SendMessage (handle, OS.LB_SETITEMDATA, index, UNREQUESTED);
+	} else {
+		if (OS.SendMessage (handle, OS.LB_GETTEXTLEN, index, 0) != 0) setItem (index, "");
+	}
+}
+
 @Override
 Point computeSizeInPixels (Point hintInPoints, int zoom, boolean changed) {
 	checkWidget ();
@@ -432,6 +528,7 @@ public int getFocusIndex () {
  */
 public String getItem (int index) {
 	checkWidget ();
+	if ((style & SWT.VIRTUAL) != 0 && !checkData (index)) error (SWT.ERROR_WIDGET_DISPOSED);
 	int length = (int)OS.SendMessage (handle, OS.LB_GETTEXTLEN, index, 0);
 	if (length != OS.LB_ERR) {
 		char [] buffer = new char [length + 1];
@@ -640,6 +737,12 @@ public int getTopIndex () {
  * If no item is found, -1 is returned.  Indexing
  * is zero based.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @return the index of the item
  *
@@ -662,6 +765,12 @@ public int indexOf (String string) {
  * no item is found or the starting index is out of range,
  * returns -1.
  *
+ * <p>
+ * If the receiver was created with the <code>SWT.VIRTUAL</code> style,
+ * only the items whose text has been set are searched. The texts of the
+ * other items are not requested.
+ * </p>
+ *
  * @param string the search item
  * @param start the zero-relative index at which to start the search
  * @return the index of the item
@@ -687,6 +796,8 @@ public int indexOf (String string, int start) {
 	if (string.length () == 0) {
 		int count = getItemCount ();
 		for (int i=start; i<count; i++) {
+			/* The items of a virtual list that were not requested are skipped */
+			if ((style & SWT.VIRTUAL) != 0 && OS.SendMessage (handle, OS.LB_GETITEMDATA, i, 0) == UNREQUESTED) continue;
 			if (string.equals (getItem (i))) return i;
 		}
 		return -1;
@@ -1195,6 +1306,68 @@ public void setItem (int index, String string) {
 	setTopIndex (topIndex);
 }
 
+/**
+ * Sets the number of items contained in the receiver. Items added
+ * at the end have an empty text.  If the list was created with the
+ * <code>SWT.VIRTUAL</code> style, their texts are requested as needed.
+ * <p>
+ * Note: On some platforms a native row is still created for every item,
+ * so the cost of this method grows with the number of items added even
+ * though their texts are requested as needed.
+ * </p>
+ *
+ * @param count the number of items
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see SWT#VIRTUAL
+ * @see SWT#SetData
+ *
+ * @since 3.133
+ */
+public void setItemCount (int count) {
+	checkWidget ();
+	count = Math.max (0, count);
+	int itemCount = (int)OS.SendMessage (handle, OS.LB_GETCOUNT, 0, 0);
+	if (count == itemCount) return;
+	if (count < itemCount) {
+		remove (count, itemCount - 1);
+		return;
+	}
+	long oldProc = OS.GetWindowLongPtr (handle, OS.GWLP_WNDPROC);
+	OS.SetWindowLongPtr (handle, OS.GWLP_WNDPROC, ListProc);
+	boolean redraw = getDrawing () && OS.IsWindowVisible (handle);
+	if (redraw) {
+		OS.SendMessage (handle, OS.WM_SETREDRAW, 0, 0);
+	}
+	/*
+	* Note that every item is a native row.  LBS_NODATA with LB_SETCOUNT
+	* would avoid that, but it requires LBS_OWNERDRAWFIXED without
+	* LBS_HASSTRINGS, so the list would have to store, draw and search
+	* the texts itself.  Instead, the rows are added with the window
+	* proc replaced and redraw turned off, and the texts of a virtual
+	* list are requested as needed.
+	*/
+	OS.SendMessage (handle, OS.LB_INITSTORAGE, count - itemCount, 0);
+	long itemData = (style & SWT.VIRTUAL) != 0 ? UNREQUESTED : 0;
+	TCHAR buffer = new TCHAR (getCodePage (), "", true);
+	int index = itemCount;
+	while (index < count) {
+		int result = (int)OS.SendMessage (handle, OS.LB_ADDSTRING, 0, buffer);
+		if (result == OS.LB_ERR || result == OS.LB_ERRSPACE) break;
+		if (itemData != 0) OS.SendMessage (handle, OS.LB_SETITEMDATA, result, itemData);
+		index++;
+	}
+	if (redraw) {
+		OS.SendMessage (handle, OS.WM_SETREDRAW, 1, 0);
+	}
+	OS.SetWindowLongPtr (handle, OS.GWLP_WNDPROC, oldProc);
+	if (index < count) error (SWT.ERROR_ITEM_NOT_ADDED);
+}
+
 /**
  * Sets the receiver's items to be the given array of items.
  *
@@ -1796,6 +1969,26 @@ LRESULT WM_KEYDOWN (long wParam, long lParam) {
 	return result;
 }
 
+@Override
+LRESULT WM_PAINT (long wParam, long lParam) {
+	if ((style & SWT.VIRTUAL) != 0) {
+		/* Request the text of the items that are about to be drawn */
+		int count = (int)OS.SendMessage (handle, OS.LB_GETCOUNT, 0, 0);
+		int topIndex = (int)OS.SendMessage (handle, OS.LB_GETTOPINDEX, 0, 0);
+		int itemHeight = (int)OS.SendMessage (handle, OS.LB_GETITEMHEIGHT, 0, 0);
+		if (count > 0 && itemHeight > 0) {
+			RECT rect = new RECT ();
+			OS.GetClientRect (handle, rect);
+			int visibleCount = (rect.bottom - rect.top + itemHeight - 1) / itemHeight;
+			int bottomIndex = Math.min (count, topIndex + visibleCount);
+			for (int i=topIndex; i<bottomIndex; i++) {
+				if (!checkData (i)) return LRESULT.ZERO;
+			}
+		}
+	}
+	return super.WM_PAINT (wParam, lParam);
+}
+
 @Override
 LRESULT WM_SETREDRAW (long wParam, long lParam) {
 	LRESULT result = super.WM_SETREDRAW (wParam, lParam);
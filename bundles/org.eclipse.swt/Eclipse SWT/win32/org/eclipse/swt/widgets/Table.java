@@ -18,6 +18,9 @@ package org.eclipse.swt.widgets;
 
 //import java.util.*;
 
+import java.util.*;
+import java.util.function.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
 import org.eclipse.swt.graphics.*;
@@ -4593,6 +4596,96 @@ public void setItemCount (int count) {
 	setDeferResize (false);
 }
 
+/**
+ * Replaces the items of the receiver with new items whose texts
+ * are given column by column. The element <code>texts[column][row]</code>
+ * is the text of the item at index <code>row</code> in the given
+ * column. The number of items is the length of the longest column array.
+ * Missing or <code>null</code> texts leave the cell empty, and columns
+ * beyond the number of columns of the receiver are ignored.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param texts the texts of the new items, one array per column
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the texts array is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(int, IntFunction)
+ *
+ * @since 3.133
+ */
+public void setItems (String [][] texts) {
+	checkWidget ();
+	if (texts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	int count = 0;
+	for (String [] column : texts) {
+		if (column != null) count = Math.max (count, column.length);
+	}
+	String [] row = new String [texts.length];
+	setItems (count, index -> {
+		for (int i=0; i<texts.length; i++) {
+			String [] column = texts [i];
+			row [i] = column != null && index < column.length ? column [index] : null;
+		}
+		return row;
+	});
+}
+
+/**
+ * Replaces the items of the receiver with <code>count</code> new
+ * items. The texts of the item at each index are requested from
+ * <code>rowTexts</code> in increasing index order, one element per
+ * column. The returned array is not retained by the receiver. A
+ * <code>null</code> array or <code>null</code> elements leave the
+ * cells empty.
+ * <p>
+ * This is equivalent to removing all items and creating the new ones
+ * with <code>TableItem.setText(String[])</code>, but is considerably
+ * faster for large tables.
+ * </p>
+ *
+ * @param count the number of items
+ * @param rowTexts the function providing the texts of each item
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the function is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setItems(String[][])
+ *
+ * @since 3.133
+ */
+public void setItems (int count, IntFunction<String []> rowTexts) {
+	checkWidget ();
+	if (rowTexts == null) error (SWT.ERROR_NULL_ARGUMENT);
+	count = Math.max (0, count);
+	setRedraw (false);
+	try {
+		removeAll ();
+		setItemCount (count);
+		TableItem [] items = getItems ();
+		for (int i=0; i<count; i++) {
+			String [] strings = rowTexts.apply (i);
+			if (strings != null) items [i].setText (strings);
+		}
+	} finally {
+		setRedraw (true);
+	}
+}
+
 void setItemHeight (boolean fixScroll) {
 	/*
 	* Bug in Windows.  Making any change to an item that
@@ -5434,6 +5527,58 @@ public void showSelection () {
 //	redraw ();
 }
 
+/**
+ * Sorts the items of the receiver with the given comparator.
+ * Items that compare equal keep their relative order. The
+ * selection, the focus item and the items themselves are
+ * preserved; only their indices change.
+ * <p>
+ * The comparator is called on the thread of the receiver and
+ * may query the items. In a table created with the
+ * <code>SWT.VIRTUAL</code> style, all items are created and
+ * <code>SWT.SetData</code> is sent for the items the comparator
+ * reads.
+ * </p>
+ *
+ * @param comparator the comparator deciding the order of the items
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the comparator is null</li>
+ * </ul>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.133
+ */
+public void sort (Comparator<TableItem> comparator) {
+	checkWidget ();
+	if (comparator == null) error (SWT.ERROR_NULL_ARGUMENT);
+	TableItem [] items = getItems ();
+	int count = items.length;
+	int [] newOrder = ItemOrder.sort (items, count, comparator);
+	if (newOrder == null) return;
+	int [] newIndex = ItemOrder.invert (newOrder);
+	int [] selection = getSelectionIndices ();
+	int focusIndex = getFocusIndex ();
+	TableItem [] newItems = new TableItem [Math.max (4, (count + 3) / 4 * 4)];
+	for (int i=0; i<count; i++) newItems [i] = items [newOrder [i]];
+	this.items = newItems;
+	keys = null;
+	keyCount = 0;
+	/*
+	* The list view asks the items for the texts, images and check
+	* state of its rows, but keeps the selected and focused state
+	* of every row itself.  Move that state along with the items.
+	*/
+	deselectAll ();
+	for (int i=0; i<selection.length; i++) selection [i] = newIndex [selection [i]];
+	select (selection);
+	if (focusIndex != -1) setFocusIndex (newIndex [focusIndex]);
+	OS.InvalidateRect (handle, null, true);
+}
+
 @Override
 void subclass () {
 	super.subclass ();
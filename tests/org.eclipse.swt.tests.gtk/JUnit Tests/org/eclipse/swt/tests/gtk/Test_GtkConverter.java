@@ -14,11 +14,16 @@
  */
 package org.eclipse.swt.tests.gtk;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+import org.eclipse.swt.internal.C;
 import org.eclipse.swt.internal.Converter;
+import org.eclipse.swt.internal.gtk.OS;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -151,6 +156,84 @@ public class Test_GtkConverter {
 		helper_testHeuristic(testBytes, "Ё");
 	}
 
+	@Test
+	public void test_wcsToMbcs_matchesGlib() {
+		String [] strings = {
+			emptyStr, asciiLetters, unicodeCharactersLowCodePoints, unicodeCharactersHighCodePoints,
+			"\uD83D\uDE00 smile", // surrogate pair
+			"before\0after", // stops at the first NULL
+			"high\uD83D", // high surrogate at the end is dropped
+			"high\uD83D\0", // high surrogate before NULL is dropped
+			"low\uDE00", // low surrogate without high surrogate
+			"\uD83Dhigh", // high surrogate without low surrogate
+		};
+		for (String string : strings) {
+			byte [] expected = helper_glibUtf16ToUtf8(string);
+			assertArrayEquals(expected, Converter.wcsToMbcs(string, false), string);
+			assertArrayEquals(expected, Converter.wcsToMbcs(string.toCharArray(), false), string);
+			byte [] terminated = Converter.wcsToMbcs(string, true);
+			assertEquals(expected.length + 1, terminated.length, string);
+			assertEquals(0, terminated[expected.length], string);
+			byte [] scratch = Converter.wcsToMbcsScratch(string);
+			assertArrayEquals(expected, Arrays.copyOf(scratch, expected.length), string);
+			assertEquals(0, scratch[expected.length], string);
+		}
+	}
+
+	@Test
+	public void test_mbcsToWcs_matchesGlib() {
+		byte [][] buffers = {
+			{},
+			asciiLetters.getBytes(StandardCharsets.UTF_8),
+			unicodeCharactersHighCodePoints.getBytes(StandardCharsets.UTF_8),
+			"\uD83D\uDE00".getBytes(StandardCharsets.UTF_8),
+			{'a', 0, 'b'}, // stops at the first NULL
+			{'a', (byte) 0xC3}, // truncated sequence
+			{'a', (byte) 0xC3, 0}, // truncated by NULL
+			{(byte) 0xC0, (byte) 0x80}, // overlong
+			{(byte) 0xE0, (byte) 0x80, (byte) 0xAF}, // overlong
+			{(byte) 0xED, (byte) 0xA0, (byte) 0x80}, // surrogate
+			{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}, // above U+10FFFF
+			{(byte) 0xF8, (byte) 0x88, (byte) 0x80, (byte) 0x80, (byte) 0x80}, // five bytes
+			{(byte) 0x80}, // continuation byte
+			{(byte) 0xEF, (byte) 0xBF, (byte) 0xBF}, // U+FFFF
+		};
+		for (byte [] buffer : buffers) {
+			char [] expected = helper_glibUtf8ToUtf16(buffer);
+			assertArrayEquals(expected, Converter.mbcsToWcs(buffer), Arrays.toString(buffer));
+		}
+	}
+
+	@Test
+	public void test_cCharPtrToJavaString() {
+		String string = unicodeCharactersHighCodePoints + "\uD83D\uDE00";
+		byte [] buffer = Converter.wcsToMbcs(string, true);
+		long ptr = OS.g_malloc(buffer.length);
+		C.memmove(ptr, buffer, buffer.length);
+		assertEquals(string, Converter.cCharPtrToJavaString(ptr, true));
+	}
+
+	private byte[] helper_glibUtf16ToUtf8(String string) {
+		char [] chars = string.toCharArray();
+		long [] items_read = new long [1], items_written = new long [1];
+		long ptr = OS.g_utf16_to_utf8(chars, chars.length, items_read, items_written, null);
+		if (ptr == 0) return new byte [0];
+		byte [] bytes = new byte [(int) items_written [0]];
+		C.memmove(bytes, ptr, bytes.length);
+		OS.g_free(ptr);
+		return bytes;
+	}
+
+	private char[] helper_glibUtf8ToUtf16(byte [] buffer) {
+		long [] items_written = new long [1];
+		long ptr = OS.g_utf8_to_utf16(buffer, buffer.length, null, items_written, null);
+		if (ptr == 0) return new char [0];
+		char [] chars = new char [(int) items_written [0]];
+		C.memmove(chars, ptr, chars.length * 2);
+		OS.g_free(ptr);
+		return chars;
+	}
+
 	private void helper_testHeuristic(byte[] testBytes, String expected) {
 		String result = Converter.byteToStringViaHeuristic(testBytes);
 		if (!expected.equals(result)) {
@@ -25,12 +25,14 @@ import org.junit.platform.suite.api.Suite;
 		Test_org_eclipse_swt_graphics_Color.class, //
 		Test_org_eclipse_swt_graphics_Cursor.class, //
 		Test_org_eclipse_swt_graphics_DeviceData.class, //
+		Test_org_eclipse_swt_graphics_DisplayList.class, //
 		Test_org_eclipse_swt_graphics_Font.class, //
 		Test_org_eclipse_swt_graphics_FontData.class, //
 		Test_org_eclipse_swt_graphics_FontMetrics.class, //
 		Test_org_eclipse_swt_graphics_GC.class, //
 		Test_org_eclipse_swt_graphics_Image.class, //
 		Test_org_eclipse_swt_graphics_ImageData.class, //
+		Test_org_eclipse_swt_graphics_ImageDataGC.class, //
 		Test_org_eclipse_swt_graphics_ImageLoader.class, //
 		Test_org_eclipse_swt_graphics_ImageLoaderEvent.class, //
 		Test_org_eclipse_swt_graphics_PaletteData.class, //
@@ -40,6 +42,7 @@ import org.junit.platform.suite.api.Suite;
 		Test_org_eclipse_swt_graphics_RGBA.class, //
 		Test_org_eclipse_swt_graphics_Rectangle.class, //
 		Test_org_eclipse_swt_graphics_Region.class, //
+		Test_org_eclipse_swt_graphics_SharedResources.class, //
 		Test_org_eclipse_swt_graphics_TextLayout.class, //
 		Test_org_eclipse_swt_graphics_Transform.class, //
 })
@@ -39,6 +39,7 @@ import org.junit.platform.suite.api.Suite;
 		Test_org_eclipse_swt_custom_StyledText_VariableLineHeight.class, //
 		Test_org_eclipse_swt_custom_StyledText_multiCaretsSelections.class, //
 		Test_org_eclipse_swt_custom_TextChangeListener.class, //
+		Test_org_eclipse_swt_custom_TiledCanvas.class, //
 		Test_org_eclipse_swt_custom_VerifyKeyListener.class, //
 		Test_org_eclipse_swt_widgets_Button.class, //
 		Test_org_eclipse_swt_widgets_Canvas.class, //
@@ -46,6 +47,7 @@ import org.junit.platform.suite.api.Suite;
 		Test_org_eclipse_swt_widgets_ColorDialog.class, //
 		Test_org_eclipse_swt_widgets_Combo.class, //
 		Test_org_eclipse_swt_widgets_Composite.class, //
+		Test_org_eclipse_swt_widgets_ControlDescription.class, //
 		Test_org_eclipse_swt_widgets_CoolBar.class, //
 		// Failing test: Test_org_eclipse_swt_widgets_CoolItem.class, //
 		Test_org_eclipse_swt_widgets_DateTime_Style_CALENDAR.class, //
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.eclipse.swt.tests.junit.SwtTestUtil.assertSWTProblem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.TiledCanvas;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.custom.TiledCanvas
+ *
+ * @see org.eclipse.swt.custom.TiledCanvas
+ */
+public class Test_org_eclipse_swt_custom_TiledCanvas {
+
+	private Shell shell;
+	private TiledCanvas canvas;
+	private final List<Rectangle> paintedTiles = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+		canvas = new TiledCanvas(shell, SWT.H_SCROLL | SWT.V_SCROLL);
+		canvas.setContentSize(2000, 1000);
+		canvas.setTilePainter((gc, area, zoom) -> paintedTiles.add(area));
+		canvas.setBounds(0, 0, 300, 300);
+		shell.setSize(400, 400);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private void paint() {
+		canvas.redraw();
+		canvas.update();
+		SwtTestUtil.processEvents();
+	}
+
+	@Test
+	public void test_tilesAreCached() {
+		shell.open();
+		paint();
+		int count = paintedTiles.size();
+		assertTrue(count > 0, "no tile painted");
+		for (Rectangle area : paintedTiles) {
+			assertEquals(0, area.x % TiledCanvas.TILE_SIZE);
+			assertEquals(0, area.y % TiledCanvas.TILE_SIZE);
+			assertEquals(TiledCanvas.TILE_SIZE, area.width);
+		}
+		paint();
+		assertEquals(count, paintedTiles.size(), "cached tiles painted again");
+
+		canvas.redrawContent(new Rectangle(10, 10, 1, 1));
+		paintedTiles.clear();
+		paint();
+		assertEquals(List.of(new Rectangle(0, 0, TiledCanvas.TILE_SIZE, TiledCanvas.TILE_SIZE)), paintedTiles);
+	}
+
+	@Test
+	public void test_setOrigin() {
+		Rectangle clientArea = canvas.getClientArea();
+		canvas.setOrigin(100, 50);
+		assertEquals(new Point(100, 50), canvas.getOrigin());
+		assertEquals(100, canvas.getHorizontalBar().getSelection());
+		canvas.setOrigin(-10, 5000);
+		assertEquals(new Point(0, 1000 - clientArea.height), canvas.getOrigin());
+	}
+
+	@Test
+	public void test_setZoom() {
+		canvas.setOrigin(100, 50);
+		canvas.setZoom(200);
+		assertEquals(200, canvas.getZoom());
+		assertEquals(new Point(200, 100), canvas.getOrigin());
+		assertEquals(4000, canvas.getHorizontalBar().getMaximum());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> canvas.setZoom(0));
+		assertSWTProblem("Incorrect exception thrown for zoom 0", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setCacheSize() {
+		canvas.setCacheSize(1);
+		assertEquals(1, canvas.getCacheSize());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> canvas.setCacheSize(0));
+		assertSWTProblem("Incorrect exception thrown for cache size 0", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setTileDataPainter() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> canvas.setTileDataPainter((area, zoom) -> null, null));
+		assertSWTProblem("Incorrect exception thrown for null executor", SWT.ERROR_NULL_ARGUMENT, e);
+		canvas.setTileDataPainter(null, null);
+	}
+
+	@Test
+	public void test_setTileDataPainter_rejected() {
+		List<Rectangle> paintedData = new ArrayList<>();
+		canvas.setTileDataPainter((area, zoom) -> {
+			paintedData.add(area);
+			return null;
+		}, command -> {
+			throw new RejectedExecutionException();
+		});
+		shell.open();
+		paint();
+		assertTrue(paintedData.size() > 0, "rejected tiles not painted on the UI thread");
+		int count = paintedData.size();
+		paint();
+		assertEquals(count, paintedData.size(), "cached tiles painted again");
+	}
+}
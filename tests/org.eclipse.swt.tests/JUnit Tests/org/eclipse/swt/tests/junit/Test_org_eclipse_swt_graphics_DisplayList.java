@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.eclipse.swt.tests.junit.SwtTestUtil.assertSWTProblem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.DisplayList;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.graphics.DisplayList
+ *
+ * @see org.eclipse.swt.graphics.DisplayList
+ */
+public class Test_org_eclipse_swt_graphics_DisplayList {
+
+	private Display display;
+	private DisplayList list;
+
+	@BeforeEach
+	public void setUp() {
+		display = Display.getDefault();
+		list = new DisplayList();
+		list.setBackground(display.getSystemColor(SWT.COLOR_BLUE));
+		list.fillRectangle(0, 0, 20, 20);
+		list.setForeground(display.getSystemColor(SWT.COLOR_RED));
+		list.setLineWidth(3);
+		list.drawLine(30, 5, 60, 5);
+		list.drawPolyline(new int[] {0, 40, 20, 60, 40, 40});
+		list.drawText("Hello", 40, 60);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		list.dispose();
+	}
+
+	private ImageData draw(Consumer<GC> drawer) {
+		Image image = new Image(display, 100, 100);
+		GC gc = new GC(image);
+		try {
+			gc.setBackground(display.getSystemColor(SWT.COLOR_WHITE));
+			gc.fillRectangle(0, 0, 100, 100);
+			drawer.accept(gc);
+		} finally {
+			gc.dispose();
+		}
+		ImageData data = image.getImageData();
+		image.dispose();
+		return data;
+	}
+
+	private void assertSamePixels(ImageData expected, ImageData actual) {
+		for (int y = 0; y < expected.height; y++) {
+			for (int x = 0; x < expected.width; x++) {
+				assertEquals(expected.palette.getRGB(expected.getPixel(x, y)), actual.palette.getRGB(actual.getPixel(x, y)), "pixel " + x + "," + y);
+			}
+		}
+	}
+
+	@Test
+	public void test_replay() {
+		ImageData expected = draw(gc -> {
+			gc.setBackground(display.getSystemColor(SWT.COLOR_BLUE));
+			gc.fillRectangle(0, 0, 20, 20);
+			gc.setForeground(display.getSystemColor(SWT.COLOR_RED));
+			gc.setLineWidth(3);
+			gc.drawLine(30, 5, 60, 5);
+			gc.drawPolyline(new int[] {0, 40, 20, 60, 40, 40});
+			gc.drawText("Hello", 40, 60, true);
+		});
+		assertSamePixels(expected, draw(gc -> list.replay(gc)));
+	}
+
+	@Test
+	public void test_replayRestoresAttributes() {
+		draw(gc -> {
+			Color foreground = gc.getForeground(), background = gc.getBackground();
+			int lineWidth = gc.getLineWidth();
+			list.replay(gc);
+			assertEquals(foreground, gc.getForeground());
+			assertEquals(background, gc.getBackground());
+			assertEquals(lineWidth, gc.getLineWidth());
+			assertFalse(gc.isClipped());
+		});
+	}
+
+	@Test
+	public void test_replayTranslatedAndClipped() {
+		ImageData expected = draw(gc -> {
+			gc.setBackground(display.getSystemColor(SWT.COLOR_BLUE));
+			gc.fillRectangle(10, 10, 10, 10);
+		});
+		// only the part of the rectangle inside the damaged area is drawn, the
+		// other commands are outside of it
+		ImageData actual = draw(gc -> {
+			list.replay(gc, 10, 10, new Rectangle(10, 10, 10, 10));
+			assertFalse(gc.isClipped());
+		});
+		assertSamePixels(expected, actual);
+	}
+
+	@Test
+	public void test_saveAndLoad() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		list.save(bytes);
+		DisplayList loaded = DisplayList.load(display, new ByteArrayInputStream(bytes.toByteArray()));
+		try {
+			assertSamePixels(draw(gc -> list.replay(gc)), draw(gc -> loaded.replay(gc)));
+		} finally {
+			loaded.dispose();
+		}
+		assertTrue(loaded.isDisposed());
+
+		SWTException e = assertThrows(SWTException.class, () -> DisplayList.load(display, new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+		assertSWTProblem("Incorrect exception thrown for invalid stream", SWT.ERROR_UNSUPPORTED_FORMAT, e);
+	}
+
+	@Test
+	public void test_load_corruptLengths() throws IOException {
+		// a string longer than the format allows, and an image longer than the stream
+		for (int[] object : new int[][] {{4, Integer.MAX_VALUE}, {3, 1 << 28}}) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			output.writeInt(0x5357444C);
+			output.writeInt(1);
+			output.writeInt(1);
+			output.writeByte(object[0]);
+			output.writeInt(object[1]);
+			output.write(new byte[16]);
+			SWTException e = assertThrows(SWTException.class, () -> DisplayList.load(display, new ByteArrayInputStream(bytes.toByteArray())));
+			assertSWTProblem("Incorrect exception thrown for corrupt length", SWT.ERROR_IO, e);
+		}
+	}
+
+	@Test
+	public void test_clear() {
+		assertFalse(list.isEmpty());
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertSamePixels(draw(gc -> {}), draw(gc -> list.replay(gc)));
+	}
+
+	@Test
+	public void test_dispose() {
+		list.dispose();
+		assertTrue(list.isDisposed());
+		SWTException e = assertThrows(SWTException.class, () -> list.drawLine(0, 0, 10, 10));
+		assertSWTProblem("Incorrect exception thrown for disposed display list", SWT.ERROR_GRAPHIC_DISPOSED, e);
+		list.dispose();
+	}
+
+	@Test
+	public void test_nullArguments() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> list.drawPolyline(null));
+		assertSWTProblem("Incorrect exception thrown for null point array", SWT.ERROR_NULL_ARGUMENT, e);
+		e = assertThrows(IllegalArgumentException.class, () -> list.setForeground(null));
+		assertSWTProblem("Incorrect exception thrown for null color", SWT.ERROR_NULL_ARGUMENT, e);
+		e = assertThrows(IllegalArgumentException.class, () -> list.replay(null));
+		assertSWTProblem("Incorrect exception thrown for null GC", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+}
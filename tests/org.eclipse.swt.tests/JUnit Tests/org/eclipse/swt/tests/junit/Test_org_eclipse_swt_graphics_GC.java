@@ -530,6 +530,15 @@ public void test_drawLineIIII() {
 	gc.drawLine(0,0,0,20);
 }
 
+@Test
+public void test_drawLines$I() {
+	gc.drawLines(new int[] {0,0, 0,20, 5,5, 15,5});
+	gc.drawLines(new int[] {0,0, 0});
+	gc.drawLines(new int[0]);
+	IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.drawLines(null));
+	assertSWTProblem("Incorrect exception thrown for null segments", SWT.ERROR_NULL_ARGUMENT, e);
+}
+
 @Test
 public void test_drawOvalIIII() {
 	gc.drawOval(10, 0, 20, 30);
@@ -540,6 +549,27 @@ public void test_drawPointII() {
 	gc.drawPoint(10, 10);
 }
 
+@Test
+public void test_drawPoints$I() {
+	assumeTrue(DPIUtil.getDeviceZoom() == 100, "Skipping test due to non-100% zoom");
+
+	Color white = display.getSystemColor(SWT.COLOR_WHITE);
+	Color blue = display.getSystemColor(SWT.COLOR_BLUE);
+	gc.setBackground(white);
+	gc.fillRectangle(image.getBounds());
+	gc.setForeground(blue);
+	gc.drawPoints(new int[] {10,10, 20,10, 10,10, 30});
+
+	ImageData imageData = image.getImageData();
+	PaletteData palette = imageData.palette;
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(10, 10)));
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(20, 10)));
+	assertEquals(getRealRGB(white), palette.getRGB(imageData.getPixel(15, 10)));
+
+	IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.drawPoints(null));
+	assertSWTProblem("Incorrect exception thrown for null point array", SWT.ERROR_NULL_ARGUMENT, e);
+}
+
 @Test
 public void test_drawPolygon$I() {
 	gc.drawPolygon(new int[] {0,0, 5,10, 0,20});
@@ -552,6 +582,16 @@ public void test_drawPolyline$I() {
 	gc.drawPolyline(new int[] {0,0});
 }
 
+@Test
+public void test_drawPolylines$$I() {
+	gc.drawPolylines(new int[][] {{0,0, 5,10, 0,20}, {0,0}, {}});
+	gc.drawPolylines(new int[0][]);
+	IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.drawPolylines(null));
+	assertSWTProblem("Incorrect exception thrown for null point arrays", SWT.ERROR_NULL_ARGUMENT, e);
+	e = assertThrows(IllegalArgumentException.class, () -> gc.drawPolylines(new int[][] {{0,0, 5,10}, null}));
+	assertSWTProblem("Incorrect exception thrown for null point array", SWT.ERROR_NULL_ARGUMENT, e);
+}
+
 @Test
 public void test_drawRectangleIIII() {
 	gc.drawRectangle(10, 0, 20, 30);
@@ -610,6 +650,41 @@ public void test_drawTextLjava_lang_StringIII() {
 	gc.drawText("\t", 5, 5, SWT.DRAW_TAB);
 }
 
+@Test
+public void test_drawTextLjava_lang_StringIII_fontChanged() {
+	Image image = new Image(display, 300, 100);
+	GC imageGC = new GC(image);
+	Font small = new Font(display, "Helvetica", 8, SWT.NORMAL);
+	Font large = new Font(display, "Helvetica", 32, SWT.NORMAL);
+	try {
+		imageGC.setBackground(display.getSystemColor(SWT.COLOR_WHITE));
+		imageGC.fillRectangle(0, 0, 300, 100);
+		imageGC.setForeground(display.getSystemColor(SWT.COLOR_BLACK));
+		imageGC.setFont(small);
+		Point smallExtent = imageGC.textExtent("WWW", SWT.DRAW_TRANSPARENT);
+		imageGC.drawText("WWW", 0, 0, SWT.DRAW_TRANSPARENT);
+		// the same string drawn again must be drawn with the new font
+		imageGC.setFont(large);
+		Point largeExtent = imageGC.textExtent("WWW", SWT.DRAW_TRANSPARENT);
+		imageGC.drawText("WWW", 0, 0, SWT.DRAW_TRANSPARENT);
+		imageGC.dispose();
+		ImageData imageData = image.getImageData();
+		int white = imageData.getPixel(299, 99);
+		boolean drawn = false;
+		for (int x = smallExtent.x + 1; x < Math.min(largeExtent.x, 300) && !drawn; x++) {
+			for (int y = 0; y < Math.min(largeExtent.y, 100) && !drawn; y++) {
+				drawn = imageData.getPixel(x, y) != white;
+			}
+		}
+		assertTrue(drawn);
+	} finally {
+		if (!imageGC.isDisposed()) imageGC.dispose();
+		image.dispose();
+		small.dispose();
+		large.dispose();
+	}
+}
+
 @Test
 public void test_drawTextLjava_lang_StringIIZ() {
 	gc.drawText("abc", 5, 5, true);
@@ -667,6 +742,31 @@ public void test_fillRectangleLorg_eclipse_swt_graphics_Rectangle() {
 	gc.fillRectangle(0, 0, 0, 0);
 }
 
+@Test
+public void test_fillRectangles$I() {
+	assumeTrue(DPIUtil.getDeviceZoom() == 100, "Skipping test due to non-100% zoom");
+
+	Color white = display.getSystemColor(SWT.COLOR_WHITE);
+	Color blue = display.getSystemColor(SWT.COLOR_BLUE);
+	gc.setBackground(white);
+	gc.fillRectangle(image.getBounds());
+	gc.setBackground(blue);
+	// overlapping rectangles must not cancel each other out with the even-odd rule
+	gc.setFillRule(SWT.FILL_EVEN_ODD);
+	gc.fillRectangles(new int[] {0,0, 10,10, 5,5, 10,10, 50,50, -10,-10, 0,0});
+
+	ImageData imageData = image.getImageData();
+	PaletteData palette = imageData.palette;
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(2, 2)));
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(7, 7)));
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(12, 12)));
+	assertEquals(getRealRGB(blue), palette.getRGB(imageData.getPixel(45, 45)));
+	assertEquals(getRealRGB(white), palette.getRGB(imageData.getPixel(30, 30)));
+
+	IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.fillRectangles(null));
+	assertSWTProblem("Incorrect exception thrown for null rectangles", SWT.ERROR_NULL_ARGUMENT, e);
+}
+
 @Test
 public void test_fillRoundRectangleIIIIII() {
 	gc.fillRoundRectangle(10, 0, 20, 30, 3, 3);
@@ -900,6 +1000,59 @@ public void test_textExtentLjava_lang_StringI() {
 	assertTrue(pt.y > 0);
 }
 
+@Test
+public void test_textExtentLjava_lang_StringI_fontDisposed() {
+	Font small = new Font(display, "Helvetica", 8, SWT.NORMAL);
+	gc.setFont(small);
+	Point smallExtent = gc.textExtent("abc", 0);
+	assertEquals(smallExtent, gc.textExtent("abc", 0));
+	// fonts created after a disposed font may reuse its native handle
+	for (int i = 0; i < 3; i++) {
+		Font large = new Font(display, "Helvetica", 24 + i * 8, SWT.NORMAL);
+		gc.setFont(large);
+		Point largeExtent = gc.textExtent("abc", 0);
+		assertTrue(largeExtent.x > smallExtent.x);
+		assertTrue(largeExtent.y > smallExtent.y);
+		gc.setFont(small);
+		large.dispose();
+		assertEquals(smallExtent, gc.textExtent("abc", 0));
+	}
+	gc.setFont(null);
+	small.dispose();
+}
+
+@Test
+public void test_setFontDoesNotChangeTextOfOtherGCs() {
+	String string = "Shared layout";
+	Font large = new Font(display, "Helvetica", 32, SWT.NORMAL);
+	Image image1 = new Image(display, 200, 50);
+	Image image2 = new Image(display, 200, 50);
+	GC gc1 = new GC(image1);
+	GC gc2 = new GC(image2);
+	try {
+		Point extent = gc2.textExtent(string);
+		gc2.fillRectangle(0, 0, 200, 50);
+		gc2.drawText(string, 0, 0);
+		ImageData expected = image2.getImageData();
+
+		gc1.drawText(string, 0, 0);
+		gc1.setFont(large);
+		gc1.getFontMetrics();
+		assertTrue(gc1.textExtent(string).x > extent.x);
+
+		gc2.fillRectangle(0, 0, 200, 50);
+		gc2.drawText(string, 0, 0);
+		assertEquals(extent, gc2.textExtent(string));
+		assertArrayEquals(expected.data, image2.getImageData().data);
+	} finally {
+		gc1.dispose();
+		gc2.dispose();
+		image1.dispose();
+		image2.dispose();
+		large.dispose();
+	}
+}
+
 @Test
 public void test_toString() {
 	String s = gc.toString();
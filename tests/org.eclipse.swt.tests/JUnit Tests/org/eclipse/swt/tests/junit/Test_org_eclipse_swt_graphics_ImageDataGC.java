@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.eclipse.swt.tests.junit.SwtTestUtil.assertSWTProblem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataGC;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.PathData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.graphics.ImageDataGC
+ *
+ * @see org.eclipse.swt.graphics.ImageDataGC
+ */
+public class Test_org_eclipse_swt_graphics_ImageDataGC {
+
+	private static final RGB BLACK = new RGB(0, 0, 0);
+	private static final RGB WHITE = new RGB(255, 255, 255);
+	private static final RGB RED = new RGB(255, 0, 0);
+	private static final RGB BLUE = new RGB(0, 0, 255);
+
+	private ImageData data;
+	private ImageDataGC gc;
+
+	@BeforeEach
+	public void setUp() {
+		data = new ImageData(40, 40, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		gc = new ImageDataGC(data);
+		gc.fillRectangle(0, 0, 40, 40);
+	}
+
+	private RGB rgb(int x, int y) {
+		return data.palette.getRGB(data.getPixel(x, y));
+	}
+
+	@Test
+	public void test_ConstructorLorg_eclipse_swt_graphics_ImageData() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new ImageDataGC(null));
+		assertSWTProblem("Incorrect exception thrown for null image data", SWT.ERROR_NULL_ARGUMENT, e);
+		RGB[] rgbs = {BLACK, WHITE};
+		SWTException e2 = assertThrows(SWTException.class, () -> new ImageDataGC(new ImageData(10, 10, 1, new PaletteData(rgbs))));
+		assertSWTProblem("Incorrect exception thrown for indexed palette", SWT.ERROR_UNSUPPORTED_DEPTH, e2);
+		assertEquals(data, gc.getImageData());
+	}
+
+	@Test
+	public void test_fillRectangleIIII() {
+		gc.setBackground(RED);
+		gc.fillRectangle(10, 10, 5, 5);
+		assertEquals(RED, rgb(10, 10));
+		assertEquals(RED, rgb(14, 14));
+		assertEquals(WHITE, rgb(9, 10));
+		assertEquals(WHITE, rgb(15, 14));
+	}
+
+	@Test
+	public void test_drawLineIIII() {
+		// lines of odd widths are centered on the pixels
+		gc.drawLine(5, 5, 30, 5);
+		assertEquals(BLACK, rgb(10, 5));
+		assertEquals(WHITE, rgb(10, 4));
+		assertEquals(WHITE, rgb(10, 6));
+		gc.setLineWidth(2);
+		gc.drawLine(5, 20, 30, 20);
+		assertEquals(BLACK, rgb(10, 19));
+		assertEquals(BLACK, rgb(10, 20));
+		assertEquals(WHITE, rgb(10, 21));
+	}
+
+	@Test
+	public void test_drawRectangleIIII() {
+		gc.setLineWidth(3);
+		gc.drawRectangle(10, 10, 10, 10);
+		assertEquals(BLACK, rgb(9, 15));
+		assertEquals(BLACK, rgb(11, 15));
+		assertEquals(WHITE, rgb(12, 15));
+		assertEquals(WHITE, rgb(15, 15));
+		assertEquals(BLACK, rgb(9, 9));
+	}
+
+	@Test
+	public void test_setAntialiasI() {
+		gc.setBackground(BLACK);
+		gc.fillOval(10, 10, 20, 20);
+		int partial = 0;
+		for (int x = 10; x < 30; x++) {
+			int red = rgb(x, 12).red;
+			if (red > 0 && red < 255) partial++;
+		}
+		assertTrue(partial > 0, "antialiased edges should be partially covered");
+
+		gc.fillRectangle(0, 0, 40, 40);
+		gc.setBackground(WHITE);
+		gc.fillRectangle(0, 0, 40, 40);
+		gc.setAntialias(SWT.OFF);
+		gc.setBackground(BLACK);
+		gc.fillOval(10, 10, 20, 20);
+		for (int y = 0; y < 40; y++) {
+			for (int x = 0; x < 40; x++) {
+				int red = rgb(x, y).red;
+				assertTrue(red == 0 || red == 255, "pixel " + x + "," + y);
+			}
+		}
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.setAntialias(5));
+		assertSWTProblem("Incorrect exception thrown for invalid antialias", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setClippingLorg_eclipse_swt_graphics_Rectangle() {
+		gc.setClipping(new Rectangle(10, 10, 10, 10));
+		assertTrue(gc.isClipped());
+		gc.setBackground(RED);
+		gc.fillRectangle(0, 0, 40, 40);
+		assertEquals(RED, rgb(10, 10));
+		assertEquals(RED, rgb(19, 19));
+		assertEquals(WHITE, rgb(9, 10));
+		assertEquals(WHITE, rgb(20, 19));
+		gc.setClipping((Rectangle) null);
+		assertFalse(gc.isClipped());
+		gc.fillRectangle(0, 0, 40, 40);
+		assertEquals(RED, rgb(0, 0));
+	}
+
+	@Test
+	public void test_fillPathLorg_eclipse_swt_graphics_PathData() {
+		PathData path = new PathData();
+		path.types = new byte[] {SWT.PATH_MOVE_TO, SWT.PATH_LINE_TO, SWT.PATH_LINE_TO, SWT.PATH_CLOSE};
+		path.points = new float[] {0, 0, 40, 0, 0, 40};
+		gc.setBackground(RED);
+		gc.fillPath(path);
+		assertEquals(RED, rgb(5, 5));
+		assertEquals(WHITE, rgb(35, 35));
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.fillPath(null));
+		assertSWTProblem("Incorrect exception thrown for null path", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setTransform$F() {
+		gc.setTransform(new float[] {2, 0, 0, 2, 10, 10});
+		gc.setBackground(RED);
+		gc.fillRectangle(0, 0, 5, 5);
+		assertEquals(RED, rgb(10, 10));
+		assertEquals(RED, rgb(19, 19));
+		assertEquals(WHITE, rgb(20, 20));
+		float[] elements = new float[6];
+		gc.getTransform(elements);
+		assertEquals(2, elements[0]);
+		gc.setTransform(null);
+		gc.getTransform(elements);
+		assertEquals(1, elements[0]);
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.setTransform(new float[] {0, 0, 0, 0, 0, 0}));
+		assertSWTProblem("Incorrect exception thrown for singular transform", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setAlphaI() {
+		gc.setBackground(BLACK);
+		gc.setAlpha(128);
+		gc.fillRectangle(0, 0, 10, 10);
+		int red = rgb(5, 5).red;
+		assertTrue(red > 100 && red < 155, "half transparent black over white is grey");
+	}
+
+	@Test
+	public void test_setBackgroundGradientFFFFLorg_eclipse_swt_graphics_RGBILorg_eclipse_swt_graphics_RGBI() {
+		gc.setBackgroundGradient(0, 0, 40, 0, BLACK, 255, WHITE, 255);
+		gc.fillRectangle(0, 0, 40, 40);
+		assertTrue(rgb(2, 5).red < rgb(20, 5).red);
+		assertTrue(rgb(20, 5).red < rgb(38, 5).red);
+		gc.setBackground(RED);
+		gc.fillRectangle(0, 0, 40, 40);
+		assertEquals(RED, rgb(20, 5));
+	}
+
+	@Test
+	public void test_drawImageLorg_eclipse_swt_graphics_ImageDataIIIIIIII() {
+		ImageData image = new ImageData(2, 2, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		image.setPixel(0, 0, 0xFF0000);
+		image.setPixel(1, 1, 0xFF0000);
+		image.setPixel(1, 0, 0xFFFFFF);
+		image.setPixel(0, 1, 0xFFFFFF);
+		gc.setInterpolation(SWT.NONE);
+		gc.drawImage(image, 0, 0, 2, 2, 10, 10, 20, 20);
+		assertEquals(RED, rgb(12, 12));
+		assertEquals(WHITE, rgb(25, 12));
+		assertEquals(RED, rgb(25, 25));
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.drawImage(image, 0, 0, 3, 3, 0, 0, 3, 3));
+		assertSWTProblem("Incorrect exception thrown for source rectangle outside of image", SWT.ERROR_INVALID_ARGUMENT, e);
+		e = assertThrows(IllegalArgumentException.class, () -> gc.drawImage(null, 0, 0));
+		assertSWTProblem("Incorrect exception thrown for null image data", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_setLineStyleI() {
+		gc.setLineStyle(SWT.LINE_DASH);
+		assertEquals(SWT.LINE_DASH, gc.getLineStyle());
+		gc.drawLine(0, 5, 39, 5);
+		// a dash of 18 pixels followed by a gap of 6 pixels for a line width of zero
+		assertEquals(BLACK, rgb(10, 5));
+		assertEquals(WHITE, rgb(21, 5));
+		gc.setLineDash(new int[] {2, 2});
+		assertEquals(SWT.LINE_CUSTOM, gc.getLineStyle());
+		gc.setLineDash(null);
+		assertEquals(SWT.LINE_SOLID, gc.getLineStyle());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gc.setLineDash(new int[] {2, 0}));
+		assertSWTProblem("Incorrect exception thrown for invalid dash", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	/* the primitives drawn by the comparison and thread tests, on a white 100x100 image */
+	private static void drawPrimitives(ImageDataGC gc) {
+		gc.setAntialias(SWT.OFF);
+		gc.setBackground(RED);
+		gc.fillRectangle(10, 10, 30, 20);
+		gc.setBackground(BLUE);
+		gc.fillOval(50, 10, 40, 30);
+		gc.fillPolygon(new int[] {10, 90, 40, 50, 70, 90});
+		gc.setLineWidth(3);
+		gc.drawLine(10, 45, 90, 45);
+		gc.setLineWidth(1);
+		gc.drawRectangle(60, 60, 30, 30);
+	}
+
+	@Test
+	public void test_drawingMatchesGC() {
+		Display display = Display.getDefault();
+		Image image = new Image(display, 100, 100);
+		Color red = new Color(RED), blue = new Color(BLUE);
+		GC imageGC = new GC(image);
+		try {
+			imageGC.setAntialias(SWT.OFF);
+			imageGC.setBackground(display.getSystemColor(SWT.COLOR_WHITE));
+			imageGC.fillRectangle(0, 0, 100, 100);
+			imageGC.setForeground(display.getSystemColor(SWT.COLOR_BLACK));
+			imageGC.setBackground(red);
+			imageGC.fillRectangle(10, 10, 30, 20);
+			imageGC.setBackground(blue);
+			imageGC.fillOval(50, 10, 40, 30);
+			imageGC.fillPolygon(new int[] {10, 90, 40, 50, 70, 90});
+			imageGC.setLineWidth(3);
+			imageGC.drawLine(10, 45, 90, 45);
+			imageGC.setLineWidth(1);
+			imageGC.drawRectangle(60, 60, 30, 30);
+		} finally {
+			imageGC.dispose();
+		}
+		ImageData expected = image.getImageData();
+		image.dispose();
+
+		ImageData actual = new ImageData(100, 100, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		ImageDataGC dataGC = new ImageDataGC(actual);
+		dataGC.fillRectangle(0, 0, 100, 100);
+		drawPrimitives(dataGC);
+
+		// the rasterizers may differ on the pixels along the edges of the shapes
+		int different = 0;
+		for (int y = 0; y < 100; y++) {
+			for (int x = 0; x < 100; x++) {
+				RGB e = expected.palette.getRGB(expected.getPixel(x, y));
+				RGB a = actual.palette.getRGB(actual.getPixel(x, y));
+				int delta = Math.max(Math.abs(e.red - a.red), Math.max(Math.abs(e.green - a.green), Math.abs(e.blue - a.blue)));
+				if (delta > 64) different++;
+			}
+		}
+		assertTrue(different <= 100 * 100 * 5 / 100, different + " pixels differ from the ones drawn by GC");
+	}
+
+	@Test
+	public void test_separateInstancesOnThreads() throws Exception {
+		ImageData expected = new ImageData(100, 100, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		ImageDataGC expectedGC = new ImageDataGC(expected);
+		expectedGC.fillRectangle(0, 0, 100, 100);
+		drawPrimitives(expectedGC);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ImageData>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> {
+					ImageData data = new ImageData(100, 100, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+					ImageDataGC gc = new ImageDataGC(data);
+					gc.fillRectangle(0, 0, 100, 100);
+					drawPrimitives(gc);
+					return data;
+				}));
+			}
+			for (Future<ImageData> result : results) {
+				assertArrayEquals(expected.data, result.get(30, TimeUnit.SECONDS).data);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
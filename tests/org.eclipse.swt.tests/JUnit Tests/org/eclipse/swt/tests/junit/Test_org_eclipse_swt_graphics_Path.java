@@ -20,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Path;
 import org.eclipse.swt.graphics.PathData;
 import org.eclipse.swt.widgets.Display;
@@ -74,6 +77,54 @@ public class Test_org_eclipse_swt_graphics_Path {
 		clonedPath.dispose();
 	}
 
+	@Test
+	public void testContains() {
+		Image image = new Image(display, 10, 10);
+		GC gc = new GC(image);
+		Path path = new Path(display);
+		try {
+			path.moveTo(10, 10);
+			path.lineTo(50, 10);
+			path.lineTo(50, 50);
+			// an open sub path is closed when filling
+			assertTrue(path.contains(40, 20, gc, false));
+			assertFalse(path.contains(20, 40, gc, false));
+			gc.setLineWidth(2);
+			assertFalse(path.contains(40, 20, gc, true));
+			assertTrue(path.contains(30, 10.5f, gc, true));
+			assertFalse(path.contains(30, 14, gc, true));
+
+			gc.setLineWidth(10);
+			assertTrue(path.contains(30, 14, gc, true));
+			// the miter of the corner, cut by a bevel join
+			assertTrue(path.contains(53, 7, gc, true));
+			gc.setLineJoin(SWT.JOIN_BEVEL);
+			assertFalse(path.contains(53, 7, gc, true));
+			// the caps at the ends of the sub path
+			assertFalse(path.contains(7, 10, gc, true));
+			gc.setLineCap(SWT.CAP_SQUARE);
+			assertTrue(path.contains(7, 10, gc, true));
+
+			// the path is tested again once it changed
+			path.close();
+			assertTrue(path.contains(30, 30, gc, true));
+			path.addRectangle(60, 60, 20, 20);
+			assertTrue(path.contains(70, 70, gc, false));
+			if (SwtTestUtil.isGTK) {
+				// the fill rule of the GC is used on GTK only
+				path.addRectangle(65, 65, 10, 10);
+				gc.setFillRule(SWT.FILL_EVEN_ODD);
+				assertFalse(path.contains(70, 70, gc, false));
+				gc.setFillRule(SWT.FILL_WINDING);
+				assertTrue(path.contains(70, 70, gc, false));
+			}
+		} finally {
+			path.dispose();
+			gc.dispose();
+			image.dispose();
+		}
+	}
+
 	@Test
 	public void disposePath() {
 		Path path = new Path(display);
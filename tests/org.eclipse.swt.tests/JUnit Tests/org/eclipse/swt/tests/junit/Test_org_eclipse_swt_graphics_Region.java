@@ -14,9 +14,16 @@
  *******************************************************************************/
 package org.eclipse.swt.tests.junit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.graphics.Region;
@@ -939,6 +946,54 @@ public void test_add_intArray() {
 	reg6.dispose();
 }
 
+@Test
+public void test_manyRectangles() {
+	// a checkerboard built and changed one rectangle at a time
+	Region region = new Region(display);
+	for (int y = 0; y < 10; y++) {
+		for (int x = 0; x < 10; x++) {
+			if ((x + y) % 2 == 0) region.add(x * 10, y * 10, 10, 10);
+		}
+	}
+	region.subtract(0, 0, 10, 100);
+	region.intersect(0, 0, 100, 50);
+	assertEquals(new Rectangle(10, 0, 90, 50), region.getBounds());
+	assertTrue(region.contains(25, 5));
+	assertFalse(region.contains(15, 5));
+	assertFalse(region.contains(5, 15));
+	assertFalse(region.contains(25, 55));
+	assertTrue(region.intersects(19, 9, 2, 2));
+	assertFalse(region.intersects(20, 10, 10, 10));
+	assertTrue(region.contains(20, 0));
+	region.translate(1, 1);
+	assertTrue(region.contains(26, 6));
+	assertFalse(region.contains(20, 0));
+
+	// the region clips a GC and is given back by it
+	Image image = new Image(display, 120, 120);
+	GC gc = new GC(image);
+	try {
+		gc.setBackground(display.getSystemColor(SWT.COLOR_WHITE));
+		gc.fillRectangle(0, 0, 120, 120);
+		gc.setClipping(region);
+		gc.setBackground(display.getSystemColor(SWT.COLOR_BLACK));
+		gc.fillRectangle(0, 0, 120, 120);
+		Region clipping = new Region(display);
+		gc.getClipping(clipping);
+		assertEquals(region.getBounds(), clipping.getBounds());
+		assertTrue(clipping.contains(26, 6));
+		assertFalse(clipping.contains(16, 6));
+		clipping.dispose();
+	} finally {
+		gc.dispose();
+	}
+	ImageData data = image.getImageData();
+	image.dispose();
+	assertEquals(0, data.palette.getRGB(data.getPixel(26, 6)).red);
+	assertEquals(255, data.palette.getRGB(data.getPixel(16, 6)).red);
+	region.dispose();
+}
+
 /* custom */
 	Display display;
 }
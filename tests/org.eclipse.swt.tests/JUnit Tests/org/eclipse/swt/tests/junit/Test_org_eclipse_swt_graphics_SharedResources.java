@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.eclipse.swt.tests.junit.SwtTestUtil.assertSWTProblem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Cursor;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.RGBA;
+import org.eclipse.swt.graphics.Resource;
+import org.eclipse.swt.graphics.SharedResources;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.graphics.SharedResources
+ *
+ * @see org.eclipse.swt.graphics.SharedResources
+ */
+public class Test_org_eclipse_swt_graphics_SharedResources {
+
+	private SharedResources resources;
+	private int initialCount;
+
+	@BeforeEach
+	public void setUp() {
+		resources = Display.getDefault().getSharedResources();
+		initialCount = resources.getResourceCount();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		assertEquals(initialCount, resources.getResourceCount(), "leaked shared resources");
+	}
+
+	@Test
+	public void test_getColorLorg_eclipse_swt_graphics_RGB() {
+		Color color1 = resources.getColor(new RGB(10, 20, 30));
+		Color color2 = resources.getColor(new RGBA(10, 20, 30, 255));
+		assertSame(color1, color2);
+		assertEquals(2, resources.getReferenceCount(color1));
+		assertEquals(initialCount + 1, resources.getResourceCount());
+		Color color3 = resources.getColor(new RGBA(10, 20, 30, 128));
+		assertNotSame(color1, color3);
+		resources.release(color1);
+		assertFalse(color1.isDisposed());
+		resources.release(color2);
+		assertTrue(color1.isDisposed());
+		assertEquals(0, resources.getReferenceCount(color1));
+		resources.release(color3);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> resources.getColor((RGB) null));
+		assertSWTProblem("Incorrect exception thrown for null rgb", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_getFont$Lorg_eclipse_swt_graphics_FontData() {
+		FontData fontData = new FontData("Sans", 10, SWT.NORMAL);
+		Font font1 = resources.getFont(fontData);
+		fontData.setHeight(20);
+		Font font2 = resources.getFont("Sans", 10, SWT.NORMAL);
+		assertSame(font1, font2);
+		Font bold = resources.getFont(font1, SWT.BOLD, 1);
+		assertNotSame(font1, bold);
+		assertEquals(SWT.BOLD, bold.getFontData()[0].getStyle());
+		Font bold2 = resources.getFont("Sans", 10, SWT.BOLD);
+		assertSame(bold, bold2);
+		Font scaled = resources.getFont(font1, SWT.NORMAL, 2);
+		assertEquals(20, scaled.getFontData()[0].getHeight());
+		for (Resource resource : new Resource[] {font1, font2, bold, bold2, scaled}) {
+			resources.release(resource);
+		}
+		assertTrue(font1.isDisposed());
+		assertTrue(bold.isDisposed());
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> resources.getFont(new FontData[0]));
+		assertSWTProblem("Incorrect exception thrown for empty font data", SWT.ERROR_INVALID_ARGUMENT, e);
+	}
+
+	@Test
+	public void test_getCursorI() {
+		Cursor cursor1 = resources.getCursor(SWT.CURSOR_HAND);
+		Cursor cursor2 = resources.getCursor(SWT.CURSOR_HAND);
+		assertSame(cursor1, cursor2);
+		resources.release(cursor1);
+		resources.release(cursor2);
+		assertTrue(cursor1.isDisposed());
+	}
+
+	@Test
+	public void test_getFontAndColorFromWorkerThread() throws InterruptedException {
+		Display display = Display.getDefault();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread worker = new Thread(() -> {
+			try {
+				SharedResources workerResources = display.getSharedResources();
+				assertSame(resources, workerResources);
+				Font font = workerResources.getFont("Sans", 10, SWT.NORMAL);
+				Color color = workerResources.getColor(new RGB(40, 50, 60));
+				assertEquals(1, workerResources.getReferenceCount(font));
+				workerResources.release(font);
+				workerResources.release(color);
+				assertTrue(font.isDisposed());
+				assertTrue(color.isDisposed());
+			} catch (Throwable t) {
+				failure.set(t);
+			}
+		});
+		worker.start();
+		worker.join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+	}
+
+	@Test
+	public void test_releaseLorg_eclipse_swt_graphics_Resource() {
+		Color color = new Color(1, 2, 3);
+		// resources which were not returned by the shared resources are ignored
+		resources.release(color);
+		assertFalse(color.isDisposed());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> resources.release(null));
+		assertSWTProblem("Incorrect exception thrown for null resource", SWT.ERROR_NULL_ARGUMENT, e);
+	}
+}
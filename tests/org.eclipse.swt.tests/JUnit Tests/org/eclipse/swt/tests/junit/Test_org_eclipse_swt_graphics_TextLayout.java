@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 import java.util.Arrays;
 
@@ -772,6 +773,28 @@ public void test_getNextOffset2() {
 	layout.dispose();
 }
 
+@Test
+public void test_getNextOffset_mixedScripts() {
+	assumeFalse(SwtTestUtil.isCocoa, "Cluster offsets of mixed scripts are not verified on Cocoa");
+	TextLayout layout = new TextLayout(display);
+	// ASCII, CJK, a surrogate pair and a two byte character in UTF-8, on two lines
+	layout.setText("ab\u4E2D\u6587\uD83D\uDE00\u00E9c\nd\u4E2D\uD83D\uDE00e");
+	int[] offsets = {0, 1, 2, 3, 4, 6, 7, 8, 9, 10, 11, 13, 14};
+	for (int i = 0; i < offsets.length - 1; i++) {
+		assertEquals(offsets[i + 1], layout.getNextOffset(offsets[i], SWT.MOVEMENT_CLUSTER));
+		assertEquals(offsets[i], layout.getPreviousOffset(offsets[i + 1], SWT.MOVEMENT_CLUSTER));
+	}
+	assertArrayEquals(new int[] {0, 9, 14}, layout.getLineOffsets());
+	assertEquals(1, layout.getLineIndex(10));
+	for (int i = 0; i < 7; i++) {
+		Point location = layout.getLocation(offsets[i], false);
+		assertEquals(offsets[i], layout.getOffset(location.x, location.y, null));
+		assertTrue(location.x < layout.getLocation(offsets[i + 1], false).x);
+	}
+	assertEquals(layout.getLocation(6, false).x, layout.getBounds(6, 6).x);
+	layout.dispose();
+}
+
 @Test
 public void test_getLineSpacing() {
 	TextLayout layout = new TextLayout(display);
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.swt.internal.ResponsivenessMonitor;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.internal.ResponsivenessMonitor
+ *
+ * @see org.eclipse.swt.internal.ResponsivenessMonitor
+ */
+public class Test_org_eclipse_swt_internal_ResponsivenessMonitor {
+
+	private static final long THRESHOLD = 100;
+
+	private Display display;
+	private ResponsivenessMonitor monitor;
+
+	@BeforeEach
+	public void setUp() {
+		display = Display.getDefault();
+		monitor = new ResponsivenessMonitor(THRESHOLD);
+		monitor.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		monitor.stop();
+	}
+
+	@Test
+	public void test_idleNestedLoopIsNoFreeze() {
+		boolean[] done = new boolean[2];
+		// a nested event loop, like the one of a modal dialog, which sleeps longer than the threshold
+		display.asyncExec(() -> {
+			display.timerExec((int) THRESHOLD * 4, () -> done[0] = true);
+			while (!done[0]) {
+				if (!display.readAndDispatch()) display.sleep();
+			}
+			done[1] = true;
+		});
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!done[1] && System.currentTimeMillis() < deadline) {
+			if (!display.readAndDispatch()) display.sleep();
+		}
+		assertTrue(done[1], "nested loop did not finish");
+		ResponsivenessMonitor.Snapshot snapshot = monitor.getSnapshot();
+		assertEquals(0, snapshot.freezes().size(), "idle nested loop reported as freeze");
+		assertTrue(snapshot.sleeps().count() > 0, "sleep not reported");
+	}
+}
@@ -20,7 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.SizeCache;
 import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -62,4 +69,64 @@ public void test_ConstructorII() {
 	assertEquals(100, data.widthHint);
 	assertEquals(100, data.heightHint);
 }
+
+@Test
+public void test_computeSizeCachesSeveralHints() {
+	Shell shell = new Shell();
+	try {
+		shell.setLayout(new GridLayout());
+		Label label = new Label(shell, SWT.WRAP);
+		label.setText("The quick brown fox jumps over the lazy dog. The quick brown fox jumps over the lazy dog.");
+		GridData data = new GridData(SWT.FILL, SWT.CENTER, true, false);
+		label.setLayoutData(data);
+
+		Point narrow = shell.computeSize(100, SWT.DEFAULT, true);
+		Point wide = shell.computeSize(200, SWT.DEFAULT, false);
+		SizeCache.resetStatistics();
+		assertEquals(narrow, shell.computeSize(100, SWT.DEFAULT, false));
+		assertEquals(wide, shell.computeSize(200, SWT.DEFAULT, false));
+		assertEquals(0, SizeCache.getMissCount());
+		assertTrue(SizeCache.getHitCount() > 0);
+
+		label.setText("Short");
+		label.requestLayout();
+		Point shortSize = shell.computeSize(100, SWT.DEFAULT, false);
+		assertTrue(SizeCache.getMissCount() > 0);
+		assertTrue(shortSize.y <= narrow.y);
+	} finally {
+		shell.dispose();
+	}
+}
+
+@Test
+public void test_layoutUnchangedPass() {
+	Shell shell = new Shell();
+	try {
+		shell.setLayout(new GridLayout(2, false));
+		Label first = new Label(shell, SWT.NONE);
+		first.setText("First");
+		Label second = new Label(shell, SWT.NONE);
+		second.setText("Second");
+		shell.setSize(400, 200);
+		shell.layout(true);
+		int x = second.getLocation().x;
+		Rectangle bounds = second.getBounds();
+
+		// a child moved by the application is moved back by the next pass
+		second.setBounds(0, 0, 1, 1);
+		shell.layout(false);
+		assertEquals(bounds, second.getBounds());
+
+		first.setText("A much longer first label");
+		shell.layout(new Control[] {first});
+		assertTrue(second.getLocation().x > x);
+
+		((GridData) second.getLayoutData()).horizontalIndent = 50;
+		x = second.getLocation().x;
+		shell.layout(false);
+		assertEquals(x + 50, second.getLocation().x);
+	} finally {
+		shell.dispose();
+	}
+}
 }
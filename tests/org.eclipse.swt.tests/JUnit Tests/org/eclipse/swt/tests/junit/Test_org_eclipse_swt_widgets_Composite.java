@@ -14,14 +14,17 @@
 package org.eclipse.swt.tests.junit;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
@@ -190,6 +193,45 @@ public void test_setFocus_withVisibleAndInvisibleChild() {
 	assertTrue(getElementExpectedToHaveFocusAfterSetFocusOnParent(visibleChildWidget).isFocusControl());
 }
 
+@Test
+public void test_setChildBoundsDeferredZ() {
+	Button button1 = new Button(composite, SWT.PUSH);
+	Button button2 = new Button(composite, SWT.PUSH);
+	AtomicInteger resizes = new AtomicInteger();
+	button1.addListener(SWT.Resize, e -> resizes.incrementAndGet());
+	assertFalse(composite.getChildBoundsDeferred());
+
+	composite.setChildBoundsDeferred(true);
+	assertTrue(composite.getChildBoundsDeferred());
+	button1.setBounds(0, 0, 10, 10);
+	button1.setBounds(5, 5, 50, 20);
+	button2.setBounds(new Rectangle(60, 5, 50, 20));
+	assertEquals(0, resizes.get());
+	composite.setChildBoundsDeferred(false);
+	assertFalse(composite.getChildBoundsDeferred());
+	assertTrue(resizes.get() > 0);
+	assertEquals(new Rectangle(5, 5, 50, 20), button1.getBounds());
+	assertEquals(new Rectangle(60, 5, 50, 20), button2.getBounds());
+
+	composite.setChildBoundsDeferred(true);
+	button2.setBounds(70, 10, 40, 30);
+	assertEquals(new Rectangle(70, 10, 40, 30), button2.getBounds());
+	composite.setChildBoundsDeferred(false);
+	assertEquals(new Rectangle(70, 10, 40, 30), button2.getBounds());
+
+	// a single child is deferred too
+	Composite single = new Composite(shell, SWT.NONE);
+	Button button3 = new Button(single, SWT.PUSH);
+	AtomicInteger singleResizes = new AtomicInteger();
+	button3.addListener(SWT.Resize, e -> singleResizes.incrementAndGet());
+	single.setChildBoundsDeferred(true);
+	button3.setBounds(0, 0, 30, 30);
+	assertEquals(0, singleResizes.get());
+	single.setChildBoundsDeferred(false);
+	assertTrue(singleResizes.get() > 0);
+	assertEquals(new Rectangle(0, 0, 30, 30), button3.getBounds());
+}
+
 @Test
 public void test_setTabList$Lorg_eclipse_swt_widgets_Control() {
 	Button button1 = new Button(composite, SWT.PUSH);
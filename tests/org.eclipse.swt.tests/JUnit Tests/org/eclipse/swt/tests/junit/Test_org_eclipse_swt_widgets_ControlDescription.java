@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.ControlDescription;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for class org.eclipse.swt.widgets.ControlDescription
+ *
+ * @see org.eclipse.swt.widgets.ControlDescription
+ */
+public class Test_org_eclipse_swt_widgets_ControlDescription {
+
+	private Shell shell;
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void test_createLorg_eclipse_swt_widgets_Composite() throws Exception {
+		int rows = 20;
+		ControlDescription form = CompletableFuture.supplyAsync(() -> {
+			ControlDescription description = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+			description.setLayout(() -> new GridLayout(2, false));
+			for (int i = 0; i < rows; i++) {
+				description.add(Label.class, Label::new, SWT.NONE).setText("Label " + i);
+				description.add(Text.class, Text::new, SWT.BORDER).setText("Text " + i).setData("row", Integer.valueOf(i))
+						.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+			}
+			return description;
+		}).get();
+		assertEquals(1 + 2 * rows, form.getControlCount());
+
+		Control control = form.create(shell);
+		assertTrue(control instanceof Composite);
+		assertSame(shell, control.getParent());
+		Control[] children = ((Composite) control).getChildren();
+		assertEquals(2 * rows, children.length);
+		assertEquals("Label 3", ((Label) children[6]).getText());
+		Text text = (Text) children[7];
+		assertEquals("Text 3", text.getText());
+		assertEquals(Integer.valueOf(3), text.getData("row"));
+		assertTrue(text.getLayoutData() instanceof GridData);
+
+		// every composite created from the description has its own layout
+		Composite other = (Composite) form.create(shell);
+		assertTrue(other.getLayout() instanceof GridLayout);
+		assertNotSame(((Composite) control).getLayout(), other.getLayout());
+	}
+
+	@Test
+	public void test_onCreateLjava_util_function_Consumer() {
+		ControlDescription description = new ControlDescription(Button.class, Button::new, SWT.CHECK);
+		description.onCreate(control -> ((Button) control).setSelection(true));
+		Button button = (Button) description.create(shell);
+		assertTrue(button.getSelection());
+		assertEquals(SWT.CHECK, description.getStyle());
+		assertSame(Button.class, description.getType());
+	}
+
+	@Test
+	public void test_invalidDescriptions() {
+		assertThrows(IllegalArgumentException.class, () -> new ControlDescription(null, Label::new, SWT.NONE));
+		assertThrows(IllegalArgumentException.class, () -> new ControlDescription(Label.class, null, SWT.NONE));
+		ControlDescription label = new ControlDescription(Label.class, Label::new, SWT.NONE);
+		assertThrows(IllegalStateException.class, () -> label.add(Label.class, Label::new, SWT.NONE));
+		assertThrows(IllegalStateException.class, () -> label.setLayout(GridLayout::new));
+		ControlDescription composite = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+		assertThrows(IllegalStateException.class, () -> composite.setText("text"));
+		assertThrows(IllegalArgumentException.class, () -> composite.create(null));
+	}
+
+	@Test
+	public void test_addLorg_eclipse_swt_widgets_ControlDescription_cycles() {
+		ControlDescription a = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+		ControlDescription b = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+		ControlDescription c = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+		assertThrows(IllegalArgumentException.class, () -> a.add(a));
+		a.add(b);
+		assertThrows(IllegalArgumentException.class, () -> b.add(a));
+		b.add(c);
+		assertThrows(IllegalArgumentException.class, () -> c.add(a));
+		// a description can only be added once
+		ControlDescription other = new ControlDescription(Composite.class, Composite::new, SWT.NONE);
+		assertThrows(IllegalArgumentException.class, () -> other.add(c));
+		assertThrows(IllegalArgumentException.class, () -> a.add(b));
+		assertEquals(3, a.getControlCount());
+		Composite composite = (Composite) a.create(shell);
+		assertEquals(1, composite.getChildren().length);
+	}
+}
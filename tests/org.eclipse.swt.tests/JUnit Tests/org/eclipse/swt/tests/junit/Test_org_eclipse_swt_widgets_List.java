@@ -1699,6 +1699,46 @@ public void test_setItemILjava_lang_String() {
 
 }
 
+@Test
+public void test_setItemCountI() {
+	list.setItems("a", "b", "c");
+	list.setItemCount(5);
+	assertArrayEquals(new String[] {"a", "b", "c", "", ""}, list.getItems());
+	list.setItemCount(2);
+	assertArrayEquals(new String[] {"a", "b"}, list.getItems());
+	list.setItemCount(-1);
+	assertEquals(0, list.getItemCount());
+}
+
+@Test
+public void test_setItemCountI_virtual() {
+	list.dispose();
+	list = new List(shell, SWT.VIRTUAL | SWT.MULTI | SWT.V_SCROLL);
+	setWidget(list);
+	int[] requests = new int[1000];
+	list.addListener(SWT.SetData, event -> {
+		requests[event.index]++;
+		list.setItem(event.index, "Item " + event.index);
+	});
+	list.setItemCount(1000);
+	assertEquals(1000, list.getItemCount());
+	assertEquals("Item 500", list.getItem(500));
+	assertEquals("Item 500", list.getItem(500));
+	assertEquals(1, requests[500]);
+	assertEquals(0, requests[999]);
+
+	list.clear(500);
+	assertEquals("Item 500", list.getItem(500));
+	assertEquals(2, requests[500]);
+
+	list.setItemCount(10);
+	list.clearAll();
+	String[] items = list.getItems();
+	assertEquals(10, items.length);
+	assertEquals("Item 9", items[9]);
+	assertEquals(3, list.indexOf("Item 3"));
+}
+
 @Test
 public void test_setItems$Ljava_lang_String() {
 	try {
@@ -18,10 +18,12 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -1475,6 +1477,42 @@ public void test_setItemCountI() {
 	}
 }
 
+@Test
+public void test_setItems$$Ljava_lang_String() {
+	assertThrows(IllegalArgumentException.class, () -> table.setItems((String[][]) null));
+	new TableItem(table, SWT.NONE).setText("old");
+	table.setItems(new String[][] {{"a0", "a1", "a2"}});
+	assertEquals(3, table.getItemCount());
+	assertEquals("a1", table.getItem(1).getText());
+	new TableColumn(table, SWT.NONE);
+	new TableColumn(table, SWT.NONE);
+	table.setItems(new String[][] {{"a0", null}, {"b0", "b1", "b2"}, {"ignored"}});
+	assertEquals(3, table.getItemCount());
+	assertEquals("a0", table.getItem(0).getText(0));
+	assertEquals("b0", table.getItem(0).getText(1));
+	assertEquals("", table.getItem(1).getText(0));
+	assertEquals("b1", table.getItem(1).getText(1));
+	assertEquals("", table.getItem(2).getText(0));
+	assertEquals("b2", table.getItem(2).getText(1));
+	table.setItems(new String[0][]);
+	assertEquals(0, table.getItemCount());
+}
+
+@Test
+public void test_setItemsILjava_util_function_IntFunction() {
+	assertThrows(IllegalArgumentException.class, () -> table.setItems(1, null));
+	new TableColumn(table, SWT.NONE);
+	new TableColumn(table, SWT.NONE);
+	table.setItems(100, i -> i % 10 == 0 ? null : new String[] {"a" + i, "b" + i});
+	assertEquals(100, table.getItemCount());
+	assertEquals("", table.getItem(0).getText(1));
+	assertEquals("a42", table.getItem(42).getText(0));
+	assertEquals("b99", table.getItem(99).getText(1));
+	assertEquals(42, table.indexOf(table.getItem(42)));
+	table.setItems(-1, i -> new String[] {"x"});
+	assertEquals(0, table.getItemCount());
+}
+
 @Test
 public void test_setLinesVisibleZ() {
 	assertFalse(table.getLinesVisible());
@@ -1787,6 +1825,24 @@ public void test_showSelection() {
 	table.showSelection();
 }
 
+@Test
+public void test_sortLjava_util_Comparator() {
+	assertThrows(IllegalArgumentException.class, () -> table.sort(null));
+	table.setItems(100, i -> new String[] {Integer.toString((i * 37) % 100)});
+	TableItem item = table.getItem(1);
+	table.setSelection(item);
+	table.sort(Comparator.comparing(TableItem::getText));
+	for (int i = 1; i < 100; i++) {
+		assertTrue(table.getItem(i - 1).getText().compareTo(table.getItem(i).getText()) <= 0);
+	}
+	assertEquals(item, table.getItem(table.indexOf(item)));
+	assertArrayEquals(new TableItem[] {item}, table.getSelection());
+	assertEquals(table.indexOf(item), table.getSelectionIndex());
+	table.sort(Comparator.comparing((TableItem tableItem) -> tableItem.getText()).reversed());
+	assertEquals("99", table.getItem(0).getText());
+	assertArrayEquals(new TableItem[] {item}, table.getSelection());
+}
+
 /* custom */
 protected Table table;
 
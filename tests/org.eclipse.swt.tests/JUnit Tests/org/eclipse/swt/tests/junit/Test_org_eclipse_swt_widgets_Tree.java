@@ -18,10 +18,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -238,6 +240,34 @@ public void test_getItemI() {
 	}
 }
 
+@Test
+public void test_getItemI_indexOfAfterChanges() {
+	testTreeRegularAndVirtual(() -> {
+		int number = 200;
+		tree.setItemCount(number);
+		TreeItem parent = tree.getItem(0);
+		parent.setItemCount(number);
+		for (int i = 0; i < number; i++) {
+			assertEquals(i, tree.indexOf(tree.getItem(i)));
+			assertEquals(i, parent.indexOf(parent.getItem(i)));
+		}
+		TreeItem item = tree.getItem(number / 2);
+		tree.getItem(10).dispose();
+		assertEquals(number / 2 - 1, tree.indexOf(item));
+		assertEquals(item, tree.getItem(number / 2 - 1));
+		new TreeItem(tree, SWT.NONE, 0);
+		assertEquals(number / 2, tree.indexOf(item));
+		assertEquals(item, tree.getItem(number / 2));
+		assertEquals(-1, tree.indexOf(parent.getItem(5)));
+		assertEquals(-1, parent.indexOf(item));
+		parent.getItem(3).dispose();
+		for (int i = 0; i < number - 1; i++) {
+			assertEquals(i, parent.indexOf(parent.getItem(i)));
+		}
+		tree.removeAll();
+	});
+}
+
 @Test
 public void test_getItems() {
 	int[] cases = {0, 10, 100};
@@ -445,6 +475,29 @@ public void test_setItemCountI() {
 	}
 }
 
+@Test
+public void test_setItemsILjava_util_function_IntFunction() {
+	testTreeRegularAndVirtual(() -> {
+		new TreeItem(tree, SWT.NONE).setText("old");
+		new TreeColumn(tree, SWT.NONE);
+		new TreeColumn(tree, SWT.NONE);
+		tree.setItems(100, i -> i % 10 == 0 ? null : new String[] {"a" + i, "b" + i});
+		assertEquals(100, tree.getItemCount());
+		assertEquals("", tree.getItem(0).getText(1));
+		assertEquals("a42", tree.getItem(42).getText(0));
+		assertEquals("b99", tree.getItem(99).getText(1));
+		assertEquals(42, tree.indexOf(tree.getItem(42)));
+		new TreeItem(tree.getItem(5), SWT.NONE).setText("child");
+		assertEquals("child", tree.getItem(5).getItem(0).getText());
+		tree.setItems(new String[][] {{"x0", "x1"}, {null, "y1"}});
+		assertEquals(2, tree.getItemCount());
+		assertEquals("x1", tree.getItem(1).getText(0));
+		assertEquals("y1", tree.getItem(1).getText(1));
+		assertEquals("", tree.getItem(0).getText(1));
+		tree.removeAll();
+	});
+}
+
 @Test
 public void test_setLinesVisibleZ() {
 	assertFalse(tree.getLinesVisible());
@@ -746,6 +799,38 @@ public void test_showSelection() {
 	tree.showSelection();
 }
 
+@Test
+public void test_sortLorg_eclipse_swt_widgets_TreeItemLjava_util_Comparator() {
+	testTreeRegularAndVirtual(() -> {
+		assertThrows(IllegalArgumentException.class, () -> tree.sort(null, null));
+		tree.setItems(50, i -> new String[] {Integer.toString((i * 7) % 50 + 100)});
+		TreeItem parent = tree.getItem(3);
+		for (int i = 0; i < 20; i++) {
+			new TreeItem(parent, SWT.NONE).setText(Integer.toString(20 - i + 100));
+		}
+		parent.setExpanded(true);
+		TreeItem child = parent.getItem(0);
+		tree.setSelection(child);
+		Comparator<TreeItem> byText = Comparator.comparing(TreeItem::getText);
+		tree.sort(parent, byText);
+		assertEquals("101", parent.getItem(0).getText());
+		assertEquals(child, parent.getItem(19));
+		assertEquals(19, parent.indexOf(child));
+		assertArrayEquals(new TreeItem[] {child}, tree.getSelection());
+		tree.sort(null, byText);
+		assertEquals("100", tree.getItem(0).getText());
+		for (int i = 1; i < 50; i++) {
+			assertTrue(tree.getItem(i - 1).getText().compareTo(tree.getItem(i).getText()) <= 0);
+		}
+		assertEquals(parent, tree.getItem(tree.indexOf(parent)));
+		assertTrue(parent.getExpanded());
+		assertEquals(child, parent.getItem(19));
+		TreeItem other = new TreeItem(new Tree(shell, SWT.NONE), SWT.NONE);
+		assertThrows(IllegalArgumentException.class, () -> tree.sort(other, byText));
+		tree.removeAll();
+	});
+}
+
 /**
  * Clean up the environment for a new test.
  *
@@ -197,6 +197,71 @@ public void test_setDataLjava_lang_StringLjava_lang_Object() {
 	}
 }
 @Test
+public void test_setDataLjava_lang_StringLjava_lang_Object_manyKeys() {
+	Object data = new Object();
+	widget.setData(data);
+	int count = 50;
+	for (int i = 0; i < count; i++) {
+		widget.setData("key" + i, Integer.valueOf(i));
+	}
+	for (int i = 0; i < count; i++) {
+		assertEquals(Integer.valueOf(i), widget.getData(new String("key" + i)));
+	}
+	assertNull(widget.getData("key" + count));
+	assertEquals(data, widget.getData());
+
+	for (int i = 0; i < count; i += 2) {
+		widget.setData("key" + i, null);
+	}
+	for (int i = 0; i < count; i++) {
+		assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), widget.getData("key" + i));
+	}
+	for (int i = 1; i < count; i += 2) {
+		widget.setData("key" + i, null);
+	}
+	for (int i = 0; i < count; i++) {
+		assertNull(widget.getData("key" + i));
+	}
+	assertEquals(data, widget.getData());
+	widget.setData(null);
+}
+@Test
+public void test_setDataValues$Ljava_lang_String$Ljava_lang_Object() {
+	String[] keys = new String[20];
+	Object[] values = new Object[keys.length];
+	for (int i = 0; i < keys.length; i++) {
+		keys[i] = "bulk" + i;
+		values[i] = Integer.valueOf(i);
+	}
+	widget.setDataValues(keys, values);
+	for (int i = 0; i < keys.length; i++) {
+		assertEquals(values[i], widget.getData(keys[i]));
+	}
+	Object[] result = widget.getDataValues(new String[] {"bulk3", "missing", "bulk19"});
+	assertEquals(3, result.length);
+	assertEquals(values[3], result[0]);
+	assertNull(result[1]);
+	assertEquals(values[19], result[2]);
+
+	widget.setDataValues(keys, new Object[keys.length]);
+	for (String key : keys) {
+		assertNull(widget.getData(key));
+	}
+
+	try {
+		widget.setDataValues(new String[] {"a", "b"}, new Object[1]);
+		fail();
+	} catch(IllegalArgumentException e) {
+		// expected
+	}
+	try {
+		widget.getDataValues(new String[] {"a", null});
+		fail();
+	} catch(IllegalArgumentException e) {
+		// expected
+	}
+}
+@Test
 public void test_toString() {
 	assertNotNull(widget.toString());
 	assertTrue(widget.toString().length() > 0);